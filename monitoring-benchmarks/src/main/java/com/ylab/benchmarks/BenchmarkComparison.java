@@ -0,0 +1,91 @@
+package com.ylab.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * BenchmarkComparison class compares two JSON result files written by {@link BenchmarkRunner}, typically of two commits.
+ * <p>
+ * Usage: {@code BenchmarkComparison <baseline.json> <current.json> [threshold percent]}. For every benchmark and
+ * parameter combination of both files it prints the primary score and the allocated bytes per operation of each run
+ * and their change. A change counts as a regression when the score got worse by more than the threshold (10 % by
+ * default) and by more than the sum of both score errors; the process then exits with status 1, so it can gate a build.
+ * <pre>
+ * {@code
+ * java -cp monitoring-benchmarks/target/benchmarks.jar com.ylab.benchmarks.BenchmarkComparison results/a1b2c3d.json results/e4f5a6b.json 5
+ * }
+ * </pre>
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+public class BenchmarkComparison {
+    private static final String ALLOCATION_METRIC = "gc.alloc.rate.norm";
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: BenchmarkComparison <baseline.json> <current.json> [threshold percent]");
+            System.exit(2);
+        }
+        double threshold = args.length > 2 ? Double.parseDouble(args[2]) : 10.0;
+        Map<String, JsonNode> baseline = read(Path.of(args[0]));
+        Map<String, JsonNode> current = read(Path.of(args[1]));
+
+        int regressions = 0;
+        System.out.printf("%-70s %14s %14s %9s %12s %12s %9s%n", "benchmark", "baseline", "current", "change",
+                "base B/op", "curr B/op", "change");
+        for (Map.Entry<String, JsonNode> entry : current.entrySet()) {
+            JsonNode before = baseline.get(entry.getKey());
+            if (before == null) {
+                continue;
+            }
+            JsonNode after = entry.getValue();
+            double beforeScore = before.at("/primaryMetric/score").asDouble();
+            double afterScore = after.at("/primaryMetric/score").asDouble();
+            double change = percentChange(beforeScore, afterScore);
+            double worse = "thrpt".equals(after.path("mode").asText()) ? -change : change;
+            double errors = before.at("/primaryMetric/scoreError").asDouble(0) + after.at("/primaryMetric/scoreError").asDouble(0);
+            boolean regression = worse > threshold && Math.abs(afterScore - beforeScore) > errors;
+            if (regression) {
+                regressions++;
+            }
+            double beforeBytes = allocation(before);
+            double afterBytes = allocation(after);
+            System.out.printf("%-70s %14.3f %14.3f %+8.1f%% %12.0f %12.0f %+8.1f%%%s%n", entry.getKey(), beforeScore, afterScore,
+                    change, beforeBytes, afterBytes, percentChange(beforeBytes, afterBytes), regression ? "  REGRESSION" : "");
+        }
+        System.out.printf("%d regression(s) above %.1f %%%n", regressions, threshold);
+        if (regressions > 0) {
+            System.exit(1);
+        }
+    }
+
+    private static Map<String, JsonNode> read(Path file) throws IOException {
+        Map<String, JsonNode> results = new LinkedHashMap<>();
+        for (JsonNode result : new ObjectMapper().readTree(file.toFile())) {
+            StringBuilder key = new StringBuilder(result.path("benchmark").asText()
+                    .replaceFirst("^com\\.ylab\\.benchmarks\\.", ""));
+            Iterator<Map.Entry<String, JsonNode>> params = result.path("params").fields();
+            while (params.hasNext()) {
+                Map.Entry<String, JsonNode> param = params.next();
+                key.append(' ').append(param.getKey()).append('=').append(param.getValue().asText());
+            }
+            results.put(key.toString(), result);
+        }
+        return results;
+    }
+
+    private static double allocation(JsonNode result) {
+        return result.path("secondaryMetrics").path(ALLOCATION_METRIC).path("score").asDouble(Double.NaN);
+    }
+
+    private static double percentChange(double before, double after) {
+        return before == 0 ? 0 : (after - before) * 100.0 / before;
+    }
+}
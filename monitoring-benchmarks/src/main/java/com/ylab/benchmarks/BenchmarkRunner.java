@@ -0,0 +1,71 @@
+package com.ylab.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * BenchmarkRunner class runs the JMH benchmarks of this module and publishes the results as JSON per commit.
+ * <p>
+ * All JMH command line options are accepted, e.g. a benchmark name pattern or {@code -f 1 -wi 2 -i 3}. Unless
+ * {@code -rff} is given, the results are written to {@code results/<commit>.json}, where the commit is the short
+ * hash of the git {@code HEAD} or the {@code benchmark.commit} system property; the directory is set by
+ * {@code benchmark.results}. The GC profiler is added unless profilers are given, so every result carries the
+ * allocated bytes per operation. Two result files are compared by {@link BenchmarkComparison}.
+ * <pre>
+ * {@code
+ * mvn -f monitoring-benchmarks package
+ * java -jar monitoring-benchmarks/target/benchmarks.jar MapperBenchmark
+ * }
+ * </pre>
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+public class BenchmarkRunner {
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        ChainedOptionsBuilder options = new OptionsBuilder().parent(commandLine);
+        Path resultFile = null;
+        if (!commandLine.getResult().hasValue()) {
+            Path resultDirectory = Path.of(System.getProperty("benchmark.results", "results"));
+            Files.createDirectories(resultDirectory);
+            resultFile = resultDirectory.resolve(System.getProperty("benchmark.commit", commit()) + ".json");
+            options.result(resultFile.toString()).resultFormat(ResultFormatType.JSON);
+        }
+        if (commandLine.getProfilers().isEmpty()) {
+            options.addProfiler(GCProfiler.class);
+        }
+
+        new Runner(options.build()).run();
+
+        if (resultFile != null) {
+            System.out.println("Results written to " + resultFile.toAbsolutePath());
+        }
+    }
+
+    private static String commit() {
+        try {
+            Process process = new ProcessBuilder("git", "rev-parse", "--short", "HEAD").redirectErrorStream(true).start();
+            String hash = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8).trim();
+            if (process.waitFor() == 0 && !hash.isEmpty()) {
+                return hash;
+            }
+        } catch (IOException e) {
+            // not a git checkout, fall through to a timestamp
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return "local-" + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"));
+    }
+}
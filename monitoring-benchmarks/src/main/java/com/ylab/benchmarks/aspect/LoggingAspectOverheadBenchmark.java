@@ -0,0 +1,117 @@
+package com.ylab.benchmarks.aspect;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.OutputStreamAppender;
+import com.ylab.aspect.EnableLogging;
+import com.ylab.aspect.LoggingAspectAnnotation;
+import com.ylab.aspect.MethodExecutionAsyncAppender;
+import com.ylab.metrics.MicrometerMethodLatencyRecorder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * LoggingAspectOverheadBenchmark class measures the per-call overhead of the {@code @EnableLogging} advice of
+ * {@link LoggingAspectAnnotation} against the same call without a proxy.
+ * <p>
+ * {@code none} calls the target directly; {@code proxy} goes through a Spring AOP proxy without advice;
+ * {@code disabled} is the aspect with its logger off and no recorder; {@code log} logs every call through the
+ * starter's {@link MethodExecutionAsyncAppender} into a discarding sink; {@code recorder} only records the duration
+ * in a Micrometer timer; {@code log-recorder} does both, like a deployment with the latency endpoint.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LoggingAspectOverheadBenchmark {
+    @Param({"none", "proxy", "disabled", "log", "recorder", "log-recorder"})
+    public String advice;
+
+    private MethodExecutionAsyncAppender asyncAppender;
+    private LoggedController controller;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        boolean log = advice.startsWith("log");
+        asyncAppender = discardingAsyncAppender(log ? ch.qos.logback.classic.Level.INFO : ch.qos.logback.classic.Level.OFF);
+        if ("none".equals(advice)) {
+            controller = new LoggedController();
+            return;
+        }
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(new LoggedController());
+        proxyFactory.setProxyTargetClass(true);
+        if (!"proxy".equals(advice)) {
+            proxyFactory.addAspect(advice.endsWith("recorder")
+                    ? new LoggingAspectAnnotation(new MicrometerMethodLatencyRecorder(meterRegistryProvider()))
+                    : new LoggingAspectAnnotation());
+        }
+        controller = proxyFactory.getProxy();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        asyncAppender.stop();
+    }
+
+    @Benchmark
+    public String loggedCall() {
+        return controller.submit("BM-1", 42);
+    }
+
+    private static ObjectProvider<MeterRegistry> meterRegistryProvider() {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerSingleton("meterRegistry", new SimpleMeterRegistry());
+        return beanFactory.getBeanProvider(MeterRegistry.class);
+    }
+
+    private static MethodExecutionAsyncAppender discardingAsyncAppender(ch.qos.logback.classic.Level level) {
+        LoggerContext loggerContext = (LoggerContext) LoggerFactory.getILoggerFactory();
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(loggerContext);
+        encoder.setPattern("%d %-5level [%thread] %logger : %msg%n");
+        encoder.start();
+
+        OutputStreamAppender<ILoggingEvent> sink = new OutputStreamAppender<>();
+        sink.setContext(loggerContext);
+        sink.setEncoder(encoder);
+        sink.setOutputStream(OutputStream.nullOutputStream());
+        sink.start();
+
+        MethodExecutionAsyncAppender asyncAppender = new MethodExecutionAsyncAppender();
+        asyncAppender.setContext(loggerContext);
+        asyncAppender.setQueueSize(8192);
+        asyncAppender.setDiscardingThreshold(0);
+        asyncAppender.setNeverBlock(true);
+        asyncAppender.addAppender(sink);
+        asyncAppender.start();
+
+        Logger logger = loggerContext.getLogger(LoggingAspectAnnotation.class);
+        logger.detachAndStopAllAppenders();
+        logger.setAdditive(false);
+        logger.setLevel(level);
+        logger.addAppender(asyncAppender);
+        return asyncAppender;
+    }
+
+    @EnableLogging
+    public static class LoggedController {
+        public String submit(String numberMeter, int value) {
+            return numberMeter;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.ylab.benchmarks.dao;
+
+import com.ylab.app.dbService.dao.ReadingTypeRegistry;
+import com.ylab.app.dbService.dao.impl.MeterReadingDaoImpl;
+import com.ylab.app.model.MeterReading;
+import com.ylab.app.model.MeterReadingColumns;
+import com.ylab.app.model.MeterRollup;
+import com.ylab.app.model.User;
+import com.ylab.app.model.UserRole;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RowMappingBenchmark class measures the row mapping of {@link MeterReadingDaoImpl} over synthetic result sets.
+ * <p>
+ * The readings have two details each and arrive as one row per detail, ordered by reading, the way the joined
+ * history queries return them. {@code readingObjects} folds them into {@link MeterReading} objects,
+ * {@code readingColumns} into {@link MeterReadingColumns}, and {@code rollups} maps one row per rollup.
+ * Every call goes through {@link JdbcTemplate} and {@link SyntheticDataSource}, so the proxy dispatch of the fake
+ * driver is part of the score; it is the same for all variants.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RowMappingBenchmark {
+    private static final String[] READING_COLUMNS = {"id", "number_meter", "date", "user_name", "type_id", "value"};
+    private static final String[] ROLLUP_COLUMNS = {"period", "number_meter", "type", "min_value", "max_value",
+            "last_value", "readings", "delta"};
+
+    @Param({"100", "10000"})
+    public int readings;
+
+    private final User user = new User("bench_user", "", UserRole.USER);
+    private MeterReadingDaoImpl readingDao;
+    private MeterReadingDaoImpl rollupDao;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        LocalDateTime start = LocalDateTime.of(2024, 1, 1, 0, 0);
+        Object[][] readingRows = new Object[readings * 2][];
+        for (int i = 0; i < readings; i++) {
+            LocalDateTime date = start.plusMinutes(i);
+            readingRows[2 * i] = new Object[]{(long) i + 1, "BM" + (i % 100), date, user.getUsername(), (short) 1, (double) (i % 1000)};
+            readingRows[2 * i + 1] = new Object[]{(long) i + 1, "BM" + (i % 100), date, user.getUsername(), (short) 2, (double) (i % 100)};
+        }
+        Object[][] rollupRows = new Object[readings][];
+        for (int i = 0; i < readings; i++) {
+            rollupRows[i] = new Object[]{LocalDate.of(2024, 1, 1), "BM" + i, i % 2 == 0 ? "gas" : "water",
+                    BigDecimal.valueOf(i, 2), BigDecimal.valueOf(i + 500, 2), BigDecimal.valueOf(i + 400, 2), 30L, BigDecimal.valueOf(500, 2)};
+        }
+        readingDao = new MeterReadingDaoImpl(new JdbcTemplate(new SyntheticDataSource(READING_COLUMNS, readingRows).dataSource()),
+                new FixedReadingTypeRegistry());
+        rollupDao = new MeterReadingDaoImpl(new JdbcTemplate(new SyntheticDataSource(ROLLUP_COLUMNS, rollupRows).dataSource()),
+                new FixedReadingTypeRegistry());
+    }
+
+    @Benchmark
+    public List<MeterReading> readingObjects() {
+        return readingDao.selectByUserName(user);
+    }
+
+    @Benchmark
+    public MeterReadingColumns readingColumns() {
+        return readingDao.selectColumnsByUserName(user);
+    }
+
+    @Benchmark
+    public List<MeterRollup> rollups() {
+        return rollupDao.selectMonthRollups(user, LocalDate.of(2024, 1, 1));
+    }
+
+    private static class FixedReadingTypeRegistry implements ReadingTypeRegistry {
+        @Override
+        public void load() {}
+
+        @Override
+        public short getTypeId(String name) {
+            return "gas".equals(name) ? (short) 1 : (short) 2;
+        }
+
+        @Override
+        public String getTypeName(short id) {
+            return id == 1 ? "gas" : "water";
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.ylab.benchmarks.dao;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * SyntheticDataSource class is a JDBC data source without a database: every query returns the same in-memory rows.
+ * <p>
+ * The result sets look up columns by name and create the value objects of every getter call like a driver does,
+ * so a {@code JdbcTemplate} over this data source measures the statement handling and the row mapping of a dao
+ * without network and database time. Connections, statements and result sets are dynamic proxies; the methods
+ * that are not modelled return {@code null}, {@code false} or zero.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+public class SyntheticDataSource {
+    private final Map<String, Integer> columns = new HashMap<>();
+    private final Object[][] rows;
+
+    /**
+     * Instantiates a new synthetic data source.
+     *
+     * @param columnNames the column labels of the rows
+     * @param rows        the rows; timestamps are {@link LocalDateTime}, dates {@link LocalDate}, decimals {@link BigDecimal}
+     */
+    public SyntheticDataSource(String[] columnNames, Object[][] rows) {
+        for (int i = 0; i < columnNames.length; i++) {
+            columns.put(columnNames[i], i);
+        }
+        this.rows = rows;
+    }
+
+    /**
+     * Gets a data source whose statements answer every query with the rows.
+     *
+     * @return the data source
+     */
+    public DataSource dataSource() {
+        PreparedStatement statement = proxy(PreparedStatement.class, (proxy, method, args) -> switch (method.getName()) {
+            case "executeQuery" -> resultSet();
+            default -> defaultValue(method.getReturnType());
+        });
+        Connection connection = proxy(Connection.class, (proxy, method, args) -> switch (method.getName()) {
+            case "prepareStatement" -> statement;
+            case "getAutoCommit" -> true;
+            default -> defaultValue(method.getReturnType());
+        });
+        return proxy(DataSource.class, (proxy, method, args) -> switch (method.getName()) {
+            case "getConnection" -> connection;
+            default -> defaultValue(method.getReturnType());
+        });
+    }
+
+    private ResultSet resultSet() {
+        int[] cursor = {-1};
+        boolean[] wasNull = {false};
+        return proxy(ResultSet.class, (proxy, method, args) -> {
+            String name = method.getName();
+            if ("next".equals(name)) {
+                return ++cursor[0] < rows.length;
+            }
+            if ("wasNull".equals(name)) {
+                return wasNull[0];
+            }
+            if (name.startsWith("get") && args != null && args.length == 1 && args[0] instanceof String column) {
+                Integer index = columns.get(column);
+                if (index == null) {
+                    throw new SQLException("The column name " + column + " was not found in this ResultSet.");
+                }
+                Object value = rows[cursor[0]][index];
+                wasNull[0] = value == null;
+                return convert(value, method.getReturnType());
+            }
+            return defaultValue(method.getReturnType());
+        });
+    }
+
+    private static Object convert(Object value, Class<?> type) {
+        if (value == null) {
+            return defaultValue(type);
+        }
+        if (type == long.class) {
+            return ((Number) value).longValue();
+        }
+        if (type == int.class) {
+            return ((Number) value).intValue();
+        }
+        if (type == short.class) {
+            return ((Number) value).shortValue();
+        }
+        if (type == double.class) {
+            return ((Number) value).doubleValue();
+        }
+        if (type == String.class) {
+            return value.toString();
+        }
+        if (type == Timestamp.class) {
+            return Timestamp.valueOf((LocalDateTime) value);
+        }
+        if (type == Date.class) {
+            return Date.valueOf((LocalDate) value);
+        }
+        if (type == BigDecimal.class) {
+            return value instanceof BigDecimal decimal ? decimal : BigDecimal.valueOf(((Number) value).doubleValue());
+        }
+        return value;
+    }
+
+    private static Object defaultValue(Class<?> type) {
+        if (type == boolean.class) {
+            return false;
+        }
+        if (type == int.class) {
+            return 0;
+        }
+        if (type == long.class) {
+            return 0L;
+        }
+        if (type == short.class) {
+            return (short) 0;
+        }
+        if (type == double.class) {
+            return 0d;
+        }
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(SyntheticDataSource.class.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+}
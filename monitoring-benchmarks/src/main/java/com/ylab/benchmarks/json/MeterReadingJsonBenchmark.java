@@ -0,0 +1,72 @@
+package com.ylab.benchmarks.json;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.ylab.app.model.User;
+import com.ylab.app.model.UserRole;
+import com.ylab.app.model.dto.MeterReadingDetailsDto;
+import com.ylab.app.model.dto.MeterReadingDto;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MeterReadingJsonBenchmark class measures the JSON serialization of {@link MeterReadingDto} lists as the history
+ * endpoints write them, with an object mapper configured like the one of the application.
+ * <p>
+ * {@code toStream} writes into a discarding stream like a response body; {@code toBytes} builds the whole document in memory.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MeterReadingJsonBenchmark {
+    @Param({"100", "10000"})
+    public int readings;
+
+    private ObjectWriter writer;
+    private List<MeterReadingDto> meterReadings;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        writer = objectMapper.writerFor(objectMapper.getTypeFactory().constructCollectionType(List.class, MeterReadingDto.class));
+        User user = new User("bench_user", "", UserRole.USER);
+        user.setId(42L);
+        LocalDateTime start = LocalDateTime.of(2024, 1, 1, 0, 0);
+        meterReadings = new ArrayList<>(readings);
+        for (int i = 0; i < readings; i++) {
+            MeterReadingDto meterReadingDto = new MeterReadingDto();
+            meterReadingDto.setId((long) i + 1);
+            meterReadingDto.setNumberMeter("BM" + (i % 100));
+            meterReadingDto.setDate(start.plusMinutes(i));
+            meterReadingDto.setUser(user);
+            List<MeterReadingDetailsDto> details = new ArrayList<>(2);
+            details.add(new MeterReadingDetailsDto("gas", (double) (i % 1000)));
+            details.add(new MeterReadingDetailsDto("water", (double) (i % 100)));
+            meterReadingDto.setDetailsList(details);
+            meterReadings.add(meterReadingDto);
+        }
+    }
+
+    @Benchmark
+    public void toStream() throws IOException {
+        writer.writeValue(OutputStream.nullOutputStream(), meterReadings);
+    }
+
+    @Benchmark
+    public byte[] toBytes() throws IOException {
+        return writer.writeValueAsBytes(meterReadings);
+    }
+}
@@ -0,0 +1,86 @@
+package com.ylab.benchmarks.mapper;
+
+import com.ylab.app.mapper.MeterReadingDetailsMapperImpl;
+import com.ylab.app.mapper.MeterReadingMapper;
+import com.ylab.app.mapper.MeterReadingMapperImpl;
+import com.ylab.app.mapper.UserMapper;
+import com.ylab.app.mapper.UserMapperImpl;
+import com.ylab.app.model.MeterReading;
+import com.ylab.app.model.User;
+import com.ylab.app.model.UserRole;
+import com.ylab.app.model.dto.MeterReadingDto;
+import com.ylab.app.model.dto.UserDto;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MapperBenchmark class measures one conversion of the MapStruct mappers {@link MeterReadingMapper} and {@link UserMapper}
+ * in both directions. The readings carry {@code details} reading details each, so the cost of the nested list shows.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+    @Param({"2", "8"})
+    public int details;
+
+    private AnnotationConfigApplicationContext mapperContext;
+    private MeterReadingMapper meterReadingMapper;
+    private UserMapper userMapper;
+    private MeterReading meterReading;
+    private MeterReadingDto meterReadingDto;
+    private User user;
+    private UserDto userDto;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        mapperContext = new AnnotationConfigApplicationContext(MeterReadingMapperImpl.class, MeterReadingDetailsMapperImpl.class,
+                UserMapperImpl.class);
+        meterReadingMapper = mapperContext.getBean(MeterReadingMapper.class);
+        userMapper = mapperContext.getBean(UserMapper.class);
+
+        user = new User("bench_user", "$2a$10$benchmarkpasswordhash", UserRole.USER);
+        user.setId(42L);
+        userDto = userMapper.userToUserDto(user);
+        meterReading = new MeterReading("BM-1", LocalDateTime.of(2024, 3, 1, 12, 0), user);
+        meterReading.setId(1000L);
+        for (int i = 0; i < details; i++) {
+            meterReading.addReadingDetails("type_" + i, i * 10.5);
+        }
+        meterReadingDto = meterReadingMapper.meterReadingToMeterReadingDto(meterReading);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        mapperContext.close();
+    }
+
+    @Benchmark
+    public MeterReadingDto meterReadingToDto() {
+        return meterReadingMapper.meterReadingToMeterReadingDto(meterReading);
+    }
+
+    @Benchmark
+    public MeterReading dtoToMeterReading() {
+        return meterReadingMapper.meterReadingDtoToMeterReading(meterReadingDto);
+    }
+
+    @Benchmark
+    public UserDto userToDto() {
+        return userMapper.userToUserDto(user);
+    }
+
+    @Benchmark
+    public User dtoToUser() {
+        return userMapper.userDtoToUser(userDto);
+    }
+}
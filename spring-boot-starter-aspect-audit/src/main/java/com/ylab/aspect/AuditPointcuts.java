@@ -0,0 +1,67 @@
+package com.ylab.aspect;
+
+import com.ylab.config.AuditProperties;
+import org.springframework.aop.Pointcut;
+import org.springframework.aop.aspectj.AspectJExpressionPointcut;
+import org.springframework.aop.support.ComposablePointcut;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * AuditPointcuts class builds the pointcut selecting the audited methods from the audit properties.
+ * <p>
+ * The package scope is an AspectJ {@code within} expression and the {@link Audited} check is an
+ * {@link AnnotationMatchingPointcut}; both are decided once per method when the proxy is created, so
+ * the pointcut adds no matching cost to the advised calls.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+public final class AuditPointcuts {
+
+    private AuditPointcuts() {
+    }
+
+    /**
+     * Builds the audit pointcut for the given configuration.
+     *
+     * @param auditProperties the audit configuration
+     * @return the audit pointcut
+     * @throws IllegalStateException if neither annotated-only mode nor include packages restrict the scope
+     */
+    public static Pointcut from(AuditProperties auditProperties) {
+        List<String> includes = auditProperties.getIncludePackages();
+        if (!auditProperties.isAnnotatedOnly() && includes.isEmpty()) {
+            throw new IllegalStateException("ylab.audit.include-packages must be set when ylab.audit.annotated-only is false");
+        }
+        ComposablePointcut pointcut = new ComposablePointcut();
+        String packageExpression = packageExpression(includes, auditProperties.getExcludePackages());
+        if (packageExpression != null) {
+            AspectJExpressionPointcut packagePointcut = new AspectJExpressionPointcut();
+            packagePointcut.setExpression(packageExpression);
+            pointcut.intersection((Pointcut) packagePointcut);
+        }
+        if (auditProperties.isAnnotatedOnly()) {
+            pointcut.intersection(new ComposablePointcut(new AnnotationMatchingPointcut(Audited.class, true))
+                    .union(AnnotationMatchingPointcut.forMethodAnnotation(Audited.class)));
+        }
+        return pointcut;
+    }
+
+    private static String packageExpression(List<String> includes, List<String> excludes) {
+        List<String> terms = new ArrayList<>();
+        if (!includes.isEmpty()) {
+            List<String> within = new ArrayList<>();
+            for (String include : includes) {
+                within.add("within(" + include + "..*)");
+            }
+            terms.add("(" + String.join(" || ", within) + ")");
+        }
+        for (String exclude : excludes) {
+            terms.add("!within(" + exclude + "..*)");
+        }
+        return terms.isEmpty() ? null : String.join(" && ", terms);
+    }
+}
@@ -0,0 +1,37 @@
+package com.ylab.aspect;
+
+import java.lang.annotation.*;
+
+/**
+ * Audited annotation marks the methods, or all methods of a type, whose calls are recorded in the audit log.
+ * <p>
+ * By default only annotated entry points are audited; the scope and the sampling can be tuned with the
+ * {@code ylab.audit.*} properties.
+ *
+ * Example of usage:
+ *
+ * <pre>
+ * {@literal @}Audited
+ * public class MyBusinessService {
+ *     {@literal @}Audited(sampleRate = 0.1)
+ *     public void frequentCall() {
+ *         //...
+ *     }
+ * }
+ * </pre>
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface Audited {
+    /**
+     * The share of calls to record, from 0.0 to 1.0; a negative value falls back to {@code ylab.audit.sample-rate}.
+     * A rate configured in {@code ylab.audit.method-sample-rates} takes precedence over this attribute.
+     *
+     * @return the sampling rate
+     */
+    double sampleRate() default -1;
+}
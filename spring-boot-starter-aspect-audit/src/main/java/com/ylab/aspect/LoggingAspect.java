@@ -1,63 +1,149 @@
 package com.ylab.aspect;
 
+import com.ylab.config.AuditProperties;
 import com.ylab.model.Audit;
-import com.ylab.repository.AuditDao;
-import com.ylab.repository.impl.AuditDaoImpl;
-import org.aspectj.lang.JoinPoint;
-import org.aspectj.lang.annotation.Aspect;
-import org.aspectj.lang.annotation.Before;
-import org.springframework.jdbc.core.JdbcTemplate;
-import org.springframework.stereotype.Component;
+import com.ylab.writer.AsyncAuditWriter;
+import org.springframework.aop.MethodBeforeAdvice;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.annotation.AnnotatedElementUtils;
 
+import java.lang.reflect.Method;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Arrays;
-import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
 
 /**
  * LoggingAspect class is responsible for logging method calls in the application.
  * <p>
- * This aspect intercepts method calls and logs information such as method name, signature, and arguments.
+ * This advice runs before the methods selected by the audit pointcut and logs information such as method name,
+ * signature, and arguments. Calls are sampled with the rate resolved for the method, and the audit entries are
+ * handed to the {@link AsyncAuditWriter}, so the intercepted call never waits on the database.
  *
  * @author razlivinsky
  * @since 16.02.2024
  */
-@Aspect
-@Component
-public class LoggingAspect {
-    public final AuditDao auditDao;
+public class LoggingAspect implements MethodBeforeAdvice {
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final Supplier<AsyncAuditWriter> auditWriterSupplier;
+    private final double defaultSampleRate;
+    private final Map<String, Double> methodSampleRates;
+    private final boolean captureArguments;
+    private final Map<MethodKey, AuditedMethod> auditedMethods = new ConcurrentHashMap<>();
+    private volatile AsyncAuditWriter auditWriter;
 
     /**
      * Instantiates a new Logging aspect.
      *
-     * @param jdbcTemplate the jdbc template used for database operations
+     * @param auditWriter     the writer storing the audit entries in the background
+     * @param auditProperties the audit configuration
+     */
+    public LoggingAspect(AsyncAuditWriter auditWriter, AuditProperties auditProperties) {
+        this(() -> auditWriter, auditProperties);
+    }
+
+    /**
+     * Instantiates a new Logging aspect that looks the writer up on the first audited call.
+     *
+     * @param auditWriterSupplier the supplier of the writer storing the audit entries in the background
+     * @param auditProperties     the audit configuration
+     * @throws IllegalArgumentException if a configured sampling rate is outside 0.0 to 1.0
      */
-    public LoggingAspect(JdbcTemplate jdbcTemplate) {
-        this.auditDao = new AuditDaoImpl(jdbcTemplate);
+    public LoggingAspect(Supplier<AsyncAuditWriter> auditWriterSupplier, AuditProperties auditProperties) {
+        this.auditWriterSupplier = auditWriterSupplier;
+        this.defaultSampleRate = checkSampleRate("ylab.audit.sample-rate", auditProperties.getSampleRate());
+        this.methodSampleRates = Map.copyOf(auditProperties.getMethodSampleRates());
+        this.methodSampleRates.forEach((method, rate) -> checkSampleRate(method, rate));
+        this.captureArguments = auditProperties.isCaptureArguments();
     }
 
     /**
      * Logs method calls before their execution.
      *
-     * @param joinPoint the join point at which the advice is being called
+     * @param method the method being invoked
+     * @param args   the arguments of the invocation
+     * @param target the target of the invocation
      */
-    @Before("execution(* com.ylab.app..*(..))")
-    public void logMethodCall(JoinPoint joinPoint) {
-        LocalDateTime currentTime = LocalDateTime.now();
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
-        String formattedDateTime = currentTime.format(formatter);
-
-        String methodName = joinPoint.getSignature().getName();
-        String signature = joinPoint.getSignature().toString();
-        Object[] args = joinPoint.getArgs();
-
-        String result = "Time: " + formattedDateTime + System.lineSeparator()
-                + "Method Name: " + methodName + System.lineSeparator()
-                + "Signature: " + signature + System.lineSeparator()
-                + "Arguments: " + Arrays.toString(args);
-        Audit audit = new Audit(result);
-        auditDao.sendMessage(audit);
-        List<Audit> auditList = auditDao.getMessage();
-        System.out.println(auditList);
-    }
-}
\ No newline at end of file
+    @Override
+    public void before(Method method, Object[] args, Object target) {
+        Class<?> targetClass = target != null ? AopProxyUtils.ultimateTargetClass(target) : method.getDeclaringClass();
+        AuditedMethod auditedMethod = auditedMethods.computeIfAbsent(new MethodKey(method, targetClass), this::resolve);
+        double sampleRate = auditedMethod.sampleRate();
+        if (sampleRate <= 0 || sampleRate < 1 && ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+            return;
+        }
+
+        String formattedDateTime = LocalDateTime.now().format(FORMATTER);
+        StringBuilder result = new StringBuilder(256)
+                .append("Time: ").append(formattedDateTime).append(System.lineSeparator())
+                .append("Method Name: ").append(auditedMethod.name()).append(System.lineSeparator())
+                .append("Signature: ").append(auditedMethod.signature());
+        if (captureArguments) {
+            result.append(System.lineSeparator()).append("Arguments: ").append(Arrays.toString(args));
+        }
+        writer().submit(new Audit(result.toString()));
+    }
+
+    private AsyncAuditWriter writer() {
+        AsyncAuditWriter writer = auditWriter;
+        if (writer == null) {
+            writer = auditWriterSupplier.get();
+            auditWriter = writer;
+        }
+        return writer;
+    }
+
+    private AuditedMethod resolve(MethodKey key) {
+        Method method = AopUtils.getMostSpecificMethod(key.method(), key.targetClass());
+        return new AuditedMethod(method.getName(), signature(method), resolveSampleRate(method));
+    }
+
+    private double resolveSampleRate(Method method) {
+        Class<?> declaringClass = method.getDeclaringClass();
+        Double configured = methodSampleRates.get(declaringClass.getName() + "." + method.getName());
+        if (configured == null) {
+            configured = methodSampleRates.get(declaringClass.getSimpleName() + "." + method.getName());
+        }
+        if (configured != null) {
+            return configured;
+        }
+        Audited audited = AnnotatedElementUtils.findMergedAnnotation(method, Audited.class);
+        if (audited == null) {
+            audited = AnnotatedElementUtils.findMergedAnnotation(declaringClass, Audited.class);
+        }
+        if (audited != null && audited.sampleRate() >= 0) {
+            return checkSampleRate(method.toString(), audited.sampleRate());
+        }
+        return defaultSampleRate;
+    }
+
+    private static String signature(Method method) {
+        StringBuilder signature = new StringBuilder()
+                .append(method.getReturnType().getSimpleName()).append(' ')
+                .append(method.getDeclaringClass().getName()).append('.').append(method.getName()).append('(');
+        Class<?>[] parameterTypes = method.getParameterTypes();
+        for (int i = 0; i < parameterTypes.length; i++) {
+            if (i > 0) {
+                signature.append(',');
+            }
+            signature.append(parameterTypes[i].getSimpleName());
+        }
+        return signature.append(')').toString();
+    }
+
+    private static double checkSampleRate(String name, double sampleRate) {
+        if (sampleRate < 0 || sampleRate > 1) {
+            throw new IllegalArgumentException("Invalid audit sample rate " + sampleRate + " for " + name);
+        }
+        return sampleRate;
+    }
+
+    private record MethodKey(Method method, Class<?> targetClass) {}
+
+    private record AuditedMethod(String name, String signature, double sampleRate) {}
+}
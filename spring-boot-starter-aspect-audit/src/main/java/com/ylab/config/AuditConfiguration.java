@@ -0,0 +1,95 @@
+package com.ylab.config;
+
+import com.ylab.aspect.AuditPointcuts;
+import com.ylab.aspect.LoggingAspect;
+import com.ylab.metrics.AuditWriterMetrics;
+import com.ylab.repository.AuditDao;
+import com.ylab.repository.impl.AuditDaoImpl;
+import com.ylab.writer.AsyncAuditWriter;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.JdbcTemplateAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * AuditConfiguration class is the auto-configuration of the audit starter.
+ * <p>
+ * It wires the audit dao, the asynchronous batch writer and the advisor that feeds it. The advisor's pointcut
+ * is built from the {@code ylab.audit.*} properties, see {@link AuditPointcuts}.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+@AutoConfiguration(after = JdbcTemplateAutoConfiguration.class)
+@EnableConfigurationProperties(AuditProperties.class)
+public class AuditConfiguration {
+
+    /**
+     * Creates the audit dao.
+     *
+     * @param jdbcTemplate the jdbc template used for database operations
+     * @return the audit dao
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public AuditDao auditDao(JdbcTemplate jdbcTemplate) {
+        return new AuditDaoImpl(jdbcTemplate);
+    }
+
+    /**
+     * Creates the background audit writer.
+     *
+     * @param auditDao        the audit dao
+     * @param auditProperties the audit configuration
+     * @return the audit writer
+     */
+    @Bean
+    public AsyncAuditWriter asyncAuditWriter(AuditDao auditDao, AuditProperties auditProperties) {
+        return new AsyncAuditWriter(auditDao, auditProperties.getWriter());
+    }
+
+    /**
+     * Creates the advisor that records calls of the audited methods.
+     * <p>
+     * The writer is looked up on the first audited call, so the advisor does not pull the data source
+     * into the early bean post-processor initialization.
+     *
+     * @param asyncAuditWriter the audit writer provider
+     * @param auditProperties  the audit configuration
+     * @return the audit advisor
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "ylab.audit", name = "enabled", matchIfMissing = true)
+    public Advisor auditAdvisor(ObjectProvider<AsyncAuditWriter> asyncAuditWriter, AuditProperties auditProperties) {
+        return new DefaultPointcutAdvisor(AuditPointcuts.from(auditProperties),
+                new LoggingAspect(asyncAuditWriter::getObject, auditProperties));
+    }
+
+    /**
+     * AuditMetricsConfiguration class registers the audit writer meters when Micrometer is on the classpath.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(MeterBinder.class)
+    static class AuditMetricsConfiguration {
+
+        /**
+         * Creates the audit writer metrics binder.
+         *
+         * @param asyncAuditWriter the audit writer
+         * @return the metrics binder
+         */
+        @Bean
+        public AuditWriterMetrics auditWriterMetrics(AsyncAuditWriter asyncAuditWriter) {
+            return new AuditWriterMetrics(asyncAuditWriter);
+        }
+    }
+}
@@ -0,0 +1,284 @@
+package com.ylab.config;
+
+import com.ylab.writer.OverflowPolicy;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * AuditProperties class holds the configuration of the audit starter bound from the {@code ylab.audit} prefix.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+@ConfigurationProperties("ylab.audit")
+public class AuditProperties {
+    private boolean enabled = true;
+    private boolean annotatedOnly = true;
+    private List<String> includePackages = new ArrayList<>();
+    private List<String> excludePackages = new ArrayList<>();
+    private double sampleRate = 1.0;
+    private Map<String, Double> methodSampleRates = new HashMap<>();
+    private boolean captureArguments = true;
+    private final Writer writer = new Writer();
+
+    /**
+     * Checks whether method calls are audited at all.
+     *
+     * @return true if auditing is enabled
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Enables or disables auditing of method calls.
+     *
+     * @param enabled true to audit method calls
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Checks whether only methods and types annotated with {@code @Audited} are audited.
+     *
+     * @return true if only annotated methods are audited
+     */
+    public boolean isAnnotatedOnly() {
+        return annotatedOnly;
+    }
+
+    /**
+     * Sets whether only methods and types annotated with {@code @Audited} are audited.
+     *
+     * @param annotatedOnly true to audit annotated methods only
+     */
+    public void setAnnotatedOnly(boolean annotatedOnly) {
+        this.annotatedOnly = annotatedOnly;
+    }
+
+    /**
+     * Gets the packages, including their subpackages, whose methods may be audited; empty means any package.
+     *
+     * @return the included packages
+     */
+    public List<String> getIncludePackages() {
+        return includePackages;
+    }
+
+    /**
+     * Sets the packages, including their subpackages, whose methods may be audited.
+     *
+     * @param includePackages the included packages
+     */
+    public void setIncludePackages(List<String> includePackages) {
+        this.includePackages = includePackages;
+    }
+
+    /**
+     * Gets the packages, including their subpackages, whose methods are never audited.
+     *
+     * @return the excluded packages
+     */
+    public List<String> getExcludePackages() {
+        return excludePackages;
+    }
+
+    /**
+     * Sets the packages, including their subpackages, whose methods are never audited.
+     *
+     * @param excludePackages the excluded packages
+     */
+    public void setExcludePackages(List<String> excludePackages) {
+        this.excludePackages = excludePackages;
+    }
+
+    /**
+     * Gets the default share of calls to record, from 0.0 to 1.0.
+     *
+     * @return the default sampling rate
+     */
+    public double getSampleRate() {
+        return sampleRate;
+    }
+
+    /**
+     * Sets the default share of calls to record, from 0.0 to 1.0.
+     *
+     * @param sampleRate the default sampling rate
+     */
+    public void setSampleRate(double sampleRate) {
+        this.sampleRate = sampleRate;
+    }
+
+    /**
+     * Gets the sampling rates of single methods keyed by {@code SimpleClassName.method} or {@code fully.qualified.Class.method}.
+     * In YAML the keys have to be bracketed, e.g. {@code "[MeterServiceImpl.submitReading]": 0.1}.
+     *
+     * @return the per-method sampling rates
+     */
+    public Map<String, Double> getMethodSampleRates() {
+        return methodSampleRates;
+    }
+
+    /**
+     * Sets the sampling rates of single methods.
+     *
+     * @param methodSampleRates the per-method sampling rates
+     */
+    public void setMethodSampleRates(Map<String, Double> methodSampleRates) {
+        this.methodSampleRates = methodSampleRates;
+    }
+
+    /**
+     * Checks whether the method arguments are written into the audit entries.
+     *
+     * @return true if the arguments are captured
+     */
+    public boolean isCaptureArguments() {
+        return captureArguments;
+    }
+
+    /**
+     * Sets whether the method arguments are written into the audit entries.
+     *
+     * @param captureArguments true to capture the arguments
+     */
+    public void setCaptureArguments(boolean captureArguments) {
+        this.captureArguments = captureArguments;
+    }
+
+    /**
+     * Gets the configuration of the asynchronous audit writer.
+     *
+     * @return the writer configuration
+     */
+    public Writer getWriter() {
+        return writer;
+    }
+
+    /**
+     * Writer class holds the configuration of the background audit writer.
+     */
+    public static class Writer {
+        private int capacity = 8192;
+        private int batchSize = 500;
+        private Duration flushInterval = Duration.ofSeconds(1);
+        private OverflowPolicy overflowPolicy = OverflowPolicy.DROP;
+        private Duration offerTimeout = Duration.ofMillis(100);
+        private Duration shutdownTimeout = Duration.ofSeconds(5);
+
+        /**
+         * Gets the maximum number of audit events waiting to be written.
+         *
+         * @return the buffer capacity
+         */
+        public int getCapacity() {
+            return capacity;
+        }
+
+        /**
+         * Sets the maximum number of audit events waiting to be written.
+         *
+         * @param capacity the buffer capacity, rounded up to a power of two
+         */
+        public void setCapacity(int capacity) {
+            this.capacity = capacity;
+        }
+
+        /**
+         * Gets the maximum number of audit events written in one JDBC batch.
+         *
+         * @return the batch size
+         */
+        public int getBatchSize() {
+            return batchSize;
+        }
+
+        /**
+         * Sets the maximum number of audit events written in one JDBC batch.
+         *
+         * @param batchSize the batch size
+         */
+        public void setBatchSize(int batchSize) {
+            this.batchSize = batchSize;
+        }
+
+        /**
+         * Gets the longest time a buffered audit event waits before it is written.
+         *
+         * @return the flush interval
+         */
+        public Duration getFlushInterval() {
+            return flushInterval;
+        }
+
+        /**
+         * Sets the longest time a buffered audit event waits before it is written.
+         *
+         * @param flushInterval the flush interval
+         */
+        public void setFlushInterval(Duration flushInterval) {
+            this.flushInterval = flushInterval;
+        }
+
+        /**
+         * Gets the policy applied when the buffer is full.
+         *
+         * @return the overflow policy
+         */
+        public OverflowPolicy getOverflowPolicy() {
+            return overflowPolicy;
+        }
+
+        /**
+         * Sets the policy applied when the buffer is full.
+         *
+         * @param overflowPolicy the overflow policy
+         */
+        public void setOverflowPolicy(OverflowPolicy overflowPolicy) {
+            this.overflowPolicy = overflowPolicy;
+        }
+
+        /**
+         * Gets how long a caller waits for free space under the {@link OverflowPolicy#BLOCK} policy.
+         *
+         * @return the offer timeout
+         */
+        public Duration getOfferTimeout() {
+            return offerTimeout;
+        }
+
+        /**
+         * Sets how long a caller waits for free space under the {@link OverflowPolicy#BLOCK} policy.
+         *
+         * @param offerTimeout the offer timeout
+         */
+        public void setOfferTimeout(Duration offerTimeout) {
+            this.offerTimeout = offerTimeout;
+        }
+
+        /**
+         * Gets how long the application shutdown waits for buffered audit events to be written.
+         *
+         * @return the shutdown timeout
+         */
+        public Duration getShutdownTimeout() {
+            return shutdownTimeout;
+        }
+
+        /**
+         * Sets how long the application shutdown waits for buffered audit events to be written.
+         *
+         * @param shutdownTimeout the shutdown timeout
+         */
+        public void setShutdownTimeout(Duration shutdownTimeout) {
+            this.shutdownTimeout = shutdownTimeout;
+        }
+    }
+}
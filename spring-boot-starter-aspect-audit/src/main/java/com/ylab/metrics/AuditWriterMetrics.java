@@ -0,0 +1,62 @@
+package com.ylab.metrics;
+
+import com.ylab.writer.AsyncAuditWriter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AuditWriterMetrics class publishes the queue depth, drop count and flush latency of the
+ * {@link AsyncAuditWriter} to a Micrometer registry.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+public class AuditWriterMetrics implements MeterBinder {
+    private final AsyncAuditWriter auditWriter;
+
+    /**
+     * Instantiates new audit writer metrics.
+     *
+     * @param auditWriter the writer to observe
+     */
+    public AuditWriterMetrics(AsyncAuditWriter auditWriter) {
+        this.auditWriter = auditWriter;
+    }
+
+    /**
+     * Registers the audit writer meters.
+     *
+     * @param registry the meter registry
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("ylab.audit.queue.depth", auditWriter, AsyncAuditWriter::getQueueDepth)
+                .description("Audit events waiting to be written")
+                .register(registry);
+        Gauge.builder("ylab.audit.queue.capacity", auditWriter, AsyncAuditWriter::getQueueCapacity)
+                .description("Capacity of the audit buffer")
+                .register(registry);
+        FunctionCounter.builder("ylab.audit.dropped", auditWriter, AsyncAuditWriter::getDroppedCount)
+                .description("Audit events dropped because the buffer was full")
+                .register(registry);
+        FunctionCounter.builder("ylab.audit.written", auditWriter, AsyncAuditWriter::getWrittenCount)
+                .description("Audit events written to the database")
+                .register(registry);
+        FunctionCounter.builder("ylab.audit.failed", auditWriter, AsyncAuditWriter::getFailedCount)
+                .description("Audit events lost by failed batch inserts")
+                .register(registry);
+        FunctionTimer.builder("ylab.audit.flush", auditWriter, AsyncAuditWriter::getFlushCount,
+                        AsyncAuditWriter::getFlushTotalNanos, TimeUnit.NANOSECONDS)
+                .description("Batch flushes of the audit writer")
+                .register(registry);
+        TimeGauge.builder("ylab.audit.flush.max", auditWriter, TimeUnit.NANOSECONDS, AsyncAuditWriter::getMaxFlushNanos)
+                .description("Longest batch flush of the audit writer")
+                .register(registry);
+    }
+}
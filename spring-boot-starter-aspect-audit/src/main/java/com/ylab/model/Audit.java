@@ -7,16 +7,21 @@ package com.ylab.model;
  * @since 17.02.2024
  */
 public class Audit {
+    /**
+     * The width of the audit message column; longer messages are cut to it.
+     */
+    public static final int MAX_MESSAGE_LENGTH = 2000;
+
     private Long id;
     private String message;
 
     /**
-     * Instantiates a new Audit with the given message.
+     * Instantiates a new Audit with the given message, truncated to {@link #MAX_MESSAGE_LENGTH} characters.
      *
      * @param message the message for the audit entry
      */
     public Audit(String message) {
-        this.message = message;
+        this.message = truncate(message);
     }
 
     /**
@@ -47,12 +52,22 @@ public class Audit {
     }
 
     /**
-     * Sets the message of the audit entry.
+     * Sets the message of the audit entry, truncated to {@link #MAX_MESSAGE_LENGTH} characters.
      *
      * @param message the message to set for the audit entry
      */
     public void setMessage(String message) {
-        this.message = message;
+        this.message = truncate(message);
+    }
+
+    private static String truncate(String message) {
+        if (message == null || message.length() <= MAX_MESSAGE_LENGTH) {
+            return message;
+        }
+        int end = Character.isHighSurrogate(message.charAt(MAX_MESSAGE_LENGTH - 1))
+                ? MAX_MESSAGE_LENGTH - 1
+                : MAX_MESSAGE_LENGTH;
+        return message.substring(0, end);
     }
 
     @Override
@@ -18,6 +18,13 @@ public interface AuditDao {
      */
     public void sendMessage(Audit audit);
 
+    /**
+     * Sends a batch of audit messages to the data store.
+     *
+     * @param audits the audit messages to be sent
+     */
+    public void sendMessages(List<Audit> audits);
+
     /**
      * Retrieves a list of all audit messages from the data store.
      *
@@ -66,6 +66,23 @@ public class AuditDaoImpl implements AuditDao {
         }
     }
 
+    /**
+     * Sends a batch of audit messages to the database with a single JDBC batch insert. The batch runs as one
+     * implicit transaction, so a failure stores none of its messages.
+     *
+     * @param audits the audit messages to be sent
+     * @throws AuditWriteException if the message sending fails
+     */
+    @Override
+    public void sendMessages(List<Audit> audits) {
+        try {
+            jdbcTemplate.batchUpdate(INSERT_SCHEMA_AUDITION, audits, audits.size(),
+                    (ps, audit) -> ps.setString(1, audit.getMessage()));
+        } catch (DataAccessException e) {
+            throw new AuditWriteException("Failed to send messages " + e.getMessage());
+        }
+    }
+
     /**
      * Retrieves all audit messages from the database.
      *
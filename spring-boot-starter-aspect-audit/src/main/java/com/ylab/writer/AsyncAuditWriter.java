@@ -0,0 +1,266 @@
+package com.ylab.writer;
+
+import com.ylab.config.AuditProperties;
+import com.ylab.model.Audit;
+import com.ylab.repository.AuditDao;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * AsyncAuditWriter class buffers audit events and writes them to the database from a background thread.
+ * <p>
+ * Callers only enqueue into a {@link BoundedRingBuffer}; the writer thread drains it and stores the events
+ * with JDBC batch inserts once a batch is full or the flush interval has passed. A failed batch is retried
+ * row by row, so one bad event does not take the rest of its batch with it. When the buffer is full the
+ * configured {@link OverflowPolicy} decides whether the caller waits or the event is dropped.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+public class AsyncAuditWriter implements InitializingBean, DisposableBean {
+    private static final Logger log = LoggerFactory.getLogger(AsyncAuditWriter.class);
+    private static final long BLOCK_BACKOFF_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    private final AuditDao auditDao;
+    private final BoundedRingBuffer<Audit> buffer;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final OverflowPolicy overflowPolicy;
+    private final long offerTimeoutNanos;
+    private final long shutdownTimeoutMillis;
+
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final AtomicLong writtenCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+    private final AtomicLong flushCount = new AtomicLong();
+    private final AtomicLong flushTotalNanos = new AtomicLong();
+    private volatile long lastFlushNanos;
+    private volatile long maxFlushNanos;
+
+    private volatile boolean running;
+    private volatile Thread writerThread;
+
+    /**
+     * Instantiates a new asynchronous audit writer.
+     *
+     * @param auditDao   the dao used to store the audit batches
+     * @param properties the writer configuration
+     */
+    public AsyncAuditWriter(AuditDao auditDao, AuditProperties.Writer properties) {
+        if (properties.getBatchSize() < 1) {
+            throw new IllegalArgumentException("Invalid audit batch size " + properties.getBatchSize());
+        }
+        this.auditDao = auditDao;
+        this.buffer = new BoundedRingBuffer<>(properties.getCapacity());
+        this.batchSize = properties.getBatchSize();
+        this.flushIntervalNanos = properties.getFlushInterval().toNanos();
+        this.overflowPolicy = properties.getOverflowPolicy();
+        this.offerTimeoutNanos = properties.getOfferTimeout().toNanos();
+        this.shutdownTimeoutMillis = properties.getShutdownTimeout().toMillis();
+    }
+
+    /**
+     * Starts the background writer thread.
+     */
+    @Override
+    public void afterPropertiesSet() {
+        running = true;
+        Thread thread = new Thread(this::drainLoop, "audit-writer");
+        thread.setDaemon(true);
+        writerThread = thread;
+        thread.start();
+    }
+
+    /**
+     * Stops accepting work, writes the events still buffered and waits for the writer thread to finish.
+     *
+     * @throws InterruptedException if the shutdown is interrupted
+     */
+    @Override
+    public void destroy() throws InterruptedException {
+        running = false;
+        Thread thread = writerThread;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+            thread.join(shutdownTimeoutMillis);
+        }
+    }
+
+    /**
+     * Enqueues an audit event for writing.
+     *
+     * @param audit the audit event
+     * @return true if the event was accepted, false if it was dropped
+     */
+    public boolean submit(Audit audit) {
+        if (buffer.offer(audit) || overflowPolicy == OverflowPolicy.BLOCK && awaitOffer(audit)) {
+            if (buffer.size() >= batchSize) {
+                LockSupport.unpark(writerThread);
+            }
+            return true;
+        }
+        droppedCount.incrementAndGet();
+        return false;
+    }
+
+    private boolean awaitOffer(Audit audit) {
+        LockSupport.unpark(writerThread);
+        long deadline = System.nanoTime() + offerTimeoutNanos;
+        while (running && deadline - System.nanoTime() > 0) {
+            LockSupport.parkNanos(this, BLOCK_BACKOFF_NANOS);
+            if (buffer.offer(audit)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void drainLoop() {
+        List<Audit> batch = new ArrayList<>(batchSize);
+        long lastFlush = System.nanoTime();
+        while (running || buffer.size() > 0) {
+            buffer.drainTo(batch, batchSize - batch.size());
+            long now = System.nanoTime();
+            long sinceFlush = now - lastFlush;
+            if (batch.size() >= batchSize || !batch.isEmpty() && (sinceFlush >= flushIntervalNanos || !running)) {
+                flush(batch);
+                lastFlush = now;
+            } else if (batch.isEmpty()) {
+                lastFlush = now;
+                LockSupport.parkNanos(this, flushIntervalNanos);
+            } else {
+                LockSupport.parkNanos(this, flushIntervalNanos - sinceFlush);
+            }
+        }
+        if (!batch.isEmpty()) {
+            flush(batch);
+        }
+    }
+
+    private void flush(List<Audit> batch) {
+        long start = System.nanoTime();
+        try {
+            auditDao.sendMessages(batch);
+            writtenCount.addAndGet(batch.size());
+        } catch (RuntimeException e) {
+            log.warn("Failed to write a batch of {} audit messages, retrying them one by one", batch.size(), e);
+            writeOneByOne(batch);
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            flushCount.incrementAndGet();
+            flushTotalNanos.addAndGet(elapsed);
+            lastFlushNanos = elapsed;
+            if (elapsed > maxFlushNanos) {
+                maxFlushNanos = elapsed;
+            }
+            batch.clear();
+        }
+    }
+
+    private void writeOneByOne(List<Audit> batch) {
+        int failed = 0;
+        RuntimeException lastFailure = null;
+        for (Audit audit : batch) {
+            try {
+                auditDao.sendMessage(audit);
+                writtenCount.incrementAndGet();
+            } catch (RuntimeException e) {
+                failed++;
+                lastFailure = e;
+            }
+        }
+        if (failed > 0) {
+            failedCount.addAndGet(failed);
+            log.warn("Failed to write {} of {} audit messages", failed, batch.size(), lastFailure);
+        }
+    }
+
+    /**
+     * Gets the number of audit events waiting to be written.
+     *
+     * @return the queue depth
+     */
+    public int getQueueDepth() {
+        return buffer.size();
+    }
+
+    /**
+     * Gets the capacity of the audit buffer.
+     *
+     * @return the queue capacity
+     */
+    public int getQueueCapacity() {
+        return buffer.capacity();
+    }
+
+    /**
+     * Gets the number of audit events dropped because the buffer was full.
+     *
+     * @return the drop count
+     */
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    /**
+     * Gets the number of audit events written to the database.
+     *
+     * @return the written count
+     */
+    public long getWrittenCount() {
+        return writtenCount.get();
+    }
+
+    /**
+     * Gets the number of audit events lost because both their batch insert and their single-row retry failed.
+     *
+     * @return the failed count
+     */
+    public long getFailedCount() {
+        return failedCount.get();
+    }
+
+    /**
+     * Gets the number of batch flushes performed.
+     *
+     * @return the flush count
+     */
+    public long getFlushCount() {
+        return flushCount.get();
+    }
+
+    /**
+     * Gets the total time spent in batch flushes.
+     *
+     * @return the total flush time in nanoseconds
+     */
+    public long getFlushTotalNanos() {
+        return flushTotalNanos.get();
+    }
+
+    /**
+     * Gets the duration of the most recent batch flush.
+     *
+     * @return the last flush latency in nanoseconds
+     */
+    public long getLastFlushNanos() {
+        return lastFlushNanos;
+    }
+
+    /**
+     * Gets the longest batch flush since startup.
+     *
+     * @return the maximum flush latency in nanoseconds
+     */
+    public long getMaxFlushNanos() {
+        return maxFlushNanos;
+    }
+}
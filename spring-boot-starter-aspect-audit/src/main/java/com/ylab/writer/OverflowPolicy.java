@@ -0,0 +1,19 @@
+package com.ylab.writer;
+
+/**
+ * OverflowPolicy enum defines what the audit writer does with an event when its buffer is full.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+public enum OverflowPolicy {
+    /**
+     * The event is discarded immediately and counted as dropped.
+     */
+    DROP,
+
+    /**
+     * The calling thread waits up to the offer timeout for free space before the event is dropped.
+     */
+    BLOCK
+}
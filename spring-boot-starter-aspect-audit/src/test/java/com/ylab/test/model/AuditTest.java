@@ -0,0 +1,37 @@
+package com.ylab.test.model;
+
+import com.ylab.model.Audit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * AuditTest class checks that audit messages are cut to the width of the audit message column.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+public class AuditTest {
+    @Test
+    @DisplayName("a message longer than the column is truncated to its width")
+    public void longMessageIsTruncated() {
+        Audit audit = new Audit("x".repeat(Audit.MAX_MESSAGE_LENGTH + 500));
+
+        assertThat(audit.getMessage()).hasSize(Audit.MAX_MESSAGE_LENGTH);
+
+        audit.setMessage("short");
+        assertThat(audit.getMessage()).isEqualTo("short");
+    }
+
+    @Test
+    @DisplayName("truncation does not split a surrogate pair")
+    public void truncationKeepsSurrogatePairs() {
+        String message = "x".repeat(Audit.MAX_MESSAGE_LENGTH - 1) + "😀" + "tail";
+
+        Audit audit = new Audit(message);
+
+        assertThat(audit.getMessage()).hasSize(Audit.MAX_MESSAGE_LENGTH - 1);
+        assertThat(Character.isHighSurrogate(audit.getMessage().charAt(audit.getMessage().length() - 1))).isFalse();
+    }
+}
@@ -0,0 +1,186 @@
+package com.ylab.test.writer;
+
+import com.ylab.config.AuditProperties;
+import com.ylab.exception.AuditWriteException;
+import com.ylab.model.Audit;
+import com.ylab.repository.AuditDao;
+import com.ylab.writer.AsyncAuditWriter;
+import com.ylab.writer.OverflowPolicy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * AsyncAuditWriterTest class checks the overflow policies on a full buffer, batching, the row-by-row retry of a
+ * failed batch and the writer counters.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+public class AsyncAuditWriterTest {
+    private final RecordingAuditDao auditDao = new RecordingAuditDao();
+    private AsyncAuditWriter writer;
+
+    @AfterEach
+    public void tearDown() throws InterruptedException {
+        auditDao.release.countDown();
+        if (writer != null) {
+            writer.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("DROP refuses an event at once when the buffer is full")
+    public void dropPolicyRefusesWhenFull() {
+        writer = new AsyncAuditWriter(auditDao, writerProperties(4, 100, OverflowPolicy.DROP, Duration.ofSeconds(5)));
+
+        for (int i = 0; i < 4; i++) {
+            assertThat(writer.submit(new Audit("event " + i))).isTrue();
+        }
+        long start = System.nanoTime();
+        assertThat(writer.submit(new Audit("overflow"))).isFalse();
+
+        assertThat(System.nanoTime() - start).isLessThan(TimeUnit.SECONDS.toNanos(1));
+        assertThat(writer.getDroppedCount()).isEqualTo(1);
+        assertThat(writer.getQueueDepth()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("BLOCK waits for space, drops after the offer timeout and succeeds once the writer catches up")
+    public void blockPolicyWaitsForSpace() throws Exception {
+        auditDao.blockBatches();
+        writer = new AsyncAuditWriter(auditDao, writerProperties(2, 1, OverflowPolicy.BLOCK, Duration.ofMillis(500)));
+        writer.afterPropertiesSet();
+        writer.submit(new Audit("in flight"));
+        awaitUntil(() -> auditDao.batchStarted.getCount() == 0);
+        writer.submit(new Audit("queued 1"));
+        writer.submit(new Audit("queued 2"));
+
+        assertThat(writer.submit(new Audit("timed out"))).isFalse();
+        assertThat(writer.getDroppedCount()).isEqualTo(1);
+
+        AsyncAuditWriter blockedWriter = writer;
+        CompletableFuture<Boolean> waiting = CompletableFuture.supplyAsync(() -> blockedWriter.submit(new Audit("waited")));
+        LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(50));
+        auditDao.release.countDown();
+
+        assertThat(waiting.get(10, TimeUnit.SECONDS)).isTrue();
+        writer.destroy();
+        assertThat(auditDao.messages()).contains("in flight", "queued 1", "queued 2", "waited")
+                .doesNotContain("timed out");
+    }
+
+    @Test
+    @DisplayName("events are written in full batches and the rest on shutdown")
+    public void flushesFullBatchesAndRemainderOnShutdown() throws InterruptedException {
+        writer = new AsyncAuditWriter(auditDao, writerProperties(16, 2, OverflowPolicy.DROP, Duration.ofSeconds(5)));
+        writer.afterPropertiesSet();
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(writer.submit(new Audit("event " + i))).isTrue();
+        }
+        writer.destroy();
+
+        assertThat(auditDao.messages()).containsExactly("event 0", "event 1", "event 2", "event 3", "event 4");
+        assertThat(auditDao.batchSizes).containsExactly(2, 2, 1);
+        assertThat(writer.getWrittenCount()).isEqualTo(5);
+        assertThat(writer.getFailedCount()).isZero();
+        assertThat(writer.getFlushCount()).isEqualTo(3);
+        assertThat(writer.getMaxFlushNanos()).isGreaterThanOrEqualTo(writer.getLastFlushNanos());
+        assertThat(writer.getQueueDepth()).isZero();
+    }
+
+    @Test
+    @DisplayName("a failed batch is retried row by row and only the bad row is counted as failed")
+    public void failedBatchIsRetriedRowByRow() throws InterruptedException {
+        writer = new AsyncAuditWriter(auditDao, writerProperties(16, 3, OverflowPolicy.DROP, Duration.ofSeconds(5)));
+        writer.afterPropertiesSet();
+
+        writer.submit(new Audit("good 1"));
+        writer.submit(new Audit("bad"));
+        writer.submit(new Audit("good 2"));
+        writer.destroy();
+
+        assertThat(auditDao.messages()).containsExactly("good 1", "good 2");
+        assertThat(writer.getWrittenCount()).isEqualTo(2);
+        assertThat(writer.getFailedCount()).isEqualTo(1);
+        assertThat(writer.getFlushCount()).isEqualTo(1);
+    }
+
+    private static AuditProperties.Writer writerProperties(int capacity, int batchSize, OverflowPolicy policy,
+                                                           Duration offerTimeout) {
+        AuditProperties.Writer properties = new AuditProperties.Writer();
+        properties.setCapacity(capacity);
+        properties.setBatchSize(batchSize);
+        properties.setFlushInterval(Duration.ofHours(1));
+        properties.setOverflowPolicy(policy);
+        properties.setOfferTimeout(offerTimeout);
+        properties.setShutdownTimeout(Duration.ofSeconds(10));
+        return properties;
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime() - deadline).as("condition not met in time").isNegative();
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+        }
+    }
+
+    private static class RecordingAuditDao implements AuditDao {
+        private final List<Audit> stored = new CopyOnWriteArrayList<>();
+        private final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+        private final CountDownLatch batchStarted = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private volatile boolean blockBatches;
+
+        void blockBatches() {
+            blockBatches = true;
+        }
+
+        List<String> messages() {
+            return stored.stream().map(Audit::getMessage).toList();
+        }
+
+        @Override
+        public void sendMessage(Audit audit) {
+            if (audit.getMessage().startsWith("bad")) {
+                throw new AuditWriteException("value too long for type character varying(2000)");
+            }
+            stored.add(audit);
+        }
+
+        @Override
+        public void sendMessages(List<Audit> audits) {
+            batchStarted.countDown();
+            if (blockBatches) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            if (audits.stream().anyMatch(audit -> audit.getMessage().startsWith("bad"))) {
+                throw new AuditWriteException("value too long for type character varying(2000)");
+            }
+            batchSizes.add(audits.size());
+            stored.addAll(audits);
+        }
+
+        @Override
+        public List<Audit> getMessage() {
+            return List.copyOf(stored);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.ylab.test.writer;
+
+import com.ylab.writer.BoundedRingBuffer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * BoundedRingBufferTest class checks capacity rounding, full and empty buffers, wrap-around and concurrent producers.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+public class BoundedRingBufferTest {
+    @Test
+    @DisplayName("capacity is rounded up to a power of two and invalid capacities are rejected")
+    public void capacityIsRoundedUp() {
+        assertThat(new BoundedRingBuffer<Integer>(1).capacity()).isEqualTo(1);
+        assertThat(new BoundedRingBuffer<Integer>(5).capacity()).isEqualTo(8);
+        assertThat(new BoundedRingBuffer<Integer>(8).capacity()).isEqualTo(8);
+        assertThatThrownBy(() -> new BoundedRingBuffer<Integer>(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("a full buffer refuses offers and an empty buffer returns null")
+    public void fullAndEmptyBuffer() {
+        BoundedRingBuffer<Integer> buffer = new BoundedRingBuffer<>(4);
+
+        for (int i = 0; i < 4; i++) {
+            assertThat(buffer.offer(i)).isTrue();
+        }
+        assertThat(buffer.offer(4)).isFalse();
+        assertThat(buffer.size()).isEqualTo(4);
+
+        List<Integer> drained = new ArrayList<>();
+        assertThat(buffer.drainTo(drained, 10)).isEqualTo(4);
+        assertThat(drained).containsExactly(0, 1, 2, 3);
+        assertThat(buffer.poll()).isNull();
+        assertThat(buffer.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("elements keep their order across many laps of the ring")
+    public void wrapAroundKeepsOrder() {
+        BoundedRingBuffer<Integer> buffer = new BoundedRingBuffer<>(4);
+        int next = 0;
+        int expected = 0;
+
+        for (int lap = 0; lap < 25; lap++) {
+            while (buffer.offer(next)) {
+                next++;
+            }
+            assertThat(buffer.poll()).isEqualTo(expected++);
+            assertThat(buffer.poll()).isEqualTo(expected++);
+            assertThat(buffer.poll()).isEqualTo(expected++);
+        }
+        Integer element;
+        while ((element = buffer.poll()) != null) {
+            assertThat(element).isEqualTo(expected++);
+        }
+        assertThat(expected).isEqualTo(next);
+    }
+
+    @Test
+    @DisplayName("every element offered by concurrent producers is polled exactly once")
+    public void multipleProducersLoseNothing() throws Exception {
+        int producers = 4;
+        int perProducer = 20_000;
+        BoundedRingBuffer<Integer> buffer = new BoundedRingBuffer<>(64);
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int p = 0; p < producers; p++) {
+                int base = p * perProducer;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < perProducer; i++) {
+                        while (!buffer.offer(base + i)) {
+                            Thread.yield();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+
+            BitSet seen = new BitSet(producers * perProducer);
+            int received = 0;
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+            while (received < producers * perProducer && System.nanoTime() < deadline) {
+                Integer element = buffer.poll();
+                if (element == null) {
+                    Thread.yield();
+                    continue;
+                }
+                assertThat(seen.get(element)).as("duplicate %s", element).isFalse();
+                seen.set(element);
+                received++;
+            }
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+
+            assertThat(received).isEqualTo(producers * perProducer);
+            assertThat(seen.cardinality()).isEqualTo(producers * perProducer);
+            assertThat(buffer.poll()).isNull();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
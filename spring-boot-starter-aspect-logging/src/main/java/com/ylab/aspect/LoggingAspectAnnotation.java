@@ -1,22 +1,28 @@
 package com.ylab.aspect;
 
 import com.ylab.aspect.EnableLogging;
+import com.ylab.metrics.MethodLatencyRecorder;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Pointcut;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
-import java.util.Arrays;
-
 /**
  * LoggingAspectAnnotation class provides an aspect for logging method executions of types annotated with {@link EnableLogging}.
  * It intercepts method invocations and logs relevant information such as the timestamp, method signature, and execution time.
  *
  * This aspect class is annotated with {@link Aspect} and {@link Component} to mark it as an aspect component for Spring AOP.
  * It contains a pointcut and advice to log the execution time for the methods in types annotated with {@link EnableLogging}.
+ * <p>
+ * Executions are logged at INFO through SLF4J as {@link MethodExecution} records, which are rendered only when
+ * an appender writes them. The starter ships {@code com/ylab/aspect/logback-method-logging.xml}, which routes
+ * this logger through a {@link MethodExecutionAsyncAppender} that formats them on its worker thread; it can be
+ * included from {@code logback-spring.xml}.
+ * Independently of the log level, every duration is passed to the {@link MethodLatencyRecorder}, if one is set.
  *
  * Example of usage:
  * <pre>
@@ -33,6 +39,25 @@ import java.util.Arrays;
  */
 @Aspect
 public class LoggingAspectAnnotation {
+    private static final Logger log = LoggerFactory.getLogger(LoggingAspectAnnotation.class);
+    private final MethodLatencyRecorder methodLatencyRecorder;
+
+    /**
+     * Instantiates a new logging aspect that only logs.
+     */
+    public LoggingAspectAnnotation() {
+        this(null);
+    }
+
+    /**
+     * Instantiates a new logging aspect that logs and records method durations.
+     *
+     * @param methodLatencyRecorder the recorder of the method durations, or null to only log
+     */
+    public LoggingAspectAnnotation(MethodLatencyRecorder methodLatencyRecorder) {
+        this.methodLatencyRecorder = methodLatencyRecorder;
+    }
+
     /**
      * Defines a pointcut to target method executions within types annotated with {@link EnableLogging}.
      */
@@ -40,7 +65,8 @@ public class LoggingAspectAnnotation {
     public void enableLoggingPointcut() {}
 
     /**
-     * Logs the execution time for the intercepted methods and outputs the information to the console.
+     * Logs the execution time for the intercepted methods when INFO logging is enabled for this aspect
+     * and records it with the method latency recorder.
      *
      * @param joinPoint the {@link ProceedingJoinPoint} representing the intercepted method invocation
      * @return the result of the method invocation
@@ -48,17 +74,26 @@ public class LoggingAspectAnnotation {
      */
     @Around("enableLoggingPointcut()")
     public Object logExecutionTime(ProceedingJoinPoint joinPoint) throws Throwable {
-        long start = System.currentTimeMillis();
-        LocalDateTime currentTime = LocalDateTime.now();
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
-        String formattedDateTime = currentTime.format(formatter);
-        Object proceed = joinPoint.proceed();
-        long executionTime = System.currentTimeMillis() - start;
-        System.out.println("\u001B[34m" + formattedDateTime + " "
-                + joinPoint.getSignature().getName() + " "
-                + joinPoint.getSignature().toString() + " "
-                + Arrays.toString(joinPoint.getArgs()) +
-                " executed in " + executionTime + "ms" + "\u001B[0m");
-        return proceed;
+        boolean logEnabled = log.isInfoEnabled();
+        if (!logEnabled && methodLatencyRecorder == null) {
+            return joinPoint.proceed();
+        }
+        long startEpochMillis = logEnabled ? System.currentTimeMillis() : 0;
+        long start = System.nanoTime();
+        Throwable failure = null;
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            failure = e;
+            throw e;
+        } finally {
+            long elapsedNanos = System.nanoTime() - start;
+            if (methodLatencyRecorder != null) {
+                methodLatencyRecorder.record(((MethodSignature) joinPoint.getSignature()).getMethod(), elapsedNanos, failure);
+            }
+            if (logEnabled && failure == null) {
+                log.info("{}", new MethodExecution(startEpochMillis, joinPoint.getSignature(), joinPoint.getArgs(), elapsedNanos));
+            }
+        }
     }
-}
\ No newline at end of file
+}
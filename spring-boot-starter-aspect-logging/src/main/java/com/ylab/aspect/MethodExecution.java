@@ -0,0 +1,80 @@
+package com.ylab.aspect;
+
+import org.aspectj.lang.Signature;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MethodExecution class holds the data of one logged method execution and renders it only when {@link #toString()}
+ * is called, that is when a log appender actually writes the event. Behind a {@link MethodExecutionAsyncAppender}
+ * that happens on the appender's worker thread, so the arguments are rendered as they are at that moment.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+public final class MethodExecution {
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")
+            .withZone(ZoneId.systemDefault());
+    private static volatile FormattedSecond lastFormattedSecond = new FormattedSecond(Long.MIN_VALUE, "");
+
+    private final long startEpochMillis;
+    private final Signature signature;
+    private final Object[] args;
+    private final long elapsedNanos;
+
+    /**
+     * Instantiates a new method execution.
+     *
+     * @param startEpochMillis the wall-clock start of the execution in epoch milliseconds
+     * @param signature        the signature of the executed method
+     * @param args             the arguments of the execution
+     * @param elapsedNanos     the duration of the execution in nanoseconds
+     */
+    public MethodExecution(long startEpochMillis, Signature signature, Object[] args, long elapsedNanos) {
+        this.startEpochMillis = startEpochMillis;
+        this.signature = signature;
+        this.args = args;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * Gets the duration of the execution.
+     *
+     * @return the duration in nanoseconds
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Renders the execution as a log message.
+     *
+     * @return the log message
+     */
+    @Override
+    public String toString() {
+        return new StringBuilder(128)
+                .append(formatTimestamp(startEpochMillis)).append(' ')
+                .append(signature.getName()).append(' ')
+                .append(signature).append(' ')
+                .append(Arrays.toString(args))
+                .append(" executed in ").append(TimeUnit.NANOSECONDS.toMillis(elapsedNanos)).append("ms")
+                .toString();
+    }
+
+    private static String formatTimestamp(long epochMillis) {
+        long epochSecond = Math.floorDiv(epochMillis, 1000);
+        FormattedSecond formattedSecond = lastFormattedSecond;
+        if (formattedSecond.epochSecond() != epochSecond) {
+            formattedSecond = new FormattedSecond(epochSecond, FORMATTER.format(Instant.ofEpochSecond(epochSecond)));
+            lastFormattedSecond = formattedSecond;
+        }
+        return formattedSecond.text();
+    }
+
+    private record FormattedSecond(long epochSecond, String text) {}
+}
@@ -0,0 +1,49 @@
+package com.ylab.aspect;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+
+/**
+ * MethodExecutionAsyncAppender class is an asynchronous Logback appender that leaves the rendering of
+ * {@link MethodExecution} messages to its worker thread.
+ * <p>
+ * The stock {@link AsyncAppender} formats every message on the logging thread before queueing it, which for a
+ * {@link MethodExecution} means building the timestamp, the signature and the argument list on the request thread.
+ * This appender only captures the thread name and the MDC there, so the message is formatted when the worker hands
+ * the event to the attached appenders. Events without a {@link MethodExecution} argument are prepared as usual.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+public class MethodExecutionAsyncAppender extends AsyncAppender {
+    /**
+     * Captures the caller-side state of the event before it is queued.
+     *
+     * @param event the logging event
+     */
+    @Override
+    protected void preprocess(ILoggingEvent event) {
+        if (!hasMethodExecution(event)) {
+            super.preprocess(event);
+            return;
+        }
+        event.getThreadName();
+        event.getMDCPropertyMap();
+        if (isIncludeCallerData()) {
+            event.getCallerData();
+        }
+    }
+
+    private static boolean hasMethodExecution(ILoggingEvent event) {
+        Object[] arguments = event.getArgumentArray();
+        if (arguments == null) {
+            return false;
+        }
+        for (Object argument : arguments) {
+            if (argument instanceof MethodExecution) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
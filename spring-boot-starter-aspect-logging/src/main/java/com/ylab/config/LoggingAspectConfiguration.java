@@ -1,6 +1,14 @@
 package com.ylab.config;
 
 import com.ylab.aspect.LoggingAspectAnnotation;
+import com.ylab.metrics.MethodLatencyEndpoint;
+import com.ylab.metrics.MethodLatencyRecorder;
+import com.ylab.metrics.MicrometerMethodLatencyRecorder;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnAvailableEndpoint;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -8,6 +16,8 @@ import org.springframework.context.annotation.Configuration;
  * Configuration class for Logging Aspect.
  * <p>
  * This class is used to configure the logging aspect by defining a bean LoggingAspectAnnotation.
+ * When Micrometer is on the classpath the aspect also records a latency timer per method, and with the actuator
+ * present the timers are listed by the {@code latency} endpoint.
  *
  * @author razlivinsky
  * @since 06.03.2024
@@ -17,10 +27,48 @@ public class LoggingAspectConfiguration {
     /**
      * Creates a bean for logging aspect based on the annotation.
      *
+     * @param methodLatencyRecorder the recorder of the method durations, if any
      * @return an instance of LoggingAspectAnnotation
      */
     @Bean
-    public LoggingAspectAnnotation annotation() {
-        return new LoggingAspectAnnotation();
+    public LoggingAspectAnnotation annotation(ObjectProvider<MethodLatencyRecorder> methodLatencyRecorder) {
+        return new LoggingAspectAnnotation(methodLatencyRecorder.getIfAvailable());
     }
-}
\ No newline at end of file
+
+    /**
+     * MethodLatencyConfiguration class registers the Micrometer latency recorder.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(MeterRegistry.class)
+    static class MethodLatencyConfiguration {
+        /**
+         * Creates the recorder keeping a latency timer per logged method.
+         *
+         * @param meterRegistry the meter registry provider
+         * @return the method latency recorder
+         */
+        @Bean
+        public MicrometerMethodLatencyRecorder methodLatencyRecorder(ObjectProvider<MeterRegistry> meterRegistry) {
+            return new MicrometerMethodLatencyRecorder(meterRegistry);
+        }
+    }
+
+    /**
+     * MethodLatencyEndpointConfiguration class registers the {@code latency} actuator endpoint.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass({MeterRegistry.class, Endpoint.class})
+    static class MethodLatencyEndpointConfiguration {
+        /**
+         * Creates the endpoint listing the method latencies.
+         *
+         * @param meterRegistry the meter registry
+         * @return the method latency endpoint
+         */
+        @Bean
+        @ConditionalOnAvailableEndpoint(endpoint = MethodLatencyEndpoint.class)
+        public MethodLatencyEndpoint methodLatencyEndpoint(MeterRegistry meterRegistry) {
+            return new MethodLatencyEndpoint(meterRegistry);
+        }
+    }
+}
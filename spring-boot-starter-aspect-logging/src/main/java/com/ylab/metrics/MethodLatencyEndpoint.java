@@ -0,0 +1,84 @@
+package com.ylab.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MethodLatencyEndpoint class is the {@code latency} actuator endpoint listing the p50/p95/p99/max latency of
+ * every method recorded by the {@link MicrometerMethodLatencyRecorder}.
+ * <p>
+ * Percentiles and max cover the registry's sliding distribution window; count and mean cover the whole uptime.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+@Endpoint(id = "latency")
+public class MethodLatencyEndpoint {
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Instantiates a new method latency endpoint.
+     *
+     * @param meterRegistry the registry holding the method timers
+     */
+    public MethodLatencyEndpoint(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Lists the latency of all recorded methods, slowest p99 first.
+     *
+     * @return the latency of each method and outcome
+     */
+    @ReadOperation
+    public List<MethodLatency> latency() {
+        return meterRegistry.find(MicrometerMethodLatencyRecorder.METRIC_NAME).timers().stream()
+                .map(MethodLatencyEndpoint::toMethodLatency)
+                .sorted(Comparator.comparingDouble(MethodLatency::p99Ms).reversed())
+                .toList();
+    }
+
+    private static MethodLatency toMethodLatency(Timer timer) {
+        HistogramSnapshot snapshot = timer.takeSnapshot();
+        double p50 = 0;
+        double p95 = 0;
+        double p99 = 0;
+        for (ValueAtPercentile percentile : snapshot.percentileValues()) {
+            double value = percentile.value(TimeUnit.MILLISECONDS);
+            if (percentile.percentile() == 0.5) {
+                p50 = value;
+            } else if (percentile.percentile() == 0.95) {
+                p95 = value;
+            } else if (percentile.percentile() == 0.99) {
+                p99 = value;
+            }
+        }
+        return new MethodLatency(timer.getId().getTag("class"), timer.getId().getTag("method"),
+                timer.getId().getTag("exception"), snapshot.count(), snapshot.mean(TimeUnit.MILLISECONDS),
+                p50, p95, p99, snapshot.max(TimeUnit.MILLISECONDS));
+    }
+
+    /**
+     * MethodLatency record describes the latency of one method and outcome in milliseconds.
+     *
+     * @param className the fully-qualified name of the class declaring the method
+     * @param method    the method name
+     * @param exception the simple name of the thrown exception, or {@code none}
+     * @param count     the number of executions
+     * @param meanMs    the mean duration
+     * @param p50Ms     the median duration
+     * @param p95Ms     the 95th percentile duration
+     * @param p99Ms     the 99th percentile duration
+     * @param maxMs     the maximum duration
+     */
+    public record MethodLatency(String className, String method, String exception, long count,
+                                double meanMs, double p50Ms, double p95Ms, double p99Ms, double maxMs) {}
+}
@@ -0,0 +1,20 @@
+package com.ylab.metrics;
+
+import java.lang.reflect.Method;
+
+/**
+ * MethodLatencyRecorder interface receives the durations of the method executions intercepted by the logging aspect.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+public interface MethodLatencyRecorder {
+    /**
+     * Records one execution of a method.
+     *
+     * @param method       the executed method
+     * @param elapsedNanos the duration of the execution in nanoseconds
+     * @param failure      the exception thrown by the execution, or null if it completed normally
+     */
+    void record(Method method, long elapsedNanos, Throwable failure);
+}
@@ -0,0 +1,89 @@
+package com.ylab.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MicrometerMethodLatencyRecorder class records method durations into one Micrometer {@link Timer} per method.
+ * <p>
+ * The timers are named {@value #METRIC_NAME}, tagged with the fully-qualified {@code class}, {@code method} and
+ * {@code exception}, and publish p50/p95/p99 and a percentile histogram, so Prometheus can aggregate the latency
+ * across instances.
+ * Timers are cached per method and, for failed executions, per exception type, so a call only registers a timer
+ * the first time its combination is seen. The registry is looked up on the first recorded execution; without a
+ * registry nothing is recorded.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+public class MicrometerMethodLatencyRecorder implements MethodLatencyRecorder {
+    /**
+     * The name of the method latency timers.
+     */
+    public static final String METRIC_NAME = "ylab.method.latency";
+    private static final String NO_EXCEPTION = "none";
+    private static final double[] PERCENTILES = {0.5, 0.95, 0.99};
+
+    private final ObjectProvider<MeterRegistry> meterRegistryProvider;
+    private final Map<Method, Timer> timers = new ConcurrentHashMap<>();
+    private final Map<Method, Map<Class<?>, Timer>> failureTimers = new ConcurrentHashMap<>();
+    private volatile MeterRegistry meterRegistry;
+
+    /**
+     * Instantiates a new Micrometer method latency recorder.
+     *
+     * @param meterRegistryProvider the provider of the registry the timers are registered in
+     */
+    public MicrometerMethodLatencyRecorder(ObjectProvider<MeterRegistry> meterRegistryProvider) {
+        this.meterRegistryProvider = meterRegistryProvider;
+    }
+
+    /**
+     * Records one execution of a method.
+     *
+     * @param method       the executed method
+     * @param elapsedNanos the duration of the execution in nanoseconds
+     * @param failure      the exception thrown by the execution, or null if it completed normally
+     */
+    @Override
+    public void record(Method method, long elapsedNanos, Throwable failure) {
+        MeterRegistry registry = registry();
+        if (registry == null) {
+            return;
+        }
+        Timer timer = failure == null
+                ? timers.computeIfAbsent(method, key -> timer(registry, key, NO_EXCEPTION))
+                : failureTimers.computeIfAbsent(method, key -> new ConcurrentHashMap<>())
+                        .computeIfAbsent(failure.getClass(), type -> timer(registry, method, type.getSimpleName()));
+        timer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private MeterRegistry registry() {
+        MeterRegistry registry = meterRegistry;
+        if (registry == null) {
+            registry = meterRegistryProvider.getIfAvailable();
+            meterRegistry = registry;
+        }
+        return registry;
+    }
+
+    private static Timer timer(MeterRegistry registry, Method method, String exception) {
+        return Timer.builder(METRIC_NAME)
+                .description("Execution time of the methods of @EnableLogging types")
+                .tag("class", method.getDeclaringClass().getName())
+                .tag("method", method.getName())
+                .tag("exception", exception)
+                .publishPercentiles(PERCENTILES)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofMillis(1))
+                .maximumExpectedValue(Duration.ofSeconds(30))
+                .register(registry);
+    }
+}
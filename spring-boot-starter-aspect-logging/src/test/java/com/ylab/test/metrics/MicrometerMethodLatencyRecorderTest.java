@@ -0,0 +1,63 @@
+package com.ylab.test.metrics;
+
+import com.ylab.metrics.MicrometerMethodLatencyRecorder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * MicrometerMethodLatencyRecorderTest class checks the tags of the method latency timers and that failed executions
+ * reuse one timer per method and exception type.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+public class MicrometerMethodLatencyRecorderTest {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private MicrometerMethodLatencyRecorder recorder;
+    private Method method;
+
+    @BeforeEach
+    public void setUp() throws NoSuchMethodException {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerSingleton("meterRegistry", meterRegistry);
+        recorder = new MicrometerMethodLatencyRecorder(beanFactory.getBeanProvider(MeterRegistry.class));
+        method = MicrometerMethodLatencyRecorderTest.class.getDeclaredMethod("setUp");
+    }
+
+    @Test
+    @DisplayName("timers are tagged with the fully-qualified class name")
+    public void classTagIsFullyQualified() {
+        recorder.record(method, 1_000_000, null);
+
+        Timer timer = meterRegistry.get(MicrometerMethodLatencyRecorder.METRIC_NAME).timer();
+        assertThat(timer.getId().getTag("class")).isEqualTo(MicrometerMethodLatencyRecorderTest.class.getName());
+        assertThat(timer.getId().getTag("method")).isEqualTo("setUp");
+        assertThat(timer.getId().getTag("exception")).isEqualTo("none");
+    }
+
+    @Test
+    @DisplayName("failed executions reuse one timer per exception type")
+    public void failureTimersAreCached() {
+        for (int i = 0; i < 3; i++) {
+            recorder.record(method, 1_000_000, new IllegalStateException());
+            recorder.record(method, 1_000_000, new IllegalArgumentException());
+        }
+
+        Collection<Timer> timers = meterRegistry.get(MicrometerMethodLatencyRecorder.METRIC_NAME).timers();
+        assertThat(timers).hasSize(2);
+        assertThat(meterRegistry.get(MicrometerMethodLatencyRecorder.METRIC_NAME)
+                .tag("exception", "IllegalStateException").timer().count()).isEqualTo(3);
+        assertThat(meterRegistry.get(MicrometerMethodLatencyRecorder.METRIC_NAME)
+                .tag("exception", "IllegalArgumentException").timer().count()).isEqualTo(3);
+    }
+}
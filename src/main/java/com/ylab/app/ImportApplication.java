@@ -0,0 +1,58 @@
+package com.ylab.app;
+
+import com.ylab.app.model.ImportFormat;
+import com.ylab.app.model.dto.MeterReadingImportResultDto;
+import com.ylab.app.service.MeterReadingImportService;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * ImportApplication class runs the meter reading import from the command line without starting the web server.
+ * <p>
+ * Usage: {@code ImportApplication <file> [csv|ndjson]}; the format defaults to the file extension.
+ * The usual Spring properties, e.g. {@code --spring.datasource.url=...}, may follow the arguments.
+ * From the packaged jar run it with
+ * {@code java -cp app.jar -Dloader.main=com.ylab.app.ImportApplication org.springframework.boot.loader.launch.PropertiesLauncher <file>}.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+public class ImportApplication {
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0 || args[0].startsWith("--")) {
+            System.err.println("Usage: ImportApplication <file> [csv|ndjson] [--spring.property=value ...]");
+            System.exit(2);
+        }
+        Path file = Path.of(args[0]);
+        String format = args.length > 1 && !args[1].startsWith("--") ? args[1] : extension(file);
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(StartApplication.class)
+                .web(WebApplicationType.NONE)
+                .run(args);
+             InputStream inputStream = new BufferedInputStream(Files.newInputStream(file))) {
+            MeterReadingImportService importService = context.getBean(MeterReadingImportService.class);
+            MeterReadingImportResultDto result = importService.importReadings(inputStream, ImportFormat.fromString(format),
+                    ImportApplication::printProgress);
+            System.out.printf("Imported %d readings with %d details from %s in %d ms (%d readings/s)%n",
+                    result.getReadings(), result.getDetails(), file, result.getElapsedMillis(), result.getReadingsPerSecond());
+        }
+    }
+
+    private static void printProgress(MeterReadingImportResultDto progress) {
+        System.out.printf("... %d readings, %d details, %d readings/s%n",
+                progress.getReadings(), progress.getDetails(), progress.getReadingsPerSecond());
+    }
+
+    private static String extension(Path file) {
+        String name = file.getFileName().toString();
+        int dot = name.lastIndexOf('.');
+        return dot < 0 ? "" : name.substring(dot + 1);
+    }
+}
@@ -0,0 +1,27 @@
+package com.ylab.app.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * CacheConfig class enables the Spring cache abstraction for the application.
+ *
+ * The caches are Caffeine caches created by Spring Boot from the {@code spring.cache} properties; the caches listed in
+ * {@code spring.cache.cache-names} are bound to Micrometer, which publishes their hits, misses and evictions.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+    /**
+     * The cache of users by their login name.
+     */
+    public static final String USERS_BY_LOGIN = "usersByLogin";
+
+    /**
+     * The cache of users by their id.
+     */
+    public static final String USERS_BY_ID = "usersById";
+}
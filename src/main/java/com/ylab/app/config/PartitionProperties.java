@@ -0,0 +1,91 @@
+package com.ylab.app.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * PartitionProperties class holds the settings of the job managing the monthly partitions of meter readings.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+@ConfigurationProperties("ylab.partitions")
+public class PartitionProperties {
+    private boolean enabled = true;
+    private Duration interval = Duration.ofHours(12);
+    private int monthsAhead = 3;
+    private int retentionMonths = 0;
+
+    /**
+     * Gets whether the partition job is scheduled.
+     *
+     * @return true if the partition job is scheduled
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Sets whether the partition job is scheduled.
+     *
+     * @param enabled true to schedule the partition job
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Gets the delay between two runs of the partition job.
+     *
+     * @return the delay between two runs
+     */
+    public Duration getInterval() {
+        return interval;
+    }
+
+    /**
+     * Sets the delay between two runs of the partition job.
+     *
+     * @param interval the delay between two runs
+     */
+    public void setInterval(Duration interval) {
+        this.interval = interval;
+    }
+
+    /**
+     * Gets the number of months after the current one whose partitions are created in advance.
+     *
+     * @return the number of months created in advance
+     */
+    public int getMonthsAhead() {
+        return monthsAhead;
+    }
+
+    /**
+     * Sets the number of months after the current one whose partitions are created in advance.
+     *
+     * @param monthsAhead the number of months created in advance
+     */
+    public void setMonthsAhead(int monthsAhead) {
+        this.monthsAhead = monthsAhead;
+    }
+
+    /**
+     * Gets the number of months kept attached before the current one; 0 keeps every partition.
+     *
+     * @return the retention in months
+     */
+    public int getRetentionMonths() {
+        return retentionMonths;
+    }
+
+    /**
+     * Sets the number of months kept attached before the current one; 0 keeps every partition.
+     *
+     * @param retentionMonths the retention in months
+     */
+    public void setRetentionMonths(int retentionMonths) {
+        this.retentionMonths = retentionMonths;
+    }
+}
@@ -0,0 +1,175 @@
+package com.ylab.app.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.ylab.app.constants.SqlQueryClass.SELECT_REPLICATION_LAG;
+
+/**
+ * ReadWriteRoutingDataSource class sends the connections of read-only transactions to the read replicas and every
+ * other connection to the primary.
+ *
+ * Healthy replicas are used in turn. A replica that cannot hand out a connection, or whose replication lag exceeds the
+ * maximum, is marked unhealthy and skipped until a health check finds it usable again; without a healthy replica the
+ * reads go to the primary. A read-only transaction can be kept on the primary with {@link #usePrimaryForCurrentTransaction()},
+ * which is how a user reads the readings just written. The routing decision is taken when the connection is obtained,
+ * so the data source is wrapped in a {@code LazyConnectionDataSourceProxy} to see the read-only flag of the transaction.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+public class ReadWriteRoutingDataSource extends AbstractDataSource implements Closeable {
+    private static final Logger log = LoggerFactory.getLogger(ReadWriteRoutingDataSource.class);
+    private static final Object PRIMARY_KEY = new Object();
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final long maxLagMillis;
+    private final AtomicInteger next = new AtomicInteger();
+
+    /**
+     * Instantiates a new read/write routing data source.
+     *
+     * @param primary  the primary data source
+     * @param replicas the replica data sources
+     * @param maxLag   the replication lag above which a replica stops serving reads
+     */
+    public ReadWriteRoutingDataSource(DataSource primary, List<DataSource> replicas, Duration maxLag) {
+        this.primary = primary;
+        this.replicas = new ArrayList<>(replicas.size());
+        for (int i = 0; i < replicas.size(); i++) {
+            this.replicas.add(new Replica("replica-" + i, replicas.get(i)));
+        }
+        this.maxLagMillis = maxLag.toMillis();
+    }
+
+    /**
+     * Keeps the current read-only transaction on the primary until it completes.
+     */
+    public static void usePrimaryForCurrentTransaction() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive() || TransactionSynchronizationManager.hasResource(PRIMARY_KEY)) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(PRIMARY_KEY, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(PRIMARY_KEY);
+            }
+        });
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly() || TransactionSynchronizationManager.hasResource(PRIMARY_KEY)) {
+            return primary.getConnection();
+        }
+        for (int attempt = 0; attempt < replicas.size(); attempt++) {
+            Replica replica = replicas.get(Math.floorMod(next.getAndIncrement(), replicas.size()));
+            if (!replica.healthy) {
+                continue;
+            }
+            try {
+                return replica.dataSource.getConnection();
+            } catch (SQLException e) {
+                markUnhealthy(replica, e.getMessage());
+            }
+        }
+        return primary.getConnection();
+    }
+
+    /**
+     * Gets a connection with explicit credentials from the primary; the replica pools only hold their own credentials.
+     *
+     * @param username the database user
+     * @param password the password of the user
+     * @return a connection to the primary
+     * @throws SQLException if the primary cannot hand out a connection
+     */
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return primary.getConnection(username, password);
+    }
+
+    /**
+     * Checks the connectivity and replication lag of every replica and updates their health.
+     */
+    public void checkReplicas() {
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.dataSource.getConnection();
+                 Statement statement = connection.createStatement();
+                 ResultSet rs = statement.executeQuery(SELECT_REPLICATION_LAG)) {
+                long lagMillis = rs.next() ? rs.getLong("lag_millis") : 0;
+                if (lagMillis > maxLagMillis) {
+                    markUnhealthy(replica, "replication lag " + lagMillis + " ms");
+                } else if (!replica.healthy) {
+                    replica.healthy = true;
+                    log.info("Read replica {} is healthy again, replication lag {} ms", replica.name, lagMillis);
+                }
+            } catch (SQLException e) {
+                markUnhealthy(replica, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Gets the number of replicas currently serving reads.
+     *
+     * @return the number of healthy replicas
+     */
+    public int getHealthyReplicaCount() {
+        return (int) replicas.stream().filter(replica -> replica.healthy).count();
+    }
+
+    /**
+     * Closes the connection pools of the primary and the replicas.
+     *
+     * @throws IOException if a pool fails to close
+     */
+    @Override
+    public void close() throws IOException {
+        for (Replica replica : replicas) {
+            closeDataSource(replica.dataSource);
+        }
+        closeDataSource(primary);
+    }
+
+    private static void closeDataSource(DataSource dataSource) throws IOException {
+        if (dataSource instanceof Closeable closeable) {
+            closeable.close();
+        }
+    }
+
+    private void markUnhealthy(Replica replica, String reason) {
+        if (replica.healthy) {
+            replica.healthy = false;
+            log.warn("Read replica {} stops serving reads: {}", replica.name, reason);
+        }
+    }
+
+    private static class Replica {
+        private final String name;
+        private final DataSource dataSource;
+        private volatile boolean healthy = true;
+
+        private Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.ylab.app.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * ReadingEventConfig class enables the settings of the stream of newly submitted meter readings.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+@Configuration
+@EnableConfigurationProperties(ReadingEventProperties.class)
+public class ReadingEventConfig {
+}
@@ -0,0 +1,129 @@
+package com.ylab.app.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * ReadingEventProperties class holds the settings of the stream of newly submitted meter readings.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+@ConfigurationProperties("ylab.events")
+public class ReadingEventProperties {
+    private int bufferSize = 256;
+    private int deliveryThreads = 8;
+    private int catchUpLimit = 1_000;
+    private int catchUpThreads = 2;
+    private Duration sendTimeout = Duration.ofSeconds(10);
+    private Duration timeout = Duration.ofMinutes(30);
+
+    /**
+     * Gets the number of readings buffered for one subscriber before it is evicted as too slow.
+     *
+     * @return the buffer size of a subscriber
+     */
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    /**
+     * Sets the number of readings buffered for one subscriber before it is evicted as too slow.
+     *
+     * @param bufferSize the buffer size of a subscriber
+     */
+    public void setBufferSize(int bufferSize) {
+        this.bufferSize = bufferSize;
+    }
+
+    /**
+     * Gets the number of threads writing readings to the subscribers.
+     *
+     * @return the number of delivery threads
+     */
+    public int getDeliveryThreads() {
+        return deliveryThreads;
+    }
+
+    /**
+     * Sets the number of threads writing readings to the subscribers.
+     *
+     * @param deliveryThreads the number of delivery threads
+     */
+    public void setDeliveryThreads(int deliveryThreads) {
+        this.deliveryThreads = deliveryThreads;
+    }
+
+    /**
+     * Gets the maximum number of missed readings sent to a reconnecting subscriber.
+     *
+     * @return the catch-up limit
+     */
+    public int getCatchUpLimit() {
+        return catchUpLimit;
+    }
+
+    /**
+     * Sets the maximum number of missed readings sent to a reconnecting subscriber.
+     *
+     * @param catchUpLimit the catch-up limit
+     */
+    public void setCatchUpLimit(int catchUpLimit) {
+        this.catchUpLimit = catchUpLimit;
+    }
+
+    /**
+     * Gets the number of threads loading the missed readings of reconnecting subscribers from the database.
+     *
+     * @return the number of catch-up threads
+     */
+    public int getCatchUpThreads() {
+        return catchUpThreads;
+    }
+
+    /**
+     * Sets the number of threads loading the missed readings of reconnecting subscribers from the database.
+     *
+     * @param catchUpThreads the number of catch-up threads
+     */
+    public void setCatchUpThreads(int catchUpThreads) {
+        this.catchUpThreads = catchUpThreads;
+    }
+
+    /**
+     * Gets the time a write to one subscriber may take before the subscriber is evicted and its delivery thread replaced.
+     *
+     * @return the send timeout
+     */
+    public Duration getSendTimeout() {
+        return sendTimeout;
+    }
+
+    /**
+     * Sets the time a write to one subscriber may take before the subscriber is evicted and its delivery thread replaced.
+     *
+     * @param sendTimeout the send timeout
+     */
+    public void setSendTimeout(Duration sendTimeout) {
+        this.sendTimeout = sendTimeout;
+    }
+
+    /**
+     * Gets the time after which a stream is closed; clients reconnect and continue from their last event.
+     *
+     * @return the stream timeout
+     */
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    /**
+     * Sets the time after which a stream is closed; clients reconnect and continue from their last event.
+     *
+     * @param timeout the stream timeout
+     */
+    public void setTimeout(Duration timeout) {
+        this.timeout = timeout;
+    }
+}
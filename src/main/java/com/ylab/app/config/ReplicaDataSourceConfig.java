@@ -0,0 +1,123 @@
+package com.ylab.app.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ReplicaDataSourceConfig class replaces the data source with a read/write routing one when read replicas are configured.
+ *
+ * With {@code ylab.replicas.enabled} the primary is built from the {@code spring.datasource} properties and every url
+ * of {@code ylab.replicas.urls} gets its own read-only pool. Service methods running in a read-only transaction read from
+ * the replicas, everything else, including Liquibase, uses the primary. The replicas are health checked on a schedule.
+ * A replica lagging behind is only noticed by the next health check, so the read-your-writes window has to be longer
+ * than the maximum lag plus the health check interval, otherwise a user could read a replica that has not replayed
+ * their last write yet; a shorter window is refused at startup.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+@Configuration
+@EnableConfigurationProperties(ReplicaProperties.class)
+public class ReplicaDataSourceConfig {
+    private static final String HIKARI_PREFIX = "spring.datasource.hikari";
+
+    /**
+     * Creates the data source routing between the primary and the replicas.
+     *
+     * @param dataSourceProperties the primary data source settings
+     * @param replicaProperties    the replica settings
+     * @param environment          the environment holding the pool settings
+     * @return the routing data source
+     * @throws IllegalStateException if the read-your-writes window does not exceed the maximum lag plus the health
+     *                               check interval
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "ylab.replicas", name = "enabled", havingValue = "true")
+    public ReadWriteRoutingDataSource readWriteRoutingDataSource(DataSourceProperties dataSourceProperties,
+                                                                 ReplicaProperties replicaProperties, Environment environment) {
+        Duration stalenessBound = replicaProperties.getMaxLag().plus(replicaProperties.getHealthCheckInterval());
+        if (replicaProperties.getReadYourWritesWindow().compareTo(stalenessBound) <= 0) {
+            throw new IllegalStateException("ylab.replicas.read-your-writes-window " + replicaProperties.getReadYourWritesWindow()
+                    + " must exceed ylab.replicas.max-lag plus ylab.replicas.health-check-interval, " + stalenessBound);
+        }
+        HikariDataSource primary = dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        Binder.get(environment).bind(HIKARI_PREFIX, Bindable.ofInstance(primary));
+        primary.setPoolName("primary");
+
+        List<DataSource> replicas = new ArrayList<>();
+        for (int i = 0; i < replicaProperties.getUrls().size(); i++) {
+            HikariDataSource replica = dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class)
+                    .url(replicaProperties.getUrls().get(i))
+                    .build();
+            if (replicaProperties.getUsername() != null) {
+                replica.setUsername(replicaProperties.getUsername());
+                replica.setPassword(replicaProperties.getPassword());
+            }
+            replica.setPoolName("replica-" + i);
+            replica.setReadOnly(true);
+            replica.setMaximumPoolSize(replicaProperties.getMaximumPoolSize());
+            replicas.add(replica);
+        }
+        return new ReadWriteRoutingDataSource(primary, replicas, replicaProperties.getMaxLag());
+    }
+
+    /**
+     * Exposes the routing data source to the application, obtaining the physical connection at the first statement
+     * so that the read-only flag of the transaction is known.
+     *
+     * @param routingDataSource the routing data source
+     * @return the application data source
+     */
+    @Bean
+    @Primary
+    @ConditionalOnProperty(prefix = "ylab.replicas", name = "enabled", havingValue = "true")
+    public DataSource dataSource(ReadWriteRoutingDataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    /**
+     * Schedules the replica health checks.
+     *
+     * @param routingDataSource the routing data source
+     * @return the health check task
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "ylab.replicas", name = "enabled", havingValue = "true")
+    public ReplicaHealthCheck replicaHealthCheck(ReadWriteRoutingDataSource routingDataSource) {
+        return new ReplicaHealthCheck(routingDataSource);
+    }
+
+    /**
+     * ReplicaHealthCheck class checks the replicas every {@code ylab.replicas.health-check-interval}.
+     */
+    public static class ReplicaHealthCheck {
+        private final ReadWriteRoutingDataSource routingDataSource;
+
+        private ReplicaHealthCheck(ReadWriteRoutingDataSource routingDataSource) {
+            this.routingDataSource = routingDataSource;
+        }
+
+        /**
+         * Checks the replicas.
+         */
+        @Scheduled(fixedDelayString = "${ylab.replicas.health-check-interval:PT5S}")
+        public void check() {
+            routingDataSource.checkReplicas();
+        }
+    }
+}
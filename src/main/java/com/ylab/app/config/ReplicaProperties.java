@@ -0,0 +1,170 @@
+package com.ylab.app.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ReplicaProperties class holds the settings of the read replicas serving read-only queries.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+@ConfigurationProperties("ylab.replicas")
+public class ReplicaProperties {
+    private boolean enabled = false;
+    private List<String> urls = new ArrayList<>();
+    private String username;
+    private String password;
+    private int maximumPoolSize = 10;
+    private Duration healthCheckInterval = Duration.ofSeconds(5);
+    private Duration maxLag = Duration.ofSeconds(10);
+    private Duration readYourWritesWindow = Duration.ofSeconds(20);
+
+    /**
+     * Gets whether read-only queries are routed to the replicas.
+     *
+     * @return true if the replicas are used
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Sets whether read-only queries are routed to the replicas.
+     *
+     * @param enabled true to use the replicas
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Gets the JDBC urls of the replicas.
+     *
+     * @return the replica urls
+     */
+    public List<String> getUrls() {
+        return urls;
+    }
+
+    /**
+     * Sets the JDBC urls of the replicas.
+     *
+     * @param urls the replica urls
+     */
+    public void setUrls(List<String> urls) {
+        this.urls = urls;
+    }
+
+    /**
+     * Gets the user name for the replicas, the primary user name if not set.
+     *
+     * @return the replica user name
+     */
+    public String getUsername() {
+        return username;
+    }
+
+    /**
+     * Sets the user name for the replicas.
+     *
+     * @param username the replica user name
+     */
+    public void setUsername(String username) {
+        this.username = username;
+    }
+
+    /**
+     * Gets the password for the replicas, the primary password if not set.
+     *
+     * @return the replica password
+     */
+    public String getPassword() {
+        return password;
+    }
+
+    /**
+     * Sets the password for the replicas.
+     *
+     * @param password the replica password
+     */
+    public void setPassword(String password) {
+        this.password = password;
+    }
+
+    /**
+     * Gets the maximum size of the connection pool of every replica.
+     *
+     * @return the maximum pool size
+     */
+    public int getMaximumPoolSize() {
+        return maximumPoolSize;
+    }
+
+    /**
+     * Sets the maximum size of the connection pool of every replica.
+     *
+     * @param maximumPoolSize the maximum pool size
+     */
+    public void setMaximumPoolSize(int maximumPoolSize) {
+        this.maximumPoolSize = maximumPoolSize;
+    }
+
+    /**
+     * Gets the delay between two health checks of the replicas.
+     *
+     * @return the delay between two health checks
+     */
+    public Duration getHealthCheckInterval() {
+        return healthCheckInterval;
+    }
+
+    /**
+     * Sets the delay between two health checks of the replicas.
+     *
+     * @param healthCheckInterval the delay between two health checks
+     */
+    public void setHealthCheckInterval(Duration healthCheckInterval) {
+        this.healthCheckInterval = healthCheckInterval;
+    }
+
+    /**
+     * Gets the replication lag above which a replica stops serving reads.
+     *
+     * @return the maximum replication lag
+     */
+    public Duration getMaxLag() {
+        return maxLag;
+    }
+
+    /**
+     * Sets the replication lag above which a replica stops serving reads.
+     *
+     * @param maxLag the maximum replication lag
+     */
+    public void setMaxLag(Duration maxLag) {
+        this.maxLag = maxLag;
+    }
+
+    /**
+     * Gets how long the reads of a user go to the primary after the user wrote readings. A replica may serve reads
+     * until a health check finds it lagging, so the window has to exceed the maximum lag plus the health check interval.
+     *
+     * @return the read-your-writes window
+     */
+    public Duration getReadYourWritesWindow() {
+        return readYourWritesWindow;
+    }
+
+    /**
+     * Sets how long the reads of a user go to the primary after the user wrote readings.
+     *
+     * @param readYourWritesWindow the read-your-writes window
+     */
+    public void setReadYourWritesWindow(Duration readYourWritesWindow) {
+        this.readYourWritesWindow = readYourWritesWindow;
+    }
+}
@@ -0,0 +1,110 @@
+package com.ylab.app.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * RollupProperties class holds the settings of the job maintaining the daily and monthly rollups of meter readings.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+@ConfigurationProperties("ylab.rollup")
+public class RollupProperties {
+    private boolean enabled = true;
+    private Duration interval = Duration.ofMinutes(1);
+    private int chunkSize = 50_000;
+    private long catchUpThreshold = 500_000;
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * Gets whether the rollup job is scheduled.
+     *
+     * @return true if the rollup job is scheduled
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Sets whether the rollup job is scheduled.
+     *
+     * @param enabled true to schedule the rollup job
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Gets the delay between two runs of the rollup job.
+     *
+     * @return the delay between two runs
+     */
+    public Duration getInterval() {
+        return interval;
+    }
+
+    /**
+     * Sets the delay between two runs of the rollup job.
+     *
+     * @param interval the delay between two runs
+     */
+    public void setInterval(Duration interval) {
+        this.interval = interval;
+    }
+
+    /**
+     * Gets the number of meter reading ids rolled up in one transaction.
+     *
+     * @return the chunk size
+     */
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    /**
+     * Sets the number of meter reading ids rolled up in one transaction.
+     *
+     * @param chunkSize the chunk size
+     */
+    public void setChunkSize(int chunkSize) {
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Gets the backlog of ids above which the rollup runs in parallel.
+     *
+     * @return the catch-up threshold
+     */
+    public long getCatchUpThreshold() {
+        return catchUpThreshold;
+    }
+
+    /**
+     * Sets the backlog of ids above which the rollup runs in parallel.
+     *
+     * @param catchUpThreshold the catch-up threshold
+     */
+    public void setCatchUpThreshold(long catchUpThreshold) {
+        this.catchUpThreshold = catchUpThreshold;
+    }
+
+    /**
+     * Gets the number of threads of a parallel catch-up.
+     *
+     * @return the parallelism
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Sets the number of threads of a parallel catch-up.
+     *
+     * @param parallelism the parallelism
+     */
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+}
@@ -0,0 +1,20 @@
+package com.ylab.app.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * SchedulingConfig class enables the scheduled maintenance jobs of the application.
+ *
+ * Every job can be turned off with its own {@code enabled} property, for example {@code ylab.rollup.enabled}
+ * on read replicas or in tests that do not need it.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties({RollupProperties.class, PartitionProperties.class})
+public class SchedulingConfig {
+}
@@ -0,0 +1,57 @@
+package com.ylab.app.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+
+import javax.sql.DataSource;
+
+/**
+ * VirtualThreadsConfig class reports the thread model of the application when virtual threads are requested.
+ *
+ * With {@code spring.threads.virtual.enabled} Spring Boot runs Tomcat requests, the task executor and the
+ * {@code @Scheduled} jobs on virtual threads, but only on a Java 21 or later runtime; on older runtimes the property
+ * is ignored, which is reported here instead of silently running on platform threads. Under virtual threads the
+ * connection pool is the limit on concurrent database work, so its size is reported as well.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "spring.threads.virtual", name = "enabled", havingValue = "true")
+public class VirtualThreadsConfig {
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadsConfig.class);
+    private static final int VIRTUAL_THREADS_JAVA_VERSION = 21;
+    private final DataSource dataSource;
+
+    /**
+     * Instantiates a new Virtual threads config.
+     *
+     * @param dataSource the application data source
+     */
+    public VirtualThreadsConfig(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    /**
+     * Logs whether requests and scheduled jobs run on virtual threads.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void reportThreadModel() {
+        int javaVersion = Runtime.version().feature();
+        if (javaVersion < VIRTUAL_THREADS_JAVA_VERSION) {
+            log.warn("Virtual threads requested but the Java {} runtime does not support them, running on platform threads", javaVersion);
+            return;
+        }
+        if (dataSource instanceof HikariDataSource hikariDataSource) {
+            log.info("Requests and scheduled jobs run on virtual threads, database work is limited to {} pooled connections",
+                    hikariDataSource.getMaximumPoolSize());
+        } else {
+            log.info("Requests and scheduled jobs run on virtual threads");
+        }
+    }
+}
@@ -11,6 +11,102 @@ package com.ylab.app.constants;
 public class CreateSchemaSql {
     public static final String INSERT_USER_SCHEMA = "INSERT INTO my_schema.usr (username, password, role) VALUES (?, ?, ?)";
     public static final String INSERT_METER_SCHEMA = "INSERT INTO my_schema.mtr (number_Meter, date, user_name) VALUES (?, ?, ?)";
-    public static final String INSERT_READING_DATA_SCHEMA = "INSERT INTO my_schema.mtr_readings (mtr_id, type, value) VALUES (?, ?, ?)";
+    public static final String INSERT_METER_BULK_SCHEMA = "INSERT INTO my_schema.mtr (number_meter, date, user_name) "
+            + "SELECT t.number_meter, t.date, t.user_name "
+            + "FROM unnest(?::varchar[], ?::timestamp[], ?::varchar[]) WITH ORDINALITY AS t(number_meter, date, user_name, ord) "
+            + "ORDER BY t.ord RETURNING id";
+    public static final String INSERT_READING_DATA_SCHEMA = "INSERT INTO my_schema.mtr_readings (mtr_id, date, type_id, value) VALUES (?, ?, ?, ?)";
+    public static final String LOCK_METER_LATEST = "SELECT pg_advisory_xact_lock(k.user_key, k.meter_key) "
+            + "FROM (SELECT DISTINCT hashtext(mr.user_name) AS user_key, hashtext(mr.number_meter) AS meter_key "
+            + "FROM my_schema.mtr mr WHERE mr.id = ANY(?) AND mr.date >= ? AND mr.date <= ? "
+            + "AND mr.user_name IS NOT NULL AND mr.number_meter IS NOT NULL ORDER BY 1, 2) k";
+    public static final String INSERT_METER_CONSUMPTION = "INSERT INTO my_schema.mtr_consumption (mtr_id, type, user_name, number_meter, date, delta) "
+            + "SELECT n.id, n.type, n.user_name, n.number_meter, n.date, n.value - COALESCE(LAG(n.value) OVER w, ml.value) "
+            + "FROM (SELECT DISTINCT ON (mr.id, mv.type_id) mr.id, rt.name AS type, mr.user_name, mr.number_meter, mr.date, mv.value "
+            + "FROM my_schema.mtr mr JOIN my_schema.mtr_readings mv ON mv.mtr_id = mr.id AND mv.date = mr.date "
+            + "JOIN my_schema.reading_type rt ON rt.id = mv.type_id "
+            + "WHERE mr.id = ANY(?) AND mr.date >= ? AND mr.date <= ? AND mv.date >= ? AND mv.date <= ? "
+            + "AND mr.user_name IS NOT NULL AND mr.number_meter IS NOT NULL "
+            + "ORDER BY mr.id, mv.type_id, mv.id DESC) n "
+            + "LEFT JOIN my_schema.mtr_latest ml ON ml.user_name = n.user_name AND ml.number_meter = n.number_meter AND ml.type = n.type "
+            + "WHERE ml.mtr_id IS NULL OR (n.date, n.id) > (ml.date, ml.mtr_id) "
+            + "WINDOW w AS (PARTITION BY n.user_name, n.number_meter, n.type ORDER BY n.date, n.id) "
+            + "RETURNING mtr_id, type, delta";
+    public static final String UPSERT_METER_LATEST = "INSERT INTO my_schema.mtr_latest AS ml (user_name, number_meter, type, mtr_id, date, value) "
+            + "SELECT DISTINCT ON (mr.user_name, mr.number_meter, rt.name) mr.user_name, mr.number_meter, rt.name, mr.id, mr.date, mv.value "
+            + "FROM my_schema.mtr mr JOIN my_schema.mtr_readings mv ON mv.mtr_id = mr.id AND mv.date = mr.date "
+            + "JOIN my_schema.reading_type rt ON rt.id = mv.type_id "
+            + "WHERE mr.id = ANY(?) AND mr.date >= ? AND mr.date <= ? AND mv.date >= ? AND mv.date <= ? "
+            + "AND mr.user_name IS NOT NULL AND mr.number_meter IS NOT NULL "
+            + "ORDER BY mr.user_name, mr.number_meter, rt.name, mr.date DESC, mr.id DESC, mv.id DESC "
+            + "ON CONFLICT (user_name, number_meter, type) DO UPDATE "
+            + "SET mtr_id = EXCLUDED.mtr_id, date = EXCLUDED.date, value = EXCLUDED.value "
+            + "WHERE (EXCLUDED.date, EXCLUDED.mtr_id) > (ml.date, ml.mtr_id)";
+    private static final String ROLLUP_AFFECTED_DAYS = "WITH n AS (SELECT DISTINCT m.id, m.user_name, m.number_meter, m.date, mv.type_id "
+            + "FROM my_schema.mtr m JOIN my_schema.mtr_readings mv ON mv.mtr_id = m.id AND mv.date = m.date "
+            + "WHERE m.txid >= ?::text::xid8 AND m.txid < ?::text::xid8 AND m.id > ? AND m.id <= ? "
+            + "AND m.user_name IS NOT NULL AND m.number_meter IS NOT NULL AND m.date IS NOT NULL), "
+            + "k AS (SELECT n.user_name, n.number_meter, n.date::date AS day FROM n "
+            + "UNION SELECT n.user_name, n.number_meter, f.date::date FROM n "
+            + "CROSS JOIN LATERAL (SELECT mr.date FROM my_schema.mtr mr "
+            + "JOIN my_schema.mtr_readings mv ON mv.mtr_id = mr.id AND mv.date = mr.date "
+            + "WHERE mr.user_name = n.user_name AND mr.number_meter = n.number_meter AND mv.type_id = n.type_id "
+            + "AND (mr.date, mr.id) > (n.date, n.id) ORDER BY mr.date, mr.id LIMIT 1) f)";
+    public static final String UPSERT_ROLLUP_DAY = ROLLUP_AFFECTED_DAYS
+            + ", s AS (SELECT DISTINCT ON (mr.id, mv.type_id) mr.id, mr.user_name, k.day, mr.number_meter, mv.type_id, rt.name AS type, "
+            + "mr.date, mv.value FROM k "
+            + "JOIN my_schema.mtr mr ON mr.user_name = k.user_name AND mr.number_meter = k.number_meter "
+            + "AND mr.date >= k.day AND mr.date < k.day + 1 "
+            + "JOIN my_schema.mtr_readings mv ON mv.mtr_id = mr.id AND mv.date = mr.date "
+            + "JOIN my_schema.reading_type rt ON rt.id = mv.type_id "
+            + "ORDER BY mr.id, mv.type_id, mv.id DESC), "
+            + "prev AS (SELECT b.user_name, b.day, b.number_meter, b.type_id, p.value "
+            + "FROM (SELECT DISTINCT user_name, day, number_meter, type_id FROM s) b "
+            + "CROSS JOIN LATERAL (SELECT mv.value FROM my_schema.mtr mr "
+            + "JOIN my_schema.mtr_readings mv ON mv.mtr_id = mr.id AND mv.date = mr.date "
+            + "WHERE mr.user_name = b.user_name AND mr.number_meter = b.number_meter AND mv.type_id = b.type_id "
+            + "AND mr.date < b.day AND mv.date < b.day ORDER BY mr.date DESC, mr.id DESC, mv.id DESC LIMIT 1) p), "
+            + "d AS (SELECT s.id, s.user_name, s.day, s.number_meter, s.type, s.date, s.value, s.value - COALESCE(LAG(s.value) OVER "
+            + "(PARTITION BY s.user_name, s.day, s.number_meter, s.type_id ORDER BY s.date, s.id), prev.value) AS delta "
+            + "FROM s LEFT JOIN prev ON prev.user_name = s.user_name AND prev.day = s.day "
+            + "AND prev.number_meter = s.number_meter AND prev.type_id = s.type_id) "
+            + "INSERT INTO my_schema.mtr_rollup_day AS r "
+            + "(user_name, day, number_meter, type, min_value, max_value, last_value, readings, delta) "
+            + "SELECT d.user_name, d.day, d.number_meter, d.type, MIN(d.value), MAX(d.value), "
+            + "(ARRAY_AGG(d.value ORDER BY d.date DESC, d.id DESC))[1], COUNT(*), SUM(d.delta) "
+            + "FROM d GROUP BY d.user_name, d.day, d.number_meter, d.type "
+            + "ON CONFLICT (user_name, day, number_meter, type) DO UPDATE SET min_value = EXCLUDED.min_value, "
+            + "max_value = EXCLUDED.max_value, last_value = EXCLUDED.last_value, readings = EXCLUDED.readings, delta = EXCLUDED.delta";
+    public static final String UPSERT_ROLLUP_MONTH = ROLLUP_AFFECTED_DAYS
+            + " INSERT INTO my_schema.mtr_rollup_month AS r "
+            + "(user_name, month, number_meter, type, min_value, max_value, last_value, readings, delta) "
+            + "SELECT d.user_name, km.month, d.number_meter, d.type, MIN(d.min_value), MAX(d.max_value), "
+            + "(ARRAY_AGG(d.last_value ORDER BY d.day DESC))[1], SUM(d.readings), SUM(d.delta) "
+            + "FROM (SELECT DISTINCT user_name, number_meter, date_trunc('month', day::timestamp)::date AS month FROM k) km "
+            + "JOIN my_schema.mtr_rollup_day d ON d.user_name = km.user_name AND d.number_meter = km.number_meter "
+            + "AND d.day >= km.month AND d.day < km.month + INTERVAL '1 month' "
+            + "GROUP BY d.user_name, km.month, d.number_meter, d.type "
+            + "ON CONFLICT (user_name, month, number_meter, type) DO UPDATE SET min_value = EXCLUDED.min_value, "
+            + "max_value = EXCLUDED.max_value, last_value = EXCLUDED.last_value, readings = EXCLUDED.readings, delta = EXCLUDED.delta";
+    public static final String UPDATE_ROLLUP_WATERMARK = "UPDATE my_schema.rollup_watermark "
+            + "SET last_xid = GREATEST(last_xid, ?), updated_at = now() WHERE name = ?";
+    public static final String ALLOCATE_METER_IDS = "SELECT nextval(pg_get_serial_sequence('my_schema.mtr', 'id')) "
+            + "FROM generate_series(1, ?)";
+    public static final String COPY_METER_SCHEMA = "COPY my_schema.mtr (id, number_meter, date, user_name) FROM STDIN WITH (FORMAT csv)";
+    public static final String COPY_READING_DATA_SCHEMA = "COPY my_schema.mtr_readings (mtr_id, date, type_id, value) FROM STDIN WITH (FORMAT csv)";
+    public static final String INSERT_READING_TYPE = "WITH existing AS (SELECT id FROM my_schema.reading_type WHERE name = ?), "
+            + "registered AS (INSERT INTO my_schema.reading_type (name) SELECT ? "
+            + "WHERE NOT EXISTS (SELECT 1 FROM existing) AND (SELECT COUNT(*) FROM my_schema.reading_type) < ? "
+            + "ON CONFLICT (name) DO UPDATE SET name = EXCLUDED.name RETURNING id) "
+            + "SELECT id FROM existing UNION ALL SELECT id FROM registered";
+    public static final String CREATE_MONTH_PARTITION = "CREATE TABLE IF NOT EXISTS my_schema.%s PARTITION OF my_schema.%s "
+            + "FOR VALUES FROM ('%s') TO ('%s')";
+    public static final String DETACH_PARTITION = "ALTER TABLE my_schema.%s DETACH PARTITION my_schema.%s";
+    public static final String DROP_DETACHED_FOREIGN_KEY = "ALTER TABLE my_schema.%s DROP CONSTRAINT IF EXISTS %s";
+    public static final String CREATE_STAGING_TABLE = "CREATE TEMP TABLE %s (LIKE my_schema.%s) ON COMMIT DROP";
+    public static final String STAGE_ROWS_BY_DATE_RANGE = "INSERT INTO %s SELECT * FROM my_schema.%s WHERE date >= ? AND date < ?";
+    public static final String DELETE_ROWS_BY_DATE_RANGE = "DELETE FROM my_schema.%s WHERE date >= ? AND date < ?";
+    public static final String RESTORE_STAGED_ROWS = "INSERT INTO my_schema.%s SELECT * FROM %s";
+    public static final String DELETE_CONSUMPTION_BY_DATE_RANGE = "DELETE FROM my_schema.mtr_consumption WHERE date >= ? AND date < ?";
     public static final String INSERT_SCHEMA_AUDITION = "INSERT INTO my_schema.audit (message) VALUES (?)";
 }
\ No newline at end of file
@@ -0,0 +1,68 @@
+package com.ylab.app.constants;
+
+import static com.ylab.app.constants.CreateSchemaSql.INSERT_METER_CONSUMPTION;
+import static com.ylab.app.constants.CreateSchemaSql.INSERT_METER_SCHEMA;
+import static com.ylab.app.constants.CreateSchemaSql.INSERT_READING_DATA_SCHEMA;
+import static com.ylab.app.constants.CreateSchemaSql.INSERT_READING_TYPE;
+import static com.ylab.app.constants.CreateSchemaSql.INSERT_USER_SCHEMA;
+import static com.ylab.app.constants.CreateSchemaSql.LOCK_METER_LATEST;
+import static com.ylab.app.constants.CreateSchemaSql.UPSERT_METER_LATEST;
+
+/**
+ * The ReactiveSqlQueryClass class contains the SQL queries of the reactive R2DBC data access layer.
+ * R2DBC PostgreSQL binds parameters with numbered {@code $n} markers instead of {@code ?}, so the statements shared
+ * with the JDBC layer are converted once by {@link #bindMarkers(String)}. The reading queries return the type name
+ * joined from {@code reading_type} to keep the reactive row mapping free of a type registry.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+public class ReactiveSqlQueryClass {
+    public static final String R2DBC_INSERT_USER = bindMarkers(INSERT_USER_SCHEMA) + " RETURNING id";
+    public static final String R2DBC_ALL_USERS = "SELECT * FROM my_schema.usr ORDER BY id";
+    public static final String R2DBC_FIND_USER_BY_ID = "SELECT * FROM my_schema.usr WHERE id = $1";
+    public static final String R2DBC_FIND_USER_BY_LOGIN = "SELECT * FROM my_schema.usr WHERE username = $1";
+    public static final String R2DBC_INSERT_METER = bindMarkers(INSERT_METER_SCHEMA) + " RETURNING id";
+    public static final String R2DBC_INSERT_READING_DATA = bindMarkers(INSERT_READING_DATA_SCHEMA);
+    public static final String R2DBC_LOCK_METER_LATEST = bindMarkers(LOCK_METER_LATEST);
+    public static final String R2DBC_INSERT_METER_CONSUMPTION = bindMarkers(INSERT_METER_CONSUMPTION);
+    public static final String R2DBC_UPSERT_METER_LATEST = bindMarkers(UPSERT_METER_LATEST);
+    public static final String R2DBC_INSERT_READING_TYPE = bindMarkers(INSERT_READING_TYPE);
+    public static final String R2DBC_SELECT_CURRENT_READINGS = "SELECT ml.mtr_id AS id, ml.number_meter, ml.date, ml.user_name, ml.type, ml.value "
+            + "FROM my_schema.mtr_latest ml WHERE ml.user_name = $1 ORDER BY ml.number_meter, ml.mtr_id, ml.type";
+    public static final String R2DBC_SELECT_USER_NAME_WITH_DETAILS = "SELECT mr.id, mr.number_meter, mr.date, mr.user_name, rt.name AS type, mv.value "
+            + "FROM my_schema.mtr mr LEFT JOIN my_schema.mtr_readings mv ON mv.mtr_id = mr.id AND mv.date = mr.date "
+            + "LEFT JOIN my_schema.reading_type rt ON rt.id = mv.type_id WHERE mr.user_name = $1 ORDER BY mr.id, mv.id";
+    public static final String R2DBC_SELECT_USER_NAME_AND_DATE_RANGE_WITH_DETAILS = "SELECT mr.id, mr.number_meter, mr.date, mr.user_name, rt.name AS type, mv.value "
+            + "FROM my_schema.mtr mr LEFT JOIN my_schema.mtr_readings mv ON mv.mtr_id = mr.id AND mv.date = mr.date AND mv.date >= $1 AND mv.date < $2 "
+            + "LEFT JOIN my_schema.reading_type rt ON rt.id = mv.type_id "
+            + "WHERE mr.user_name = $3 AND mr.date >= $1 AND mr.date < $2 ORDER BY mr.id, mv.id";
+    public static final String R2DBC_SELECT_ALL_METER_READINGS_WITH_DETAILS = "SELECT mr.id, mr.number_meter, mr.date, mr.user_name, rt.name AS type, mv.value "
+            + "FROM my_schema.mtr mr LEFT JOIN my_schema.mtr_readings mv ON mv.mtr_id = mr.id AND mv.date = mr.date "
+            + "LEFT JOIN my_schema.reading_type rt ON rt.id = mv.type_id ORDER BY mr.id, mv.id";
+
+    /**
+     * Replaces the positional {@code ?} parameters of a JDBC statement by the numbered {@code $n} bind markers of R2DBC PostgreSQL.
+     * Question marks inside string literals are kept.
+     *
+     * @param sql the JDBC statement
+     * @return the statement with numbered bind markers
+     */
+    public static String bindMarkers(String sql) {
+        StringBuilder converted = new StringBuilder(sql.length() + 16);
+        boolean inLiteral = false;
+        int index = 0;
+        for (int i = 0; i < sql.length(); i++) {
+            char c = sql.charAt(i);
+            if (c == '\'') {
+                inLiteral = !inLiteral;
+            }
+            if (c == '?' && !inLiteral) {
+                converted.append('$').append(++index);
+            } else {
+                converted.append(c);
+            }
+        }
+        return converted.toString();
+    }
+}
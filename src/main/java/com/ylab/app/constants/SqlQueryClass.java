@@ -11,9 +11,52 @@ package com.ylab.app.constants;
 public class SqlQueryClass {
     public static final String ALL_USERS = "SELECT * FROM my_schema.usr";
     public static final String FOUND_MAX_ID = "SELECT * FROM my_schema.mtr WHERE id = (SELECT MAX(id) FROM my_schema.mtr WHERE user_name = ?)";
-    public static final String All_READINGS = "SELECT mv.type, mv.value FROM my_schema.mtr mr INNER JOIN my_schema.mtr_readings mv ON mr.id = mv.mtr_id WHERE mr.id = ?";
+    public static final String All_READINGS = "SELECT rt.name AS type, mv.value FROM my_schema.mtr mr INNER JOIN my_schema.mtr_readings mv ON mr.id = mv.mtr_id INNER JOIN my_schema.reading_type rt ON rt.id = mv.type_id WHERE mr.id = ?";
     public static final String SELECT_USER_NAME = "SELECT * FROM my_schema.mtr WHERE user_name = ?";
     public static final String SELECT_ALL_METER_READINGS = "SELECT * FROM my_schema.mtr";
+    public static final String SELECT_CURRENT_READINGS = "SELECT ml.mtr_id AS id, ml.number_meter, ml.date, ml.user_name, rt.id AS type_id, ml.value "
+            + "FROM my_schema.mtr_latest ml JOIN my_schema.reading_type rt ON rt.name = ml.type WHERE ml.user_name = ? ORDER BY ml.number_meter, ml.mtr_id, ml.type";
+    public static final String SELECT_USER_NAME_WITH_DETAILS = "SELECT mr.id, mr.number_meter, mr.date, mr.user_name, mv.type_id, mv.value FROM my_schema.mtr mr LEFT JOIN my_schema.mtr_readings mv ON mv.mtr_id = mr.id AND mv.date = mr.date WHERE mr.user_name = ? ORDER BY mr.id, mv.id";
+    public static final String SELECT_USER_NAME_AND_DATE_RANGE_WITH_DETAILS = "SELECT mr.id, mr.number_meter, mr.date, mr.user_name, mv.type_id, mv.value FROM my_schema.mtr mr "
+            + "LEFT JOIN my_schema.mtr_readings mv ON mv.mtr_id = mr.id AND mv.date = mr.date AND mv.date >= ? AND mv.date < ? "
+            + "WHERE mr.user_name = ? AND mr.date >= ? AND mr.date < ? ORDER BY mr.id, mv.id";
+    public static final String SELECT_ALL_METER_READINGS_WITH_DETAILS = "SELECT mr.id, mr.number_meter, mr.date, mr.user_name, mv.type_id, mv.value FROM my_schema.mtr mr LEFT JOIN my_schema.mtr_readings mv ON mv.mtr_id = mr.id AND mv.date = mr.date ORDER BY mr.id, mv.id";
+    public static final String SELECT_ALL_METER_READINGS_PAGE = "SELECT mr.id, mr.number_meter, mr.date, mr.user_name, mv.type_id, mv.value FROM (SELECT * FROM my_schema.mtr WHERE id > ? ORDER BY id LIMIT ?) mr LEFT JOIN my_schema.mtr_readings mv ON mv.mtr_id = mr.id AND mv.date = mr.date ORDER BY mr.id, mv.id";
+    public static final String SELECT_USER_NAME_METER_READINGS_PAGE = "SELECT mr.id, mr.number_meter, mr.date, mr.user_name, mv.type_id, mv.value FROM (SELECT * FROM my_schema.mtr WHERE user_name = ? AND id > ? ORDER BY id LIMIT ?) mr LEFT JOIN my_schema.mtr_readings mv ON mv.mtr_id = mr.id AND mv.date = mr.date ORDER BY mr.id, mv.id";
+    public static final String SELECT_ALL_METER_READINGS_SYNC_PAGE = "SELECT mr.id, mr.number_meter, mr.date, mr.user_name, mv.type_id, mv.value FROM (SELECT * FROM my_schema.mtr WHERE txid >= ?::text::xid8 AND txid < ?::text::xid8 AND id > ? ORDER BY id LIMIT ?) mr LEFT JOIN my_schema.mtr_readings mv ON mv.mtr_id = mr.id AND mv.date = mr.date ORDER BY mr.id, mv.id";
+    public static final String SELECT_USER_NAME_METER_READINGS_SYNC_PAGE = "SELECT mr.id, mr.number_meter, mr.date, mr.user_name, mv.type_id, mv.value FROM (SELECT * FROM my_schema.mtr WHERE user_name = ? AND txid >= ?::text::xid8 AND txid < ?::text::xid8 AND id > ? ORDER BY id LIMIT ?) mr LEFT JOIN my_schema.mtr_readings mv ON mv.mtr_id = mr.id AND mv.date = mr.date ORDER BY mr.id, mv.id";
+    public static final String SELECT_CONSUMPTION = "WITH r AS (SELECT mr.id, mr.number_meter, mv.type_id, mr.date, mv.id AS value_id, mv.value "
+            + "FROM my_schema.mtr mr JOIN my_schema.mtr_readings mv ON mv.mtr_id = mr.id AND mv.date = mr.date "
+            + "WHERE mr.user_name = ? AND mr.date >= ? AND mr.date < ? AND mv.date >= ? AND mv.date < ? AND mv.type_id IS NOT NULL), "
+            + "prev AS (SELECT k.number_meter, k.type_id, p.value FROM (SELECT DISTINCT number_meter, type_id FROM r) k "
+            + "CROSS JOIN LATERAL (SELECT mv.value FROM my_schema.mtr mr "
+            + "JOIN my_schema.mtr_readings mv ON mv.mtr_id = mr.id AND mv.date = mr.date "
+            + "WHERE mr.user_name = ? AND mr.number_meter = k.number_meter AND mv.type_id = k.type_id "
+            + "AND mr.date < ? AND mv.date < ? ORDER BY mr.date DESC, mr.id DESC, mv.id DESC LIMIT 1) p) "
+            + "SELECT d.number_meter, d.type_id, SUM(d.delta) AS consumption, COUNT(*) AS readings "
+            + "FROM (SELECT r.number_meter, r.type_id, r.value - COALESCE(LAG(r.value) OVER "
+            + "(PARTITION BY r.number_meter, r.type_id ORDER BY r.date, r.id, r.value_id), prev.value) AS delta "
+            + "FROM r LEFT JOIN prev ON prev.number_meter = r.number_meter AND prev.type_id = r.type_id) d "
+            + "GROUP BY d.number_meter, d.type_id ORDER BY d.number_meter, d.type_id";
+    public static final String SELECT_ROLLUP_WATERMARK = "SELECT last_xid FROM my_schema.rollup_watermark WHERE name = ?";
+    public static final String SELECT_VISIBILITY_HORIZON = "SELECT pg_snapshot_xmin(pg_current_snapshot())::text::bigint";
+    public static final String SELECT_METER_READING_ID_RANGE = "SELECT COALESCE(MIN(id) - 1, 0) AS from_id, COALESCE(MAX(id), 0) AS to_id "
+            + "FROM my_schema.mtr WHERE txid >= ?::text::xid8 AND txid < ?::text::xid8";
+    public static final String SELECT_MONTH_ROLLUPS = "SELECT month AS period, number_meter, type, min_value, max_value, last_value, readings, delta "
+            + "FROM my_schema.mtr_rollup_month WHERE user_name = ? AND month = ? ORDER BY number_meter, type";
+    public static final String SELECT_YEAR_ROLLUPS = "SELECT MIN(month) AS period, number_meter, type, MIN(min_value) AS min_value, "
+            + "MAX(max_value) AS max_value, (ARRAY_AGG(last_value ORDER BY month DESC))[1] AS last_value, "
+            + "SUM(readings) AS readings, SUM(delta) AS delta "
+            + "FROM my_schema.mtr_rollup_month WHERE user_name = ? AND month >= ? AND month < ? "
+            + "GROUP BY number_meter, type ORDER BY number_meter, type";
+    public static final String SELECT_READING_TYPES = "SELECT id, name FROM my_schema.reading_type";
+    public static final String SELECT_REPLICATION_LAG = "SELECT CASE WHEN NOT pg_is_in_recovery() OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 "
+            + "ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000, 0) END AS lag_millis";
+    public static final String SELECT_MONTH_PARTITIONS = "SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid "
+            + "JOIN pg_class p ON p.oid = i.inhparent JOIN pg_namespace n ON n.oid = p.relnamespace "
+            + "WHERE n.nspname = 'my_schema' AND p.relname = ? AND c.relname LIKE ? ORDER BY c.relname";
+    public static final String SELECT_UNPARTITIONED_METERS_EXIST = "SELECT to_regclass(?) IS NULL "
+            + "AND EXISTS (SELECT 1 FROM my_schema.mtr WHERE date >= ? AND date < ?)";
     public static final String FIND_USER_BY_ID = "SELECT * FROM my_schema.usr WHERE id = ?";
     public static final String FIND_USER_BY_LOGIN = "SELECT * FROM my_schema.usr WHERE username = ?";
     public static final String GET_AUDIT = "SELECT * FROM my_schema.audit";
@@ -1,5 +1,6 @@
 package com.ylab.app.controllers;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.ylab.app.exception.meterException.MeterReadingException;
 import com.ylab.app.exception.userException.UserValidationException;
 import org.springframework.dao.DataAccessException;
@@ -39,4 +40,14 @@ public class GlobalExceptionHandler {
     public ResponseEntity<String> handleDataAccessException(Exception ex) {
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Database error: " + ex.getMessage());
     }
+
+    /**
+     * Handles malformed JSON read from a request body and returns a response entity with a bad request status code.
+     * @param ex the JSON processing exception
+     * @return the response entity with the error message
+     */
+    @ExceptionHandler(JsonProcessingException.class)
+    public ResponseEntity<String> handleJsonProcessingException(JsonProcessingException ex) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body("Malformed JSON: " + ex.getOriginalMessage());
+    }
 }
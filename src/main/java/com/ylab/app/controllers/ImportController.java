@@ -0,0 +1,81 @@
+package com.ylab.app.controllers;
+
+import com.ylab.app.model.ImportFormat;
+import com.ylab.app.model.User;
+import com.ylab.app.model.dto.MeterReadingImportResultDto;
+import com.ylab.app.service.MeterReadingImportService;
+import com.ylab.aspect.EnableLogging;
+import io.swagger.v3.oas.annotations.Operation;
+import jakarta.servlet.http.HttpServletRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+
+/**
+ * The ImportController class handles the admin HTTP requests importing historical meter readings.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+@EnableLogging
+@RestController
+@RequestMapping("/admin/import")
+public class ImportController {
+    private static final Logger log = LoggerFactory.getLogger(ImportController.class);
+    private static final String TEXT_CSV_VALUE = "text/csv";
+    private final MeterReadingImportService importService;
+
+    /**
+     * Instantiates a new Import controller.
+     * @param importService the meter reading import service
+     */
+    public ImportController(MeterReadingImportService importService) {
+        this.importService = importService;
+    }
+
+    /**
+     * Imports a CSV file of meter readings, one reading detail per line.
+     *
+     * @param user the authenticated admin user
+     * @param request the request whose body holds the CSV file
+     * @return a response entity containing the totals of the import
+     * @throws IOException if the request body cannot be read
+     */
+    @PostMapping(path = "/readings", consumes = TEXT_CSV_VALUE)
+    @Operation(summary = "Import Readings CSV", description = "method provide import of historical readings from CSV by admin", tags = {"import"})
+    public ResponseEntity<MeterReadingImportResultDto> importCsv(@AuthenticationPrincipal User user,
+                                                                 HttpServletRequest request) throws IOException {
+        return importReadings(user, request, ImportFormat.CSV);
+    }
+
+    /**
+     * Imports a newline-delimited JSON file of meter readings, one reading per line.
+     *
+     * @param user the authenticated admin user
+     * @param request the request whose body holds the NDJSON file
+     * @return a response entity containing the totals of the import
+     * @throws IOException if the request body cannot be read
+     */
+    @PostMapping(path = "/readings", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Import Readings NDJSON", description = "method provide import of historical readings from NDJSON by admin", tags = {"import"})
+    public ResponseEntity<MeterReadingImportResultDto> importNdjson(@AuthenticationPrincipal User user,
+                                                                    HttpServletRequest request) throws IOException {
+        return importReadings(user, request, ImportFormat.NDJSON);
+    }
+
+    private ResponseEntity<MeterReadingImportResultDto> importReadings(User user, HttpServletRequest request,
+                                                                       ImportFormat format) throws IOException {
+        MeterReadingImportResultDto result = importService.importReadings(user, request.getInputStream(), format,
+                progress -> log.info("Imported {} readings, {} details, {} readings/s",
+                        progress.getReadings(), progress.getDetails(), progress.getReadingsPerSecond()));
+        return ResponseEntity.status(HttpStatus.CREATED).body(result);
+    }
+}
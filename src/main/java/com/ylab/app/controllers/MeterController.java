@@ -1,17 +1,48 @@
 package com.ylab.app.controllers;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ylab.app.exception.meterException.MeterReadingException;
+import com.ylab.app.exception.userException.UserValidationException;
+import com.ylab.app.mapper.MeterReadingHistoryJsonWriter;
+import com.ylab.app.model.MeterReadingColumns;
+import com.ylab.app.model.ReadingVersion;
 import com.ylab.app.model.User;
+import com.ylab.app.model.dto.MeterConsumptionDto;
+import com.ylab.app.model.dto.MeterReadingBulkResultDto;
 import com.ylab.app.model.dto.MeterReadingDetailsDto;
 import com.ylab.app.model.dto.MeterReadingDto;
+import com.ylab.app.model.dto.MeterReadingPageDto;
+import com.ylab.app.model.dto.MeterReadingSyncDto;
+import com.ylab.app.model.dto.MeterRollupDto;
 import com.ylab.app.service.MeterService;
+import com.ylab.app.service.ReadingVersionService;
 import com.ylab.aspect.EnableLogging;
 import io.swagger.v3.oas.annotations.Operation;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Callable;
 
 /**
  * The MeterController class handles HTTP requests related to meter readings.
@@ -26,27 +57,40 @@ import java.util.List;
 @RestController
 @RequestMapping("/meter-readings")
 public class MeterController {
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+    private static final Duration HISTORY_STREAM_TIMEOUT = Duration.ofMinutes(30);
+    private static final Object HISTORY_STREAM_TIMEOUT_KEY = new Object();
     private final MeterService meterService;
+    private final ObjectMapper objectMapper;
+    private final ReadingVersionService readingVersionService;
 
     /**
      * Instantiates a new Meter controller.
      * @param meterService the meter service
+     * @param objectMapper the object mapper used to write streamed responses
+     * @param readingVersionService the service tracking the version of the readings of every user
      */
-    public MeterController(MeterService meterService) {
+    public MeterController(MeterService meterService, ObjectMapper objectMapper, ReadingVersionService readingVersionService) {
         this.meterService = meterService;
+        this.objectMapper = objectMapper;
+        this.readingVersionService = readingVersionService;
     }
 
     /**
      * Retrieves the current meter readings for the authenticated user.
      *
      * @param user the authenticated user
-     * @return a response entity containing a list of current meter readings
+     * @param request the request holding the conditional headers
+     * @return a response entity containing a list of current meter readings, or 304 if they did not change
      */
     @GetMapping("/current")
     @Operation(summary = "Get Current Reading", description = "method provide current meter reading", tags = {"meters"})
-    public ResponseEntity<List<MeterReadingDto>> getCurrentMeterReadings(@AuthenticationPrincipal User user) {
+    public ResponseEntity<List<MeterReadingDto>> getCurrentMeterReadings(@AuthenticationPrincipal User user, WebRequest request) {
+        if (isNotModified(user, request, null)) {
+            return notModified();
+        }
         List<MeterReadingDto> currentReadings = meterService.getCurrentReadings(user);
-        return ResponseEntity.ok(currentReadings);
+        return ResponseEntity.ok().cacheControl(REVALIDATE).body(currentReadings);
     }
 
     /**
@@ -65,17 +109,108 @@ public class MeterController {
         return ResponseEntity.status(HttpStatus.CREATED).body(submittedReading);
     }
 
+    /**
+     * Submits a JSON array of meter readings for the authenticated user in one transaction.
+     *
+     * @param user the authenticated user
+     * @param readings the meter readings to submit
+     * @return a response entity containing the ids of the stored readings and the rejected readings
+     */
+    @PostMapping(path = "/submit/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Create Meter Readings", description = "method provide create meter readings in bulk", tags = {"meters"})
+    public ResponseEntity<MeterReadingBulkResultDto> submitMeterReadingsBulk(@AuthenticationPrincipal User user,
+                                                                            @RequestBody List<MeterReadingDto> readings) {
+        return bulkResponse(meterService.submitReadings(user, readings));
+    }
+
+    /**
+     * Submits newline-delimited JSON meter readings for the authenticated user in one transaction.
+     *
+     * @param user the authenticated user
+     * @param request the request whose body holds one meter reading per line
+     * @return a response entity containing the ids of the stored readings and the rejected readings
+     * @throws IOException if the request body cannot be read or parsed
+     */
+    @PostMapping(path = "/submit/bulk", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Create Meter Readings Stream", description = "method provide create meter readings from NDJSON", tags = {"meters"})
+    public ResponseEntity<MeterReadingBulkResultDto> submitMeterReadingsNdjson(@AuthenticationPrincipal User user,
+                                                                              HttpServletRequest request) throws IOException {
+        List<MeterReadingDto> readings = new ArrayList<>();
+        try (MappingIterator<MeterReadingDto> iterator = objectMapper.readerFor(MeterReadingDto.class)
+                .readValues(request.getInputStream())) {
+            while (iterator.hasNextValue()) {
+                if (readings.size() == MeterService.MAX_BULK_SIZE) {
+                    throw new MeterReadingException("Too many readings, at most " + MeterService.MAX_BULK_SIZE + " per request");
+                }
+                readings.add(iterator.nextValue());
+            }
+        }
+        return bulkResponse(meterService.submitReadings(user, readings));
+    }
+
+    private ResponseEntity<MeterReadingBulkResultDto> bulkResponse(MeterReadingBulkResultDto result) {
+        HttpStatus status = result.getAcceptedIds().isEmpty() ? HttpStatus.BAD_REQUEST : HttpStatus.CREATED;
+        return ResponseEntity.status(status).body(result);
+    }
+
     /**
      * Retrieves the meter reading history for the authenticated user.
      *
      * @param user the authenticated user
-     * @return a response entity containing the meter reading history for the user
+     * @param request the request holding the conditional headers
+     * @return a response entity containing the meter reading history for the user, or 304 if it did not change
      */
     @GetMapping("/history")
     @Operation(summary = "Get History Readings Valid User", description = "method provide readings history of valid user", tags = {"meters"})
-    public ResponseEntity<List<MeterReadingDto>> getMeterReadingHistory(@AuthenticationPrincipal User user) {
+    public ResponseEntity<List<MeterReadingDto>> getMeterReadingHistory(@AuthenticationPrincipal User user, WebRequest request) {
+        if (isNotModified(user, request, null)) {
+            return notModified();
+        }
         List<MeterReadingDto> readingHistory = meterService.getReadingsHistory(user);
-        return ResponseEntity.ok(readingHistory);
+        return ResponseEntity.ok().cacheControl(REVALIDATE).body(readingHistory);
+    }
+
+    /**
+     * Streams the meter reading history for the authenticated user in compact form: the user is written once and the
+     * details of every reading as a map from reading type to value, straight from the database rows.
+     *
+     * @param user the authenticated user
+     * @param request the request holding the conditional headers
+     * @return a response entity containing the streamed compact meter reading history, or 304 if it did not change
+     */
+    @GetMapping("/history/compact")
+    @Operation(summary = "Get Compact History Readings Valid User", description = "method provide compact readings history of valid user", tags = {"meters"})
+    public ResponseEntity<StreamingResponseBody> getMeterReadingHistoryCompact(@AuthenticationPrincipal User user, WebRequest request) {
+        if (user == null) {
+            throw new UserValidationException("Invalid user");
+        }
+        if (isNotModified(user, request, null)) {
+            return notModified();
+        }
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = objectMapper.createGenerator(outputStream)) {
+                MeterReadingHistoryJsonWriter writer = new MeterReadingHistoryJsonWriter(generator, user.getUsername());
+                meterService.streamReadingsHistory(user, writer);
+                writer.finish();
+            }
+        };
+        return ResponseEntity.ok().cacheControl(REVALIDATE).contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+
+    /**
+     * Retrieves the meter reading history for the authenticated user as primitive columns.
+     *
+     * @param user the authenticated user
+     * @param request the request holding the conditional headers
+     * @return a response entity containing the meter reading history in columnar form, or 304 if it did not change
+     */
+    @GetMapping("/history/columns")
+    @Operation(summary = "Get History Readings Columns Valid User", description = "method provide readings history of valid user as columns", tags = {"meters"})
+    public ResponseEntity<MeterReadingColumns> getMeterReadingHistoryColumns(@AuthenticationPrincipal User user, WebRequest request) {
+        if (isNotModified(user, request, null)) {
+            return notModified();
+        }
+        return ResponseEntity.ok().cacheControl(REVALIDATE).body(meterService.getReadingsHistoryColumns(user));
     }
 
     /**
@@ -83,13 +218,75 @@ public class MeterController {
      *
      * @param user the authenticated user
      * @param month the month for which to retrieve the meter readings
-     * @return a response entity containing the meter readings for the specified month
+     * @param year the year of the month, the current year if omitted
+     * @param request the request holding the conditional headers
+     * @return a response entity containing the meter readings for the specified month, or 304 if they did not change
      */
     @GetMapping("/month/{month}")
     @Operation(summary = "Get Readings By Month", description = "method provide readings by month of valid user", tags = {"meters"})
-    public ResponseEntity<List<MeterReadingDto>> getMeterReadingByMonth(@AuthenticationPrincipal User user, @PathVariable int month) {
-        List<MeterReadingDto> readingHistory = meterService.getReadingsByMonth(user, month);
-        return ResponseEntity.ok(readingHistory);
+    public ResponseEntity<List<MeterReadingDto>> getMeterReadingByMonth(@AuthenticationPrincipal User user, @PathVariable int month,
+                                                                        @RequestParam(required = false) Integer year,
+                                                                        WebRequest request) {
+        int readingYear = year != null ? year : Year.now().getValue();
+        if (isNotModified(user, request, year != null ? null : String.valueOf(readingYear))) {
+            return notModified();
+        }
+        List<MeterReadingDto> readingHistory = meterService.getReadingsByMonth(user, readingYear, month);
+        return ResponseEntity.ok().cacheControl(REVALIDATE).body(readingHistory);
+    }
+
+    /**
+     * Retrieves the consumption of every meter and reading type of the authenticated user between two dates.
+     *
+     * @param user the authenticated user
+     * @param from the first day of the period
+     * @param to the day after the last day of the period
+     * @param request the request holding the conditional headers
+     * @return a response entity containing the consumption per meter and reading type, or 304 if it did not change
+     */
+    @GetMapping("/consumption")
+    @Operation(summary = "Get Consumption", description = "method provide consumption per meter and type for a period", tags = {"meters"})
+    public ResponseEntity<List<MeterConsumptionDto>> getConsumption(@AuthenticationPrincipal User user,
+                                                                    @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                                    @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                                                    WebRequest request) {
+        if (isNotModified(user, request, null)) {
+            return notModified();
+        }
+        List<MeterConsumptionDto> consumption = meterService.getConsumption(user, from, to);
+        return ResponseEntity.ok().cacheControl(REVALIDATE).body(consumption);
+    }
+
+    /**
+     * Retrieves the monthly summary of every meter and reading type of the authenticated user.
+     *
+     * @param user  the authenticated user
+     * @param year  the year of the month
+     * @param month the month
+     * @return a response entity containing the monthly rollups per meter and reading type
+     */
+    @GetMapping("/summary/month")
+    @Operation(summary = "Get Monthly Summary", description = "method provide min, max, last, count and consumption per meter and type for a month", tags = {"meters"})
+    public ResponseEntity<List<MeterRollupDto>> getMonthlySummary(@AuthenticationPrincipal User user,
+                                                                  @RequestParam int year,
+                                                                  @RequestParam int month) {
+        List<MeterRollupDto> summary = meterService.getMonthlySummary(user, year, month);
+        return ResponseEntity.ok(summary);
+    }
+
+    /**
+     * Retrieves the yearly summary of every meter and reading type of the authenticated user.
+     *
+     * @param user the authenticated user
+     * @param year the year
+     * @return a response entity containing the yearly rollups per meter and reading type
+     */
+    @GetMapping("/summary/year")
+    @Operation(summary = "Get Yearly Summary", description = "method provide min, max, last, count and consumption per meter and type for a year", tags = {"meters"})
+    public ResponseEntity<List<MeterRollupDto>> getYearlySummary(@AuthenticationPrincipal User user,
+                                                                 @RequestParam int year) {
+        List<MeterRollupDto> summary = meterService.getYearlySummary(user, year);
+        return ResponseEntity.ok(summary);
     }
 
     /**
@@ -104,4 +301,122 @@ public class MeterController {
         List<MeterReadingDto> readingHistory = meterService.getAllReadingsHistory(user);
         return ResponseEntity.ok(readingHistory);
     }
+
+    /**
+     * Retrieves one keyset page of the meter reading history of all users.
+     *
+     * @param user    the authenticated user
+     * @param afterId the id of the last reading of the previous page, 0 for the first page
+     * @param limit   the maximum number of readings in the page
+     * @return a response entity containing the page and the cursor of the next page
+     */
+    @GetMapping("/history/all/page")
+    @Operation(summary = "Find History Readings Page", description = "method provide a keyset page of all readings history by admin", tags = {"meters"})
+    public ResponseEntity<MeterReadingPageDto> getMeterReadingAllHistoryPage(@AuthenticationPrincipal User user,
+                                                                             @RequestParam(defaultValue = "0") long afterId,
+                                                                             @RequestParam(defaultValue = "100") int limit) {
+        MeterReadingPageDto page = meterService.getAllReadingsHistoryPage(user, afterId, limit);
+        return ResponseEntity.ok(page);
+    }
+
+    /**
+     * Streams all meter reading history as a JSON array written while the rows are read from the database.
+     * The admin check runs before the response is committed, and only this request gets the long async timeout.
+     *
+     * @param user    the authenticated user
+     * @param request the current request, used to extend its async timeout
+     * @return a response entity containing the streamed meter reading history
+     */
+    @GetMapping("/history/all/stream")
+    @Operation(summary = "Stream All History Readings", description = "method provide streamed readings all history by admin", tags = {"meters"})
+    public ResponseEntity<StreamingResponseBody> streamMeterReadingAllHistory(@AuthenticationPrincipal User user,
+                                                                              HttpServletRequest request) {
+        meterService.validateAdminUser(user);
+        WebAsyncUtils.getAsyncManager(request).registerCallableInterceptor(HISTORY_STREAM_TIMEOUT_KEY,
+                new CallableProcessingInterceptor() {
+                    @Override
+                    public <T> void beforeConcurrentHandling(NativeWebRequest webRequest, Callable<T> task) {
+                        if (webRequest instanceof AsyncWebRequest asyncWebRequest) {
+                            asyncWebRequest.setTimeout(HISTORY_STREAM_TIMEOUT.toMillis());
+                        }
+                    }
+                });
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = objectMapper.createGenerator(outputStream)) {
+                generator.writeStartArray();
+                meterService.streamAllReadingsHistory(user, readingDto -> {
+                    try {
+                        generator.writeObject(readingDto);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                generator.writeEndArray();
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+
+    /**
+     * Retrieves the meter readings of the authenticated user stored since the sync token.
+     * <p>
+     * Clients keep the returned token and send it with the next sync; while {@code hasMore} is true, the next page can
+     * be fetched right away. A sync may repeat readings the client already holds, which are recognised by their id.
+     *
+     * @param user  the authenticated user
+     * @param since the token of the previous sync, omitted to sync from the beginning
+     * @param limit the maximum number of readings in the page
+     * @return a response entity containing the readings and the token of the next sync
+     */
+    @GetMapping("/sync")
+    @Operation(summary = "Sync Readings", description = "method provide readings of valid user stored since the sync token", tags = {"meters"})
+    public ResponseEntity<MeterReadingSyncDto> syncMeterReadings(@AuthenticationPrincipal User user,
+                                                                 @RequestParam(required = false) String since,
+                                                                 @RequestParam(defaultValue = "100") int limit) {
+        MeterReadingSyncDto page = meterService.syncReadings(user, since, limit);
+        return ResponseEntity.ok(page);
+    }
+
+    /**
+     * Retrieves the meter readings of all users stored since the sync token, for consumers tailing new readings.
+     *
+     * @param user  the authenticated user
+     * @param since the token of the previous sync, omitted to sync from the beginning
+     * @param limit the maximum number of readings in the page
+     * @return a response entity containing the readings and the token of the next sync
+     * @see #syncMeterReadings(User, String, int)
+     */
+    @GetMapping("/sync/all")
+    @Operation(summary = "Sync All Readings", description = "method provide readings of all users stored since the sync token by admin", tags = {"meters"})
+    public ResponseEntity<MeterReadingSyncDto> syncAllMeterReadings(@AuthenticationPrincipal User user,
+                                                                    @RequestParam(required = false) String since,
+                                                                    @RequestParam(defaultValue = "100") int limit) {
+        MeterReadingSyncDto page = meterService.syncAllReadings(user, since, limit);
+        return ResponseEntity.ok(page);
+    }
+
+    /**
+     * Checks the conditional headers of the request against the version of the user's readings.
+     * <p>
+     * The version is taken before the readings are read, so a response never carries the version of a later write.
+     * When the request is not conditional, or the readings changed, the entity tag and the modification time are set
+     * on the response and the caller writes the body.
+     *
+     * @param user    the authenticated user
+     * @param request the request holding the conditional headers
+     * @param variant the variant of the response added to the entity tag, or null
+     * @return true if the client already holds the current response
+     */
+    private boolean isNotModified(User user, WebRequest request, String variant) {
+        if (user == null) {
+            return false;
+        }
+        ReadingVersion version = readingVersionService.getVersion(user);
+        String eTag = variant != null ? version.getETag(variant) : version.getETag();
+        return request.checkNotModified(eTag, version.getLastModified().toEpochMilli());
+    }
+
+    private static <T> ResponseEntity<T> notModified() {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(REVALIDATE).build();
+    }
 }
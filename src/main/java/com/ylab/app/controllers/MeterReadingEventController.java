@@ -0,0 +1,115 @@
+package com.ylab.app.controllers;
+
+import com.ylab.app.config.ReadingEventProperties;
+import com.ylab.app.model.User;
+import com.ylab.app.service.ReadingEventService;
+import com.ylab.app.service.ReadingEventSink;
+import com.ylab.aspect.EnableLogging;
+import io.swagger.v3.oas.annotations.Operation;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+
+/**
+ * The MeterReadingEventController class streams newly submitted meter readings as Server-Sent Events.
+ * <p>
+ * Every event is named {@code reading}, carries the reading in JSON form and has the reading id as its event id, so
+ * a reconnecting client continues after the last reading it received. An event named {@code reset} tells the client
+ * that it missed too many readings and should reload them, for example through {@code /meter-readings/sync}.
+ *
+ * @RestController indicates that the data returned by each method will be written straight into the response body instead of rendering a template.
+ * @RequestMapping provides a mapping from the web request @RequestMapping("/meter-readings").
+ * @Author razlivinsky
+ * @since 18.10.2026
+ */
+@EnableLogging
+@RestController
+@RequestMapping("/meter-readings")
+public class MeterReadingEventController {
+    private static final String LAST_EVENT_ID_HEADER = "Last-Event-ID";
+    private final ReadingEventService readingEventService;
+    private final ReadingEventProperties properties;
+
+    /**
+     * Instantiates a new Meter reading event controller.
+     *
+     * @param readingEventService the service streaming newly submitted readings
+     * @param properties          the reading stream settings
+     */
+    public MeterReadingEventController(ReadingEventService readingEventService, ReadingEventProperties properties) {
+        this.readingEventService = readingEventService;
+        this.properties = properties;
+    }
+
+    /**
+     * Streams the meter readings submitted by the authenticated user.
+     *
+     * @param user            the authenticated user
+     * @param lastEventHeader the id of the last reading received, sent by reconnecting clients
+     * @param lastEventId     the id of the last reading received, for clients that cannot set the header
+     * @return the event stream
+     */
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream Readings", description = "method provide a stream of readings submitted by valid user", tags = {"meters"})
+    public SseEmitter streamMeterReadings(@AuthenticationPrincipal User user,
+                                          @RequestHeader(value = LAST_EVENT_ID_HEADER, required = false) Long lastEventHeader,
+                                          @RequestParam(required = false) Long lastEventId) {
+        return subscribe(user, false, lastEventHeader != null ? lastEventHeader : lastEventId);
+    }
+
+    /**
+     * Streams the meter readings submitted by all users.
+     *
+     * @param user            the authenticated user
+     * @param lastEventHeader the id of the last reading received, sent by reconnecting clients
+     * @param lastEventId     the id of the last reading received, for clients that cannot set the header
+     * @return the event stream
+     */
+    @GetMapping(value = "/events/all", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream All Readings", description = "method provide a stream of readings submitted by all users by admin", tags = {"meters"})
+    public SseEmitter streamAllMeterReadings(@AuthenticationPrincipal User user,
+                                             @RequestHeader(value = LAST_EVENT_ID_HEADER, required = false) Long lastEventHeader,
+                                             @RequestParam(required = false) Long lastEventId) {
+        return subscribe(user, true, lastEventHeader != null ? lastEventHeader : lastEventId);
+    }
+
+    private SseEmitter subscribe(User user, boolean allUsers, Long lastEventId) {
+        SseEmitter emitter = new SseEmitter(properties.getTimeout().toMillis());
+        ReadingEventService.Subscription subscription =
+                readingEventService.subscribe(user, allUsers, lastEventId, new SseReadingEventSink(emitter));
+        emitter.onCompletion(subscription::cancel);
+        emitter.onTimeout(subscription::cancel);
+        emitter.onError(e -> subscription.cancel());
+        return emitter;
+    }
+
+    private static class SseReadingEventSink implements ReadingEventSink {
+        private final SseEmitter emitter;
+
+        private SseReadingEventSink(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        @Override
+        public void send(long id, String json) throws IOException {
+            emitter.send(SseEmitter.event().id(Long.toString(id)).name("reading").data(json, MediaType.APPLICATION_JSON));
+        }
+
+        @Override
+        public void reset() throws IOException {
+            emitter.send(SseEmitter.event().name("reset").data("reset"));
+        }
+
+        @Override
+        public void close() {
+            emitter.complete();
+        }
+    }
+}
@@ -1,10 +1,16 @@
 package com.ylab.app.dbService.dao;
 
+import com.ylab.app.model.MeterConsumption;
 import com.ylab.app.model.MeterReading;
+import com.ylab.app.model.MeterReadingColumns;
+import com.ylab.app.model.MeterRollup;
 import com.ylab.app.model.User;
 
 import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * The MeterReadingDao interface provides methods for data access related to meter readings in the database.
@@ -23,6 +29,13 @@ public interface MeterReadingDao {
      */
     public void insertMeterReading(MeterReading meterReading);
 
+    /**
+     * Inserts the provided meter readings and their details into the database and sets their generated ids.
+     *
+     * @param meterReadings the meter readings to be inserted
+     */
+    public void insertMeterReadings(List<MeterReading> meterReadings);
+
     /**
      * Selects the list of current meter readings for the specified user from the database.
      *
@@ -39,6 +52,32 @@ public interface MeterReadingDao {
      */
     public List<MeterReading> selectByUserName(User user);
 
+    /**
+     * Selects the meter readings of the specified user into primitive columns.
+     *
+     * @param user the user for whom to retrieve the meter readings
+     * @return the meter readings of the specified user in columnar form
+     */
+    public MeterReadingColumns selectColumnsByUserName(User user);
+
+    /**
+     * Streams the meter readings of the specified user ordered by id to the handler, row by row.
+     *
+     * @param user    the user for whom to retrieve the meter readings
+     * @param handler the handler receiving the readings and their details
+     */
+    public void streamByUserName(User user, MeterReadingRowHandler handler);
+
+    /**
+     * Selects the meter readings of the specified user taken within the given date range.
+     *
+     * @param user  the user for whom to retrieve the meter readings
+     * @param start the inclusive start of the date range
+     * @param end   the exclusive end of the date range
+     * @return list of meter readings for the specified user and date range
+     */
+    public List<MeterReading> selectByUserNameAndDateRange(User user, LocalDateTime start, LocalDateTime end);
+
     /**
      * Selects all meter readings from the database.
      *
@@ -46,4 +85,91 @@ public interface MeterReadingDao {
      * @throws SQLException if an error occurs while interacting with the database
      */
     public List<MeterReading> selectByAllMeterReadings() throws SQLException;
+
+    /**
+     * Selects a page of meter readings whose ids are greater than the given id, ordered by id.
+     *
+     * @param afterId the id of the last meter reading of the previous page, 0 for the first page
+     * @param limit   the maximum number of meter readings in the page
+     * @return list of meter readings of the page
+     */
+    public List<MeterReading> selectAllMeterReadingsAfterId(long afterId, int limit);
+
+    /**
+     * Selects a page of meter readings of the specified user whose ids are greater than the given id, ordered by id.
+     *
+     * @param user    the user for whom to retrieve the meter readings
+     * @param afterId the id of the last meter reading of the previous page, 0 for the first page
+     * @param limit   the maximum number of meter readings in the page
+     * @return list of meter readings of the page
+     */
+    public List<MeterReading> selectByUserNameAfterId(User user, long afterId, int limit);
+
+    /**
+     * Selects a page of meter readings stored by the transactions in the given window whose ids are greater than the
+     * given id, ordered by id.
+     *
+     * @param fromXid the inclusive lower bound of the transaction id window
+     * @param toXid   the exclusive upper bound of the transaction id window
+     * @param afterId the id of the last meter reading of the previous page, 0 for the first page
+     * @param limit   the maximum number of meter readings in the page
+     * @return list of meter readings of the page
+     */
+    public List<MeterReading> selectAllMeterReadingsCommittedAfterId(long fromXid, long toXid, long afterId, int limit);
+
+    /**
+     * Selects a page of meter readings of the specified user stored by the transactions in the given window whose ids
+     * are greater than the given id, ordered by id.
+     *
+     * @param user    the user for whom to retrieve the meter readings
+     * @param fromXid the inclusive lower bound of the transaction id window
+     * @param toXid   the exclusive upper bound of the transaction id window
+     * @param afterId the id of the last meter reading of the previous page, 0 for the first page
+     * @param limit   the maximum number of meter readings in the page
+     * @return list of meter readings of the page
+     */
+    public List<MeterReading> selectByUserNameCommittedAfterId(User user, long fromXid, long toXid, long afterId, int limit);
+
+    /**
+     * Gets the transaction id below which every transaction has finished, so no meter reading stored by such a
+     * transaction can become visible later.
+     *
+     * @return the visibility horizon transaction id
+     */
+    public long getVisibilityHorizon();
+
+    /**
+     * Streams all meter readings ordered by id to the consumer without materialising them in memory.
+     *
+     * @param consumer the consumer receiving each meter reading
+     */
+    public void streamAllMeterReadings(Consumer<MeterReading> consumer);
+
+    /**
+     * Selects the consumption of every meter and reading type of the specified user within the given date range.
+     *
+     * @param user  the user for whom to compute the consumption
+     * @param start the inclusive start of the date range
+     * @param end   the exclusive end of the date range
+     * @return the consumption per meter and reading type
+     */
+    public List<MeterConsumption> selectConsumption(User user, LocalDateTime start, LocalDateTime end);
+
+    /**
+     * Selects the monthly rollups of every meter and reading type of the specified user.
+     *
+     * @param user  the user for whom to retrieve the rollups
+     * @param month the first day of the month
+     * @return the rollups of the month per meter and reading type
+     */
+    public List<MeterRollup> selectMonthRollups(User user, LocalDate month);
+
+    /**
+     * Selects the rollups of every meter and reading type of the specified user over the given year.
+     *
+     * @param user the user for whom to retrieve the rollups
+     * @param year the year
+     * @return the rollups of the year per meter and reading type
+     */
+    public List<MeterRollup> selectYearRollups(User user, int year);
 }
@@ -0,0 +1,21 @@
+package com.ylab.app.dbService.dao;
+
+import com.ylab.app.model.MeterReading;
+
+import java.util.List;
+
+/**
+ * The MeterReadingImportDao interface provides the high-volume write path used to import historical meter readings.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+public interface MeterReadingImportDao {
+    /**
+     * Copies the provided meter readings and their details into the database in one transaction and sets their ids.
+     *
+     * @param meterReadings the meter readings to be imported
+     * @return the number of imported reading details
+     */
+    public long copyMeterReadings(List<MeterReading> meterReadings);
+}
@@ -0,0 +1,32 @@
+package com.ylab.app.dbService.dao;
+
+import java.time.LocalDateTime;
+
+/**
+ * The MeterReadingRowHandler interface receives meter readings row by row while the result set is walked,
+ * without a meter reading object being created.
+ * <p>
+ * Every reading starts with {@link #reading}; the following {@link #details} calls belong to it until the next
+ * reading starts or the result set ends.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+public interface MeterReadingRowHandler {
+    /**
+     * Starts a new meter reading.
+     *
+     * @param id          the meter reading id
+     * @param numberMeter the meter number
+     * @param date        the reading date
+     */
+    public void reading(long id, String numberMeter, LocalDateTime date);
+
+    /**
+     * Adds a detail to the current meter reading.
+     *
+     * @param type  the reading type name
+     * @param value the value
+     */
+    public void details(String type, double value);
+}
@@ -0,0 +1,33 @@
+package com.ylab.app.dbService.dao;
+
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * The PartitionDao interface provides methods for managing the monthly partitions of the meter reading tables.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+public interface PartitionDao {
+    /**
+     * Gets the months that have an attached partition.
+     *
+     * @return the months with a partition in ascending order
+     */
+    public List<YearMonth> getMonthPartitions();
+
+    /**
+     * Creates the partitions of {@code mtr} and {@code mtr_readings} for the given month if they do not exist.
+     *
+     * @param month the month of the partitions
+     */
+    public void createMonthPartition(YearMonth month);
+
+    /**
+     * Detaches the partitions of {@code mtr} and {@code mtr_readings} for the given month; the detached tables are kept.
+     *
+     * @param month the month of the partitions
+     */
+    public void detachMonthPartition(YearMonth month);
+}
@@ -0,0 +1,39 @@
+package com.ylab.app.dbService.dao;
+
+import com.ylab.app.exception.meterException.MeterReadingException;
+
+/**
+ * The ReadingTypeRegistry interface maps reading type names to the ids stored in {@code mtr_readings} and back.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+public interface ReadingTypeRegistry {
+    /**
+     * The number of reading types after which no new type is registered.
+     */
+    public static final int MAX_TYPES = 256;
+
+    /**
+     * Loads every known reading type from the database.
+     */
+    public void load();
+
+    /**
+     * Gets the id of the reading type with the given name, registering the type if it is new and the dictionary
+     * holds fewer than {@link #MAX_TYPES} types.
+     *
+     * @param name the reading type name
+     * @return the reading type id
+     * @throws MeterReadingException if the name is blank, or it is new and the dictionary is full
+     */
+    public short getTypeId(String name);
+
+    /**
+     * Gets the interned name of the reading type with the given id.
+     *
+     * @param id the reading type id
+     * @return the reading type name, the same instance for every call with the id
+     */
+    public String getTypeName(short id);
+}
@@ -0,0 +1,95 @@
+package com.ylab.app.dbService.dao;
+
+/**
+ * The RollupDao interface provides methods for maintaining the daily and monthly rollups of meter readings.
+ *
+ * The readings to roll up are selected by the id of the transaction that stored them: the transaction id window
+ * {@code [fromXid, toXid)} holds the readings committed since the last run, and the id range narrows it down to one
+ * chunk of them.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+public interface RollupDao {
+    /**
+     * Gets the transaction id below which all meter readings are included in the rollups.
+     *
+     * @return the watermark transaction id
+     */
+    public long getWatermark();
+
+    /**
+     * Gets the transaction id below which every transaction has finished, so no meter reading stored by such a
+     * transaction can become visible later.
+     *
+     * @return the visibility horizon transaction id
+     */
+    public long getVisibilityHorizon();
+
+    /**
+     * Gets the range of ids of the meter readings stored by the transactions in the given window.
+     *
+     * @param fromXid the inclusive lower bound of the transaction id window
+     * @param toXid   the exclusive upper bound of the transaction id window
+     * @return the id range, empty if the window holds no meter readings
+     */
+    public IdRange getMeterReadingIdRange(long fromXid, long toXid);
+
+    /**
+     * Recomputes the daily and monthly rollups touched by the meter readings with ids in the given range
+     * stored by the transactions in the given window.
+     *
+     * @param fromXid the inclusive lower bound of the transaction id window
+     * @param toXid   the exclusive upper bound of the transaction id window
+     * @param fromId  the exclusive lower bound of the id range
+     * @param toId    the inclusive upper bound of the id range
+     */
+    public void rollupRange(long fromXid, long toXid, long fromId, long toId);
+
+    /**
+     * Recomputes only the daily rollups touched by the meter readings with ids in the given range
+     * stored by the transactions in the given window.
+     * Daily buckets depend on the meter readings alone, so several ranges may be rolled up concurrently.
+     *
+     * @param fromXid the inclusive lower bound of the transaction id window
+     * @param toXid   the exclusive upper bound of the transaction id window
+     * @param fromId  the exclusive lower bound of the id range
+     * @param toId    the inclusive upper bound of the id range
+     */
+    public void rollupDays(long fromXid, long toXid, long fromId, long toId);
+
+    /**
+     * Recomputes only the monthly rollups touched by the meter readings with ids in the given range
+     * stored by the transactions in the given window from the daily rollups.
+     *
+     * @param fromXid the inclusive lower bound of the transaction id window
+     * @param toXid   the exclusive upper bound of the transaction id window
+     * @param fromId  the exclusive lower bound of the id range
+     * @param toId    the inclusive upper bound of the id range
+     */
+    public void rollupMonths(long fromXid, long toXid, long fromId, long toId);
+
+    /**
+     * Moves the watermark forward to the given transaction id; a lower id leaves the watermark unchanged.
+     *
+     * @param xid the transaction id below which all meter readings are included in the rollups
+     */
+    public void updateWatermark(long xid);
+
+    /**
+     * A range of meter reading ids.
+     *
+     * @param fromId the exclusive lower bound of the range
+     * @param toId   the inclusive upper bound of the range
+     */
+    public record IdRange(long fromId, long toId) {
+        /**
+         * Checks whether the range holds no ids.
+         *
+         * @return true if the range is empty
+         */
+        public boolean isEmpty() {
+            return toId <= fromId;
+        }
+    }
+}
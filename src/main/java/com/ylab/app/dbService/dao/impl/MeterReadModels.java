@@ -0,0 +1,98 @@
+package com.ylab.app.dbService.dao.impl;
+
+import com.ylab.app.model.MeterReading;
+import com.ylab.app.model.MeterReadingDetails;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.ylab.app.constants.CreateSchemaSql.INSERT_METER_CONSUMPTION;
+import static com.ylab.app.constants.CreateSchemaSql.LOCK_METER_LATEST;
+import static com.ylab.app.constants.CreateSchemaSql.UPSERT_METER_LATEST;
+
+/**
+ * MeterReadModels class maintains the tables derived from newly written meter readings.
+ * <p>
+ * The consumption since the previous reading is computed from {@code mtr_latest}, or from an earlier reading of the
+ * same batch, and stored in {@code mtr_consumption}; afterwards {@code mtr_latest} is moved forward. Readings older than
+ * the latest known reading of their meter and type get no consumption entry. All statements run in the transaction
+ * of the calling insert and are bounded by the date span of the batch, so only the touched partitions are read.
+ * <p>
+ * Before the consumption is computed, a transaction-scoped advisory lock is taken for every user and meter of the batch,
+ * in a fixed order. A concurrent writer of the same meter waits until the first one commits. The consumption
+ * statement then starts with a fresh snapshot, so it sees the {@code mtr_latest} row the first writer moved forward,
+ * and the two writers never count the same consumption twice. The lock also covers a meter that has no
+ * {@code mtr_latest} row yet.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+final class MeterReadModels {
+    private MeterReadModels() {}
+
+    /**
+     * Updates the read models from the inserted meter readings and sets the consumption of their details.
+     *
+     * @param jdbcTemplate  the jdbc template of the calling dao
+     * @param meterReadings the inserted meter readings with their ids set
+     */
+    static void refresh(JdbcTemplate jdbcTemplate, List<MeterReading> meterReadings) {
+        if (meterReadings.isEmpty()) {
+            return;
+        }
+        Map<Long, MeterReading> byId = new HashMap<>();
+        LocalDateTime from = null;
+        LocalDateTime to = null;
+        for (MeterReading meterReading : meterReadings) {
+            byId.put(meterReading.getId(), meterReading);
+            LocalDateTime date = meterReading.getDate();
+            from = from == null || date.isBefore(from) ? date : from;
+            to = to == null || date.isAfter(to) ? date : to;
+        }
+        Long[] ids = byId.keySet().toArray(Long[]::new);
+        Timestamp first = Timestamp.valueOf(from);
+        Timestamp last = Timestamp.valueOf(to);
+        jdbcTemplate.query(connection -> prepareLock(connection, ids, first, last), rs -> {});
+        jdbcTemplate.query(connection -> prepare(connection, INSERT_METER_CONSUMPTION, ids, first, last), rs -> {
+            MeterReading meterReading = byId.get(rs.getLong("mtr_id"));
+            BigDecimal delta = rs.getBigDecimal("delta");
+            if (meterReading != null && delta != null) {
+                String type = rs.getString("type");
+                for (MeterReadingDetails details : meterReading.getDetailsList()) {
+                    if (type.equals(details.getType())) {
+                        details.setConsumption(delta.doubleValue());
+                    }
+                }
+            }
+        });
+        jdbcTemplate.update(connection -> prepare(connection, UPSERT_METER_LATEST, ids, first, last));
+    }
+
+    private static PreparedStatement prepareLock(Connection connection, Long[] ids, Timestamp first, Timestamp last)
+            throws SQLException {
+        PreparedStatement ps = connection.prepareStatement(LOCK_METER_LATEST);
+        ps.setArray(1, connection.createArrayOf("bigint", ids));
+        ps.setTimestamp(2, first);
+        ps.setTimestamp(3, last);
+        return ps;
+    }
+
+    private static PreparedStatement prepare(Connection connection, String sql, Long[] ids, Timestamp first, Timestamp last)
+            throws SQLException {
+        PreparedStatement ps = connection.prepareStatement(sql);
+        ps.setArray(1, connection.createArrayOf("bigint", ids));
+        ps.setTimestamp(2, first);
+        ps.setTimestamp(3, last);
+        ps.setTimestamp(4, first);
+        ps.setTimestamp(5, last);
+        return ps;
+    }
+}
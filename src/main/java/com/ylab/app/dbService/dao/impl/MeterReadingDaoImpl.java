@@ -1,26 +1,40 @@
 package com.ylab.app.dbService.dao.impl;
 
 import com.ylab.app.dbService.dao.MeterReadingDao;
+import com.ylab.app.dbService.dao.MeterReadingRowHandler;
+import com.ylab.app.dbService.dao.ReadingTypeRegistry;
 import com.ylab.app.exception.dbException.DatabaseReadException;
 import com.ylab.app.exception.dbException.DatabaseWriteException;
+import com.ylab.app.model.MeterConsumption;
 import com.ylab.app.model.MeterReading;
+import com.ylab.app.model.MeterReadingColumns;
 import com.ylab.app.model.MeterReadingDetails;
+import com.ylab.app.model.MeterRollup;
 import com.ylab.app.model.User;
 import com.ylab.app.model.UserRole;
 import org.springframework.dao.DataAccessException;
 import org.springframework.jdbc.core.BatchPreparedStatementSetter;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.support.GeneratedKeyHolder;
 import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.math.BigDecimal;
+import java.sql.Date;
 import java.sql.Timestamp;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
+import static com.ylab.app.constants.CreateSchemaSql.INSERT_METER_BULK_SCHEMA;
 import static com.ylab.app.constants.CreateSchemaSql.INSERT_METER_SCHEMA;
 import static com.ylab.app.constants.CreateSchemaSql.INSERT_READING_DATA_SCHEMA;
 import static com.ylab.app.constants.SqlQueryClass.*;
@@ -29,21 +43,32 @@ import static com.ylab.app.constants.SqlQueryClass.*;
  * Implementation of MeterReadingDao for interacting with the database to manage meter reading data.
  *
  * This class utilizes JdbcTemplate for database interaction and provides methods to insert meter readings and retrieve meter readings based on user or all readings.
+ * Meter readings are read together with their details in a single joined query and grouped while the result set is walked.
+ * Reading types are stored as dictionary ids and translated by the {@link ReadingTypeRegistry}.
+ * Every insert also records the consumption of the new readings and refreshes the {@code mtr_latest} read model,
+ * which serves the current readings, in the same transaction.
  *
  * @author razlivinsky
  * @since 17.02.2024
  */
 @Repository
 public class MeterReadingDaoImpl implements MeterReadingDao {
+    private static final int STREAM_FETCH_SIZE = 1000;
+    private static final int BULK_INSERT_CHUNK_SIZE = 5000;
+    private static final int DETAILS_BATCH_SIZE = 1000;
+    private static final int COLUMNS_INITIAL_CAPACITY = 1024;
     private final JdbcTemplate jdbcTemplate;
+    private final ReadingTypeRegistry readingTypeRegistry;
 
     /**
      * Instantiates a new Meter reading dao.
      *
-     * @param jdbcTemplate the jdbc template
+     * @param jdbcTemplate        the jdbc template
+     * @param readingTypeRegistry the registry of reading type ids
      */
-    public MeterReadingDaoImpl(JdbcTemplate jdbcTemplate) {
+    public MeterReadingDaoImpl(JdbcTemplate jdbcTemplate, ReadingTypeRegistry readingTypeRegistry) {
         this.jdbcTemplate = jdbcTemplate;
+        this.readingTypeRegistry = readingTypeRegistry;
     }
 
     private final RowMapper<MeterReading> meterReadingRowMapper = (rs, rowNum) -> {
@@ -56,10 +81,16 @@ public class MeterReadingDaoImpl implements MeterReadingDao {
         return meterReading;
     };
 
-    private final RowMapper<MeterReadingDetails> meterReadingDetailsMapper = (rs, rowNum) -> {
-        String type = rs.getString("type");
-        double value = rs.getDouble("value");
-        return new MeterReadingDetails(type, value);
+
+    private final RowMapper<MeterRollup> meterRollupRowMapper = (rs, rowNum) -> new MeterRollup(
+            rs.getDate("period").toLocalDate(), rs.getString("number_meter"), rs.getString("type"),
+            toDouble(rs.getBigDecimal("min_value")), toDouble(rs.getBigDecimal("max_value")),
+            toDouble(rs.getBigDecimal("last_value")), rs.getLong("readings"), toDouble(rs.getBigDecimal("delta")));
+
+    private final ResultSetExtractor<List<MeterReading>> meterReadingsExtractor = rs -> {
+        List<MeterReading> meterReadings = new ArrayList<>();
+        extractMeterReadings(rs, meterReadings::add);
+        return meterReadings;
     };
 
     /**
@@ -68,6 +99,7 @@ public class MeterReadingDaoImpl implements MeterReadingDao {
      * @param meterReading the meter reading object to be inserted
      * @throws DatabaseWriteException if an error occurs while interacting with the database
      */
+    @Transactional
     public void insertMeterReading(MeterReading meterReading) {
         try {
             KeyHolder keyHolder = new GeneratedKeyHolder();
@@ -89,21 +121,88 @@ public class MeterReadingDaoImpl implements MeterReadingDao {
                 public void setValues(PreparedStatement ps, int i) throws SQLException {
                     MeterReadingDetails details = detailsList.get(i);
                     ps.setLong(1, newMeterReadingId);
-                    ps.setString(2, details.getType());
-                    ps.setDouble(3, details.getValue());
+                    ps.setTimestamp(2, Timestamp.valueOf(meterReading.getDate()));
+                    ps.setShort(3, readingTypeRegistry.getTypeId(details.getType()));
+                    ps.setDouble(4, details.getValue());
                     details.setMeterReadingId(newMeterReadingId);
                 }
                 public int getBatchSize() {
                     return detailsList.size();
                 }
             });
+            MeterReadModels.refresh(jdbcTemplate, List.of(meterReading));
         } catch (DataAccessException e) {
             throw new DatabaseWriteException("Failed to insert meter reading " + e.getMessage());
         }
     }
 
+    /**
+     * Inserts the provided meter readings and their details into the database.
+     * <p>
+     * The readings are inserted in chunks, each with a single multi-row {@code INSERT ... RETURNING id} fed from
+     * arrays, and all details follow in one JDBC batch. The generated ids are assigned in list order.
+     *
+     * @param meterReadings the meter readings to be inserted
+     * @throws DatabaseWriteException if an error occurs while interacting with the database
+     */
+    @Override
+    @Transactional
+    public void insertMeterReadings(List<MeterReading> meterReadings) {
+        try {
+            for (int from = 0; from < meterReadings.size(); from += BULK_INSERT_CHUNK_SIZE) {
+                insertMeterReadingsChunk(meterReadings.subList(from, Math.min(from + BULK_INSERT_CHUNK_SIZE, meterReadings.size())));
+            }
+            List<Object[]> detailsList = new ArrayList<>();
+            for (MeterReading meterReading : meterReadings) {
+                Timestamp date = Timestamp.valueOf(meterReading.getDate());
+                for (MeterReadingDetails details : meterReading.getDetailsList()) {
+                    details.setMeterReadingId(meterReading.getId());
+                    detailsList.add(new Object[]{meterReading.getId(), date, readingTypeRegistry.getTypeId(details.getType()), details.getValue()});
+                }
+            }
+            jdbcTemplate.batchUpdate(INSERT_READING_DATA_SCHEMA, detailsList, DETAILS_BATCH_SIZE, (ps, details) -> {
+                ps.setLong(1, (Long) details[0]);
+                ps.setTimestamp(2, (Timestamp) details[1]);
+                ps.setShort(3, (Short) details[2]);
+                ps.setDouble(4, (Double) details[3]);
+            });
+            MeterReadModels.refresh(jdbcTemplate, meterReadings);
+        } catch (DataAccessException e) {
+            throw new DatabaseWriteException("Failed to insert meter readings " + e.getMessage());
+        }
+    }
+
+    private void insertMeterReadingsChunk(List<MeterReading> chunk) {
+        String[] numberMeters = new String[chunk.size()];
+        Timestamp[] dates = new Timestamp[chunk.size()];
+        String[] userNames = new String[chunk.size()];
+        for (int i = 0; i < chunk.size(); i++) {
+            MeterReading meterReading = chunk.get(i);
+            numberMeters[i] = meterReading.getNumberMeter();
+            dates[i] = Timestamp.valueOf(meterReading.getDate());
+            userNames[i] = meterReading.getUser().getUsername();
+        }
+        List<Long> ids = jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(INSERT_METER_BULK_SCHEMA);
+            ps.setArray(1, connection.createArrayOf("varchar", numberMeters));
+            ps.setArray(2, connection.createArrayOf("timestamp", dates));
+            ps.setArray(3, connection.createArrayOf("varchar", userNames));
+            return ps;
+        }, (rs, rowNum) -> rs.getLong(1));
+        if (ids.size() != chunk.size()) {
+            throw new DatabaseWriteException("Failed to insert meter readings, " + ids.size() + " of " + chunk.size() + " IDs obtained.");
+        }
+        ids.sort(null);
+        for (int i = 0; i < chunk.size(); i++) {
+            chunk.get(i).setId(ids.get(i));
+        }
+    }
+
     /**
      * Selects the list of current meter readings for the specified user from the database.
+     * <p>
+     * The newest value of every meter and reading type of the user is read from the {@code mtr_latest} read model;
+     * types last updated by different readings of one meter are returned as separate readings.
      *
      * @param user the user for whom to retrieve the meter readings
      * @return a list of the user's current meter readings
@@ -111,14 +210,7 @@ public class MeterReadingDaoImpl implements MeterReadingDao {
      */
     public List<MeterReading> selectCurrentMaterReading(User user) {
         try {
-            List<MeterReading> meterReadings = jdbcTemplate.query(FOUND_MAX_ID, meterReadingRowMapper, user.getUsername());
-            for (MeterReading meterReading : meterReadings) {
-                List<MeterReadingDetails> detailsList = jdbcTemplate.query(All_READINGS, meterReadingDetailsMapper, meterReading.getId());
-                for (MeterReadingDetails details : detailsList) {
-                    meterReading.addReadingDetails(details.getType(), details.getValue());
-                }
-            }
-            return meterReadings;
+            return jdbcTemplate.query(SELECT_CURRENT_READINGS, meterReadingsExtractor, user.getUsername());
         } catch (DataAccessException e) {
             throw new DatabaseReadException("Failed to retrieve current meter readings for user " + user.getUsername() + e.getMessage());
         }
@@ -133,19 +225,84 @@ public class MeterReadingDaoImpl implements MeterReadingDao {
      */
     public List<MeterReading> selectByUserName(User user) {
         try {
-            List<MeterReading> meterReadings = jdbcTemplate.query(SELECT_USER_NAME, meterReadingRowMapper, user.getUsername());
-            for (MeterReading meterReading : meterReadings) {
-                List<MeterReadingDetails> detailsList = jdbcTemplate.query(All_READINGS, meterReadingDetailsMapper, meterReading.getId());
-                for (MeterReadingDetails details : detailsList) {
-                    meterReading.addReadingDetails(details.getType(), details.getValue());
-                }
-            }
-            return meterReadings;
+            return jdbcTemplate.query(SELECT_USER_NAME_WITH_DETAILS, meterReadingsExtractor, user.getUsername());
         } catch (DataAccessException e) {
             throw new DatabaseReadException("Failed to retrieve current meter readings for user " + user.getUsername() + e.getMessage());
         }
     }
 
+    /**
+     * Selects the meter readings of the specified user into primitive columns, filled directly from the result set.
+     *
+     * @param user the user for whom to retrieve the meter readings
+     * @return the meter readings of the specified user in columnar form
+     * @throws DatabaseReadException if an error occurs while retrieving the data from the database
+     */
+    public MeterReadingColumns selectColumnsByUserName(User user) {
+        try {
+            return jdbcTemplate.query(SELECT_USER_NAME_WITH_DETAILS, this::extractMeterReadingColumns, user.getUsername());
+        } catch (DataAccessException e) {
+            throw new DatabaseReadException("Failed to retrieve meter readings columns for user " + user.getUsername() + e.getMessage());
+        }
+    }
+
+    /**
+     * Streams the meter readings of the specified user ordered by id to the handler.
+     * <p>
+     * Rows are passed on as they are read from a forward-only result set with a bounded fetch size, so neither meter
+     * reading objects nor the complete history are held in memory. Like {@link #streamAllMeterReadings(Consumer)},
+     * this method should run in a read-only transaction.
+     *
+     * @param user    the user for whom to retrieve the meter readings
+     * @param handler the handler receiving the readings and their details
+     * @throws DatabaseReadException if an error occurs while retrieving the data from the database
+     */
+    public void streamByUserName(User user, MeterReadingRowHandler handler) {
+        try {
+            jdbcTemplate.query(connection -> {
+                PreparedStatement ps = connection.prepareStatement(SELECT_USER_NAME_WITH_DETAILS,
+                        ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                ps.setFetchSize(STREAM_FETCH_SIZE);
+                ps.setString(1, user.getUsername());
+                return ps;
+            }, (ResultSetExtractor<Void>) rs -> {
+                long currentId = 0;
+                while (rs.next()) {
+                    long id = rs.getLong("id");
+                    if (id != currentId) {
+                        handler.reading(id, rs.getString("number_meter"), rs.getTimestamp("date").toLocalDateTime());
+                        currentId = id;
+                    }
+                    short typeId = rs.getShort("type_id");
+                    if (!rs.wasNull()) {
+                        handler.details(readingTypeRegistry.getTypeName(typeId), rs.getDouble("value"));
+                    }
+                }
+                return null;
+            });
+        } catch (DataAccessException e) {
+            throw new DatabaseReadException("Failed to stream meter readings for user " + user.getUsername() + e.getMessage());
+        }
+    }
+
+    /**
+     * Selects the meter readings of the specified user taken within the given date range.
+     *
+     * @param user  the user for whom to retrieve the meter readings
+     * @param start the inclusive start of the date range
+     * @param end   the exclusive end of the date range
+     * @return a list of meter readings for the specified user and date range
+     * @throws DatabaseReadException if an error occurs while retrieving the data from the database
+     */
+    public List<MeterReading> selectByUserNameAndDateRange(User user, LocalDateTime start, LocalDateTime end) {
+        try {
+            return jdbcTemplate.query(SELECT_USER_NAME_AND_DATE_RANGE_WITH_DETAILS, meterReadingsExtractor,
+                    Timestamp.valueOf(start), Timestamp.valueOf(end), user.getUsername(), Timestamp.valueOf(start), Timestamp.valueOf(end));
+        } catch (DataAccessException e) {
+            throw new DatabaseReadException("Failed to retrieve meter readings by date range for user " + user.getUsername() + e.getMessage());
+        }
+    }
+
     /**
      * Selects all meter readings from the database.
      *
@@ -154,17 +311,245 @@ public class MeterReadingDaoImpl implements MeterReadingDao {
      */
     public List<MeterReading> selectByAllMeterReadings() {
         try {
-            List<MeterReading> meterReadings = jdbcTemplate.query(SELECT_ALL_METER_READINGS, meterReadingRowMapper);
-            for (MeterReading meterReading : meterReadings) {
-                List<MeterReadingDetails> detailsList = jdbcTemplate.query(All_READINGS, meterReadingDetailsMapper, meterReading.getId());
-                for (MeterReadingDetails details : detailsList) {
-                    meterReading.addReadingDetails(details.getType(), details.getValue());
-                }
-            }
-            return meterReadings;
+            return jdbcTemplate.query(SELECT_ALL_METER_READINGS_WITH_DETAILS, meterReadingsExtractor);
         } catch (DataAccessException e) {
             throw new DatabaseReadException("Failed to retrieve current meter readings for user " + e.getMessage());
         }
     }
-}
 
+    /**
+     * Selects a page of meter readings whose ids are greater than the given id, ordered by id.
+     *
+     * @param afterId the id of the last meter reading of the previous page, 0 for the first page
+     * @param limit   the maximum number of meter readings in the page
+     * @return a list of meter readings of the page
+     * @throws DatabaseReadException if an error occurs while retrieving the data from the database
+     */
+    public List<MeterReading> selectAllMeterReadingsAfterId(long afterId, int limit) {
+        try {
+            return jdbcTemplate.query(SELECT_ALL_METER_READINGS_PAGE, meterReadingsExtractor, afterId, limit);
+        } catch (DataAccessException e) {
+            throw new DatabaseReadException("Failed to retrieve meter readings after id " + afterId + " " + e.getMessage());
+        }
+    }
+
+    /**
+     * Selects a page of meter readings of the specified user whose ids are greater than the given id, ordered by id.
+     * <p>
+     * The page is found by a range scan of the index on user name and id in every partition, so its cost depends on
+     * the size of the page and not on the size of the user's history.
+     *
+     * @param user    the user for whom to retrieve the meter readings
+     * @param afterId the id of the last meter reading of the previous page, 0 for the first page
+     * @param limit   the maximum number of meter readings in the page
+     * @return a list of meter readings of the page
+     * @throws DatabaseReadException if an error occurs while retrieving the data from the database
+     */
+    public List<MeterReading> selectByUserNameAfterId(User user, long afterId, int limit) {
+        try {
+            return jdbcTemplate.query(SELECT_USER_NAME_METER_READINGS_PAGE, meterReadingsExtractor, user.getUsername(), afterId, limit);
+        } catch (DataAccessException e) {
+            throw new DatabaseReadException("Failed to retrieve meter readings after id " + afterId + " for user " + user.getUsername() + e.getMessage());
+        }
+    }
+
+    /**
+     * Selects a page of meter readings stored by the transactions in the given window whose ids are greater than the
+     * given id, ordered by id.
+     *
+     * @param fromXid the inclusive lower bound of the transaction id window
+     * @param toXid   the exclusive upper bound of the transaction id window
+     * @param afterId the id of the last meter reading of the previous page, 0 for the first page
+     * @param limit   the maximum number of meter readings in the page
+     * @return a list of meter readings of the page
+     * @throws DatabaseReadException if an error occurs while retrieving the data from the database
+     */
+    public List<MeterReading> selectAllMeterReadingsCommittedAfterId(long fromXid, long toXid, long afterId, int limit) {
+        try {
+            return jdbcTemplate.query(SELECT_ALL_METER_READINGS_SYNC_PAGE, meterReadingsExtractor, fromXid, toXid, afterId, limit);
+        } catch (DataAccessException e) {
+            throw new DatabaseReadException("Failed to retrieve meter readings after id " + afterId + " " + e.getMessage());
+        }
+    }
+
+    /**
+     * Selects a page of meter readings of the specified user stored by the transactions in the given window whose ids
+     * are greater than the given id, ordered by id.
+     * <p>
+     * The first window of a sync covers the complete history and is found by the index on user name and id; later
+     * windows only hold recent readings and are found by the index on user name and transaction id.
+     *
+     * @param user    the user for whom to retrieve the meter readings
+     * @param fromXid the inclusive lower bound of the transaction id window
+     * @param toXid   the exclusive upper bound of the transaction id window
+     * @param afterId the id of the last meter reading of the previous page, 0 for the first page
+     * @param limit   the maximum number of meter readings in the page
+     * @return a list of meter readings of the page
+     * @throws DatabaseReadException if an error occurs while retrieving the data from the database
+     */
+    public List<MeterReading> selectByUserNameCommittedAfterId(User user, long fromXid, long toXid, long afterId, int limit) {
+        try {
+            return jdbcTemplate.query(SELECT_USER_NAME_METER_READINGS_SYNC_PAGE, meterReadingsExtractor, user.getUsername(),
+                    fromXid, toXid, afterId, limit);
+        } catch (DataAccessException e) {
+            throw new DatabaseReadException("Failed to retrieve meter readings after id " + afterId + " for user " + user.getUsername() + e.getMessage());
+        }
+    }
+
+    /**
+     * Gets the transaction id below which every transaction has finished, read from the snapshot of the database
+     * serving the current transaction.
+     *
+     * @return the visibility horizon transaction id
+     * @throws DatabaseReadException if an error occurs while retrieving the data from the database
+     */
+    public long getVisibilityHorizon() {
+        try {
+            Long horizon = jdbcTemplate.queryForObject(SELECT_VISIBILITY_HORIZON, Long.class);
+            return horizon != null ? horizon : 0;
+        } catch (DataAccessException e) {
+            throw new DatabaseReadException("Failed to retrieve transaction visibility horizon " + e.getMessage());
+        }
+    }
+
+    /**
+     * Streams all meter readings ordered by id to the consumer.
+     * <p>
+     * Rows are read from a forward-only result set with a bounded fetch size, so memory use does not depend on the table size.
+     * The PostgreSQL driver only fetches in chunks inside a transaction, so callers should run this method in a read-only transaction.
+     *
+     * @param consumer the consumer receiving each meter reading
+     * @throws DatabaseReadException if an error occurs while retrieving the data from the database
+     */
+    public void streamAllMeterReadings(Consumer<MeterReading> consumer) {
+        try {
+            jdbcTemplate.query(connection -> {
+                PreparedStatement ps = connection.prepareStatement(SELECT_ALL_METER_READINGS_WITH_DETAILS,
+                        ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                ps.setFetchSize(STREAM_FETCH_SIZE);
+                return ps;
+            }, (ResultSetExtractor<Void>) rs -> {
+                extractMeterReadings(rs, consumer);
+                return null;
+            });
+        } catch (DataAccessException e) {
+            throw new DatabaseReadException("Failed to stream all meter readings " + e.getMessage());
+        }
+    }
+
+    /**
+     * Selects the consumption of every meter and reading type of the specified user within the given date range.
+     * <p>
+     * The difference to the previous reading is computed with {@code LAG} over the readings in the range; the first
+     * reading of every meter and type is compared with the last reading before the range, which is looked up on its
+     * own, so the history before the range is not scanned.
+     *
+     * @param user  the user for whom to compute the consumption
+     * @param start the inclusive start of the date range
+     * @param end   the exclusive end of the date range
+     * @return the consumption per meter and reading type
+     * @throws DatabaseReadException if an error occurs while retrieving the data from the database
+     */
+    public List<MeterConsumption> selectConsumption(User user, LocalDateTime start, LocalDateTime end) {
+        try {
+            Timestamp from = Timestamp.valueOf(start);
+            Timestamp to = Timestamp.valueOf(end);
+            return jdbcTemplate.query(SELECT_CONSUMPTION, this::mapMeterConsumption,
+                    user.getUsername(), from, to, from, to, user.getUsername(), from, from);
+        } catch (DataAccessException e) {
+            throw new DatabaseReadException("Failed to retrieve consumption for user " + user.getUsername() + e.getMessage());
+        }
+    }
+
+    /**
+     * Selects the monthly rollups of every meter and reading type of the specified user.
+     *
+     * @param user  the user for whom to retrieve the rollups
+     * @param month the first day of the month
+     * @return the rollups of the month per meter and reading type
+     * @throws DatabaseReadException if an error occurs while retrieving the data from the database
+     */
+    public List<MeterRollup> selectMonthRollups(User user, LocalDate month) {
+        try {
+            return jdbcTemplate.query(SELECT_MONTH_ROLLUPS, meterRollupRowMapper, user.getUsername(), Date.valueOf(month));
+        } catch (DataAccessException e) {
+            throw new DatabaseReadException("Failed to retrieve monthly rollups for user " + user.getUsername() + e.getMessage());
+        }
+    }
+
+    /**
+     * Selects the rollups of every meter and reading type of the specified user over the given year,
+     * aggregated from its monthly rollups.
+     *
+     * @param user the user for whom to retrieve the rollups
+     * @param year the year
+     * @return the rollups of the year per meter and reading type
+     * @throws DatabaseReadException if an error occurs while retrieving the data from the database
+     */
+    public List<MeterRollup> selectYearRollups(User user, int year) {
+        try {
+            return jdbcTemplate.query(SELECT_YEAR_ROLLUPS, meterRollupRowMapper, user.getUsername(),
+                    Date.valueOf(LocalDate.of(year, 1, 1)), Date.valueOf(LocalDate.of(year + 1, 1, 1)));
+        } catch (DataAccessException e) {
+            throw new DatabaseReadException("Failed to retrieve yearly rollups for user " + user.getUsername() + e.getMessage());
+        }
+    }
+
+    private MeterConsumption mapMeterConsumption(ResultSet rs, int rowNum) throws SQLException {
+        return new MeterConsumption(rs.getString("number_meter"), readingTypeRegistry.getTypeName(rs.getShort("type_id")),
+                toDouble(rs.getBigDecimal("consumption")), rs.getLong("readings"));
+    }
+
+    private static Double toDouble(BigDecimal value) {
+        return value != null ? value.doubleValue() : null;
+    }
+
+    /**
+     * Walks a joined meter/details result set once and hands every assembled meter reading to the consumer.
+     * <p>
+     * Rows must be ordered by the meter reading id, so all details of one reading arrive consecutively
+     * and a reading is complete as soon as the id changes.
+     *
+     * @param rs       the joined result set positioned before the first row
+     * @param consumer the consumer receiving each completed meter reading
+     * @throws SQLException if an error occurs while reading the result set
+     */
+    private void extractMeterReadings(ResultSet rs, Consumer<MeterReading> consumer) throws SQLException {
+        MeterReading current = null;
+        int rowNum = 0;
+        while (rs.next()) {
+            long id = rs.getLong("id");
+            if (current == null || current.getId() != id) {
+                if (current != null) {
+                    consumer.accept(current);
+                }
+                current = meterReadingRowMapper.mapRow(rs, rowNum++);
+            }
+            short typeId = rs.getShort("type_id");
+            if (!rs.wasNull()) {
+                current.addReadingDetails(readingTypeRegistry.getTypeName(typeId), rs.getDouble("value"));
+            }
+        }
+        if (current != null) {
+            consumer.accept(current);
+        }
+    }
+
+    private MeterReadingColumns extractMeterReadingColumns(ResultSet rs) throws SQLException {
+        MeterReadingColumns.Builder builder = MeterReadingColumns.builder(COLUMNS_INITIAL_CAPACITY);
+        while (rs.next()) {
+            long id = rs.getLong("id");
+            if (builder.size() == 0 || builder.lastId() != id) {
+                builder.addReading(id, rs.getString("number_meter"), rs.getTimestamp("date").toLocalDateTime(), rs.getString("user_name"));
+            }
+            short typeId = rs.getShort("type_id");
+            if (!rs.wasNull()) {
+                if (!builder.hasTypeName(typeId)) {
+                    builder.typeName(typeId, readingTypeRegistry.getTypeName(typeId));
+                }
+                builder.addDetails(typeId, rs.getDouble("value"));
+            }
+        }
+        return builder.build();
+    }
+}
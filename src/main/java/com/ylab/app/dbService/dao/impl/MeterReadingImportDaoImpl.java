@@ -0,0 +1,142 @@
+package com.ylab.app.dbService.dao.impl;
+
+import com.ylab.app.dbService.dao.MeterReadingImportDao;
+import com.ylab.app.dbService.dao.ReadingTypeRegistry;
+import com.ylab.app.exception.dbException.DatabaseWriteException;
+import com.ylab.app.model.MeterReading;
+import com.ylab.app.model.MeterReadingDetails;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+import org.postgresql.copy.PGCopyOutputStream;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+import static com.ylab.app.constants.CreateSchemaSql.ALLOCATE_METER_IDS;
+import static com.ylab.app.constants.CreateSchemaSql.COPY_METER_SCHEMA;
+import static com.ylab.app.constants.CreateSchemaSql.COPY_READING_DATA_SCHEMA;
+
+/**
+ * Implementation of MeterReadingImportDao that streams meter readings into the database with PostgreSQL {@code COPY}.
+ *
+ * The ids of the meter readings are reserved from the {@code mtr} sequence with one query before the copy,
+ * so the details can be copied right after their parents without reading generated keys back.
+ * The consumption and {@code mtr_latest} read models are refreshed from the copied rows before the transaction commits.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+@Repository
+public class MeterReadingImportDaoImpl implements MeterReadingImportDao {
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+    private final JdbcTemplate jdbcTemplate;
+    private final ReadingTypeRegistry readingTypeRegistry;
+
+    /**
+     * Instantiates a new Meter reading import dao.
+     *
+     * @param jdbcTemplate        the jdbc template
+     * @param readingTypeRegistry the registry of reading type ids
+     */
+    public MeterReadingImportDaoImpl(JdbcTemplate jdbcTemplate, ReadingTypeRegistry readingTypeRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.readingTypeRegistry = readingTypeRegistry;
+    }
+
+    /**
+     * Copies the provided meter readings and their details into the database in one transaction and sets their ids.
+     *
+     * @param meterReadings the meter readings to be imported
+     * @return the number of imported reading details
+     * @throws DatabaseWriteException if an error occurs while interacting with the database
+     */
+    @Transactional
+    public long copyMeterReadings(List<MeterReading> meterReadings) {
+        if (meterReadings.isEmpty()) {
+            return 0;
+        }
+        try {
+            allocateIds(meterReadings);
+            Long details = jdbcTemplate.execute((ConnectionCallback<Long>) connection -> copy(connection, meterReadings));
+            MeterReadModels.refresh(jdbcTemplate, meterReadings);
+            return details;
+        } catch (DataAccessException e) {
+            throw new DatabaseWriteException("Failed to import meter readings " + e.getMessage(), e);
+        }
+    }
+
+    private void allocateIds(List<MeterReading> meterReadings) {
+        List<Long> ids = jdbcTemplate.queryForList(ALLOCATE_METER_IDS, Long.class, meterReadings.size());
+        if (ids.size() != meterReadings.size()) {
+            throw new DatabaseWriteException("Failed to import meter readings, " + ids.size() + " of " + meterReadings.size() + " IDs obtained.");
+        }
+        ids.sort(null);
+        for (int i = 0; i < meterReadings.size(); i++) {
+            meterReadings.get(i).setId(ids.get(i));
+        }
+    }
+
+    private long copy(Connection connection, List<MeterReading> meterReadings) throws SQLException {
+        CopyManager copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+        long details = 0;
+        try {
+            try (Writer writer = copyWriter(copyManager, COPY_METER_SCHEMA)) {
+                for (MeterReading meterReading : meterReadings) {
+                    writer.write(Long.toString(meterReading.getId()));
+                    writer.write(',');
+                    writeText(writer, meterReading.getNumberMeter());
+                    writer.write(',');
+                    writer.write(meterReading.getDate().toString());
+                    writer.write(',');
+                    writeText(writer, meterReading.getUser().getUsername());
+                    writer.write('\n');
+                }
+            }
+            try (Writer writer = copyWriter(copyManager, COPY_READING_DATA_SCHEMA)) {
+                for (MeterReading meterReading : meterReadings) {
+                    for (MeterReadingDetails readingDetails : meterReading.getDetailsList()) {
+                        readingDetails.setMeterReadingId(meterReading.getId());
+                        writer.write(Long.toString(meterReading.getId()));
+                        writer.write(',');
+                        writer.write(meterReading.getDate().toString());
+                        writer.write(',');
+                        writer.write(Short.toString(readingTypeRegistry.getTypeId(readingDetails.getType())));
+                        writer.write(',');
+                        writer.write(BigDecimal.valueOf(readingDetails.getValue()).toPlainString());
+                        writer.write('\n');
+                        details++;
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new SQLException("Failed to copy meter readings", e);
+        }
+        return details;
+    }
+
+    private Writer copyWriter(CopyManager copyManager, String sql) throws SQLException {
+        PGCopyOutputStream outputStream = new PGCopyOutputStream(copyManager.copyIn(sql), COPY_BUFFER_SIZE);
+        return new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), COPY_BUFFER_SIZE);
+    }
+
+    private void writeText(Writer writer, String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
@@ -0,0 +1,142 @@
+package com.ylab.app.dbService.dao.impl;
+
+import com.ylab.app.dbService.dao.PartitionDao;
+import com.ylab.app.exception.dbException.DatabaseReadException;
+import com.ylab.app.exception.dbException.DatabaseWriteException;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+import static com.ylab.app.constants.CreateSchemaSql.CREATE_MONTH_PARTITION;
+import static com.ylab.app.constants.CreateSchemaSql.CREATE_STAGING_TABLE;
+import static com.ylab.app.constants.CreateSchemaSql.DELETE_CONSUMPTION_BY_DATE_RANGE;
+import static com.ylab.app.constants.CreateSchemaSql.DELETE_ROWS_BY_DATE_RANGE;
+import static com.ylab.app.constants.CreateSchemaSql.DETACH_PARTITION;
+import static com.ylab.app.constants.CreateSchemaSql.DROP_DETACHED_FOREIGN_KEY;
+import static com.ylab.app.constants.CreateSchemaSql.RESTORE_STAGED_ROWS;
+import static com.ylab.app.constants.CreateSchemaSql.STAGE_ROWS_BY_DATE_RANGE;
+import static com.ylab.app.constants.SqlQueryClass.SELECT_UNPARTITIONED_METERS_EXIST;
+import static com.ylab.app.constants.SqlQueryClass.SELECT_MONTH_PARTITIONS;
+
+/**
+ * Implementation of PartitionDao for the monthly range partitions of {@code mtr} and {@code mtr_readings}.
+ *
+ * The partitions of a month are named {@code mtr_pYYYY_MM} and {@code mtr_readings_pYYYY_MM} and are always created
+ * and detached together, so a month of readings never loses its details.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+@Repository
+public class PartitionDaoImpl implements PartitionDao {
+    private static final String METER_TABLE = "mtr";
+    private static final String READINGS_TABLE = "mtr_readings";
+    private static final String CONSUMPTION_TABLE = "mtr_consumption";
+    private static final String STAGING_PREFIX = "moved_";
+    private static final String READINGS_FOREIGN_KEY = "fk_mtr_id";
+    private static final DateTimeFormatter SUFFIX_FORMAT = DateTimeFormatter.ofPattern("yyyy_MM");
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Instantiates a new Partition dao.
+     *
+     * @param jdbcTemplate the jdbc template
+     */
+    public PartitionDaoImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Gets the months that have an attached partition of {@code mtr}.
+     *
+     * @return the months with a partition in ascending order
+     * @throws DatabaseReadException if an error occurs while retrieving the data from the database
+     */
+    public List<YearMonth> getMonthPartitions() {
+        try {
+            return jdbcTemplate.query(SELECT_MONTH_PARTITIONS, (rs, rowNum) -> YearMonth.parse(
+                            rs.getString("relname").substring(METER_TABLE.length() + 2), SUFFIX_FORMAT),
+                    METER_TABLE, METER_TABLE + "\\_p%");
+        } catch (DataAccessException e) {
+            throw new DatabaseReadException("Failed to retrieve meter reading partitions " + e.getMessage());
+        }
+    }
+
+    /**
+     * Creates the partitions of {@code mtr} and {@code mtr_readings} for the given month if they do not exist.
+     * <p>
+     * PostgreSQL refuses to create a partition while the default partition holds rows of its range. Readings of the
+     * month that landed in the default partition are therefore moved in the same transaction: they are copied to
+     * temporary tables together with their details and consumption rows, deleted, and inserted again through the
+     * parent tables once the partitions exist, keeping their ids.
+     *
+     * @param month the month of the partitions
+     * @throws DatabaseWriteException if an error occurs while interacting with the database
+     */
+    @Transactional
+    public void createMonthPartition(YearMonth month) {
+        String from = month.atDay(1).toString();
+        String to = month.plusMonths(1).atDay(1).toString();
+        Timestamp start = Timestamp.valueOf(month.atDay(1).atStartOfDay());
+        Timestamp end = Timestamp.valueOf(month.plusMonths(1).atDay(1).atStartOfDay());
+        String meterPartition = partitionName(METER_TABLE, month);
+        try {
+            boolean moveDefaultRows = Boolean.TRUE.equals(jdbcTemplate.queryForObject(SELECT_UNPARTITIONED_METERS_EXIST,
+                    Boolean.class, "my_schema." + meterPartition, start, end));
+            if (moveDefaultRows) {
+                stageRows(CONSUMPTION_TABLE, start, end);
+                stageRows(READINGS_TABLE, start, end);
+                stageRows(METER_TABLE, start, end);
+            }
+            jdbcTemplate.execute(String.format(CREATE_MONTH_PARTITION, meterPartition, METER_TABLE, from, to));
+            jdbcTemplate.execute(String.format(CREATE_MONTH_PARTITION, partitionName(READINGS_TABLE, month), READINGS_TABLE, from, to));
+            if (moveDefaultRows) {
+                jdbcTemplate.update(String.format(RESTORE_STAGED_ROWS, METER_TABLE, STAGING_PREFIX + METER_TABLE));
+                jdbcTemplate.update(String.format(RESTORE_STAGED_ROWS, READINGS_TABLE, STAGING_PREFIX + READINGS_TABLE));
+                jdbcTemplate.update(String.format(RESTORE_STAGED_ROWS, CONSUMPTION_TABLE, STAGING_PREFIX + CONSUMPTION_TABLE));
+            }
+        } catch (DataAccessException e) {
+            throw new DatabaseWriteException("Failed to create meter reading partitions for " + month + " " + e.getMessage());
+        }
+    }
+
+    /**
+     * Detaches the partitions of {@code mtr} and {@code mtr_readings} for the given month.
+     * <p>
+     * The consumption rows of the month are deleted first and the detached readings partition loses its foreign key,
+     * since both would otherwise keep referencing the detached meter partition.
+     *
+     * @param month the month of the partitions
+     * @throws DatabaseWriteException if an error occurs while interacting with the database
+     */
+    @Transactional
+    public void detachMonthPartition(YearMonth month) {
+        String readingsPartition = partitionName(READINGS_TABLE, month);
+        try {
+            jdbcTemplate.update(DELETE_CONSUMPTION_BY_DATE_RANGE, Timestamp.valueOf(month.atDay(1).atStartOfDay()),
+                    Timestamp.valueOf(month.plusMonths(1).atDay(1).atStartOfDay()));
+            jdbcTemplate.execute(String.format(DETACH_PARTITION, READINGS_TABLE, readingsPartition));
+            jdbcTemplate.execute(String.format(DROP_DETACHED_FOREIGN_KEY, readingsPartition, READINGS_FOREIGN_KEY));
+            jdbcTemplate.execute(String.format(DETACH_PARTITION, METER_TABLE, partitionName(METER_TABLE, month)));
+        } catch (DataAccessException e) {
+            throw new DatabaseWriteException("Failed to detach meter reading partitions for " + month + " " + e.getMessage());
+        }
+    }
+
+    private void stageRows(String table, Timestamp start, Timestamp end) {
+        String stagingTable = STAGING_PREFIX + table;
+        jdbcTemplate.execute(String.format(CREATE_STAGING_TABLE, stagingTable, table));
+        jdbcTemplate.update(String.format(STAGE_ROWS_BY_DATE_RANGE, stagingTable, table), start, end);
+        jdbcTemplate.update(String.format(DELETE_ROWS_BY_DATE_RANGE, table), start, end);
+    }
+
+    private static String partitionName(String table, YearMonth month) {
+        return table + "_p" + month.format(SUFFIX_FORMAT);
+    }
+}
@@ -0,0 +1,157 @@
+package com.ylab.app.dbService.dao.impl;
+
+import com.ylab.app.dbService.dao.ReadingTypeRegistry;
+import com.ylab.app.exception.dbException.DatabaseReadException;
+import com.ylab.app.exception.dbException.DatabaseWriteException;
+import com.ylab.app.exception.meterException.MeterReadingException;
+import jakarta.annotation.PostConstruct;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static com.ylab.app.constants.CreateSchemaSql.INSERT_READING_TYPE;
+import static com.ylab.app.constants.SqlQueryClass.SELECT_READING_TYPES;
+
+/**
+ * Implementation of ReadingTypeRegistry backed by the {@code reading_type} dictionary table.
+ *
+ * The dictionary is loaded at startup. Lookups in both directions read a concurrent map or an array published through
+ * a volatile field and take no lock; the names are the instances loaded from the database, so every detail of a type
+ * shares one String. A miss reloads the dictionary, which picks up types registered by other instances, and an
+ * unknown name is then inserted in its own transaction, so the type survives a rollback of the calling insert.
+ * Every reading type takes a slot in the dictionary and in the lookup array, so a new name is only registered while
+ * the dictionary holds fewer than {@link #MAX_TYPES} types; the check is part of the insert and so applies to
+ * every instance.
+ * Loads and registrations are serialized with a {@link ReentrantLock} rather than a monitor, so a virtual thread
+ * waiting on the database does not pin its carrier thread.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+@Repository
+public class ReadingTypeRegistryImpl implements ReadingTypeRegistry {
+    private final JdbcTemplate jdbcTemplate;
+    private final Map<String, Short> idsByName = new ConcurrentHashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private volatile String[] namesById = new String[0];
+    private TransactionTemplate registrationTransaction;
+
+    /**
+     * Instantiates a new Reading type registry.
+     *
+     * @param jdbcTemplate the jdbc template
+     */
+    public ReadingTypeRegistryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Loads every known reading type from the database.
+     *
+     * @throws DatabaseReadException if an error occurs while retrieving the data from the database
+     */
+    @PostConstruct
+    public void load() {
+        lock.lock();
+        try {
+            jdbcTemplate.query(SELECT_READING_TYPES, rs -> {
+                put(rs.getShort("id"), rs.getString("name"));
+            });
+        } catch (DataAccessException e) {
+            throw new DatabaseReadException("Failed to load reading types " + e.getMessage());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gets the id of the reading type with the given name, registering the type if it is new and the dictionary
+     * holds fewer than {@link #MAX_TYPES} types.
+     *
+     * @param name the reading type name
+     * @return the reading type id
+     * @throws MeterReadingException if the name is blank, or it is new and the dictionary is full
+     * @throws DatabaseWriteException if an error occurs while registering the type
+     */
+    public short getTypeId(String name) {
+        if (name == null || name.isBlank()) {
+            throw new MeterReadingException("Invalid reading type");
+        }
+        Short id = idsByName.get(name);
+        return id != null ? id : register(name);
+    }
+
+    /**
+     * Gets the interned name of the reading type with the given id.
+     *
+     * @param id the reading type id
+     * @return the reading type name
+     * @throws DatabaseReadException if the id is not in the dictionary
+     */
+    public String getTypeName(short id) {
+        String[] names = namesById;
+        if (id >= 0 && id < names.length && names[id] != null) {
+            return names[id];
+        }
+        load();
+        names = namesById;
+        if (id < 0 || id >= names.length || names[id] == null) {
+            throw new DatabaseReadException("Unknown reading type id " + id);
+        }
+        return names[id];
+    }
+
+    private short register(String name) {
+        lock.lock();
+        try {
+            Short id = idsByName.get(name);
+            if (id != null) {
+                return id;
+            }
+            Short newId = transaction().execute(status -> jdbcTemplate.queryForObject(INSERT_READING_TYPE, Short.class,
+                    name, name, MAX_TYPES));
+            if (newId == null) {
+                throw new DatabaseWriteException("Failed to register reading type " + name + ", no ID obtained.");
+            }
+            put(newId, name);
+            return newId;
+        } catch (EmptyResultDataAccessException e) {
+            throw new MeterReadingException("Unknown reading type " + name + ", no more than " + MAX_TYPES + " reading types can be registered");
+        } catch (DataAccessException e) {
+            throw new DatabaseWriteException("Failed to register reading type " + name + " " + e.getMessage());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void put(short id, String name) {
+        String[] names = namesById;
+        if (id >= names.length) {
+            names = Arrays.copyOf(names, Math.max(id + 1, names.length * 2));
+        } else if (name.equals(names[id])) {
+            return;
+        } else {
+            names = names.clone();
+        }
+        names[id] = name;
+        idsByName.put(name, id);
+        namesById = names;
+    }
+
+    private TransactionTemplate transaction() {
+        if (registrationTransaction == null) {
+            registrationTransaction = new TransactionTemplate(new DataSourceTransactionManager(jdbcTemplate.getDataSource()));
+            registrationTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        }
+        return registrationTransaction;
+    }
+}
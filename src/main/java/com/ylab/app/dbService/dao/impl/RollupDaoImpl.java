@@ -0,0 +1,160 @@
+package com.ylab.app.dbService.dao.impl;
+
+import com.ylab.app.dbService.dao.RollupDao;
+import com.ylab.app.exception.dbException.DatabaseReadException;
+import com.ylab.app.exception.dbException.DatabaseWriteException;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import static com.ylab.app.constants.CreateSchemaSql.UPDATE_ROLLUP_WATERMARK;
+import static com.ylab.app.constants.CreateSchemaSql.UPSERT_ROLLUP_DAY;
+import static com.ylab.app.constants.CreateSchemaSql.UPSERT_ROLLUP_MONTH;
+import static com.ylab.app.constants.SqlQueryClass.SELECT_METER_READING_ID_RANGE;
+import static com.ylab.app.constants.SqlQueryClass.SELECT_ROLLUP_WATERMARK;
+import static com.ylab.app.constants.SqlQueryClass.SELECT_VISIBILITY_HORIZON;
+
+/**
+ * Implementation of RollupDao that maintains the {@code mtr_rollup_day} and {@code mtr_rollup_month} tables.
+ *
+ * A range of meter reading ids is rolled up by recomputing every day and month bucket it touches from its source rows,
+ * so processing a range again, or two overlapping ranges at once, leaves the same result. The delta of a reading is
+ * taken from the reading before it, so the bucket of the reading that follows each one of the range is recomputed as
+ * well: a reading imported behind newer ones changes the delta of the next reading too. The watermark is the xmin
+ * of a snapshot taken by an earlier run, so it never passes a reading whose transaction has not committed yet.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+@Repository
+public class RollupDaoImpl implements RollupDao {
+    private static final String WATERMARK_NAME = "readings";
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Instantiates a new Rollup dao.
+     *
+     * @param jdbcTemplate the jdbc template
+     */
+    public RollupDaoImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Gets the transaction id below which all meter readings are included in the rollups.
+     *
+     * @return the watermark transaction id
+     * @throws DatabaseReadException if an error occurs while retrieving the data from the database
+     */
+    public long getWatermark() {
+        try {
+            Long lastXid = jdbcTemplate.queryForObject(SELECT_ROLLUP_WATERMARK, Long.class, WATERMARK_NAME);
+            return lastXid != null ? lastXid : 0;
+        } catch (DataAccessException e) {
+            throw new DatabaseReadException("Failed to retrieve rollup watermark " + e.getMessage());
+        }
+    }
+
+    /**
+     * Gets the xmin of a fresh snapshot: every transaction with a lower id has either committed or rolled back.
+     *
+     * @return the visibility horizon transaction id
+     * @throws DatabaseReadException if an error occurs while retrieving the data from the database
+     */
+    public long getVisibilityHorizon() {
+        try {
+            Long horizon = jdbcTemplate.queryForObject(SELECT_VISIBILITY_HORIZON, Long.class);
+            return horizon != null ? horizon : 0;
+        } catch (DataAccessException e) {
+            throw new DatabaseReadException("Failed to retrieve transaction visibility horizon " + e.getMessage());
+        }
+    }
+
+    /**
+     * Gets the range of ids of the meter readings stored by the transactions in the given window.
+     *
+     * @param fromXid the inclusive lower bound of the transaction id window
+     * @param toXid   the exclusive upper bound of the transaction id window
+     * @return the id range, empty if the window holds no meter readings
+     * @throws DatabaseReadException if an error occurs while retrieving the data from the database
+     */
+    public IdRange getMeterReadingIdRange(long fromXid, long toXid) {
+        try {
+            return jdbcTemplate.queryForObject(SELECT_METER_READING_ID_RANGE,
+                    (rs, rowNum) -> new IdRange(rs.getLong("from_id"), rs.getLong("to_id")), fromXid, toXid);
+        } catch (DataAccessException e) {
+            throw new DatabaseReadException("Failed to retrieve meter reading ids of transactions " + fromXid + ".." + toXid + " " + e.getMessage());
+        }
+    }
+
+    /**
+     * Recomputes the daily and monthly rollups touched by the meter readings with ids in the given range
+     * stored by the transactions in the given window.
+     *
+     * @param fromXid the inclusive lower bound of the transaction id window
+     * @param toXid   the exclusive upper bound of the transaction id window
+     * @param fromId  the exclusive lower bound of the id range
+     * @param toId    the inclusive upper bound of the id range
+     * @throws DatabaseWriteException if an error occurs while interacting with the database
+     */
+    @Transactional
+    public void rollupRange(long fromXid, long toXid, long fromId, long toId) {
+        try {
+            jdbcTemplate.update(UPSERT_ROLLUP_DAY, fromXid, toXid, fromId, toId);
+            jdbcTemplate.update(UPSERT_ROLLUP_MONTH, fromXid, toXid, fromId, toId);
+        } catch (DataAccessException e) {
+            throw new DatabaseWriteException("Failed to roll up meter readings " + fromId + ".." + toId + " " + e.getMessage());
+        }
+    }
+
+    /**
+     * Recomputes only the daily rollups touched by the meter readings with ids in the given range
+     * stored by the transactions in the given window.
+     *
+     * @param fromXid the inclusive lower bound of the transaction id window
+     * @param toXid   the exclusive upper bound of the transaction id window
+     * @param fromId  the exclusive lower bound of the id range
+     * @param toId    the inclusive upper bound of the id range
+     * @throws DatabaseWriteException if an error occurs while interacting with the database
+     */
+    public void rollupDays(long fromXid, long toXid, long fromId, long toId) {
+        try {
+            jdbcTemplate.update(UPSERT_ROLLUP_DAY, fromXid, toXid, fromId, toId);
+        } catch (DataAccessException e) {
+            throw new DatabaseWriteException("Failed to roll up days of meter readings " + fromId + ".." + toId + " " + e.getMessage());
+        }
+    }
+
+    /**
+     * Recomputes only the monthly rollups touched by the meter readings with ids in the given range
+     * stored by the transactions in the given window.
+     *
+     * @param fromXid the inclusive lower bound of the transaction id window
+     * @param toXid   the exclusive upper bound of the transaction id window
+     * @param fromId  the exclusive lower bound of the id range
+     * @param toId    the inclusive upper bound of the id range
+     * @throws DatabaseWriteException if an error occurs while interacting with the database
+     */
+    public void rollupMonths(long fromXid, long toXid, long fromId, long toId) {
+        try {
+            jdbcTemplate.update(UPSERT_ROLLUP_MONTH, fromXid, toXid, fromId, toId);
+        } catch (DataAccessException e) {
+            throw new DatabaseWriteException("Failed to roll up months of meter readings " + fromId + ".." + toId + " " + e.getMessage());
+        }
+    }
+
+    /**
+     * Moves the watermark forward to the given transaction id; a lower id leaves the watermark unchanged.
+     *
+     * @param xid the transaction id below which all meter readings are included in the rollups
+     * @throws DatabaseWriteException if an error occurs while interacting with the database
+     */
+    public void updateWatermark(long xid) {
+        try {
+            jdbcTemplate.update(UPDATE_ROLLUP_WATERMARK, xid, WATERMARK_NAME);
+        } catch (DataAccessException e) {
+            throw new DatabaseWriteException("Failed to update rollup watermark " + e.getMessage());
+        }
+    }
+}
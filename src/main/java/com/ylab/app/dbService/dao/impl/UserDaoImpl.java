@@ -1,11 +1,15 @@
 package com.ylab.app.dbService.dao.impl;
 
+import com.ylab.app.config.CacheConfig;
 import com.ylab.app.dbService.dao.UserDao;
 import com.ylab.app.exception.dbException.DatabaseReadException;
 import com.ylab.app.exception.dbException.DatabaseWriteException;
 import com.ylab.app.exception.userException.UserValidationException;
 import com.ylab.app.model.User;
 import com.ylab.app.model.UserRole;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.dao.DataAccessException;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.jdbc.core.JdbcTemplate;
@@ -23,6 +27,7 @@ import static com.ylab.app.constants.SqlQueryClass.*;
 
 /**
  * The UserDaoImpl class provides methods for data access related to users in the database. It includes methods for inserting a new user, finding a user by name and password, and getting a list of all users.
+ * Lookups by login and by id are cached; the cached entries of a user are evicted when the user is inserted.
  *
  * @author razlivinsky
  * @since 29.01.2024
@@ -54,6 +59,10 @@ public class UserDaoImpl implements UserDao {
      * @throws DatabaseWriteException if an error occurs during the insertion
      */
     @Override
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.USERS_BY_LOGIN, key = "#user.username"),
+            @CacheEvict(cacheNames = CacheConfig.USERS_BY_ID, key = "#user.id", condition = "#user.id != null")
+    })
     public void insertUser(User user) {
         try {
             KeyHolder keyHolder = new GeneratedKeyHolder();
@@ -94,6 +103,7 @@ public class UserDaoImpl implements UserDao {
      * @throws DatabaseReadException if an error occurs while retrieving the data
      */
     @Override
+    @Cacheable(cacheNames = CacheConfig.USERS_BY_ID, unless = "#result == null")
     public User findUserById(long id) {
         try {
             return jdbcTemplate.queryForObject(FIND_USER_BY_ID, userRowMapper, id);
@@ -113,6 +123,7 @@ public class UserDaoImpl implements UserDao {
      * @throws DatabaseReadException if an error occurs while retrieving the data
      */
     @Override
+    @Cacheable(cacheNames = CacheConfig.USERS_BY_LOGIN, unless = "#result == null")
     public User getUserByLogin(String login) {
         try {
             return jdbcTemplate.queryForObject(FIND_USER_BY_LOGIN, userRowMapper, login);
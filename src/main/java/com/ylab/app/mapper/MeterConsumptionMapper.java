@@ -0,0 +1,30 @@
+package com.ylab.app.mapper;
+
+import com.ylab.app.model.MeterConsumption;
+import com.ylab.app.model.dto.MeterConsumptionDto;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.Mappings;
+
+/**
+ * MeterConsumptionMapper interface for mapping MeterConsumption objects to MeterConsumptionDto objects.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+@Mapper(componentModel = "spring")
+public interface MeterConsumptionMapper {
+    /**
+     * Maps a MeterConsumption object to a MeterConsumptionDto object.
+     *
+     * @param meterConsumption the MeterConsumption object to map
+     * @return the mapped MeterConsumptionDto object
+     */
+    @Mappings({
+            @Mapping(target = "numberMeter", source = "numberMeter"),
+            @Mapping(target = "type", source = "type"),
+            @Mapping(target = "consumption", source = "consumption"),
+            @Mapping(target = "readings", source = "readings")
+    })
+    MeterConsumptionDto meterConsumptionToMeterConsumptionDto(MeterConsumption meterConsumption);
+}
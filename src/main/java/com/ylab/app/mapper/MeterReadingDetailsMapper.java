@@ -24,7 +24,8 @@ public interface MeterReadingDetailsMapper {
     @Mappings({
             @Mapping(target = "meterReadingId", source = "meterReadingId"),
             @Mapping(target = "type", source = "type"),
-            @Mapping(target = "value", source = "value")
+            @Mapping(target = "value", source = "value"),
+            @Mapping(target = "consumption", source = "consumption")
     })
     MeterReadingDetailsDto meterReadingDetailsToMeterReadingDetailsDto(MeterReadingDetails meterReadingDetails);
 
@@ -37,7 +38,8 @@ public interface MeterReadingDetailsMapper {
     @Mappings({
             @Mapping(target = "meterReadingId", source = "meterReadingId"),
             @Mapping(target = "type", source = "type"),
-            @Mapping(target = "value", source = "value")
+            @Mapping(target = "value", source = "value"),
+            @Mapping(target = "consumption", ignore = true)
     })
     MeterReadingDetails meterReadingDetailsDtoToMeterReadingDetails(MeterReadingDetailsDto meterReadingDetailsDto);
 }
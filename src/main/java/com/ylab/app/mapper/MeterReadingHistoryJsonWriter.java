@@ -0,0 +1,139 @@
+package com.ylab.app.mapper;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.ylab.app.dbService.dao.MeterReadingRowHandler;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+
+/**
+ * MeterReadingHistoryJsonWriter class writes the readings history of one user in its compact JSON form straight from
+ * the database rows.
+ * <p>
+ * The user is written once per response and the details of every reading become a map from reading type to value:
+ * <pre>
+ * {"user":"alice","readings":[{"id":1,"numberMeter":"M-1","date":"2024-01-10T08:00:00","values":{"gas":12.5,"water":3.0}}]}
+ * </pre>
+ * Dates have the same ISO format as in the other responses; whole-second dates are formatted without allocation.
+ * When a reading holds a type more than once, the value stored last is written.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+public class MeterReadingHistoryJsonWriter implements MeterReadingRowHandler {
+    private final JsonGenerator generator;
+    private final char[] dateBuffer = new char[19];
+    private boolean readingOpen;
+    private String[] types = new String[4];
+    private double[] values = new double[4];
+    private int detailsSize;
+
+    /**
+     * Instantiates a new history writer and writes the start of the response.
+     *
+     * @param generator the generator of the response
+     * @param userName  the name of the user whose history is written
+     * @throws UncheckedIOException if the response cannot be written
+     */
+    public MeterReadingHistoryJsonWriter(JsonGenerator generator, String userName) {
+        this.generator = generator;
+        try {
+            generator.writeStartObject();
+            generator.writeStringField("user", userName);
+            generator.writeArrayFieldStart("readings");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void reading(long id, String numberMeter, LocalDateTime date) {
+        try {
+            closeReading();
+            generator.writeStartObject();
+            generator.writeNumberField("id", id);
+            generator.writeStringField("numberMeter", numberMeter);
+            generator.writeFieldName("date");
+            writeDate(date);
+            readingOpen = true;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void details(String type, double value) {
+        for (int i = 0; i < detailsSize; i++) {
+            if (types[i].equals(type)) {
+                values[i] = value;
+                return;
+            }
+        }
+        if (detailsSize == types.length) {
+            types = Arrays.copyOf(types, detailsSize * 2);
+            values = Arrays.copyOf(values, detailsSize * 2);
+        }
+        types[detailsSize] = type;
+        values[detailsSize] = value;
+        detailsSize++;
+    }
+
+    /**
+     * Writes the end of the response; the generator is flushed but not closed.
+     *
+     * @throws UncheckedIOException if the response cannot be written
+     */
+    public void finish() {
+        try {
+            closeReading();
+            generator.writeEndArray();
+            generator.writeEndObject();
+            generator.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeDate(LocalDateTime date) throws IOException {
+        if (date.getNano() != 0 || date.getYear() < 0 || date.getYear() > 9999) {
+            generator.writeString(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(date));
+            return;
+        }
+        writeDigits(date.getYear(), 0, 4);
+        dateBuffer[4] = '-';
+        writeDigits(date.getMonthValue(), 5, 2);
+        dateBuffer[7] = '-';
+        writeDigits(date.getDayOfMonth(), 8, 2);
+        dateBuffer[10] = 'T';
+        writeDigits(date.getHour(), 11, 2);
+        dateBuffer[13] = ':';
+        writeDigits(date.getMinute(), 14, 2);
+        dateBuffer[16] = ':';
+        writeDigits(date.getSecond(), 17, 2);
+        generator.writeString(dateBuffer, 0, dateBuffer.length);
+    }
+
+    private void writeDigits(int value, int offset, int length) {
+        for (int i = offset + length - 1; i >= offset; i--) {
+            dateBuffer[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+    }
+
+    private void closeReading() throws IOException {
+        if (!readingOpen) {
+            return;
+        }
+        generator.writeObjectFieldStart("values");
+        for (int i = 0; i < detailsSize; i++) {
+            generator.writeNumberField(types[i], values[i]);
+        }
+        generator.writeEndObject();
+        generator.writeEndObject();
+        detailsSize = 0;
+        readingOpen = false;
+    }
+}
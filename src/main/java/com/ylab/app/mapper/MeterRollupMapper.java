@@ -0,0 +1,34 @@
+package com.ylab.app.mapper;
+
+import com.ylab.app.model.MeterRollup;
+import com.ylab.app.model.dto.MeterRollupDto;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.Mappings;
+
+/**
+ * MeterRollupMapper interface for mapping MeterRollup objects to MeterRollupDto objects.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+@Mapper(componentModel = "spring")
+public interface MeterRollupMapper {
+    /**
+     * Maps a MeterRollup object to a MeterRollupDto object.
+     *
+     * @param meterRollup the MeterRollup object to map
+     * @return the mapped MeterRollupDto object
+     */
+    @Mappings({
+            @Mapping(target = "period", source = "period"),
+            @Mapping(target = "numberMeter", source = "numberMeter"),
+            @Mapping(target = "type", source = "type"),
+            @Mapping(target = "minValue", source = "minValue"),
+            @Mapping(target = "maxValue", source = "maxValue"),
+            @Mapping(target = "lastValue", source = "lastValue"),
+            @Mapping(target = "readings", source = "readings"),
+            @Mapping(target = "consumption", source = "consumption")
+    })
+    MeterRollupDto meterRollupToMeterRollupDto(MeterRollup meterRollup);
+}
@@ -0,0 +1,40 @@
+package com.ylab.app.model;
+
+import com.ylab.app.exception.meterException.MeterReadingException;
+
+/**
+ * The ImportFormat enum represents the file formats accepted by the meter reading import.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+public enum ImportFormat {
+    /**
+     * One reading detail per line: {@code number_meter,date,user_name,type,value}; consecutive lines
+     * with the same meter, date and user form one reading.
+     */
+    CSV,
+    /**
+     * One meter reading per line in the JSON form returned by the history endpoints.
+     */
+    NDJSON;
+
+    /**
+     * Returns the ImportFormat matching the given name or file extension.
+     *
+     * @param format the format name or file extension
+     * @return the corresponding ImportFormat enum value
+     * @throws MeterReadingException if the format is not supported
+     */
+    public static ImportFormat fromString(String format) {
+        for (ImportFormat importFormat : ImportFormat.values()) {
+            if (importFormat.name().equalsIgnoreCase(format)) {
+                return importFormat;
+            }
+        }
+        if ("jsonl".equalsIgnoreCase(format)) {
+            return NDJSON;
+        }
+        throw new MeterReadingException("Unknown import format: " + format);
+    }
+}
@@ -0,0 +1,116 @@
+package com.ylab.app.model;
+
+/**
+ * Represents the consumption of one meter and reading type over a period.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+public class MeterConsumption {
+    private String numberMeter;
+    private String type;
+    private Double consumption;
+    private long readings;
+
+    /**
+     * Instantiates a new Meter consumption.
+     *
+     * @param numberMeter the number meter
+     * @param type        the type of the reading
+     * @param consumption the consumption over the period, or null if it is unknown
+     * @param readings    the number of readings taken in the period
+     */
+    public MeterConsumption(String numberMeter, String type, Double consumption, long readings) {
+        this.numberMeter = numberMeter;
+        this.type = type;
+        this.consumption = consumption;
+        this.readings = readings;
+    }
+
+    /**
+     * Gets number meter of the consumption.
+     *
+     * @return the number meter
+     */
+    public String getNumberMeter() {
+        return numberMeter;
+    }
+
+    /**
+     * Sets number meter of the consumption.
+     *
+     * @param numberMeter the number meter
+     */
+    public void setNumberMeter(String numberMeter) {
+        this.numberMeter = numberMeter;
+    }
+
+    /**
+     * Gets the type of reading.
+     *
+     * @return the type
+     */
+    public String getType() {
+        return type;
+    }
+
+    /**
+     * Sets the type of reading.
+     *
+     * @param type the type
+     */
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    /**
+     * Gets the consumption over the period.
+     *
+     * @return the consumption, or null if it is unknown
+     */
+    public Double getConsumption() {
+        return consumption;
+    }
+
+    /**
+     * Sets the consumption over the period.
+     *
+     * @param consumption the consumption
+     */
+    public void setConsumption(Double consumption) {
+        this.consumption = consumption;
+    }
+
+    /**
+     * Gets the number of readings taken in the period.
+     *
+     * @return the number of readings
+     */
+    public long getReadings() {
+        return readings;
+    }
+
+    /**
+     * Sets the number of readings taken in the period.
+     *
+     * @param readings the number of readings
+     */
+    public void setReadings(long readings) {
+        this.readings = readings;
+    }
+
+    /**
+     * Generates a string representation of the meter consumption.
+     *
+     * @return a string with the meter consumption details
+     */
+    @Override
+    public String toString() {
+        return "MeterConsumption{" +
+                "numberMeter='" + numberMeter + '\'' +
+                ", type='" + type + '\'' +
+                ", consumption=" + consumption +
+                ", readings=" + readings +
+                '}';
+    }
+}
@@ -0,0 +1,298 @@
+package com.ylab.app.model;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * MeterReadingColumns class holds many meter readings with their details in primitive columns instead of one object per reading.
+ *
+ * Reading {@code i} is described by the i-th entry of the reading columns; its details are the entries
+ * {@code detailOffsets[i]} until {@code detailOffsets[i + 1]} of the detail columns. Reading types are stored as
+ * dictionary ids, their names are listed once in {@link #getTypeNames()}. Dates are the seconds of the local date time
+ * since 1970-01-01T00:00.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+public class MeterReadingColumns {
+    private final int size;
+    private final long[] ids;
+    private final String[] numberMeters;
+    private final long[] dates;
+    private final String[] userNames;
+    private final int[] detailOffsets;
+    private final short[] typeIds;
+    private final double[] values;
+    private final Map<Short, String> typeNames;
+
+    private MeterReadingColumns(Builder builder) {
+        this.size = builder.size;
+        this.ids = Arrays.copyOf(builder.ids, builder.size);
+        this.numberMeters = Arrays.copyOf(builder.numberMeters, builder.size);
+        this.dates = Arrays.copyOf(builder.dates, builder.size);
+        this.userNames = Arrays.copyOf(builder.userNames, builder.size);
+        this.detailOffsets = Arrays.copyOf(builder.detailOffsets, builder.size + 1);
+        this.detailOffsets[builder.size] = builder.detailsSize;
+        this.typeIds = Arrays.copyOf(builder.typeIds, builder.detailsSize);
+        this.values = Arrays.copyOf(builder.values, builder.detailsSize);
+        Map<Short, String> names = new LinkedHashMap<>();
+        for (int typeId = 0; typeId < builder.typeNames.length; typeId++) {
+            if (builder.typeNames[typeId] != null) {
+                names.put((short) typeId, builder.typeNames[typeId]);
+            }
+        }
+        this.typeNames = Collections.unmodifiableMap(names);
+    }
+
+    /**
+     * Creates a builder for the meter reading columns.
+     *
+     * @param expectedReadings the expected number of readings
+     * @return the builder
+     */
+    public static Builder builder(int expectedReadings) {
+        return new Builder(expectedReadings);
+    }
+
+    /**
+     * Gets the number of readings.
+     *
+     * @return the number of readings
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Gets the reading ids.
+     *
+     * @return the reading ids
+     */
+    public long[] getIds() {
+        return ids;
+    }
+
+    /**
+     * Gets the meter numbers of the readings.
+     *
+     * @return the meter numbers
+     */
+    public String[] getNumberMeters() {
+        return numberMeters;
+    }
+
+    /**
+     * Gets the reading dates as seconds since 1970-01-01T00:00.
+     *
+     * @return the reading dates
+     */
+    public long[] getDates() {
+        return dates;
+    }
+
+    /**
+     * Gets the user names of the readings.
+     *
+     * @return the user names
+     */
+    public String[] getUserNames() {
+        return userNames;
+    }
+
+    /**
+     * Gets the offsets of the first detail of every reading, followed by the total number of details.
+     *
+     * @return the detail offsets
+     */
+    public int[] getDetailOffsets() {
+        return detailOffsets;
+    }
+
+    /**
+     * Gets the reading type ids of the details.
+     *
+     * @return the type ids
+     */
+    public short[] getTypeIds() {
+        return typeIds;
+    }
+
+    /**
+     * Gets the values of the details.
+     *
+     * @return the values
+     */
+    public double[] getValues() {
+        return values;
+    }
+
+    /**
+     * Gets the names of the reading types used by the details.
+     *
+     * @return the type names by type id
+     */
+    public Map<Short, String> getTypeNames() {
+        return typeNames;
+    }
+
+    /**
+     * Gets the date of the reading at the specified index.
+     *
+     * @param index the index of the reading
+     * @return the reading date
+     */
+    public LocalDateTime getDate(int index) {
+        return LocalDateTime.ofEpochSecond(dates[index], 0, ZoneOffset.UTC);
+    }
+
+    /**
+     * Gets the name of the reading type of the detail at the specified index.
+     *
+     * @param detailIndex the index of the detail
+     * @return the reading type name
+     */
+    public String getTypeName(int detailIndex) {
+        return typeNames.get(typeIds[detailIndex]);
+    }
+
+    @Override
+    public String toString() {
+        return "MeterReadingColumns{" +
+                "size=" + size +
+                ", details=" + values.length +
+                ", typeNames=" + typeNames +
+                '}';
+    }
+
+    /**
+     * Builder class fills the columns reading by reading, growing them as needed.
+     */
+    public static class Builder {
+        private int size;
+        private int detailsSize;
+        private long[] ids;
+        private String[] numberMeters;
+        private long[] dates;
+        private String[] userNames;
+        private int[] detailOffsets;
+        private short[] typeIds;
+        private double[] values;
+        private String[] typeNames = new String[8];
+
+        private Builder(int expectedReadings) {
+            int capacity = Math.max(expectedReadings, 16);
+            ids = new long[capacity];
+            numberMeters = new String[capacity];
+            dates = new long[capacity];
+            userNames = new String[capacity];
+            detailOffsets = new int[capacity + 1];
+            typeIds = new short[capacity * 2];
+            values = new double[capacity * 2];
+        }
+
+        /**
+         * Starts a new reading; the following details belong to it.
+         *
+         * @param id          the reading id
+         * @param numberMeter the meter number
+         * @param date        the reading date
+         * @param userName    the user name
+         * @return this builder
+         */
+        public Builder addReading(long id, String numberMeter, LocalDateTime date, String userName) {
+            if (size == ids.length) {
+                int capacity = size * 2;
+                ids = Arrays.copyOf(ids, capacity);
+                numberMeters = Arrays.copyOf(numberMeters, capacity);
+                dates = Arrays.copyOf(dates, capacity);
+                userNames = Arrays.copyOf(userNames, capacity);
+                detailOffsets = Arrays.copyOf(detailOffsets, capacity + 1);
+            }
+            ids[size] = id;
+            numberMeters[size] = numberMeter;
+            dates[size] = date.toEpochSecond(ZoneOffset.UTC);
+            userNames[size] = userName;
+            detailOffsets[size] = detailsSize;
+            size++;
+            return this;
+        }
+
+        /**
+         * Adds a detail to the last reading.
+         *
+         * @param typeId the reading type id
+         * @param value  the value
+         * @return this builder
+         */
+        public Builder addDetails(short typeId, double value) {
+            if (size == 0) {
+                throw new IllegalStateException("No reading to add details to");
+            }
+            if (detailsSize == values.length) {
+                int capacity = detailsSize * 2;
+                typeIds = Arrays.copyOf(typeIds, capacity);
+                values = Arrays.copyOf(values, capacity);
+            }
+            typeIds[detailsSize] = typeId;
+            values[detailsSize] = value;
+            detailsSize++;
+            return this;
+        }
+
+        /**
+         * Checks whether the name of the specified reading type is known.
+         *
+         * @param typeId the reading type id
+         * @return true if the name was set
+         */
+        public boolean hasTypeName(short typeId) {
+            return typeId < typeNames.length && typeNames[typeId] != null;
+        }
+
+        /**
+         * Sets the name of the specified reading type.
+         *
+         * @param typeId   the reading type id
+         * @param typeName the reading type name
+         * @return this builder
+         */
+        public Builder typeName(short typeId, String typeName) {
+            if (typeId >= typeNames.length) {
+                typeNames = Arrays.copyOf(typeNames, Math.max(typeId + 1, typeNames.length * 2));
+            }
+            typeNames[typeId] = typeName;
+            return this;
+        }
+
+        /**
+         * Gets the id of the last added reading.
+         *
+         * @return the id of the last reading, or 0 if there is none
+         */
+        public long lastId() {
+            return size == 0 ? 0 : ids[size - 1];
+        }
+
+        /**
+         * Gets the number of added readings.
+         *
+         * @return the number of readings
+         */
+        public int size() {
+            return size;
+        }
+
+        /**
+         * Builds the meter reading columns trimmed to the added readings.
+         *
+         * @return the meter reading columns
+         */
+        public MeterReadingColumns build() {
+            return new MeterReadingColumns(this);
+        }
+    }
+}
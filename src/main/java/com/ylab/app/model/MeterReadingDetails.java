@@ -10,6 +10,7 @@ public class MeterReadingDetails {
     private Long meterReadingId;
     private String type;
     private Double value;
+    private Double consumption;
 
     public MeterReadingDetails() {}
 
@@ -91,6 +92,24 @@ public class MeterReadingDetails {
         this.value = value;
     }
 
+    /**
+     * Gets the consumption since the previous reading of the same meter and type.
+     *
+     * @return the consumption, or null if it is unknown
+     */
+    public Double getConsumption() {
+        return consumption;
+    }
+
+    /**
+     * Sets the consumption since the previous reading of the same meter and type.
+     *
+     * @param consumption the consumption
+     */
+    public void setConsumption(Double consumption) {
+        this.consumption = consumption;
+    }
+
     /**
      * Returns a string representation of the MeterReadingDetails object.
      *
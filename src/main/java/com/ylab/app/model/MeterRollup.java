@@ -0,0 +1,207 @@
+package com.ylab.app.model;
+
+import java.time.LocalDate;
+
+/**
+ * Represents the aggregated readings of one meter and reading type over a day, a month or a year.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+public class MeterRollup {
+    private LocalDate period;
+    private String numberMeter;
+    private String type;
+    private Double minValue;
+    private Double maxValue;
+    private Double lastValue;
+    private long readings;
+    private Double consumption;
+
+    /**
+     * Instantiates a new Meter rollup.
+     *
+     * @param period      the first day of the period
+     * @param numberMeter the number meter
+     * @param type        the type of the reading
+     * @param minValue    the lowest value in the period
+     * @param maxValue    the highest value in the period
+     * @param lastValue   the last value in the period
+     * @param readings    the number of readings in the period
+     * @param consumption the consumption over the period, or null if it is unknown
+     */
+    public MeterRollup(LocalDate period, String numberMeter, String type, Double minValue, Double maxValue,
+                       Double lastValue, long readings, Double consumption) {
+        this.period = period;
+        this.numberMeter = numberMeter;
+        this.type = type;
+        this.minValue = minValue;
+        this.maxValue = maxValue;
+        this.lastValue = lastValue;
+        this.readings = readings;
+        this.consumption = consumption;
+    }
+
+    /**
+     * Gets the first day of the period.
+     *
+     * @return the first day of the period
+     */
+    public LocalDate getPeriod() {
+        return period;
+    }
+
+    /**
+     * Sets the first day of the period.
+     *
+     * @param period the first day of the period
+     */
+    public void setPeriod(LocalDate period) {
+        this.period = period;
+    }
+
+    /**
+     * Gets the number meter.
+     *
+     * @return the number meter
+     */
+    public String getNumberMeter() {
+        return numberMeter;
+    }
+
+    /**
+     * Sets the number meter.
+     *
+     * @param numberMeter the number meter
+     */
+    public void setNumberMeter(String numberMeter) {
+        this.numberMeter = numberMeter;
+    }
+
+    /**
+     * Gets the type of the reading.
+     *
+     * @return the type of the reading
+     */
+    public String getType() {
+        return type;
+    }
+
+    /**
+     * Sets the type of the reading.
+     *
+     * @param type the type of the reading
+     */
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    /**
+     * Gets the lowest value in the period.
+     *
+     * @return the lowest value in the period
+     */
+    public Double getMinValue() {
+        return minValue;
+    }
+
+    /**
+     * Sets the lowest value in the period.
+     *
+     * @param minValue the lowest value in the period
+     */
+    public void setMinValue(Double minValue) {
+        this.minValue = minValue;
+    }
+
+    /**
+     * Gets the highest value in the period.
+     *
+     * @return the highest value in the period
+     */
+    public Double getMaxValue() {
+        return maxValue;
+    }
+
+    /**
+     * Sets the highest value in the period.
+     *
+     * @param maxValue the highest value in the period
+     */
+    public void setMaxValue(Double maxValue) {
+        this.maxValue = maxValue;
+    }
+
+    /**
+     * Gets the last value in the period.
+     *
+     * @return the last value in the period
+     */
+    public Double getLastValue() {
+        return lastValue;
+    }
+
+    /**
+     * Sets the last value in the period.
+     *
+     * @param lastValue the last value in the period
+     */
+    public void setLastValue(Double lastValue) {
+        this.lastValue = lastValue;
+    }
+
+    /**
+     * Gets the number of readings in the period.
+     *
+     * @return the number of readings in the period
+     */
+    public long getReadings() {
+        return readings;
+    }
+
+    /**
+     * Sets the number of readings in the period.
+     *
+     * @param readings the number of readings in the period
+     */
+    public void setReadings(long readings) {
+        this.readings = readings;
+    }
+
+    /**
+     * Gets the consumption over the period, or null if it is unknown.
+     *
+     * @return the consumption over the period, or null if it is unknown
+     */
+    public Double getConsumption() {
+        return consumption;
+    }
+
+    /**
+     * Sets the consumption over the period, or null if it is unknown.
+     *
+     * @param consumption the consumption over the period, or null if it is unknown
+     */
+    public void setConsumption(Double consumption) {
+        this.consumption = consumption;
+    }
+
+    /**
+     * Generates a string representation of the meter rollup.
+     *
+     * @return a string with the meter rollup details
+     */
+    @Override
+    public String toString() {
+        return "MeterRollup{" +
+                "period=" + period +
+                ", numberMeter=" + numberMeter +
+                ", type=" + type +
+                ", minValue=" + minValue +
+                ", maxValue=" + maxValue +
+                ", lastValue=" + lastValue +
+                ", readings=" + readings +
+                ", consumption=" + consumption +
+                '}';
+    }
+}
@@ -0,0 +1,70 @@
+package com.ylab.app.model;
+
+import java.time.Instant;
+
+/**
+ * Represents the version of the readings of one user, changed whenever readings of the user are written.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+public class ReadingVersion {
+    private final long version;
+    private final Instant lastModified;
+
+    /**
+     * Instantiates a new Reading version.
+     *
+     * @param version      the version number
+     * @param lastModified the time of the change, whole seconds
+     */
+    public ReadingVersion(long version, Instant lastModified) {
+        this.version = version;
+        this.lastModified = lastModified;
+    }
+
+    /**
+     * Gets the version number.
+     *
+     * @return the version number
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Gets the time of the change.
+     *
+     * @return the time of the change, whole seconds
+     */
+    public Instant getLastModified() {
+        return lastModified;
+    }
+
+    /**
+     * Gets the strong entity tag of the version.
+     *
+     * @return the quoted entity tag
+     */
+    public String getETag() {
+        return "\"" + Long.toHexString(version) + "\"";
+    }
+
+    /**
+     * Gets the strong entity tag of the version for one variant of a response, for example a defaulted parameter.
+     *
+     * @param variant the variant of the response
+     * @return the quoted entity tag
+     */
+    public String getETag(String variant) {
+        return "\"" + Long.toHexString(version) + "-" + variant + "\"";
+    }
+
+    @Override
+    public String toString() {
+        return "ReadingVersion{" +
+                "version=" + version +
+                ", lastModified=" + lastModified +
+                '}';
+    }
+}
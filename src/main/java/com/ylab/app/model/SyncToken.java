@@ -0,0 +1,126 @@
+package com.ylab.app.model;
+
+import com.ylab.app.exception.meterException.MeterReadingException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Represents the position of a delta sync client in the meter readings, handed to the client as an opaque token.
+ * <p>
+ * A sync round sends the readings stored by the transactions in the window {@code [fromXid, toXid)}, in id order
+ * after the id of the last reading sent. The upper bound is the visibility horizon when the round starts: every
+ * transaction below it has finished, so no reading of the window can become visible after it was passed over. The next
+ * round starts at the upper bound of the previous one and takes its own upper bound when it is first requested, so every
+ * reading is sent exactly once. A token whose round has not started yet has an upper bound of 0.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+public class SyncToken {
+    private static final String PREFIX = "2:";
+    private final long fromXid;
+    private final long toXid;
+    private final long afterId;
+
+    /**
+     * Instantiates a new Sync token.
+     *
+     * @param fromXid the inclusive lower bound of the transaction id window of the round
+     * @param toXid   the exclusive upper bound of the transaction id window of the round, 0 if the round has not started
+     * @param afterId the id of the last reading of the round sent to the client, 0 if none
+     */
+    public SyncToken(long fromXid, long toXid, long afterId) {
+        this.fromXid = fromXid;
+        this.toXid = toXid;
+        this.afterId = afterId;
+    }
+
+    /**
+     * Decodes a token received from a client.
+     *
+     * @param token the token, null or empty to sync from the beginning
+     * @return the decoded token
+     * @throws MeterReadingException if the token is not one handed out by this service
+     */
+    public static SyncToken decode(String token) {
+        if (token == null || token.isEmpty()) {
+            return new SyncToken(0, 0, 0);
+        }
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.US_ASCII);
+            if (!value.startsWith(PREFIX)) {
+                throw new MeterReadingException("Invalid sync token");
+            }
+            String[] parts = value.substring(PREFIX.length()).split(":", -1);
+            if (parts.length != 3) {
+                throw new MeterReadingException("Invalid sync token");
+            }
+            long fromXid = Long.parseLong(parts[0]);
+            long toXid = Long.parseLong(parts[1]);
+            long afterId = Long.parseLong(parts[2]);
+            boolean started = toXid != 0;
+            if (fromXid < 0 || afterId < 0 || (started && toXid <= fromXid) || (!started && afterId != 0)) {
+                throw new MeterReadingException("Invalid sync token");
+            }
+            return new SyncToken(fromXid, toXid, afterId);
+        } catch (IllegalArgumentException e) {
+            throw new MeterReadingException("Invalid sync token", e);
+        }
+    }
+
+    /**
+     * Encodes the token for the client.
+     *
+     * @return the opaque token
+     */
+    public String encode() {
+        String value = PREFIX + fromXid + ":" + toXid + ":" + afterId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * Checks whether the round of the token has taken its upper bound.
+     *
+     * @return true if the round has started
+     */
+    public boolean isStarted() {
+        return toXid != 0;
+    }
+
+    /**
+     * Gets the inclusive lower bound of the transaction id window of the round.
+     *
+     * @return the lower bound transaction id
+     */
+    public long getFromXid() {
+        return fromXid;
+    }
+
+    /**
+     * Gets the exclusive upper bound of the transaction id window of the round.
+     *
+     * @return the upper bound transaction id, 0 if the round has not started
+     */
+    public long getToXid() {
+        return toXid;
+    }
+
+    /**
+     * Gets the id of the last reading of the round sent to the client.
+     *
+     * @return the id after which the next page is read
+     */
+    public long getAfterId() {
+        return afterId;
+    }
+
+    @Override
+    public String toString() {
+        return "SyncToken{" +
+                "fromXid=" + fromXid +
+                ", toXid=" + toXid +
+                ", afterId=" + afterId +
+                '}';
+    }
+}
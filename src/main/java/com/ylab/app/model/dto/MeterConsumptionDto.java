@@ -0,0 +1,101 @@
+package com.ylab.app.model.dto;
+
+/**
+ * MeterConsumptionDto class represents the consumption of one meter and reading type over a period.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+public class MeterConsumptionDto {
+    private String numberMeter;
+    private String type;
+    private Double consumption;
+    private long readings;
+
+    /**
+     * Instantiates a new Meter consumption dto.
+     */
+    public MeterConsumptionDto() {}
+
+    /**
+     * Gets number meter.
+     *
+     * @return the number meter
+     */
+    public String getNumberMeter() {
+        return numberMeter;
+    }
+
+    /**
+     * Sets number meter.
+     *
+     * @param numberMeter the number meter
+     */
+    public void setNumberMeter(String numberMeter) {
+        this.numberMeter = numberMeter;
+    }
+
+    /**
+     * Gets type.
+     *
+     * @return the type
+     */
+    public String getType() {
+        return type;
+    }
+
+    /**
+     * Sets type.
+     *
+     * @param type the type
+     */
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    /**
+     * Gets consumption.
+     *
+     * @return the consumption, or null if it is unknown
+     */
+    public Double getConsumption() {
+        return consumption;
+    }
+
+    /**
+     * Sets consumption.
+     *
+     * @param consumption the consumption
+     */
+    public void setConsumption(Double consumption) {
+        this.consumption = consumption;
+    }
+
+    /**
+     * Gets readings.
+     *
+     * @return the number of readings taken in the period
+     */
+    public long getReadings() {
+        return readings;
+    }
+
+    /**
+     * Sets readings.
+     *
+     * @param readings the number of readings taken in the period
+     */
+    public void setReadings(long readings) {
+        this.readings = readings;
+    }
+
+    @Override
+    public String toString() {
+        return "MeterConsumptionDto{" +
+                "numberMeter=" + numberMeter + '\'' +
+                ", type=" + type + '\'' +
+                ", consumption=" + consumption +
+                ", readings=" + readings +
+                '}';
+    }
+}
@@ -0,0 +1,72 @@
+package com.ylab.app.model.dto;
+
+/**
+ * MeterReadingBulkErrorDto class describes a reading of a bulk submission that was rejected.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+public class MeterReadingBulkErrorDto {
+    private int index;
+    private String message;
+
+    /**
+     * Instantiates a new Meter reading bulk error dto.
+     */
+    public MeterReadingBulkErrorDto() {}
+
+    /**
+     * Instantiates a new Meter reading bulk error dto.
+     *
+     * @param index   the position of the rejected reading in the submission, starting at 0
+     * @param message the reason of the rejection
+     */
+    public MeterReadingBulkErrorDto(int index, String message) {
+        this.index = index;
+        this.message = message;
+    }
+
+    /**
+     * Gets index.
+     *
+     * @return the index
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * Sets index.
+     *
+     * @param index the index
+     */
+    public void setIndex(int index) {
+        this.index = index;
+    }
+
+    /**
+     * Gets message.
+     *
+     * @return the message
+     */
+    public String getMessage() {
+        return message;
+    }
+
+    /**
+     * Sets message.
+     *
+     * @param message the message
+     */
+    public void setMessage(String message) {
+        this.message = message;
+    }
+
+    @Override
+    public String toString() {
+        return "MeterReadingBulkErrorDto{" +
+                "index=" + index +
+                ", message='" + message + '\'' +
+                '}';
+    }
+}
@@ -0,0 +1,96 @@
+package com.ylab.app.model.dto;
+
+import java.util.List;
+
+/**
+ * MeterReadingBulkResultDto class represents the outcome of a bulk meter reading submission.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+public class MeterReadingBulkResultDto {
+    private int received;
+    private List<Long> acceptedIds;
+    private List<MeterReadingBulkErrorDto> errors;
+
+    /**
+     * Instantiates a new Meter reading bulk result dto.
+     */
+    public MeterReadingBulkResultDto() {}
+
+    /**
+     * Instantiates a new Meter reading bulk result dto.
+     *
+     * @param received    the number of submitted readings
+     * @param acceptedIds the ids of the stored readings in submission order
+     * @param errors      the rejected readings
+     */
+    public MeterReadingBulkResultDto(int received, List<Long> acceptedIds, List<MeterReadingBulkErrorDto> errors) {
+        this.received = received;
+        this.acceptedIds = acceptedIds;
+        this.errors = errors;
+    }
+
+    /**
+     * Gets received.
+     *
+     * @return the received
+     */
+    public int getReceived() {
+        return received;
+    }
+
+    /**
+     * Sets received.
+     *
+     * @param received the received
+     */
+    public void setReceived(int received) {
+        this.received = received;
+    }
+
+    /**
+     * Gets accepted ids.
+     *
+     * @return the accepted ids
+     */
+    public List<Long> getAcceptedIds() {
+        return acceptedIds;
+    }
+
+    /**
+     * Sets accepted ids.
+     *
+     * @param acceptedIds the accepted ids
+     */
+    public void setAcceptedIds(List<Long> acceptedIds) {
+        this.acceptedIds = acceptedIds;
+    }
+
+    /**
+     * Gets errors.
+     *
+     * @return the errors
+     */
+    public List<MeterReadingBulkErrorDto> getErrors() {
+        return errors;
+    }
+
+    /**
+     * Sets errors.
+     *
+     * @param errors the errors
+     */
+    public void setErrors(List<MeterReadingBulkErrorDto> errors) {
+        this.errors = errors;
+    }
+
+    @Override
+    public String toString() {
+        return "MeterReadingBulkResultDto{" +
+                "received=" + received +
+                ", acceptedIds=" + acceptedIds +
+                ", errors=" + errors +
+                '}';
+    }
+}
@@ -12,6 +12,7 @@ public class MeterReadingDetailsDto {
     private Long meterReadingId;
     private String type;
     private Double value;
+    private Double consumption;
 
     /**
      * Instantiates a new Meter reading details dto.
@@ -84,6 +85,24 @@ public class MeterReadingDetailsDto {
         this.value = value;
     }
 
+    /**
+     * Gets consumption.
+     *
+     * @return the consumption since the previous reading, or null if it is unknown
+     */
+    public Double getConsumption() {
+        return consumption;
+    }
+
+    /**
+     * Sets consumption.
+     *
+     * @param consumption the consumption since the previous reading
+     */
+    public void setConsumption(Double consumption) {
+        this.consumption = consumption;
+    }
+
     @Override
     public String toString() {
         return "MeterReadingDetailsDto{" +
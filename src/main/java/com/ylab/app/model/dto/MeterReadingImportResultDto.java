@@ -0,0 +1,103 @@
+package com.ylab.app.model.dto;
+
+/**
+ * MeterReadingImportResultDto class represents the progress or the outcome of a meter reading import.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+public class MeterReadingImportResultDto {
+    private long readings;
+    private long details;
+    private long elapsedMillis;
+
+    /**
+     * Instantiates a new Meter reading import result dto.
+     */
+    public MeterReadingImportResultDto() {}
+
+    /**
+     * Instantiates a new Meter reading import result dto.
+     *
+     * @param readings      the number of imported readings
+     * @param details       the number of imported reading details
+     * @param elapsedMillis the time spent on the import in milliseconds
+     */
+    public MeterReadingImportResultDto(long readings, long details, long elapsedMillis) {
+        this.readings = readings;
+        this.details = details;
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    /**
+     * Gets readings.
+     *
+     * @return the readings
+     */
+    public long getReadings() {
+        return readings;
+    }
+
+    /**
+     * Sets readings.
+     *
+     * @param readings the readings
+     */
+    public void setReadings(long readings) {
+        this.readings = readings;
+    }
+
+    /**
+     * Gets details.
+     *
+     * @return the details
+     */
+    public long getDetails() {
+        return details;
+    }
+
+    /**
+     * Sets details.
+     *
+     * @param details the details
+     */
+    public void setDetails(long details) {
+        this.details = details;
+    }
+
+    /**
+     * Gets elapsed millis.
+     *
+     * @return the elapsed millis
+     */
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    /**
+     * Sets elapsed millis.
+     *
+     * @param elapsedMillis the elapsed millis
+     */
+    public void setElapsedMillis(long elapsedMillis) {
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    /**
+     * Gets the import throughput.
+     *
+     * @return the imported readings per second
+     */
+    public long getReadingsPerSecond() {
+        return readings * 1000 / Math.max(1, elapsedMillis);
+    }
+
+    @Override
+    public String toString() {
+        return "MeterReadingImportResultDto{" +
+                "readings=" + readings +
+                ", details=" + details +
+                ", elapsedMillis=" + elapsedMillis +
+                '}';
+    }
+}
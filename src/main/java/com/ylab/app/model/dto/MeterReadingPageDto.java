@@ -0,0 +1,74 @@
+package com.ylab.app.model.dto;
+
+import java.util.List;
+
+/**
+ * MeterReadingPageDto class represents one keyset page of meter readings.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+public class MeterReadingPageDto {
+    private List<MeterReadingDto> content;
+    private Long nextAfterId;
+
+    /**
+     * Instantiates a new Meter reading page dto.
+     */
+    public MeterReadingPageDto() {}
+
+    /**
+     * Instantiates a new Meter reading page dto.
+     *
+     * @param content     the meter readings of the page
+     * @param nextAfterId the cursor of the next page, null if this is the last page
+     */
+    public MeterReadingPageDto(List<MeterReadingDto> content, Long nextAfterId) {
+        this.content = content;
+        this.nextAfterId = nextAfterId;
+    }
+
+    /**
+     * Gets content.
+     *
+     * @return the content
+     */
+    public List<MeterReadingDto> getContent() {
+        return content;
+    }
+
+    /**
+     * Sets content.
+     *
+     * @param content the content
+     */
+    public void setContent(List<MeterReadingDto> content) {
+        this.content = content;
+    }
+
+    /**
+     * Gets next after id.
+     *
+     * @return the next after id
+     */
+    public Long getNextAfterId() {
+        return nextAfterId;
+    }
+
+    /**
+     * Sets next after id.
+     *
+     * @param nextAfterId the next after id
+     */
+    public void setNextAfterId(Long nextAfterId) {
+        this.nextAfterId = nextAfterId;
+    }
+
+    @Override
+    public String toString() {
+        return "MeterReadingPageDto{" +
+                "content=" + content +
+                ", nextAfterId=" + nextAfterId +
+                '}';
+    }
+}
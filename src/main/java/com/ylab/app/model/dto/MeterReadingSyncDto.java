@@ -0,0 +1,97 @@
+package com.ylab.app.model.dto;
+
+import java.util.List;
+
+/**
+ * MeterReadingSyncDto class represents one page of a delta sync: the meter readings stored since the client's token
+ * and the token of the next request.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+public class MeterReadingSyncDto {
+    private List<MeterReadingDto> readings;
+    private String token;
+    private boolean hasMore;
+
+    /**
+     * Instantiates a new Meter reading sync dto.
+     */
+    public MeterReadingSyncDto() {}
+
+    /**
+     * Instantiates a new Meter reading sync dto.
+     *
+     * @param readings the meter readings of the page
+     * @param token    the token of the next request
+     * @param hasMore  true if more readings can be fetched right away with the token
+     */
+    public MeterReadingSyncDto(List<MeterReadingDto> readings, String token, boolean hasMore) {
+        this.readings = readings;
+        this.token = token;
+        this.hasMore = hasMore;
+    }
+
+    /**
+     * Gets readings.
+     *
+     * @return the readings
+     */
+    public List<MeterReadingDto> getReadings() {
+        return readings;
+    }
+
+    /**
+     * Sets readings.
+     *
+     * @param readings the readings
+     */
+    public void setReadings(List<MeterReadingDto> readings) {
+        this.readings = readings;
+    }
+
+    /**
+     * Gets token.
+     *
+     * @return the token
+     */
+    public String getToken() {
+        return token;
+    }
+
+    /**
+     * Sets token.
+     *
+     * @param token the token
+     */
+    public void setToken(String token) {
+        this.token = token;
+    }
+
+    /**
+     * Gets whether more readings can be fetched right away.
+     *
+     * @return true if more readings can be fetched right away
+     */
+    public boolean isHasMore() {
+        return hasMore;
+    }
+
+    /**
+     * Sets whether more readings can be fetched right away.
+     *
+     * @param hasMore true if more readings can be fetched right away
+     */
+    public void setHasMore(boolean hasMore) {
+        this.hasMore = hasMore;
+    }
+
+    @Override
+    public String toString() {
+        return "MeterReadingSyncDto{" +
+                "readings=" + readings +
+                ", token='" + token + '\'' +
+                ", hasMore=" + hasMore +
+                '}';
+    }
+}
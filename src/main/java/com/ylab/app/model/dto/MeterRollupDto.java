@@ -0,0 +1,183 @@
+package com.ylab.app.model.dto;
+
+import java.time.LocalDate;
+
+/**
+ * MeterRollupDto class represents the aggregated readings of one meter and reading type over a month or a year.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+public class MeterRollupDto {
+    private LocalDate period;
+    private String numberMeter;
+    private String type;
+    private Double minValue;
+    private Double maxValue;
+    private Double lastValue;
+    private long readings;
+    private Double consumption;
+
+    /**
+     * Instantiates a new Meter rollup dto.
+     */
+    public MeterRollupDto() {}
+
+    /**
+     * Gets period.
+     *
+     * @return the first day of the period
+     */
+    public LocalDate getPeriod() {
+        return period;
+    }
+
+    /**
+     * Sets period.
+     *
+     * @param period the first day of the period
+     */
+    public void setPeriod(LocalDate period) {
+        this.period = period;
+    }
+
+    /**
+     * Gets number meter.
+     *
+     * @return the number meter
+     */
+    public String getNumberMeter() {
+        return numberMeter;
+    }
+
+    /**
+     * Sets number meter.
+     *
+     * @param numberMeter the number meter
+     */
+    public void setNumberMeter(String numberMeter) {
+        this.numberMeter = numberMeter;
+    }
+
+    /**
+     * Gets type.
+     *
+     * @return the type of the reading
+     */
+    public String getType() {
+        return type;
+    }
+
+    /**
+     * Sets type.
+     *
+     * @param type the type of the reading
+     */
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    /**
+     * Gets min value.
+     *
+     * @return the lowest value in the period
+     */
+    public Double getMinValue() {
+        return minValue;
+    }
+
+    /**
+     * Sets min value.
+     *
+     * @param minValue the lowest value in the period
+     */
+    public void setMinValue(Double minValue) {
+        this.minValue = minValue;
+    }
+
+    /**
+     * Gets max value.
+     *
+     * @return the highest value in the period
+     */
+    public Double getMaxValue() {
+        return maxValue;
+    }
+
+    /**
+     * Sets max value.
+     *
+     * @param maxValue the highest value in the period
+     */
+    public void setMaxValue(Double maxValue) {
+        this.maxValue = maxValue;
+    }
+
+    /**
+     * Gets last value.
+     *
+     * @return the last value in the period
+     */
+    public Double getLastValue() {
+        return lastValue;
+    }
+
+    /**
+     * Sets last value.
+     *
+     * @param lastValue the last value in the period
+     */
+    public void setLastValue(Double lastValue) {
+        this.lastValue = lastValue;
+    }
+
+    /**
+     * Gets readings.
+     *
+     * @return the number of readings in the period
+     */
+    public long getReadings() {
+        return readings;
+    }
+
+    /**
+     * Sets readings.
+     *
+     * @param readings the number of readings in the period
+     */
+    public void setReadings(long readings) {
+        this.readings = readings;
+    }
+
+    /**
+     * Gets consumption.
+     *
+     * @return the consumption over the period, or null if it is unknown
+     */
+    public Double getConsumption() {
+        return consumption;
+    }
+
+    /**
+     * Sets consumption.
+     *
+     * @param consumption the consumption over the period, or null if it is unknown
+     */
+    public void setConsumption(Double consumption) {
+        this.consumption = consumption;
+    }
+
+    @Override
+    public String toString() {
+        return "MeterRollupDto{" +
+                "period=" + period +
+                ", numberMeter=" + numberMeter +
+                ", type=" + type +
+                ", minValue=" + minValue +
+                ", maxValue=" + maxValue +
+                ", lastValue=" + lastValue +
+                ", readings=" + readings +
+                ", consumption=" + consumption +
+                '}';
+    }
+}
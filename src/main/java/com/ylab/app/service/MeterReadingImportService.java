@@ -0,0 +1,39 @@
+package com.ylab.app.service;
+
+import com.ylab.app.model.ImportFormat;
+import com.ylab.app.model.User;
+import com.ylab.app.model.dto.MeterReadingImportResultDto;
+
+import java.io.InputStream;
+import java.util.function.Consumer;
+
+/**
+ * MeterReadingImportService interface for importing large files of historical meter readings.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+public interface MeterReadingImportService {
+    /**
+     * Imports the meter readings read from the input stream on behalf of an admin user.
+     *
+     * @param adminUser   the admin user running the import
+     * @param inputStream the stream of meter readings
+     * @param format      the format of the stream
+     * @param progress    the consumer receiving the running totals after each imported chunk
+     * @return the totals of the import
+     */
+    public MeterReadingImportResultDto importReadings(User adminUser, InputStream inputStream, ImportFormat format,
+                                                      Consumer<MeterReadingImportResultDto> progress);
+
+    /**
+     * Imports the meter readings read from the input stream; used by the command line import.
+     *
+     * @param inputStream the stream of meter readings
+     * @param format      the format of the stream
+     * @param progress    the consumer receiving the running totals after each imported chunk
+     * @return the totals of the import
+     */
+    public MeterReadingImportResultDto importReadings(InputStream inputStream, ImportFormat format,
+                                                      Consumer<MeterReadingImportResultDto> progress);
+}
@@ -0,0 +1,83 @@
+package com.ylab.app.service;
+
+import com.ylab.app.model.dto.MeterReadingDetailsDto;
+
+import java.util.List;
+
+/**
+ * MeterReadingValidator class holds the checks every meter reading has to pass before it is stored, whether it is
+ * submitted alone, in bulk or imported from a file.
+ * <p>
+ * The checks return the reason a value is rejected, or null if it is valid, so each write path can report it in its
+ * own way.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+public final class MeterReadingValidator {
+    /**
+     * The exclusive upper bound of the absolute value of a reading.
+     */
+    public static final double MAX_READING_VALUE = 100_000_000d;
+
+    /**
+     * The maximum length of a reading type name, the width of the {@code reading_type.name} column.
+     */
+    public static final int MAX_TYPE_LENGTH = 50;
+
+    private MeterReadingValidator() {
+    }
+
+    /**
+     * Checks a meter reading made of a meter number and its details.
+     *
+     * @param numberMeter the meter number
+     * @param details     the details of the reading
+     * @return the reason the reading is rejected, or null if it is valid
+     */
+    public static String validateReading(String numberMeter, List<MeterReadingDetailsDto> details) {
+        String error = validateNumberMeter(numberMeter);
+        if (error != null) {
+            return error;
+        }
+        if (details == null || details.isEmpty()) {
+            return "Missing reading details";
+        }
+        for (MeterReadingDetailsDto detailsDto : details) {
+            error = detailsDto == null
+                    ? "Invalid reading type"
+                    : validateDetails(detailsDto.getType(), detailsDto.getValue());
+            if (error != null) {
+                return error;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Checks a meter number.
+     *
+     * @param numberMeter the meter number
+     * @return the reason the meter number is rejected, or null if it is valid
+     */
+    public static String validateNumberMeter(String numberMeter) {
+        return numberMeter == null || numberMeter.isBlank() ? "Invalid numberMeter" : null;
+    }
+
+    /**
+     * Checks one detail of a reading.
+     *
+     * @param type  the reading type
+     * @param value the reading value
+     * @return the reason the detail is rejected, or null if it is valid
+     */
+    public static String validateDetails(String type, Double value) {
+        if (type == null || type.isBlank() || type.length() > MAX_TYPE_LENGTH) {
+            return "Invalid reading type";
+        }
+        if (value == null || value.isNaN() || Math.abs(value) >= MAX_READING_VALUE) {
+            return "Invalid reading value";
+        }
+        return null;
+    }
+}
@@ -1,10 +1,19 @@
 package com.ylab.app.service;
 
+import com.ylab.app.dbService.dao.MeterReadingRowHandler;
+import com.ylab.app.model.MeterReadingColumns;
 import com.ylab.app.model.User;
+import com.ylab.app.model.dto.MeterConsumptionDto;
+import com.ylab.app.model.dto.MeterReadingBulkResultDto;
 import com.ylab.app.model.dto.MeterReadingDetailsDto;
 import com.ylab.app.model.dto.MeterReadingDto;
+import com.ylab.app.model.dto.MeterReadingPageDto;
+import com.ylab.app.model.dto.MeterReadingSyncDto;
+import com.ylab.app.model.dto.MeterRollupDto;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * MeterService interface for managing meter readings.
@@ -13,6 +22,11 @@ import java.util.List;
  * @since 28.01.2024
  */
 public interface MeterService {
+    /**
+     * The maximum number of readings accepted by one bulk submission.
+     */
+    int MAX_BULK_SIZE = 10_000;
+
     /**
      * Gets the current readings for the specified user.
      *
@@ -32,13 +46,52 @@ public interface MeterService {
     public MeterReadingDto submitReading(User user, String numberMeter, List<MeterReadingDetailsDto> readings);
 
     /**
-     * Gets the readings for the specified user and month.
+     * Submits several readings of the specified user at once; invalid readings are reported, the valid ones are stored.
+     *
+     * @param user     the user submitting the readings
+     * @param readings the readings to submit
+     * @return the ids of the stored readings and the rejected readings
+     */
+    public MeterReadingBulkResultDto submitReadings(User user, List<MeterReadingDto> readings);
+
+    /**
+     * Gets the readings for the specified user, year and month.
      *
      * @param user  the user for whom the readings are retrieved
+     * @param year  the year of the month for which readings are retrieved
      * @param month the month for which readings are retrieved
      * @return the list of readings for the specified month
      */
-    public List<MeterReadingDto> getReadingsByMonth(User user, int month);
+    public List<MeterReadingDto> getReadingsByMonth(User user, int year, int month);
+
+    /**
+     * Gets the consumption of every meter and reading type of the specified user between two dates.
+     *
+     * @param user the user for whom the consumption is computed
+     * @param from the first day of the period
+     * @param to   the day after the last day of the period
+     * @return the list of consumption per meter and reading type
+     */
+    public List<MeterConsumptionDto> getConsumption(User user, LocalDate from, LocalDate to);
+
+    /**
+     * Gets the monthly summary of every meter and reading type of the specified user.
+     *
+     * @param user  the user for whom the summary is retrieved
+     * @param year  the year of the month
+     * @param month the month
+     * @return the list of monthly rollups per meter and reading type
+     */
+    public List<MeterRollupDto> getMonthlySummary(User user, int year, int month);
+
+    /**
+     * Gets the yearly summary of every meter and reading type of the specified user.
+     *
+     * @param user the user for whom the summary is retrieved
+     * @param year the year
+     * @return the list of yearly rollups per meter and reading type
+     */
+    public List<MeterRollupDto> getYearlySummary(User user, int year);
 
     /**
      * Gets the readings history for the specified user.
@@ -48,6 +101,22 @@ public interface MeterService {
      */
     public List<MeterReadingDto> getReadingsHistory(User user);
 
+    /**
+     * Streams the readings history for the specified user to the handler row by row.
+     *
+     * @param user    the user for whom the readings history is retrieved
+     * @param handler the handler receiving the readings and their details
+     */
+    public void streamReadingsHistory(User user, MeterReadingRowHandler handler);
+
+    /**
+     * Gets the readings history for the specified user in columnar form.
+     *
+     * @param user the user for whom the readings history is retrieved
+     * @return the readings history of the specified user in primitive columns
+     */
+    public MeterReadingColumns getReadingsHistoryColumns(User user);
+
     /**
      * Gets the readings history for all users (for admin user).
      *
@@ -55,5 +124,50 @@ public interface MeterService {
      * @return the list of all readings history
      */
     public List<MeterReadingDto> getAllReadingsHistory(User adminUser);
-}
 
+    /**
+     * Gets one keyset page of the readings history for all users (for admin user).
+     *
+     * @param adminUser the admin user retrieving the readings history
+     * @param afterId   the id of the last reading of the previous page, 0 for the first page
+     * @param limit     the maximum number of readings in the page
+     * @return the page of readings history
+     */
+    public MeterReadingPageDto getAllReadingsHistoryPage(User adminUser, long afterId, int limit);
+
+    /**
+     * Gets the readings of the user stored since the position of the sync token.
+     *
+     * @param user  the user retrieving the readings
+     * @param token the token of the previous sync, null or empty to sync from the beginning
+     * @param limit the maximum number of readings in the page
+     * @return the page of readings with the token of the next sync
+     */
+    public MeterReadingSyncDto syncReadings(User user, String token, int limit);
+
+    /**
+     * Gets the readings of all users stored since the position of the sync token (for admin user).
+     *
+     * @param adminUser the admin user retrieving the readings
+     * @param token     the token of the previous sync, null or empty to sync from the beginning
+     * @param limit     the maximum number of readings in the page
+     * @return the page of readings with the token of the next sync
+     */
+    public MeterReadingSyncDto syncAllReadings(User adminUser, String token, int limit);
+
+    /**
+     * Streams the readings history for all users (for admin user) to the consumer.
+     *
+     * @param adminUser the admin user retrieving the readings history
+     * @param consumer  the consumer receiving each reading
+     */
+    public void streamAllReadingsHistory(User adminUser, Consumer<MeterReadingDto> consumer);
+
+    /**
+     * Checks that the user may read the readings of all users.
+     *
+     * @param adminUser the user to check
+     * @throws com.ylab.app.exception.userException.UserValidationException if the user is invalid or not an admin
+     */
+    public void validateAdminUser(User adminUser);
+}
@@ -0,0 +1,18 @@
+package com.ylab.app.service;
+
+import java.time.YearMonth;
+
+/**
+ * PartitionMaintenanceService interface for managing the monthly partitions of meter readings.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+public interface PartitionMaintenanceService {
+    /**
+     * Creates the partitions of the given month and the following months and detaches the expired ones.
+     *
+     * @param currentMonth the current month
+     */
+    public void maintain(YearMonth currentMonth);
+}
@@ -0,0 +1,25 @@
+package com.ylab.app.service;
+
+import com.ylab.app.model.User;
+
+/**
+ * ReadYourWritesService interface for keeping the reads of a user on the primary right after the user wrote readings.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+public interface ReadYourWritesService {
+    /**
+     * Records that the user has just written readings.
+     *
+     * @param user the user who wrote readings
+     */
+    public void recordWrite(User user);
+
+    /**
+     * Keeps the current read-only transaction on the primary if the user wrote readings recently.
+     *
+     * @param user the user whose readings are read
+     */
+    public void routeReads(User user);
+}
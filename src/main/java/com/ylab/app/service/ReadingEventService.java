@@ -0,0 +1,49 @@
+package com.ylab.app.service;
+
+import com.ylab.app.model.MeterReading;
+import com.ylab.app.model.User;
+
+import java.util.List;
+
+/**
+ * ReadingEventService interface for publishing newly submitted meter readings to the subscribers of the reading stream.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+public interface ReadingEventService {
+    /**
+     * Subscribes to the readings of the user, or of all users for an admin user.
+     *
+     * @param user        the subscribing user
+     * @param allUsers    true to receive the readings of all users
+     * @param lastEventId the id of the last reading the subscriber received, null to receive new readings only
+     * @param sink        the connection of the subscriber
+     * @return the subscription
+     */
+    public Subscription subscribe(User user, boolean allUsers, Long lastEventId, ReadingEventSink sink);
+
+    /**
+     * Publishes stored meter readings to their subscribers; takes effect when the current transaction commits.
+     *
+     * @param readings the stored meter readings
+     */
+    public void publish(List<MeterReading> readings);
+
+    /**
+     * Gets the number of active subscriptions.
+     *
+     * @return the number of subscriptions
+     */
+    public int getSubscriberCount();
+
+    /**
+     * Subscription interface for one subscriber of the reading stream.
+     */
+    public interface Subscription {
+        /**
+         * Ends the subscription, for example when the subscriber disconnected.
+         */
+        public void cancel();
+    }
+}
@@ -0,0 +1,34 @@
+package com.ylab.app.service;
+
+import java.io.IOException;
+
+/**
+ * ReadingEventSink interface for the connection of one subscriber to the stream of newly submitted meter readings.
+ * <p>
+ * All methods of one sink are called from one delivery thread at a time.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+public interface ReadingEventSink {
+    /**
+     * Sends a meter reading to the subscriber.
+     *
+     * @param id   the id of the meter reading, used as the event id
+     * @param json the meter reading in JSON form, written once and shared by all subscribers
+     * @throws IOException if the subscriber cannot be written to
+     */
+    public void send(long id, String json) throws IOException;
+
+    /**
+     * Tells the subscriber that the missed readings were too many to be sent and must be reloaded.
+     *
+     * @throws IOException if the subscriber cannot be written to
+     */
+    public void reset() throws IOException;
+
+    /**
+     * Closes the connection of a subscriber that was evicted or whose stream was shut down.
+     */
+    public void close();
+}
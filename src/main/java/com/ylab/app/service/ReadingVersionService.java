@@ -0,0 +1,42 @@
+package com.ylab.app.service;
+
+import com.ylab.app.model.ReadingVersion;
+import com.ylab.app.model.User;
+
+import java.util.Collection;
+
+/**
+ * ReadingVersionService interface for tracking when the readings of a user change, so unchanged responses can be
+ * answered with 304 Not Modified.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+public interface ReadingVersionService {
+    /**
+     * Gets the current version of the readings of the user.
+     *
+     * @param user the user whose readings are read
+     * @return the version of the user's readings
+     */
+    public ReadingVersion getVersion(User user);
+
+    /**
+     * Records that readings of the user were written; takes effect when the current transaction commits.
+     *
+     * @param user the user whose readings were written
+     */
+    public void recordWrite(User user);
+
+    /**
+     * Records that readings of the users were written; takes effect when the current transaction commits.
+     *
+     * @param userNames the names of the users whose readings were written
+     */
+    public void recordWrites(Collection<String> userNames);
+
+    /**
+     * Records that readings of any user may have changed.
+     */
+    public void recordWriteAll();
+}
@@ -0,0 +1,16 @@
+package com.ylab.app.service;
+
+/**
+ * RollupService interface for maintaining the daily and monthly rollups of meter readings.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+public interface RollupService {
+    /**
+     * Rolls up the meter readings committed since the last run and moves the watermark forward.
+     *
+     * @return the transaction id below which all meter readings are included in the rollups
+     */
+    public long aggregate();
+}
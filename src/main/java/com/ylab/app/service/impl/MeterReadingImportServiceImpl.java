@@ -0,0 +1,269 @@
+package com.ylab.app.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+import com.ylab.app.dbService.dao.MeterReadingImportDao;
+import com.ylab.app.exception.meterException.MeterReadingException;
+import com.ylab.app.exception.userException.UserValidationException;
+import com.ylab.app.model.ImportFormat;
+import com.ylab.app.model.MeterReading;
+import com.ylab.app.model.User;
+import com.ylab.app.model.UserRole;
+import com.ylab.app.model.dto.MeterReadingImportResultDto;
+import com.ylab.app.service.MeterReadingImportService;
+import com.ylab.app.service.MeterReadingValidator;
+import com.ylab.app.service.ReadingVersionService;
+import com.ylab.app.service.UserService;
+import com.ylab.aspect.Audited;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * MeterReadingImportServiceImpl class for importing large files of historical meter readings.
+ *
+ * The input is parsed while it is read and handed to the {@link MeterReadingImportDao} in chunks;
+ * each chunk is committed on its own, so an import that fails keeps the chunks copied before the failure.
+ * CSV is read with the Jackson CSV parser, so quoted fields may hold commas, quotes and line breaks.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+@Service
+@Audited
+public class MeterReadingImportServiceImpl implements MeterReadingImportService {
+    private static final int CHUNK_SIZE = 10_000;
+    private static final String CSV_HEADER = "number_meter";
+    private static final ObjectReader CSV_READER = new CsvMapper()
+            .readerFor(String[].class)
+            .with(CsvParser.Feature.WRAP_AS_ARRAY);
+    private final UserService userService;
+    private final MeterReadingImportDao importDao;
+    private final ObjectMapper objectMapper;
+    private final ReadingVersionService readingVersionService;
+
+    /**
+     * Instantiates a new Meter reading import service.
+     *
+     * @param userService           the user service
+     * @param importDao             the meter reading import data access object
+     * @param objectMapper          the object mapper used to parse NDJSON input
+     * @param readingVersionService the service tracking the version of the readings of every user
+     */
+    public MeterReadingImportServiceImpl(UserService userService, MeterReadingImportDao importDao, ObjectMapper objectMapper,
+                                         ReadingVersionService readingVersionService) {
+        this.userService = userService;
+        this.importDao = importDao;
+        this.objectMapper = objectMapper;
+        this.readingVersionService = readingVersionService;
+    }
+
+    /**
+     * Imports the meter readings read from the input stream on behalf of an admin user.
+     *
+     * @param adminUser   the admin user running the import
+     * @param inputStream the stream of meter readings
+     * @param format      the format of the stream
+     * @param progress    the consumer receiving the running totals after each imported chunk
+     * @return the totals of the import
+     * @throws UserValidationException if the user is invalid or not an admin
+     * @throws MeterReadingException   if the input cannot be read or holds an invalid reading
+     */
+    @Override
+    public MeterReadingImportResultDto importReadings(User adminUser, InputStream inputStream, ImportFormat format,
+                                                      Consumer<MeterReadingImportResultDto> progress) {
+        if (adminUser == null || !userService.hasRoleAdmin(adminUser)) {
+            throw new UserValidationException("Invalid or unauthorized user");
+        }
+        return importReadings(inputStream, format, progress);
+    }
+
+    /**
+     * Imports the meter readings read from the input stream; used by the command line import.
+     *
+     * @param inputStream the stream of meter readings
+     * @param format      the format of the stream
+     * @param progress    the consumer receiving the running totals after each imported chunk
+     * @return the totals of the import
+     * @throws MeterReadingException if the input cannot be read or holds an invalid reading
+     */
+    @Override
+    public MeterReadingImportResultDto importReadings(InputStream inputStream, ImportFormat format,
+                                                      Consumer<MeterReadingImportResultDto> progress) {
+        ChunkWriter chunkWriter = new ChunkWriter(progress);
+        try {
+            if (format == ImportFormat.CSV) {
+                readCsv(inputStream, chunkWriter);
+            } else {
+                readNdjson(inputStream, chunkWriter);
+            }
+        } catch (IOException | UncheckedIOException e) {
+            throw new MeterReadingException("Failed to read meter readings for import", e);
+        }
+        return chunkWriter.finish();
+    }
+
+    private void readCsv(InputStream inputStream, ChunkWriter chunkWriter) throws IOException {
+        MeterReading current = null;
+        int nextLineNumber = 1;
+        try (MappingIterator<String[]> iterator = CSV_READER.readValues(inputStream)) {
+            while (iterator.hasNextValue()) {
+                int lineNumber = nextLineNumber;
+                String[] fields = iterator.nextValue();
+                nextLineNumber = iterator.getCurrentLocation().getLineNr();
+                if (fields.length == 0 || fields.length == 1 && fields[0].isBlank()
+                        || (lineNumber == 1 && fields[0].trim().equals(CSV_HEADER))) {
+                    continue;
+                }
+                if (fields.length != 5) {
+                    throw invalidRecord("line", lineNumber, "expected 5 columns");
+                }
+                String numberMeter = fields[0].trim();
+                LocalDateTime date = parseDate(fields[1].trim(), "line", lineNumber);
+                String userName = fields[2].trim();
+                String type = fields[3].trim();
+                Double value = parseValue(fields[4].trim(), "line", lineNumber);
+                validateReading(numberMeter, userName, "line", lineNumber);
+                validateDetails(type, value, "line", lineNumber);
+
+                if (current == null || !current.getNumberMeter().equals(numberMeter) || !current.getDate().equals(date)
+                        || !current.getUser().getUsername().equals(userName)) {
+                    if (current != null) {
+                        chunkWriter.add(current);
+                    }
+                    current = new MeterReading(numberMeter, date, new User(userName, "", UserRole.USER));
+                }
+                current.addReadingDetails(type, value);
+            }
+        } catch (JsonProcessingException e) {
+            throw invalidRecord("line", nextLineNumber, e.getOriginalMessage());
+        }
+        if (current != null) {
+            chunkWriter.add(current);
+        }
+    }
+
+    private void readNdjson(InputStream inputStream, ChunkWriter chunkWriter) throws IOException {
+        int recordNumber = 0;
+        try (MappingIterator<JsonNode> iterator = objectMapper.readerFor(JsonNode.class).readValues(inputStream)) {
+            while (iterator.hasNextValue()) {
+                JsonNode node = iterator.nextValue();
+                recordNumber++;
+                String numberMeter = node.path("numberMeter").asText(null);
+                LocalDateTime date = parseDate(node.path("date").asText(null), "record", recordNumber);
+                String userName = node.path("user").path("username").asText(null);
+                validateReading(numberMeter, userName, "record", recordNumber);
+                MeterReading meterReading = new MeterReading(numberMeter, date, new User(userName, "", UserRole.USER));
+                for (JsonNode details : node.path("detailsList")) {
+                    String type = details.path("type").asText(null);
+                    Double value = details.path("value").isNumber() ? details.path("value").asDouble() : null;
+                    validateDetails(type, value, "record", recordNumber);
+                    meterReading.addReadingDetails(type, value);
+                }
+                if (meterReading.getDetailsList().isEmpty()) {
+                    throw invalidRecord("record", recordNumber, "missing reading details");
+                }
+                chunkWriter.add(meterReading);
+            }
+        }
+    }
+
+    private LocalDateTime parseDate(String date, String unit, int number) {
+        if (date == null || date.isEmpty()) {
+            throw invalidRecord(unit, number, "missing date");
+        }
+        try {
+            return LocalDateTime.parse(date.replace(' ', 'T'));
+        } catch (DateTimeParseException e) {
+            throw invalidRecord(unit, number, "invalid date " + date);
+        }
+    }
+
+    private Double parseValue(String value, String unit, int number) {
+        try {
+            return Double.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw invalidRecord(unit, number, "invalid reading value " + value);
+        }
+    }
+
+    private void validateReading(String numberMeter, String userName, String unit, int number) {
+        String error = MeterReadingValidator.validateNumberMeter(numberMeter);
+        if (error != null) {
+            throw invalidRecord(unit, number, error);
+        }
+        if (userName == null || userName.isEmpty()) {
+            throw invalidRecord(unit, number, "invalid user name");
+        }
+    }
+
+    private void validateDetails(String type, Double value, String unit, int number) {
+        String error = MeterReadingValidator.validateDetails(type, value);
+        if (error != null) {
+            throw invalidRecord(unit, number, error);
+        }
+    }
+
+    private MeterReadingException invalidRecord(String unit, int number, String reason) {
+        return new MeterReadingException("Invalid import " + unit + " " + number + ": " + reason);
+    }
+
+    /**
+     * Collects parsed readings into chunks, copies each full chunk and reports the running totals.
+     */
+    private final class ChunkWriter {
+        private final Consumer<MeterReadingImportResultDto> progress;
+        private final long start = System.nanoTime();
+        private List<MeterReading> chunk = new ArrayList<>(CHUNK_SIZE);
+        private long readings;
+        private long details;
+
+        private ChunkWriter(Consumer<MeterReadingImportResultDto> progress) {
+            this.progress = progress;
+        }
+
+        private void add(MeterReading meterReading) {
+            chunk.add(meterReading);
+            if (chunk.size() == CHUNK_SIZE) {
+                flush();
+            }
+        }
+
+        private void flush() {
+            details += importDao.copyMeterReadings(chunk);
+            Set<String> userNames = new HashSet<>();
+            for (MeterReading meterReading : chunk) {
+                userNames.add(meterReading.getUser().getUsername());
+            }
+            readingVersionService.recordWrites(userNames);
+            readings += chunk.size();
+            chunk = new ArrayList<>(CHUNK_SIZE);
+            progress.accept(result());
+        }
+
+        private MeterReadingImportResultDto finish() {
+            if (!chunk.isEmpty()) {
+                flush();
+            }
+            return result();
+        }
+
+        private MeterReadingImportResultDto result() {
+            return new MeterReadingImportResultDto(readings, details, (System.nanoTime() - start) / 1_000_000);
+        }
+    }
+}
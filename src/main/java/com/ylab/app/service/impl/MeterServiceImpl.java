@@ -1,23 +1,45 @@
 package com.ylab.app.service.impl;
 
 import com.ylab.app.dbService.dao.MeterReadingDao;
+import com.ylab.app.dbService.dao.MeterReadingRowHandler;
+import com.ylab.app.exception.dbException.DatabaseWriteException;
 import com.ylab.app.exception.meterException.MeterReadingException;
 import com.ylab.app.exception.userException.UserValidationException;
+import com.ylab.app.mapper.MeterConsumptionMapper;
 import com.ylab.app.mapper.MeterReadingMapper;
+import com.ylab.app.mapper.MeterRollupMapper;
 import com.ylab.app.model.MeterReading;
+import com.ylab.app.model.MeterReadingColumns;
+import com.ylab.app.model.SyncToken;
 import com.ylab.app.model.User;
+import com.ylab.app.model.dto.MeterConsumptionDto;
+import com.ylab.app.model.dto.MeterReadingBulkErrorDto;
+import com.ylab.app.model.dto.MeterReadingBulkResultDto;
 import com.ylab.app.model.dto.MeterReadingDetailsDto;
 import com.ylab.app.model.dto.MeterReadingDto;
+import com.ylab.app.model.dto.MeterReadingPageDto;
+import com.ylab.app.model.dto.MeterReadingSyncDto;
+import com.ylab.app.model.dto.MeterRollupDto;
+import com.ylab.app.service.MeterReadingValidator;
 import com.ylab.app.service.MeterService;
+import com.ylab.app.service.ReadYourWritesService;
+import com.ylab.app.service.ReadingEventService;
+import com.ylab.app.service.ReadingVersionService;
 import com.ylab.app.service.UserService;
+import com.ylab.aspect.Audited;
 import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.sql.SQLException;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.Month;
+import java.time.YearMonth;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -27,22 +49,44 @@ import java.util.stream.Collectors;
  * @since 24.01.2024
  */
 @Service
+@Audited
 public class MeterServiceImpl implements MeterService {
+    private static final int MAX_PAGE_SIZE = 1000;
+    private static final int MIN_YEAR = 1;
+    private static final int MAX_YEAR = 9999;
     private final UserService userService;
     private final MeterReadingDao readingDao;
     private final MeterReadingMapper meterReadingMapper;
+    private final MeterConsumptionMapper meterConsumptionMapper;
+    private final MeterRollupMapper meterRollupMapper;
+    private final ReadYourWritesService readYourWritesService;
+    private final ReadingVersionService readingVersionService;
+    private final ReadingEventService readingEventService;
 
     /**
      * Instantiates a new Meter service.
      *
-     * @param userService        the user service
-     * @param readingDao         the meter reading data access object
-     * @param meterReadingMapper the meter reading mapper
+     * @param userService            the user service
+     * @param readingDao             the meter reading data access object
+     * @param meterReadingMapper     the meter reading mapper
+     * @param meterConsumptionMapper the meter consumption mapper
+     * @param meterRollupMapper      the meter rollup mapper
+     * @param readYourWritesService  the service keeping the reads of recent writers on the primary
+     * @param readingVersionService  the service tracking the version of the readings of every user
+     * @param readingEventService    the service streaming newly submitted readings to their subscribers
      */
-    public MeterServiceImpl(UserService userService, MeterReadingDao readingDao, MeterReadingMapper meterReadingMapper) {
+    public MeterServiceImpl(UserService userService, MeterReadingDao readingDao, MeterReadingMapper meterReadingMapper,
+                            MeterConsumptionMapper meterConsumptionMapper, MeterRollupMapper meterRollupMapper,
+                            ReadYourWritesService readYourWritesService, ReadingVersionService readingVersionService,
+                            ReadingEventService readingEventService) {
         this.userService = userService;
         this.readingDao = readingDao;
         this.meterReadingMapper = meterReadingMapper;
+        this.meterConsumptionMapper = meterConsumptionMapper;
+        this.meterRollupMapper = meterRollupMapper;
+        this.readYourWritesService = readYourWritesService;
+        this.readingVersionService = readingVersionService;
+        this.readingEventService = readingEventService;
     }
 
     /**
@@ -70,12 +114,13 @@ public class MeterServiceImpl implements MeterService {
      * @param numberMeter the meter number for the reading
      * @param readings the details of the meter reading
      * @return the submitted meter reading in data transfer object form
-     * @throws MeterReadingException if the meter number is invalid or if there is a failure in inserting the reading
+     * @throws MeterReadingException if the meter number or the details are invalid or if there is a failure in inserting the reading
      */
     @Override
     public MeterReadingDto submitReading(User user, String numberMeter, List<MeterReadingDetailsDto> readings) {
-        if (numberMeter == null || numberMeter.isEmpty()) {
-            throw new MeterReadingException("Invalid numberMeter");
+        String error = MeterReadingValidator.validateReading(numberMeter, readings);
+        if (error != null) {
+            throw new MeterReadingException(error);
         }
         try {
             MeterReadingDto meterReadingDto = new MeterReadingDto();
@@ -90,6 +135,9 @@ public class MeterServiceImpl implements MeterService {
             meterReadingDto.setDetailsList(detailsDtoList);
             MeterReading meterReading = meterReadingMapper.meterReadingDtoToMeterReading(meterReadingDto);
             readingDao.insertMeterReading(meterReading);
+            readYourWritesService.recordWrite(user);
+            readingVersionService.recordWrite(user);
+            readingEventService.publish(List.of(meterReading));
             return meterReadingMapper.meterReadingToMeterReadingDto(meterReading);
         } catch (DataAccessException e) {
             throw new MeterReadingException("Failed to insert meter reading", e);
@@ -97,26 +145,165 @@ public class MeterServiceImpl implements MeterService {
     }
 
     /**
-     * Retrieves the meter readings for a specific user in a given month.
+     * Submits several meter readings for a specific user in one transaction.
+     * <p>
+     * Every reading is validated on its own; rejected readings are reported with their position and the accepted
+     * ones are stored with one multi-row insert per chunk and a single batch for their details.
+     *
+     * @param user     the user submitting the meter readings
+     * @param readings the meter readings to submit
+     * @return the ids of the stored readings in submission order and the rejected readings
+     * @throws UserValidationException if the user is invalid
+     * @throws MeterReadingException  if the submission is empty or too large, or if storing the readings fails
+     */
+    @Override
+    @Transactional
+    public MeterReadingBulkResultDto submitReadings(User user, List<MeterReadingDto> readings) {
+        if (user == null) {
+            throw new UserValidationException("Invalid user");
+        }
+        if (readings == null || readings.isEmpty()) {
+            throw new MeterReadingException("No readings submitted");
+        }
+        if (readings.size() > MAX_BULK_SIZE) {
+            throw new MeterReadingException("Too many readings, at most " + MAX_BULK_SIZE + " per request");
+        }
+        LocalDateTime date = LocalDateTime.now();
+        List<MeterReading> meterReadings = new ArrayList<>();
+        List<MeterReadingBulkErrorDto> errors = new ArrayList<>();
+        for (int i = 0; i < readings.size(); i++) {
+            MeterReadingDto reading = readings.get(i);
+            String error = reading == null
+                    ? "Invalid reading"
+                    : MeterReadingValidator.validateReading(reading.getNumberMeter(), reading.getDetailsList());
+            if (error != null) {
+                errors.add(new MeterReadingBulkErrorDto(i, error));
+                continue;
+            }
+            MeterReadingDto meterReadingDto = new MeterReadingDto();
+            meterReadingDto.setNumberMeter(reading.getNumberMeter());
+            meterReadingDto.setDate(date);
+            meterReadingDto.setUser(user);
+            meterReadingDto.setDetailsList(new ArrayList<>(reading.getDetailsList()));
+            meterReadings.add(meterReadingMapper.meterReadingDtoToMeterReading(meterReadingDto));
+        }
+        if (!meterReadings.isEmpty()) {
+            try {
+                readingDao.insertMeterReadings(meterReadings);
+                readYourWritesService.recordWrite(user);
+                readingVersionService.recordWrite(user);
+                readingEventService.publish(meterReadings);
+            } catch (DataAccessException | DatabaseWriteException e) {
+                throw new MeterReadingException("Failed to insert meter readings", e);
+            }
+        }
+        List<Long> acceptedIds = meterReadings.stream()
+                .map(MeterReading::getId)
+                .collect(Collectors.toList());
+        return new MeterReadingBulkResultDto(readings.size(), acceptedIds, errors);
+    }
+
+    /**
+     * Retrieves the meter readings for a specific user in a given month of a given year.
+     * <p>
+     * The month is turned into a [start, end) date range that is filtered in the database.
      *
      * @param user  the user for whom to retrieve the meter readings
+     * @param year  the year of the month
      * @param month the month for which to retrieve the meter readings
      * @return the list of meter readings for the specified user and month in data transfer object form
      * @throws UserValidationException if the user is invalid
-     * @throws MeterReadingException  if the month is invalid
+     * @throws MeterReadingException  if the year or the month is invalid
      */
     @Override
-    public List<MeterReadingDto> getReadingsByMonth(User user, int month) {
+    @Transactional(readOnly = true)
+    public List<MeterReadingDto> getReadingsByMonth(User user, int year, int month) {
         if (user == null) {
             throw new UserValidationException("Invalid user");
         }
         if (month < Month.JANUARY.getValue() || month > Month.DECEMBER.getValue()) {
             throw new MeterReadingException("Invalid month");
         }
-        List<MeterReading> userReadings = readingDao.selectByUserName(user);
+        if (year < MIN_YEAR || year > MAX_YEAR) {
+            throw new MeterReadingException("Invalid year");
+        }
+        readYourWritesService.routeReads(user);
+        YearMonth yearMonth = YearMonth.of(year, month);
+        List<MeterReading> userReadings = readingDao.selectByUserNameAndDateRange(user,
+                yearMonth.atDay(1).atStartOfDay(), yearMonth.plusMonths(1).atDay(1).atStartOfDay());
         return userReadings.stream()
                 .map(meterReadingMapper::meterReadingToMeterReadingDto)
-                .filter(readingDto -> readingDto.getDate().getMonthValue() == month)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Computes the consumption of every meter and reading type of a specific user between two dates.
+     *
+     * @param user the user for whom to compute the consumption
+     * @param from the first day of the period
+     * @param to   the day after the last day of the period
+     * @return the list of consumption per meter and reading type in data transfer object form
+     * @throws UserValidationException if the user is invalid
+     * @throws MeterReadingException  if the period is invalid
+     */
+    @Override
+    public List<MeterConsumptionDto> getConsumption(User user, LocalDate from, LocalDate to) {
+        if (user == null) {
+            throw new UserValidationException("Invalid user");
+        }
+        if (from == null || to == null || !from.isBefore(to)) {
+            throw new MeterReadingException("Invalid consumption period");
+        }
+        return readingDao.selectConsumption(user, from.atStartOfDay(), to.atStartOfDay()).stream()
+                .map(meterConsumptionMapper::meterConsumptionToMeterConsumptionDto)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Retrieves the monthly summary of every meter and reading type of a specific user from the monthly rollups.
+     *
+     * @param user  the user for whom to retrieve the summary
+     * @param year  the year of the month
+     * @param month the month
+     * @return the list of monthly rollups per meter and reading type in data transfer object form
+     * @throws UserValidationException if the user is invalid
+     * @throws MeterReadingException  if the year or the month is invalid
+     */
+    @Override
+    public List<MeterRollupDto> getMonthlySummary(User user, int year, int month) {
+        if (user == null) {
+            throw new UserValidationException("Invalid user");
+        }
+        if (month < Month.JANUARY.getValue() || month > Month.DECEMBER.getValue()) {
+            throw new MeterReadingException("Invalid month");
+        }
+        if (year < MIN_YEAR || year > MAX_YEAR) {
+            throw new MeterReadingException("Invalid year");
+        }
+        return readingDao.selectMonthRollups(user, LocalDate.of(year, month, 1)).stream()
+                .map(meterRollupMapper::meterRollupToMeterRollupDto)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Retrieves the yearly summary of every meter and reading type of a specific user from the monthly rollups.
+     *
+     * @param user the user for whom to retrieve the summary
+     * @param year the year
+     * @return the list of yearly rollups per meter and reading type in data transfer object form
+     * @throws UserValidationException if the user is invalid
+     * @throws MeterReadingException  if the year is invalid
+     */
+    @Override
+    public List<MeterRollupDto> getYearlySummary(User user, int year) {
+        if (user == null) {
+            throw new UserValidationException("Invalid user");
+        }
+        if (year < MIN_YEAR || year > MAX_YEAR) {
+            throw new MeterReadingException("Invalid year");
+        }
+        return readingDao.selectYearRollups(user, year).stream()
+                .map(meterRollupMapper::meterRollupToMeterRollupDto)
                 .collect(Collectors.toList());
     }
 
@@ -128,16 +315,54 @@ public class MeterServiceImpl implements MeterService {
      * @throws UserValidationException if the user is invalid
      */
     @Override
+    @Transactional(readOnly = true)
     public List<MeterReadingDto> getReadingsHistory(User user) {
         if (user == null) {
             throw new UserValidationException("Invalid user");
         }
+        readYourWritesService.routeReads(user);
         List<MeterReading> userReadings = readingDao.selectByUserName(user);
         return userReadings.stream()
                 .map(meterReadingMapper::meterReadingToMeterReadingDto)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Streams the meter reading history of the user to the handler as the rows are read, without mapping them to
+     * meter reading objects or data transfer objects.
+     *
+     * @param user    the user for whom to retrieve the meter reading history
+     * @param handler the handler receiving the readings and their details
+     * @throws UserValidationException if the user is invalid
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void streamReadingsHistory(User user, MeterReadingRowHandler handler) {
+        if (user == null) {
+            throw new UserValidationException("Invalid user");
+        }
+        readYourWritesService.routeReads(user);
+        readingDao.streamByUserName(user, handler);
+    }
+
+    /**
+     * Retrieves the meter reading history of the user in columnar form.
+     * The columns are filled directly from the result set and serialized as they are, without per-reading objects.
+     *
+     * @param user the user for whom to retrieve the meter reading history
+     * @return the meter reading history of the user in primitive columns
+     * @throws UserValidationException if the user is invalid
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public MeterReadingColumns getReadingsHistoryColumns(User user) {
+        if (user == null) {
+            throw new UserValidationException("Invalid user");
+        }
+        readYourWritesService.routeReads(user);
+        return readingDao.selectColumnsByUserName(user);
+    }
+
     /**
      * Retrieves the complete meter reading history for all users (accessible to admin users only).
      *
@@ -147,10 +372,9 @@ public class MeterServiceImpl implements MeterService {
      * @throws MeterReadingException  if there is a failure in retrieving the complete meter reading history
      */
     @Override
+    @Transactional(readOnly = true)
     public List<MeterReadingDto> getAllReadingsHistory(User adminUser) {
-        if (adminUser == null || !userService.hasRoleAdmin(adminUser)) {
-            throw new UserValidationException("Invalid or unauthorized user");
-        }
+        validateAdminUser(adminUser);
         try {
             List<MeterReading> allMeterReadings = readingDao.selectByAllMeterReadings();
             return allMeterReadings.stream()
@@ -160,5 +384,136 @@ public class MeterServiceImpl implements MeterService {
             throw new MeterReadingException("Failed to retrieve all meter readings", e);
         }
     }
-}
 
+    /**
+     * Retrieves one keyset page of the meter reading history for all users (accessible to admin users only).
+     *
+     * @param adminUser the admin user requesting the meter reading history
+     * @param afterId   the id of the last reading of the previous page, 0 for the first page
+     * @param limit     the maximum number of readings in the page
+     * @return the page of meter readings with the cursor of the next page
+     * @throws UserValidationException if the admin user is invalid or unauthorized
+     * @throws MeterReadingException  if the cursor or the limit is invalid
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public MeterReadingPageDto getAllReadingsHistoryPage(User adminUser, long afterId, int limit) {
+        validateAdminUser(adminUser);
+        if (afterId < 0) {
+            throw new MeterReadingException("Invalid afterId");
+        }
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new MeterReadingException("Invalid limit");
+        }
+        List<MeterReadingDto> content = readingDao.selectAllMeterReadingsAfterId(afterId, limit).stream()
+                .map(meterReadingMapper::meterReadingToMeterReadingDto)
+                .collect(Collectors.toList());
+        Long nextAfterId = content.size() == limit ? content.get(content.size() - 1).getId() : null;
+        return new MeterReadingPageDto(content, nextAfterId);
+    }
+
+    /**
+     * Retrieves the meter readings of the user stored since the position of the sync token.
+     * <p>
+     * Ids are drawn before the inserting transaction commits, so a reading can become visible after a higher id was
+     * already sent. Like the rollup job, a sync round therefore sends the readings of the transactions below the
+     * visibility horizon taken when the round starts, in id order, and the next round starts at that horizon, so every
+     * reading is sent exactly once. A page is flagged to have more only if readings of the round follow it.
+     *
+     * @param user  the user retrieving the readings
+     * @param token the token of the previous sync, null or empty to sync from the beginning
+     * @param limit the maximum number of readings in the page
+     * @return the page of meter readings with the token of the next sync
+     * @throws UserValidationException if the user is invalid
+     * @throws MeterReadingException  if the token or the limit is invalid
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public MeterReadingSyncDto syncReadings(User user, String token, int limit) {
+        if (user == null) {
+            throw new UserValidationException("Invalid user");
+        }
+        SyncToken position = decodeSyncToken(token, limit);
+        readYourWritesService.routeReads(user);
+        return syncPage(position, limit, window -> readingDao.selectByUserNameCommittedAfterId(user,
+                window.getFromXid(), window.getToXid(), window.getAfterId(), limit + 1));
+    }
+
+    /**
+     * Retrieves the meter readings of all users stored since the position of the sync token (accessible to admin
+     * users only), so downstream consumers can tail new readings instead of reading the complete history.
+     *
+     * @param adminUser the admin user retrieving the readings
+     * @param token     the token of the previous sync, null or empty to sync from the beginning
+     * @param limit     the maximum number of readings in the page
+     * @return the page of meter readings with the token of the next sync
+     * @throws UserValidationException if the admin user is invalid or unauthorized
+     * @throws MeterReadingException  if the token or the limit is invalid
+     * @see #syncReadings(User, String, int)
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public MeterReadingSyncDto syncAllReadings(User adminUser, String token, int limit) {
+        validateAdminUser(adminUser);
+        SyncToken position = decodeSyncToken(token, limit);
+        return syncPage(position, limit, window -> readingDao.selectAllMeterReadingsCommittedAfterId(
+                window.getFromXid(), window.getToXid(), window.getAfterId(), limit + 1));
+    }
+
+    /**
+     * Streams the complete meter reading history for all users (accessible to admin users only) to the consumer.
+     * <p>
+     * Runs in a read-only transaction so the database cursor can fetch rows in chunks.
+     *
+     * @param adminUser the admin user requesting the complete meter reading history
+     * @param consumer  the consumer receiving each meter reading in data transfer object form
+     * @throws UserValidationException if the admin user is invalid or unauthorized
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAllReadingsHistory(User adminUser, Consumer<MeterReadingDto> consumer) {
+        validateAdminUser(adminUser);
+        readingDao.streamAllMeterReadings(meterReading ->
+                consumer.accept(meterReadingMapper.meterReadingToMeterReadingDto(meterReading)));
+    }
+
+    private SyncToken decodeSyncToken(String token, int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new MeterReadingException("Invalid limit");
+        }
+        return SyncToken.decode(token);
+    }
+
+    private MeterReadingSyncDto syncPage(SyncToken position, int limit,
+                                         Function<SyncToken, List<MeterReading>> pageQuery) {
+        long horizon = readingDao.getVisibilityHorizon();
+        SyncToken window = position.isStarted() ? position : new SyncToken(position.getFromXid(), horizon, 0);
+        if (window.getToXid() <= window.getFromXid() || horizon < window.getToXid()) {
+            // nothing has committed since the previous round, or the database serving the read lags behind the round
+            return new MeterReadingSyncDto(List.of(), position.encode(), false);
+        }
+        List<MeterReading> readings = pageQuery.apply(window);
+        boolean hasMore = readings.size() > limit;
+        List<MeterReadingDto> content = readings.stream()
+                .limit(limit)
+                .map(meterReadingMapper::meterReadingToMeterReadingDto)
+                .collect(Collectors.toList());
+        SyncToken next = hasMore
+                ? new SyncToken(window.getFromXid(), window.getToXid(), content.get(content.size() - 1).getId())
+                : new SyncToken(window.getToXid(), 0, 0);
+        return new MeterReadingSyncDto(content, next.encode(), hasMore);
+    }
+
+    /**
+     * Checks that the user may read the readings of all users.
+     *
+     * @param adminUser the user to check
+     * @throws UserValidationException if the user is invalid or not an admin
+     */
+    @Override
+    public void validateAdminUser(User adminUser) {
+        if (adminUser == null || !userService.hasRoleAdmin(adminUser)) {
+            throw new UserValidationException("Invalid or unauthorized user");
+        }
+    }
+}
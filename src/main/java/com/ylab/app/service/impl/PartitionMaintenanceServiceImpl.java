@@ -0,0 +1,109 @@
+package com.ylab.app.service.impl;
+
+import com.ylab.app.config.PartitionProperties;
+import com.ylab.app.dbService.dao.PartitionDao;
+import com.ylab.app.exception.dbException.DatabaseWriteException;
+import com.ylab.app.service.PartitionMaintenanceService;
+import com.ylab.app.service.ReadingVersionService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.YearMonth;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * PartitionMaintenanceServiceImpl class keeps the monthly partitions of meter readings ahead of the incoming data.
+ *
+ * Partitions are created {@code ylab.partitions.months-ahead} months in advance, so new readings normally never land
+ * in the default partition; readings dated further ahead that landed there anyway are moved into the partitions of
+ * their month when they are created. A month whose partitions still cannot be created is logged as an error on
+ * every run, since its readings keep piling up in the default partition. With {@code ylab.partitions.retention-months} set, partitions older than the retention are
+ * detached; the detached tables stay in the schema for archiving and the rollups keep their aggregates. Detaching
+ * removes readings from the histories, so the reading versions of all users are renewed.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+@Service
+@ConditionalOnProperty(prefix = "ylab.partitions", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class PartitionMaintenanceServiceImpl implements PartitionMaintenanceService {
+    private static final Logger log = LoggerFactory.getLogger(PartitionMaintenanceServiceImpl.class);
+    private final PartitionDao partitionDao;
+    private final PartitionProperties properties;
+    private final ReadingVersionService readingVersionService;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * Instantiates a new Partition maintenance service.
+     *
+     * @param partitionDao the partition data access object
+     * @param properties            the partition settings
+     * @param readingVersionService the service tracking the version of the readings of every user
+     */
+    public PartitionMaintenanceServiceImpl(PartitionDao partitionDao, PartitionProperties properties,
+                                           ReadingVersionService readingVersionService) {
+        this.partitionDao = partitionDao;
+        this.properties = properties;
+        this.readingVersionService = readingVersionService;
+    }
+
+    /**
+     * Runs the partition maintenance at startup and on the configured interval; a failed run is logged.
+     */
+    @Scheduled(fixedDelayString = "${ylab.partitions.interval:PT12H}")
+    public void scheduledMaintain() {
+        try {
+            maintain(YearMonth.now());
+        } catch (RuntimeException e) {
+            log.error("Meter reading partition maintenance failed", e);
+        }
+    }
+
+    /**
+     * Creates the partitions of the given month and the following months and detaches the expired ones.
+     *
+     * @param currentMonth the current month
+     */
+    @Override
+    public void maintain(YearMonth currentMonth) {
+        lock.lock();
+        try {
+            maintainLocked(currentMonth);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void maintainLocked(YearMonth currentMonth) {
+        List<YearMonth> partitions = partitionDao.getMonthPartitions();
+        Set<YearMonth> existing = new HashSet<>(partitions);
+        for (int i = 0; i <= properties.getMonthsAhead(); i++) {
+            YearMonth month = currentMonth.plusMonths(i);
+            if (!existing.contains(month)) {
+                try {
+                    partitionDao.createMonthPartition(month);
+                    log.info("Created meter reading partitions for {}", month);
+                } catch (DatabaseWriteException e) {
+                    log.error("Meter reading partitions for {} not created, readings of the month stay in the default partition: {}",
+                            month, e.getMessage());
+                }
+            }
+        }
+        if (properties.getRetentionMonths() > 0) {
+            YearMonth oldestKept = currentMonth.minusMonths(properties.getRetentionMonths());
+            for (YearMonth month : partitions) {
+                if (month.isBefore(oldestKept)) {
+                    partitionDao.detachMonthPartition(month);
+                    readingVersionService.recordWriteAll();
+                    log.info("Detached expired meter reading partitions for {}", month);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.ylab.app.service.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ylab.app.config.ReadWriteRoutingDataSource;
+import com.ylab.app.config.ReplicaProperties;
+import com.ylab.app.model.User;
+import com.ylab.app.service.ReadYourWritesService;
+import org.springframework.stereotype.Service;
+
+/**
+ * ReadYourWritesServiceImpl class remembers the users who wrote readings within the read-your-writes window.
+ *
+ * The reads of such a user stay on the primary, so a reading just submitted is never missing from the history
+ * because a replica has not replayed it yet. The users are kept in a bounded Caffeine cache whose entries expire
+ * with the window; the window is local to the instance, so it relies on the user staying on one instance, as the
+ * session does. Without replicas nothing is recorded.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+@Service
+public class ReadYourWritesServiceImpl implements ReadYourWritesService {
+    private static final int MAX_RECENT_WRITERS = 100_000;
+    private final boolean enabled;
+    private final Cache<String, Boolean> recentWriters;
+
+    /**
+     * Instantiates a new Read your writes service.
+     *
+     * @param properties the replica settings
+     */
+    public ReadYourWritesServiceImpl(ReplicaProperties properties) {
+        this.enabled = properties.isEnabled();
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(properties.getReadYourWritesWindow())
+                .maximumSize(MAX_RECENT_WRITERS)
+                .build();
+    }
+
+    /**
+     * Records that the user has just written readings.
+     *
+     * @param user the user who wrote readings
+     */
+    @Override
+    public void recordWrite(User user) {
+        if (enabled && user != null) {
+            recentWriters.put(user.getUsername(), Boolean.TRUE);
+        }
+    }
+
+    /**
+     * Keeps the current read-only transaction on the primary if the user wrote readings within the window.
+     *
+     * @param user the user whose readings are read
+     */
+    @Override
+    public void routeReads(User user) {
+        if (enabled && user != null && recentWriters.getIfPresent(user.getUsername()) != null) {
+            ReadWriteRoutingDataSource.usePrimaryForCurrentTransaction();
+        }
+    }
+}
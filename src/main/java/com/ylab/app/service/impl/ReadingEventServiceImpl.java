@@ -0,0 +1,504 @@
+package com.ylab.app.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ylab.app.config.ReadingEventProperties;
+import com.ylab.app.dbService.dao.MeterReadingDao;
+import com.ylab.app.exception.meterException.MeterReadingException;
+import com.ylab.app.exception.userException.UserValidationException;
+import com.ylab.app.mapper.MeterReadingMapper;
+import com.ylab.app.model.MeterReading;
+import com.ylab.app.model.User;
+import com.ylab.app.model.UserRole;
+import com.ylab.app.model.dto.MeterReadingDto;
+import com.ylab.app.service.ReadingEventService;
+import com.ylab.app.service.ReadingEventSink;
+import com.ylab.app.service.UserService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ReadingEventServiceImpl class fans newly submitted meter readings out to the subscribers of the reading stream.
+ * <p>
+ * Readings are published after their transaction commits. Every reading is written to JSON once, without the
+ * password of its user, and offered to the
+ * bounded buffer of each matching subscriber: the subscribers of all readings and the subscribers of the reading's
+ * user. Publishing never waits for a subscriber. A subscriber whose buffer is full is evicted and its connection is
+ * closed; clients reconnect with the id of the last reading they received and catch up from the database.
+ * <p>
+ * Buffers are drained by a fixed pool of delivery threads, a bounded batch at a time, so one busy subscriber does not
+ * hold a thread while others wait. A write to a client that stopped reading blocks its delivery thread, so every write
+ * has a deadline: a watchdog evicts the subscriber of a write that overruns the send timeout, interrupts the write and
+ * adds a delivery thread to the pool until the abandoned one returns. The missed readings of reconnecting subscribers
+ * are loaded by separate catch-up threads, so database reads never hold a delivery thread either.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+@Service
+public class ReadingEventServiceImpl implements ReadingEventService, DisposableBean {
+    private static final Logger log = LoggerFactory.getLogger(ReadingEventServiceImpl.class);
+    private static final int DRAIN_BATCH_SIZE = 64;
+    private static final long IDLE = Long.MIN_VALUE;
+    private static final long ABANDONED = Long.MAX_VALUE;
+    private final UserService userService;
+    private final MeterReadingDao readingDao;
+    private final MeterReadingMapper meterReadingMapper;
+    private final ObjectMapper objectMapper;
+    private final int bufferSize;
+    private final int catchUpLimit;
+    private final long sendTimeoutNanos;
+    private final ThreadPoolExecutor deliveryExecutor;
+    private final ExecutorService catchUpExecutor;
+    private final ScheduledExecutorService watchdog;
+    private final Set<Subscriber> writingSubscribers = ConcurrentHashMap.newKeySet();
+    private final Set<Subscriber> allUsersSubscribers = ConcurrentHashMap.newKeySet();
+    private final ConcurrentMap<String, Set<Subscriber>> userSubscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final AtomicLong evictedCount = new AtomicLong();
+
+    /**
+     * Instantiates a new Reading event service.
+     *
+     * @param userService        the user service
+     * @param readingDao         the meter reading data access object used to catch up reconnecting subscribers
+     * @param meterReadingMapper the meter reading mapper
+     * @param objectMapper       the object mapper writing the readings
+     * @param properties         the reading stream settings
+     */
+    public ReadingEventServiceImpl(UserService userService, MeterReadingDao readingDao, MeterReadingMapper meterReadingMapper,
+                                   ObjectMapper objectMapper, ReadingEventProperties properties) {
+        if (properties.getBufferSize() < 1) {
+            throw new IllegalArgumentException("Invalid reading event buffer size " + properties.getBufferSize());
+        }
+        if (properties.getSendTimeout() == null || properties.getSendTimeout().toMillis() < 1) {
+            throw new IllegalArgumentException("Invalid reading event send timeout " + properties.getSendTimeout());
+        }
+        this.userService = userService;
+        this.readingDao = readingDao;
+        this.meterReadingMapper = meterReadingMapper;
+        this.objectMapper = objectMapper;
+        this.bufferSize = properties.getBufferSize();
+        this.catchUpLimit = properties.getCatchUpLimit();
+        this.sendTimeoutNanos = properties.getSendTimeout().toNanos();
+        this.deliveryExecutor = new ThreadPoolExecutor(properties.getDeliveryThreads(), properties.getDeliveryThreads(),
+                0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), daemonThreads("reading-events-"));
+        this.catchUpExecutor = Executors.newFixedThreadPool(properties.getCatchUpThreads(),
+                daemonThreads("reading-events-catch-up-"));
+        this.watchdog = Executors.newSingleThreadScheduledExecutor(daemonThreads("reading-events-watchdog-"));
+        long checkIntervalMillis = properties.getSendTimeout().toMillis();
+        watchdog.scheduleWithFixedDelay(this::abandonOverdueWrites, checkIntervalMillis, checkIntervalMillis,
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Subscribes to the readings of the user, or of all users for an admin user.
+     * <p>
+     * With a last event id the readings stored after it are sent first, up to the catch-up limit; when more were
+     * missed the subscriber is told to reload them instead. A reading can be sent twice around the switch from the
+     * catch-up to the live readings, so subscribers keep readings by id.
+     *
+     * @param user        the subscribing user
+     * @param allUsers    true to receive the readings of all users
+     * @param lastEventId the id of the last reading the subscriber received, null to receive new readings only
+     * @param sink        the connection of the subscriber
+     * @return the subscription
+     * @throws UserValidationException if the user is invalid, or not an admin user when subscribing to all readings
+     * @throws MeterReadingException  if the last event id is invalid
+     */
+    @Override
+    public Subscription subscribe(User user, boolean allUsers, Long lastEventId, ReadingEventSink sink) {
+        if (user == null) {
+            throw new UserValidationException("Invalid user");
+        }
+        if (allUsers && !userService.hasRoleAdmin(user)) {
+            throw new UserValidationException("Invalid or unauthorized user");
+        }
+        if (lastEventId != null && lastEventId < 0) {
+            throw new MeterReadingException("Invalid lastEventId");
+        }
+        Subscriber subscriber = new Subscriber(allUsers ? null : user, lastEventId != null, sink);
+        if (allUsers) {
+            allUsersSubscribers.add(subscriber);
+        } else {
+            userSubscribers.compute(user.getUsername(), (userName, subscribers) -> {
+                Set<Subscriber> userSet = subscribers != null ? subscribers : ConcurrentHashMap.newKeySet();
+                userSet.add(subscriber);
+                return userSet;
+            });
+        }
+        subscriberCount.incrementAndGet();
+        if (lastEventId != null) {
+            subscriber.loadMissed(lastEventId);
+        }
+        return subscriber;
+    }
+
+    /**
+     * Publishes stored meter readings to their subscribers, after the commit if a transaction is active.
+     *
+     * @param readings the stored meter readings
+     */
+    @Override
+    public void publish(List<MeterReading> readings) {
+        if (readings.isEmpty()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    fanOut(readings);
+                }
+            });
+        } else {
+            fanOut(readings);
+        }
+    }
+
+    /**
+     * Gets the number of active subscriptions.
+     *
+     * @return the number of subscriptions
+     */
+    @Override
+    public int getSubscriberCount() {
+        return subscriberCount.get();
+    }
+
+    /**
+     * Gets the number of subscribers evicted because their buffer was full or a write to them overran the send timeout.
+     *
+     * @return the eviction count
+     */
+    public long getEvictedCount() {
+        return evictedCount.get();
+    }
+
+    /**
+     * Closes the connections of all subscribers and stops the delivery threads.
+     */
+    @Override
+    public void destroy() {
+        List<Subscriber> subscribers = new ArrayList<>(allUsersSubscribers);
+        userSubscribers.values().forEach(subscribers::addAll);
+        subscribers.forEach(Subscriber::evict);
+        watchdog.shutdownNow();
+        catchUpExecutor.shutdownNow();
+        deliveryExecutor.shutdown();
+    }
+
+    private void fanOut(List<MeterReading> readings) {
+        if (subscriberCount.get() == 0) {
+            return;
+        }
+        for (MeterReading reading : readings) {
+            Set<Subscriber> owners = reading.getUser() != null ? userSubscribers.get(reading.getUser().getUsername()) : null;
+            if (allUsersSubscribers.isEmpty() && owners == null) {
+                continue;
+            }
+            ReadingEvent event;
+            try {
+                event = toEvent(reading);
+            } catch (RuntimeException e) {
+                // the reading is committed already; its subscribers receive it when they reconnect or sync
+                log.error("Failed to publish meter reading {} to the reading stream", reading.getId(), e);
+                continue;
+            }
+            for (Subscriber subscriber : allUsersSubscribers) {
+                subscriber.offer(event);
+            }
+            if (owners != null) {
+                for (Subscriber subscriber : owners) {
+                    subscriber.offer(event);
+                }
+            }
+        }
+    }
+
+    private ReadingEvent toEvent(MeterReading reading) {
+        MeterReadingDto event = meterReadingMapper.meterReadingToMeterReadingDto(reading);
+        if (reading.getUser() != null) {
+            event.setUser(new User(reading.getUser().getUsername(), "", UserRole.USER));
+        }
+        try {
+            return new ReadingEvent(reading.getId(), objectMapper.writeValueAsString(event));
+        } catch (JsonProcessingException e) {
+            throw new MeterReadingException("Failed to write meter reading event", e);
+        }
+    }
+
+    private void abandonOverdueWrites() {
+        long now = System.nanoTime();
+        for (Subscriber subscriber : writingSubscribers) {
+            if (subscriber.abandonWriteStartedBefore(now - sendTimeoutNanos)) {
+                evictedCount.incrementAndGet();
+                log.debug("Evicted a reading stream subscriber of {} whose write took longer than {} ms",
+                        subscriber.name(), TimeUnit.NANOSECONDS.toMillis(sendTimeoutNanos));
+            }
+        }
+    }
+
+    private void resizeDeliveryPool(int delta) {
+        synchronized (deliveryExecutor) {
+            int size = deliveryExecutor.getMaximumPoolSize() + delta;
+            if (delta > 0) {
+                deliveryExecutor.setMaximumPoolSize(size);
+                deliveryExecutor.setCorePoolSize(size);
+            } else {
+                deliveryExecutor.setCorePoolSize(size);
+                deliveryExecutor.setMaximumPoolSize(size);
+            }
+        }
+    }
+
+    private static ThreadFactory daemonThreads(String namePrefix) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, namePrefix + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private void remove(Subscriber subscriber) {
+        boolean removed;
+        if (subscriber.user == null) {
+            removed = allUsersSubscribers.remove(subscriber);
+        } else {
+            AtomicBoolean userRemoved = new AtomicBoolean();
+            userSubscribers.computeIfPresent(subscriber.user.getUsername(), (userName, subscribers) -> {
+                userRemoved.set(subscribers.remove(subscriber));
+                return subscribers.isEmpty() ? null : subscribers;
+            });
+            removed = userRemoved.get();
+        }
+        if (removed) {
+            subscriberCount.decrementAndGet();
+        }
+    }
+
+    private record ReadingEvent(long id, String json) {
+    }
+
+    /**
+     * Subscriber class holds the buffer of one subscriber; it is drained by at most one delivery thread at a time.
+     * <p>
+     * The start time of the write in progress is guarded by the subscriber's monitor, so the watchdog interrupts a
+     * delivery thread only while it is still writing to this subscriber.
+     */
+    private final class Subscriber implements Subscription, Runnable {
+        private final User user;
+        private final ReadingEventSink sink;
+        private final BlockingQueue<ReadingEvent> buffer = new ArrayBlockingQueue<>(bufferSize);
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private final AtomicBoolean sinkClosed = new AtomicBoolean();
+        private volatile boolean evicted;
+        private volatile boolean loading;
+        private volatile List<ReadingEvent> missed;
+        private volatile boolean missedTooMany;
+        private Set<Long> caughtUpIds;
+        private long writeStarted = IDLE;
+        private Thread writer;
+
+        private Subscriber(User user, boolean loading, ReadingEventSink sink) {
+            this.user = user;
+            this.loading = loading;
+            this.sink = sink;
+        }
+
+        @Override
+        public void cancel() {
+            close();
+        }
+
+        private String name() {
+            return user != null ? user.getUsername() : "all users";
+        }
+
+        private void offer(ReadingEvent event) {
+            if (closed.get()) {
+                return;
+            }
+            if (buffer.offer(event)) {
+                schedule();
+            } else if (evict()) {
+                evictedCount.incrementAndGet();
+                log.debug("Evicted a reading stream subscriber of {} with {} buffered readings", name(), bufferSize);
+            }
+        }
+
+        private boolean evict() {
+            if (!close()) {
+                return false;
+            }
+            evicted = true;
+            schedule();
+            return true;
+        }
+
+        private boolean close() {
+            if (!closed.compareAndSet(false, true)) {
+                return false;
+            }
+            remove(this);
+            buffer.clear();
+            return true;
+        }
+
+        private void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                try {
+                    deliveryExecutor.execute(this);
+                } catch (RejectedExecutionException e) {
+                    scheduled.set(false);
+                }
+            }
+        }
+
+        private boolean hasWork() {
+            return !closed.get() && !loading && (missed != null || missedTooMany || !buffer.isEmpty())
+                    || evicted && !sinkClosed.get();
+        }
+
+        private void loadMissed(long afterId) {
+            try {
+                catchUpExecutor.execute(() -> {
+                    try {
+                        if (!closed.get()) {
+                            List<MeterReading> readings = user != null
+                                    ? readingDao.selectByUserNameAfterId(user, afterId, catchUpLimit + 1)
+                                    : readingDao.selectAllMeterReadingsAfterId(afterId, catchUpLimit + 1);
+                            if (readings.size() > catchUpLimit) {
+                                missedTooMany = true;
+                            } else {
+                                missed = readings.stream().map(ReadingEventServiceImpl.this::toEvent).toList();
+                            }
+                        }
+                    } catch (RuntimeException e) {
+                        log.debug("Failed to load the missed readings of a reading stream subscriber of {}", name(), e);
+                        evict();
+                    } finally {
+                        loading = false;
+                        schedule();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                loading = false;
+                evict();
+            }
+        }
+
+        @Override
+        public void run() {
+            try {
+                if (loading) {
+                    return;
+                }
+                if (missedTooMany && !closed.get()) {
+                    missedTooMany = false;
+                    write(sink::reset);
+                } else if (missed != null && !closed.get()) {
+                    caughtUpIds = new HashSet<>();
+                    for (ReadingEvent event : missed) {
+                        write(() -> sink.send(event.id(), event.json()));
+                        caughtUpIds.add(event.id());
+                    }
+                    missed = null;
+                }
+                for (int i = 0; i < DRAIN_BATCH_SIZE && !closed.get(); i++) {
+                    ReadingEvent event = buffer.poll();
+                    if (event == null) {
+                        caughtUpIds = null;
+                        break;
+                    }
+                    if (caughtUpIds == null || !caughtUpIds.contains(event.id())) {
+                        write(() -> sink.send(event.id(), event.json()));
+                    }
+                }
+            } catch (IOException | RuntimeException e) {
+                log.debug("Reading stream subscriber of {} disconnected", name(), e);
+                close();
+                evicted = true;
+            } finally {
+                if (evicted && sinkClosed.compareAndSet(false, true)) {
+                    sink.close();
+                }
+                scheduled.set(false);
+                if (hasWork()) {
+                    schedule();
+                }
+            }
+        }
+
+        private void write(SinkWrite sinkWrite) throws IOException {
+            synchronized (this) {
+                writer = Thread.currentThread();
+                writeStarted = System.nanoTime();
+            }
+            writingSubscribers.add(this);
+            try {
+                sinkWrite.write();
+            } finally {
+                writingSubscribers.remove(this);
+                boolean abandoned;
+                synchronized (this) {
+                    abandoned = writeStarted == ABANDONED;
+                    writeStarted = IDLE;
+                    writer = null;
+                    if (abandoned) {
+                        Thread.interrupted();
+                    }
+                }
+                if (abandoned) {
+                    resizeDeliveryPool(-1);
+                }
+            }
+        }
+
+        private boolean abandonWriteStartedBefore(long deadline) {
+            synchronized (this) {
+                if (writeStarted == IDLE || writeStarted == ABANDONED || writeStarted - deadline > 0) {
+                    return false;
+                }
+                writeStarted = ABANDONED;
+                resizeDeliveryPool(1);
+                close();
+                evicted = true;
+                writer.interrupt();
+            }
+            return true;
+        }
+    }
+
+    @FunctionalInterface
+    private interface SinkWrite {
+        void write() throws IOException;
+    }
+}
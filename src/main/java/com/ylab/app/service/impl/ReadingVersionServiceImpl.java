@@ -0,0 +1,130 @@
+package com.ylab.app.service.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ylab.app.model.ReadingVersion;
+import com.ylab.app.model.User;
+import com.ylab.app.service.ReadingVersionService;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ReadingVersionServiceImpl class keeps a version of the readings of every recently active user in memory.
+ *
+ * A user gets a new version from an instance-wide counter whenever readings of the user are written, so reading
+ * endpoints can answer {@code If-None-Match} and {@code If-Modified-Since} without touching the reading tables.
+ * The counter starts at the startup time in microseconds, so versions handed out before a restart are never
+ * repeated. Users unknown to the map, for example after it evicted them, get a fresh version on their next read,
+ * which costs one full response but never serves stale data. Writes inside a transaction change the version only
+ * after the commit, so no version names data that is not visible yet.
+ *
+ * Modification times are the wall clock time of the change in whole seconds and never run ahead of the clock. Writes
+ * within one second share their modification time and only the entity tag tells them apart, so while the second of a
+ * version has not ended the previous second is handed out instead: a client that only sends
+ * {@code If-Modified-Since} then gets the readings again rather than a 304 hiding a write later in that second.
+ *
+ * Like the read-your-writes window, the versions are local to the instance and rely on the user staying on one
+ * instance, as the session does.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+@Service
+public class ReadingVersionServiceImpl implements ReadingVersionService {
+    private static final int MAX_TRACKED_USERS = 100_000;
+    private final Clock clock;
+    private final AtomicLong versions;
+    private final Cache<String, ReadingVersion> userVersions = Caffeine.newBuilder()
+            .maximumSize(MAX_TRACKED_USERS)
+            .build();
+
+    /**
+     * Instantiates a new Reading version service on the system clock.
+     */
+    public ReadingVersionServiceImpl() {
+        this(Clock.systemUTC());
+    }
+
+    /**
+     * Instantiates a new Reading version service.
+     *
+     * @param clock the clock of the modification times
+     */
+    public ReadingVersionServiceImpl(Clock clock) {
+        this.clock = clock;
+        this.versions = new AtomicLong(ChronoUnit.MICROS.between(Instant.EPOCH, clock.instant()));
+    }
+
+    /**
+     * Gets the current version of the readings of the user, creating one if the user is not tracked.
+     *
+     * @param user the user whose readings are read
+     * @return the version of the user's readings, with a modification time in a second that has ended
+     */
+    @Override
+    public ReadingVersion getVersion(User user) {
+        ReadingVersion version = userVersions.get(user.getUsername(), userName -> nextVersion());
+        Instant currentSecond = clock.instant().truncatedTo(ChronoUnit.SECONDS);
+        if (version.getLastModified().isBefore(currentSecond)) {
+            return version;
+        }
+        return new ReadingVersion(version.getVersion(), currentSecond.minusSeconds(1));
+    }
+
+    /**
+     * Records that readings of the user were written.
+     *
+     * @param user the user whose readings were written
+     */
+    @Override
+    public void recordWrite(User user) {
+        if (user != null) {
+            recordWrites(List.of(user.getUsername()));
+        }
+    }
+
+    /**
+     * Records that readings of the users were written, after the commit if a transaction is active.
+     *
+     * @param userNames the names of the users whose readings were written
+     */
+    @Override
+    public void recordWrites(Collection<String> userNames) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    changeVersions(userNames);
+                }
+            });
+        } else {
+            changeVersions(userNames);
+        }
+    }
+
+    /**
+     * Forgets every tracked version, so every user gets a new version on the next read.
+     */
+    @Override
+    public void recordWriteAll() {
+        userVersions.invalidateAll();
+    }
+
+    private void changeVersions(Collection<String> userNames) {
+        for (String userName : userNames) {
+            userVersions.put(userName, nextVersion());
+        }
+    }
+
+    private ReadingVersion nextVersion() {
+        return new ReadingVersion(versions.incrementAndGet(), clock.instant().truncatedTo(ChronoUnit.SECONDS));
+    }
+}
@@ -0,0 +1,143 @@
+package com.ylab.app.service.impl;
+
+import com.ylab.app.config.RollupProperties;
+import com.ylab.app.dbService.dao.RollupDao;
+import com.ylab.app.service.RollupService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * RollupServiceImpl class keeps the daily and monthly rollups of meter readings up to date.
+ *
+ * The watermark is a transaction id rather than a reading id: reading ids are allocated before their transaction
+ * commits, so a bulk import holding a block of ids can commit long after readings with higher ids. Every run takes
+ * the xmin of a fresh snapshot as its horizon, rolls up the readings stored by the transactions between the watermark
+ * and the horizon, all of which have finished, and moves the watermark to the horizon. Readings committed late are
+ * therefore picked up by the first run whose horizon passes their transaction, whatever their id.
+ *
+ * The readings of a run are processed chunk by chunk by id; rolling up a chunk again after a failed run is harmless
+ * because the buckets are recomputed from the source rows. A backlog above the catch-up threshold, for example after
+ * a bulk import, is split by id ranges on a {@link ForkJoinPool}: the daily rollups of the ranges are computed in
+ * parallel, then the monthly rollups are computed from them.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+@Service
+@ConditionalOnProperty(prefix = "ylab.rollup", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class RollupServiceImpl implements RollupService {
+    private static final Logger log = LoggerFactory.getLogger(RollupServiceImpl.class);
+    private final RollupDao rollupDao;
+    private final RollupProperties properties;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * Instantiates a new Rollup service.
+     *
+     * @param rollupDao  the rollup data access object
+     * @param properties the rollup settings
+     */
+    public RollupServiceImpl(RollupDao rollupDao, RollupProperties properties) {
+        this.rollupDao = rollupDao;
+        this.properties = properties;
+    }
+
+    /**
+     * Runs the rollup on the configured interval; a failed run is logged and retried by the next one.
+     */
+    @Scheduled(fixedDelayString = "${ylab.rollup.interval:PT1M}", initialDelayString = "${ylab.rollup.interval:PT1M}")
+    public void scheduledAggregate() {
+        try {
+            aggregate();
+        } catch (RuntimeException e) {
+            log.error("Meter reading rollup failed", e);
+        }
+    }
+
+    /**
+     * Rolls up the meter readings committed since the last run and moves the watermark forward.
+     *
+     * @return the transaction id below which all meter readings are included in the rollups
+     */
+    @Override
+    public long aggregate() {
+        lock.lock();
+        try {
+            return aggregateLocked();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private long aggregateLocked() {
+        long watermark = rollupDao.getWatermark();
+        long horizon = rollupDao.getVisibilityHorizon();
+        if (horizon <= watermark) {
+            return watermark;
+        }
+
+        long start = System.nanoTime();
+        RollupDao.IdRange ids = rollupDao.getMeterReadingIdRange(watermark, horizon);
+        if (ids.toId() - ids.fromId() > properties.getCatchUpThreshold() && properties.getParallelism() > 1) {
+            catchUp(watermark, horizon, ids);
+        } else {
+            int chunkSize = Math.max(1, properties.getChunkSize());
+            for (long chunkStart = ids.fromId(); chunkStart < ids.toId(); chunkStart += chunkSize) {
+                rollupDao.rollupRange(watermark, horizon, chunkStart, Math.min(chunkStart + chunkSize, ids.toId()));
+            }
+        }
+        rollupDao.updateWatermark(horizon);
+        log.debug("Rolled up meter readings {}..{} of transactions {}..{} in {} ms", ids.fromId(), ids.toId(),
+                watermark, horizon, (System.nanoTime() - start) / 1_000_000);
+        return horizon;
+    }
+
+    private void catchUp(long fromXid, long toXid, RollupDao.IdRange ids) {
+        int chunkSize = Math.max(1, properties.getChunkSize());
+        ForkJoinPool pool = new ForkJoinPool(properties.getParallelism());
+        try {
+            pool.invoke(new DayRollupTask(fromXid, toXid, ids.fromId(), ids.toId(), chunkSize));
+        } finally {
+            pool.shutdown();
+        }
+        for (long chunkStart = ids.fromId(); chunkStart < ids.toId(); chunkStart += chunkSize) {
+            rollupDao.rollupMonths(fromXid, toXid, chunkStart, Math.min(chunkStart + chunkSize, ids.toId()));
+        }
+        log.info("Caught up meter reading rollups {}..{} with parallelism {}", ids.fromId(), ids.toId(),
+                properties.getParallelism());
+    }
+
+    private class DayRollupTask extends RecursiveAction {
+        private final long fromXid;
+        private final long toXid;
+        private final long fromId;
+        private final long toId;
+        private final int chunkSize;
+
+        private DayRollupTask(long fromXid, long toXid, long fromId, long toId, int chunkSize) {
+            this.fromXid = fromXid;
+            this.toXid = toXid;
+            this.fromId = fromId;
+            this.toId = toId;
+            this.chunkSize = chunkSize;
+        }
+
+        @Override
+        protected void compute() {
+            if (toId - fromId <= chunkSize) {
+                rollupDao.rollupDays(fromXid, toXid, fromId, toId);
+                return;
+            }
+            long middle = fromId + (toId - fromId) / 2;
+            invokeAll(new DayRollupTask(fromXid, toXid, fromId, middle, chunkSize),
+                    new DayRollupTask(fromXid, toXid, middle, toId, chunkSize));
+        }
+    }
+}
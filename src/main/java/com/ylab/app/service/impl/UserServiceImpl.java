@@ -7,9 +7,11 @@ import com.ylab.app.model.User;
 import com.ylab.app.model.UserRole;
 import com.ylab.app.model.dto.UserDto;
 import com.ylab.app.service.UserService;
+import com.ylab.aspect.Audited;
 import org.springframework.dao.DataAccessException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.sql.SQLException;
 import java.util.List;
@@ -22,6 +24,7 @@ import java.util.stream.Collectors;
  * @since 24.01.2024
  */
 @Service
+@Audited
 public class UserServiceImpl implements UserService {
     private final UserDao userDao;
     private final UserMapper userMapper;
@@ -59,11 +62,14 @@ public class UserServiceImpl implements UserService {
 
     /**
      * Checks if the user has the "admin" role.
+     * <p>
+     * Not audited: it is called by every admin endpoint as part of another audited call.
      *
      * @param user the user to be checked
      * @return true if the user has the "admin" role, otherwise false
      */
     @Override
+    @Audited(sampleRate = 0)
     public boolean hasRoleAdmin(User user) {
         if (user == null) {
             throw new UserValidationException("Invalid user");
@@ -78,6 +84,7 @@ public class UserServiceImpl implements UserService {
      * @throws SQLException if an SQL exception occurs
      */
     @Override
+    @Transactional(readOnly = true)
     public List<UserDto> getAllUsers() throws SQLException {
         List<User> users = userDao.getAllUsers();
         return users.stream()
@@ -0,0 +1,264 @@
+package com.ylab.app.test.benchmark;
+
+import com.ylab.app.StartApplication;
+import com.ylab.reactive.ReactiveApplication;
+import com.ylab.app.test.util.TestContainersRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ReactiveStackFootprintBenchmarkTest class runs the same load against the servlet deployment with JDBC and the
+ * reactive deployment with WebFlux and R2DBC, and compares throughput, latency, server threads and database connections.
+ * <p>
+ * Both applications are started in this JVM against one PostgreSQL test container with a pool of the same size.
+ * The load is generated by asynchronous HTTP clients on a few threads of their own, so the sampled thread count is the
+ * one of the server; the database connections are counted in {@code pg_stat_activity} by application name.
+ * The servlet application is started with R2DBC auto-configuration excluded, since the reactive profile puts R2DBC on
+ * its classpath. Run with {@code mvn test -Pbenchmark,reactive -Dtest=ReactiveStackFootprintBenchmarkTest}; the load is set by
+ * {@code -Dbenchmark.clients}, {@code -Dbenchmark.users}, {@code -Dbenchmark.seconds} and {@code -Dbenchmark.pool}.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+@Tag("benchmark")
+@Testcontainers(disabledWithoutDocker = true)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class ReactiveStackFootprintBenchmarkTest extends TestContainersRepository {
+    private static final int CLIENTS = Integer.getInteger("benchmark.clients", 1000);
+    private static final int USERS = Integer.getInteger("benchmark.users", 100);
+    private static final int SECONDS = Integer.getInteger("benchmark.seconds", 30);
+    private static final int POOL = Integer.getInteger("benchmark.pool", 20);
+    private static final String PASSWORD = "load_password";
+    private static final String CLIENT_THREAD = "load-client-";
+    private static final String READING = "{\"numberMeter\":\"LOAD-1\",\"detailsList\":[{\"type\":\"gas\",\"value\":12.5},{\"type\":\"water\",\"value\":3.0}]}";
+
+    private final AtomicInteger clientThreads = new AtomicInteger();
+    private final ExecutorService clientExecutor = Executors.newFixedThreadPool(4,
+            runnable -> new Thread(runnable, CLIENT_THREAD + clientThreads.incrementAndGet()));
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(30))
+            .followRedirects(HttpClient.Redirect.NEVER)
+            .executor(clientExecutor)
+            .build();
+
+    @Test
+    @DisplayName("servlet and reactive stacks under the same load: throughput, latency, threads and connections")
+    public void stacks_ThreadAndConnectionFootprint() throws Exception {
+        List<Result> results = new ArrayList<>();
+        results.addAll(runServlet());
+        results.addAll(runReactive());
+        clientExecutor.shutdownNow();
+
+        System.out.printf("%-9s %-9s %10s %9s %9s %9s %7s %14s %12s%n", "stack", "endpoint", "requests", "req/s",
+                "p50 ms", "p99 ms", "errors", "peak threads", "peak conns");
+        for (Result result : results) {
+            System.out.printf("%-9s %-9s %10d %9d %9.1f %9.1f %7d %14d %12d%n", result.stack, result.endpoint, result.requests,
+                    result.requests / SECONDS, result.p50Millis, result.p99Millis, result.errors, result.peakThreads,
+                    result.peakConnections);
+        }
+        assertThat(results).allSatisfy(result -> assertThat(result.requests).isPositive());
+    }
+
+    private List<Result> runServlet() throws Exception {
+        try (ConfigurableApplicationContext application = new SpringApplicationBuilder(StartApplication.class)
+                .run("--server.port=0",
+                        "--spring.autoconfigure.exclude=org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration",
+                        "--spring.datasource.url=" + postgreSQLContainer.getJdbcUrl() + "&ApplicationName=servlet",
+                        "--spring.datasource.username=" + postgreSQLContainer.getUsername(),
+                        "--spring.datasource.password=" + postgreSQLContainer.getPassword(),
+                        "--spring.datasource.hikari.maximum-pool-size=" + POOL,
+                        "--ylab.rollup.enabled=false",
+                        "--ylab.partitions.enabled=false",
+                        "--logging.level.root=WARN")) {
+            return load(application, "servlet", "JSESSIONID=");
+        }
+    }
+
+    private List<Result> runReactive() throws Exception {
+        String r2dbcUrl = "r2dbc:postgresql://" + postgreSQLContainer.getHost() + ":"
+                + postgreSQLContainer.getFirstMappedPort() + "/" + postgreSQLContainer.getDatabaseName() + "?applicationName=reactive";
+        try (ConfigurableApplicationContext application = ReactiveApplication.builder()
+                .run("--server.port=0",
+                        "--spring.r2dbc.url=" + r2dbcUrl,
+                        "--spring.r2dbc.username=" + postgreSQLContainer.getUsername(),
+                        "--spring.r2dbc.password=" + postgreSQLContainer.getPassword(),
+                        "--spring.r2dbc.pool.max-size=" + POOL,
+                        "--spring.liquibase.url=" + postgreSQLContainer.getJdbcUrl(),
+                        "--spring.liquibase.user=" + postgreSQLContainer.getUsername(),
+                        "--spring.liquibase.password=" + postgreSQLContainer.getPassword(),
+                        "--logging.level.root=WARN")) {
+            return load(application, "reactive", "SESSION=");
+        }
+    }
+
+    private List<Result> load(ConfigurableApplicationContext application, String stack, String sessionCookie) throws Exception {
+        String baseUrl = "http://localhost:" + application.getEnvironment().getProperty("local.server.port");
+        List<String> sessions = login(baseUrl, "load_" + stack + "_", sessionCookie);
+
+        Recorder submit = new Recorder();
+        Recorder history = new Recorder();
+        Footprint footprint = new Footprint(stack);
+        ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor(
+                runnable -> new Thread(runnable, CLIENT_THREAD + "sampler"));
+        sampler.scheduleAtFixedRate(footprint::sample, 0, 200, TimeUnit.MILLISECONDS);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(SECONDS);
+        try {
+            CompletableFuture<?>[] clients = new CompletableFuture<?>[CLIENTS];
+            for (int i = 0; i < CLIENTS; i++) {
+                clients[i] = drive(baseUrl, sessions.get(i % sessions.size()), deadline, true, submit, history);
+            }
+            CompletableFuture.allOf(clients).join();
+        } finally {
+            sampler.shutdownNow();
+            sampler.awaitTermination(5, TimeUnit.SECONDS);
+        }
+        return List.of(submit.result(stack, "submit", footprint), history.result(stack, "history", footprint));
+    }
+
+    private List<String> login(String baseUrl, String userPrefix, String sessionCookie) throws Exception {
+        List<String> sessions = new ArrayList<>(USERS);
+        for (int i = 0; i < USERS; i++) {
+            String username = userPrefix + i;
+            httpClient.send(HttpRequest.newBuilder(URI.create(baseUrl + "/register"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString("{\"username\":\"" + username + "\",\"password\":\"" + PASSWORD + "\",\"role\":\"USER\"}"))
+                    .build(), HttpResponse.BodyHandlers.discarding());
+            HttpResponse<Void> response = httpClient.send(HttpRequest.newBuilder(URI.create(baseUrl + "/login"))
+                    .header("Content-Type", "application/x-www-form-urlencoded")
+                    .POST(HttpRequest.BodyPublishers.ofString("user_name=" + URLEncoder.encode(username, StandardCharsets.UTF_8)
+                            + "&password=" + PASSWORD))
+                    .build(), HttpResponse.BodyHandlers.discarding());
+            String session = response.headers().allValues("Set-Cookie").stream()
+                    .filter(cookie -> cookie.startsWith(sessionCookie))
+                    .map(cookie -> cookie.substring(0, cookie.indexOf(';')))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalStateException("No session for " + username));
+            sessions.add(session);
+        }
+        return sessions;
+    }
+
+    private CompletableFuture<Void> drive(String baseUrl, String session, long deadline, boolean submitNext,
+                                          Recorder submit, Recorder history) {
+        if (System.nanoTime() >= deadline) {
+            return CompletableFuture.completedFuture(null);
+        }
+        HttpRequest request = submitNext
+                ? HttpRequest.newBuilder(URI.create(baseUrl + "/meter-readings/submit"))
+                        .header("Content-Type", "application/json")
+                        .header("Cookie", session)
+                        .POST(HttpRequest.BodyPublishers.ofString(READING))
+                        .build()
+                : HttpRequest.newBuilder(URI.create(baseUrl + "/meter-readings/history"))
+                        .header("Cookie", session)
+                        .GET()
+                        .build();
+        Recorder recorder = submitNext ? submit : history;
+        long start = System.nanoTime();
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .handle((response, error) -> {
+                    recorder.record(System.nanoTime() - start, error == null && response.statusCode() < 400);
+                    return null;
+                })
+                .thenCompose(ignored -> drive(baseUrl, session, deadline, !submitNext, submit, history));
+    }
+
+    private class Footprint {
+        private final String applicationName;
+        private int peakThreads;
+        private int peakConnections;
+
+        Footprint(String applicationName) {
+            this.applicationName = applicationName;
+        }
+
+        synchronized void sample() {
+            int threads = (int) Thread.getAllStackTraces().keySet().stream()
+                    .filter(thread -> !thread.getName().startsWith(CLIENT_THREAD) && !thread.getName().startsWith("HttpClient-"))
+                    .count();
+            peakThreads = Math.max(peakThreads, threads);
+            try (Connection connection = DriverManager.getConnection(postgreSQLContainer.getJdbcUrl(),
+                    postgreSQLContainer.getUsername(), postgreSQLContainer.getPassword());
+                 PreparedStatement statement = connection.prepareStatement(
+                         "SELECT count(*) FROM pg_stat_activity WHERE application_name = ?")) {
+                statement.setString(1, applicationName);
+                try (ResultSet rs = statement.executeQuery()) {
+                    rs.next();
+                    peakConnections = Math.max(peakConnections, rs.getInt(1));
+                }
+            } catch (Exception e) {
+                throw new IllegalStateException("Failed to count connections", e);
+            }
+        }
+
+        synchronized int peakThreads() {
+            return peakThreads;
+        }
+
+        synchronized int peakConnections() {
+            return peakConnections;
+        }
+    }
+
+    private static class Recorder {
+        private long[] latencies = new long[1 << 16];
+        private int size;
+        private long errors;
+
+        synchronized void record(long nanos, boolean success) {
+            if (!success) {
+                errors++;
+                return;
+            }
+            if (size == latencies.length) {
+                latencies = Arrays.copyOf(latencies, size * 2);
+            }
+            latencies[size++] = nanos;
+        }
+
+        synchronized Result result(String stack, String endpoint, Footprint footprint) {
+            long[] sorted = Arrays.copyOf(latencies, size);
+            Arrays.sort(sorted);
+            return new Result(stack, endpoint, size, percentile(sorted, 0.50), percentile(sorted, 0.99), errors,
+                    footprint.peakThreads(), footprint.peakConnections());
+        }
+
+        private static double percentile(long[] sorted, double percentile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            return sorted[Math.min(sorted.length - 1, (int) (sorted.length * percentile))] / 1_000_000.0;
+        }
+    }
+
+    private record Result(String stack, String endpoint, long requests, double p50Millis, double p99Millis, long errors,
+                          int peakThreads, int peakConnections) {}
+}
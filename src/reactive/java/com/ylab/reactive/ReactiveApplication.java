@@ -0,0 +1,40 @@
+package com.ylab.reactive;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+
+/**
+ * ReactiveApplication class runs the reactive deployment of the meter reading service: WebFlux on Netty with
+ * R2DBC PostgreSQL instead of the servlet stack with JDBC.
+ * <p>
+ * It starts with the {@code reactive} profile, which swaps the JDBC data source for an R2DBC connection pool.
+ * The audit starter writes through JDBC and is not active in this deployment. The reactive sources and the WebFlux and
+ * R2DBC dependencies are only built with the {@code reactive} Maven profile, so the servlet deployment carries neither;
+ * run it with {@code mvn spring-boot:run -Preactive}.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+@SpringBootApplication(scanBasePackages = {"com.ylab.reactive", "com.ylab.app.mapper"})
+public class ReactiveApplication {
+    /**
+     * The profile activated by the reactive deployment.
+     */
+    public static final String PROFILE = "reactive";
+
+    public static void main(String[] args) {
+        builder().run(args);
+    }
+
+    /**
+     * Creates the application builder of the reactive deployment.
+     *
+     * @return the application builder with the reactive web type and profile
+     */
+    public static SpringApplicationBuilder builder() {
+        return new SpringApplicationBuilder(ReactiveApplication.class)
+                .web(WebApplicationType.REACTIVE)
+                .profiles(PROFILE);
+    }
+}
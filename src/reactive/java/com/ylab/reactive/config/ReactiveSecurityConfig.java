@@ -0,0 +1,112 @@
+package com.ylab.reactive.config;
+
+import com.ylab.reactive.dao.ReactiveUserDao;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.authentication.ReactiveAuthenticationManager;
+import org.springframework.security.authentication.UserDetailsRepositoryReactiveAuthenticationManager;
+import org.springframework.security.config.Customizer;
+import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
+import org.springframework.security.config.web.server.SecurityWebFiltersOrder;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.core.userdetails.ReactiveUserDetailsService;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.web.server.authentication.AuthenticationWebFilter;
+import org.springframework.security.web.server.authentication.RedirectServerAuthenticationFailureHandler;
+import org.springframework.security.web.server.authentication.RedirectServerAuthenticationSuccessHandler;
+import org.springframework.security.web.server.authentication.ServerFormLoginAuthenticationConverter;
+import org.springframework.security.web.server.context.ServerSecurityContextRepository;
+import org.springframework.security.web.server.context.WebSessionServerSecurityContextRepository;
+import org.springframework.security.web.server.util.matcher.ServerWebExchangeMatchers;
+
+/**
+ * ReactiveSecurityConfig class sets up the security of the reactive deployment like {@link com.ylab.app.config.SecurityConfig}:
+ * the same public paths, a form login on {@code /login} with the {@code user_name} and {@code password} parameters
+ * and a session keeping the security context. HTTP basic authentication is accepted as well for collectors.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+@Configuration
+@EnableWebFluxSecurity
+public class ReactiveSecurityConfig {
+    /**
+     * Provides the user details of the users stored in the database.
+     *
+     * @param userDao the reactive user data access object
+     * @return the reactive user details service
+     */
+    @Bean
+    public ReactiveUserDetailsService userDetailsService(ReactiveUserDao userDao) {
+        return username -> userDao.getUserByLogin(username).cast(UserDetails.class);
+    }
+
+    /**
+     * Configures the authentication manager checking the passwords; the hashes are compared on the bounded elastic scheduler.
+     *
+     * @param userDetailsService the reactive user details service
+     * @param passwordEncoder    the password encoder
+     * @return the reactive authentication manager
+     */
+    @Bean
+    public ReactiveAuthenticationManager authenticationManager(ReactiveUserDetailsService userDetailsService,
+                                                               PasswordEncoder passwordEncoder) {
+        UserDetailsRepositoryReactiveAuthenticationManager authenticationManager =
+                new UserDetailsRepositoryReactiveAuthenticationManager(userDetailsService);
+        authenticationManager.setPasswordEncoder(passwordEncoder);
+        return authenticationManager;
+    }
+
+    /**
+     * Configures the security filter chain.
+     *
+     * @param http                  the ServerHttpSecurity to be configured
+     * @param authenticationManager the reactive authentication manager
+     * @return the configured SecurityWebFilterChain
+     */
+    @Bean
+    public SecurityWebFilterChain filterChain(ServerHttpSecurity http, ReactiveAuthenticationManager authenticationManager) {
+        ServerSecurityContextRepository securityContextRepository = new WebSessionServerSecurityContextRepository();
+        http
+                .authorizeExchange(exchanges -> exchanges
+                        .pathMatchers("/login*", "/users/*", "/register").permitAll()
+                        .pathMatchers("/actuator/health", "/actuator/prometheus").permitAll()
+                        .anyExchange().authenticated()
+                )
+                .authenticationManager(authenticationManager)
+                .securityContextRepository(securityContextRepository)
+                .addFilterAt(formLoginFilter(authenticationManager, securityContextRepository), SecurityWebFiltersOrder.FORM_LOGIN)
+                .httpBasic(Customizer.withDefaults())
+                .csrf(ServerHttpSecurity.CsrfSpec::disable);
+
+        return http.build();
+    }
+
+    /**
+     * Configures and provides the password encoder for encrypting and verifying passwords using BCrypt hashing algorithm.
+     *
+     * @return the configured BCryptPasswordEncoder for password encoding
+     */
+    @Bean
+    public PasswordEncoder passwordEncoder() {
+        return new BCryptPasswordEncoder();
+    }
+
+    private AuthenticationWebFilter formLoginFilter(ReactiveAuthenticationManager authenticationManager,
+                                                    ServerSecurityContextRepository securityContextRepository) {
+        ServerFormLoginAuthenticationConverter converter = new ServerFormLoginAuthenticationConverter();
+        converter.setUsernameParameter("user_name");
+        converter.setPasswordParameter("password");
+        AuthenticationWebFilter loginFilter = new AuthenticationWebFilter(authenticationManager);
+        loginFilter.setRequiresAuthenticationMatcher(ServerWebExchangeMatchers.pathMatchers(HttpMethod.POST, "/login"));
+        loginFilter.setServerAuthenticationConverter(converter);
+        loginFilter.setSecurityContextRepository(securityContextRepository);
+        loginFilter.setAuthenticationSuccessHandler(new RedirectServerAuthenticationSuccessHandler("/"));
+        loginFilter.setAuthenticationFailureHandler(new RedirectServerAuthenticationFailureHandler("/login?error"));
+        return loginFilter;
+    }
+}
@@ -0,0 +1,42 @@
+package com.ylab.reactive.controllers;
+
+import com.ylab.app.exception.dbException.DatabaseReadException;
+import com.ylab.app.exception.dbException.DatabaseWriteException;
+import com.ylab.app.exception.meterException.MeterReadingException;
+import com.ylab.app.exception.userException.UserValidationException;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+/**
+ * ReactiveExceptionHandler class maps the exceptions of the reactive controllers to responses like
+ * {@link com.ylab.app.controllers.GlobalExceptionHandler}. Errors raised after a streamed response has started
+ * can only abort the response.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+@RestControllerAdvice
+public class ReactiveExceptionHandler {
+    /**
+     * Handles validation exceptions and returns a response entity with a bad request status code.
+     * @param ex the validation exception
+     * @return the response entity with the error message
+     */
+    @ExceptionHandler({UserValidationException.class, MeterReadingException.class})
+    public ResponseEntity<String> handleValidationException(Exception ex) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ex.getMessage());
+    }
+
+    /**
+     * Handles data access exceptions and returns a response entity with an internal server error status code.
+     * @param ex the data access exception
+     * @return the response entity with the error message
+     */
+    @ExceptionHandler({DataAccessException.class, DatabaseReadException.class, DatabaseWriteException.class})
+    public ResponseEntity<String> handleDataAccessException(Exception ex) {
+        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Database error: " + ex.getMessage());
+    }
+}
@@ -0,0 +1,112 @@
+package com.ylab.reactive.controllers;
+
+import com.ylab.app.model.User;
+import com.ylab.app.model.dto.MeterReadingDto;
+import com.ylab.reactive.service.ReactiveMeterService;
+import io.swagger.v3.oas.annotations.Operation;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Year;
+
+/**
+ * The ReactiveMeterController class handles the meter reading requests of the reactive deployment.
+ * It mirrors the core endpoints of {@link com.ylab.app.controllers.MeterController}; the history endpoints emit
+ * the readings while they are read from the database, as a JSON array or, with {@code Accept: application/x-ndjson},
+ * one reading per line.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+@RestController
+@RequestMapping("/meter-readings")
+public class ReactiveMeterController {
+    private final ReactiveMeterService meterService;
+
+    /**
+     * Instantiates a new reactive Meter controller.
+     *
+     * @param meterService the reactive meter service
+     */
+    public ReactiveMeterController(ReactiveMeterService meterService) {
+        this.meterService = meterService;
+    }
+
+    /**
+     * Retrieves the current meter readings for the authenticated user.
+     *
+     * @param user the authenticated user
+     * @return the current meter readings
+     */
+    @GetMapping("/current")
+    @Operation(summary = "Get Current Reading", description = "method provide current meter reading", tags = {"meters"})
+    public Flux<MeterReadingDto> getCurrentMeterReadings(@AuthenticationPrincipal User user) {
+        return meterService.getCurrentReadings(user);
+    }
+
+    /**
+     * Submits a new meter reading for the authenticated user.
+     *
+     * @param user            the authenticated user
+     * @param meterReadingDto the meter reading to submit
+     * @return a response entity containing the submitted meter reading
+     */
+    @PostMapping("/submit")
+    @Operation(summary = "Create Meter Reading", description = "method provide create meter reading", tags = {"meters"})
+    public Mono<ResponseEntity<MeterReadingDto>> submitMeterReading(@AuthenticationPrincipal User user,
+                                                                    @RequestBody MeterReadingDto meterReadingDto) {
+        return meterService.submitReading(user, meterReadingDto.getNumberMeter(), meterReadingDto.getDetailsList())
+                .map(submittedReading -> ResponseEntity.status(HttpStatus.CREATED).body(submittedReading));
+    }
+
+    /**
+     * Streams the meter reading history for the authenticated user.
+     *
+     * @param user the authenticated user
+     * @return the meter reading history for the user
+     */
+    @GetMapping(path = "/history", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    @Operation(summary = "Get History Readings Valid User", description = "method provide readings history of valid user", tags = {"meters"})
+    public Flux<MeterReadingDto> getMeterReadingHistory(@AuthenticationPrincipal User user) {
+        return meterService.getReadingsHistory(user);
+    }
+
+    /**
+     * Streams the meter readings for the authenticated user for the specified month.
+     *
+     * @param user  the authenticated user
+     * @param month the month for which to retrieve the meter readings
+     * @param year  the year of the month, the current year if omitted
+     * @return the meter readings for the specified month
+     */
+    @GetMapping(path = "/month/{month}", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    @Operation(summary = "Get Readings By Month", description = "method provide readings by month of valid user", tags = {"meters"})
+    public Flux<MeterReadingDto> getMeterReadingByMonth(@AuthenticationPrincipal User user, @PathVariable int month,
+                                                        @RequestParam(required = false) Integer year) {
+        int readingYear = year != null ? year : Year.now().getValue();
+        return meterService.getReadingsByMonth(user, readingYear, month);
+    }
+
+    /**
+     * Streams the meter reading history of all users.
+     *
+     * @param user the authenticated user
+     * @return the meter reading history of all users
+     */
+    @GetMapping(path = "/history/all", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    @Operation(summary = "Find All History Readings", description = "method provide get readings all history by admin", tags = {"meters"})
+    public Flux<MeterReadingDto> getMeterReadingAllHistory(@AuthenticationPrincipal User user) {
+        return meterService.getAllReadingsHistory(user);
+    }
+}
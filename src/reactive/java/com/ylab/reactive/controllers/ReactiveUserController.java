@@ -0,0 +1,72 @@
+package com.ylab.reactive.controllers;
+
+import com.ylab.app.model.User;
+import com.ylab.app.model.dto.UserDto;
+import com.ylab.reactive.service.ReactiveUserService;
+import io.swagger.v3.oas.annotations.Operation;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * The ReactiveUserController class handles the user requests of the reactive deployment.
+ * It mirrors {@link com.ylab.app.controllers.UserController}.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+@RestController
+public class ReactiveUserController {
+    private final ReactiveUserService userService;
+
+    /**
+     * Instantiates a new reactive User controller.
+     *
+     * @param userService the reactive user service
+     */
+    public ReactiveUserController(ReactiveUserService userService) {
+        this.userService = userService;
+    }
+
+    /**
+     * Registers a new user.
+     *
+     * @param user the user to register
+     * @return a response entity containing the registered user information
+     */
+    @PostMapping("/register")
+    @Operation(summary = "User registration", description = "method provide registers a new user", tags = {"users"})
+    public Mono<ResponseEntity<UserDto>> registerUser(@RequestBody User user) {
+        return userService.registerUser(user)
+                .map(userDto -> ResponseEntity.status(HttpStatus.CREATED).body(userDto));
+    }
+
+    /**
+     * Retrieves a user by their ID.
+     *
+     * @param id the ID of the user to retrieve
+     * @return the user information
+     */
+    @GetMapping("/users/{id}")
+    @Operation(summary = "Find a User by id ", description = "method provide to find user by id", tags = {"users"})
+    public Mono<UserDto> getUserById(@PathVariable long id) {
+        return userService.getUserById(id);
+    }
+
+    /**
+     * Retrieves all users.
+     *
+     * @return the users
+     */
+    @GetMapping("/users/all")
+    @Operation(summary = "Find list users", description = "method provide user list", tags = {"users"})
+    public Flux<UserDto> getAllUsers() {
+        return userService.getAllUsers();
+    }
+}
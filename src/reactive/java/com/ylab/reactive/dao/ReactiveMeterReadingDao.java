@@ -0,0 +1,58 @@
+package com.ylab.reactive.dao;
+
+import com.ylab.app.model.MeterReading;
+import com.ylab.app.model.User;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * ReactiveMeterReadingDao interface is the non-blocking counterpart of {@link com.ylab.app.dbService.dao.MeterReadingDao}.
+ * The readings are emitted one by one while the rows arrive, each with all of its details.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+public interface ReactiveMeterReadingDao {
+    /**
+     * Inserts the meter reading with its details and updates the read models in one transaction.
+     *
+     * @param meterReading the meter reading to insert
+     * @return the inserted meter reading with its id and consumption set
+     */
+    Mono<MeterReading> insertMeterReading(MeterReading meterReading);
+
+    /**
+     * Selects the latest reading of every meter and reading type of the user.
+     *
+     * @param user the user whose current readings are selected
+     * @return the current meter readings
+     */
+    Flux<MeterReading> selectCurrentMeterReadings(User user);
+
+    /**
+     * Selects the reading history of the user.
+     *
+     * @param user the user whose readings are selected
+     * @return the meter readings ordered by id
+     */
+    Flux<MeterReading> selectByUserName(User user);
+
+    /**
+     * Selects the readings of the user in the date range [from, to).
+     *
+     * @param user the user whose readings are selected
+     * @param from the inclusive start of the range
+     * @param to   the exclusive end of the range
+     * @return the meter readings ordered by id
+     */
+    Flux<MeterReading> selectByUserNameAndDateRange(User user, LocalDateTime from, LocalDateTime to);
+
+    /**
+     * Selects the reading history of all users.
+     *
+     * @return the meter readings ordered by id
+     */
+    Flux<MeterReading> selectByAllMeterReadings();
+}
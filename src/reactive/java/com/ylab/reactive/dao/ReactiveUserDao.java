@@ -0,0 +1,44 @@
+package com.ylab.reactive.dao;
+
+import com.ylab.app.model.User;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * ReactiveUserDao interface is the non-blocking counterpart of {@link com.ylab.app.dbService.dao.UserDao}.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+public interface ReactiveUserDao {
+    /**
+     * Inserts the user.
+     *
+     * @param user the user to insert
+     * @return the inserted user with its id set
+     */
+    Mono<User> insertUser(User user);
+
+    /**
+     * Selects all users.
+     *
+     * @return the users ordered by id
+     */
+    Flux<User> getAllUsers();
+
+    /**
+     * Finds a user by id.
+     *
+     * @param id the id of the user
+     * @return the user, or an error with {@link com.ylab.app.exception.userException.UserValidationException} if there is none
+     */
+    Mono<User> findUserById(long id);
+
+    /**
+     * Finds a user by login name.
+     *
+     * @param login the login name of the user
+     * @return the user, or an empty mono if there is none
+     */
+    Mono<User> getUserByLogin(String login);
+}
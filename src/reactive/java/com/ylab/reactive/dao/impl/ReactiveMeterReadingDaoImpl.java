@@ -0,0 +1,204 @@
+package com.ylab.reactive.dao.impl;
+
+import com.ylab.app.exception.dbException.DatabaseReadException;
+import com.ylab.app.exception.dbException.DatabaseWriteException;
+import com.ylab.app.model.MeterReading;
+import com.ylab.app.model.MeterReadingDetails;
+import com.ylab.app.model.User;
+import com.ylab.app.model.UserRole;
+import com.ylab.reactive.dao.ReactiveMeterReadingDao;
+import io.r2dbc.spi.Readable;
+import org.springframework.dao.DataAccessException;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.ylab.app.constants.ReactiveSqlQueryClass.R2DBC_INSERT_METER;
+import static com.ylab.app.constants.ReactiveSqlQueryClass.R2DBC_INSERT_METER_CONSUMPTION;
+import static com.ylab.app.constants.ReactiveSqlQueryClass.R2DBC_LOCK_METER_LATEST;
+import static com.ylab.app.constants.ReactiveSqlQueryClass.R2DBC_INSERT_READING_DATA;
+import static com.ylab.app.constants.ReactiveSqlQueryClass.R2DBC_SELECT_ALL_METER_READINGS_WITH_DETAILS;
+import static com.ylab.app.constants.ReactiveSqlQueryClass.R2DBC_SELECT_CURRENT_READINGS;
+import static com.ylab.app.constants.ReactiveSqlQueryClass.R2DBC_SELECT_USER_NAME_AND_DATE_RANGE_WITH_DETAILS;
+import static com.ylab.app.constants.ReactiveSqlQueryClass.R2DBC_SELECT_USER_NAME_WITH_DETAILS;
+import static com.ylab.app.constants.ReactiveSqlQueryClass.R2DBC_UPSERT_METER_LATEST;
+
+/**
+ * ReactiveMeterReadingDaoImpl class reads and writes meter readings over R2DBC.
+ * <p>
+ * The reading queries join the details and their type names, ordered by reading id; consecutive rows of the same
+ * reading are folded into one {@link MeterReading} as they arrive, so a history is streamed with a single query
+ * and without holding it in memory. Inserts maintain {@code mtr_consumption} and {@code mtr_latest} in the same
+ * transaction, like the JDBC implementation.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+@Repository
+public class ReactiveMeterReadingDaoImpl implements ReactiveMeterReadingDao {
+    private final DatabaseClient databaseClient;
+    private final ReactiveReadingTypes readingTypes;
+
+    /**
+     * Instantiates a new ReactiveMeterReadingDaoImpl.
+     *
+     * @param databaseClient the database client for database interaction
+     */
+    public ReactiveMeterReadingDaoImpl(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+        this.readingTypes = new ReactiveReadingTypes(databaseClient);
+    }
+
+    /**
+     * Inserts the meter reading, its details and the derived read models in one transaction.
+     *
+     * @param meterReading the meter reading to insert
+     * @return the inserted meter reading with its id and consumption set
+     * @throws DatabaseWriteException if an error occurs during the insertion
+     */
+    @Override
+    @Transactional
+    public Mono<MeterReading> insertMeterReading(MeterReading meterReading) {
+        return databaseClient.sql(R2DBC_INSERT_METER)
+                .bind(0, meterReading.getNumberMeter())
+                .bind(1, meterReading.getDate())
+                .bind(2, meterReading.getUser().getUsername())
+                .map(row -> row.get("id", Long.class))
+                .one()
+                .flatMap(id -> {
+                    meterReading.setId(id);
+                    return Flux.fromIterable(meterReading.getDetailsList())
+                            .concatMap(details -> insertDetails(meterReading, details))
+                            .then(refreshReadModels(meterReading));
+                })
+                .thenReturn(meterReading)
+                .onErrorMap(DataAccessException.class, e -> new DatabaseWriteException("Failed to insert meter reading", e));
+    }
+
+    /**
+     * Selects the latest reading of every meter and reading type of the user from {@code mtr_latest}.
+     *
+     * @param user the user whose current readings are selected
+     * @return the current meter readings
+     * @throws DatabaseReadException if an error occurs while retrieving the data
+     */
+    @Override
+    public Flux<MeterReading> selectCurrentMeterReadings(User user) {
+        return selectReadings(databaseClient.sql(R2DBC_SELECT_CURRENT_READINGS).bind(0, user.getUsername()),
+                "Failed to retrieve current meter readings");
+    }
+
+    /**
+     * Selects the reading history of the user with a single joined query.
+     *
+     * @param user the user whose readings are selected
+     * @return the meter readings ordered by id
+     * @throws DatabaseReadException if an error occurs while retrieving the data
+     */
+    @Override
+    public Flux<MeterReading> selectByUserName(User user) {
+        return selectReadings(databaseClient.sql(R2DBC_SELECT_USER_NAME_WITH_DETAILS).bind(0, user.getUsername()),
+                "Failed to retrieve meter readings by user name");
+    }
+
+    /**
+     * Selects the readings of the user in the date range [from, to); the range also bounds the details so only
+     * the partitions of the range are scanned.
+     *
+     * @param user the user whose readings are selected
+     * @param from the inclusive start of the range
+     * @param to   the exclusive end of the range
+     * @return the meter readings ordered by id
+     * @throws DatabaseReadException if an error occurs while retrieving the data
+     */
+    @Override
+    public Flux<MeterReading> selectByUserNameAndDateRange(User user, LocalDateTime from, LocalDateTime to) {
+        return selectReadings(databaseClient.sql(R2DBC_SELECT_USER_NAME_AND_DATE_RANGE_WITH_DETAILS)
+                        .bind(0, from)
+                        .bind(1, to)
+                        .bind(2, user.getUsername()),
+                "Failed to retrieve meter readings by date range");
+    }
+
+    /**
+     * Selects the reading history of all users with a single joined query.
+     *
+     * @return the meter readings ordered by id
+     * @throws DatabaseReadException if an error occurs while retrieving the data
+     */
+    @Override
+    public Flux<MeterReading> selectByAllMeterReadings() {
+        return selectReadings(databaseClient.sql(R2DBC_SELECT_ALL_METER_READINGS_WITH_DETAILS),
+                "Failed to retrieve all meter readings");
+    }
+
+    private Mono<Void> insertDetails(MeterReading meterReading, MeterReadingDetails details) {
+        details.setMeterReadingId(meterReading.getId());
+        return readingTypes.getTypeId(details.getType())
+                .flatMap(typeId -> databaseClient.sql(R2DBC_INSERT_READING_DATA)
+                        .bind(0, meterReading.getId())
+                        .bind(1, meterReading.getDate())
+                        .bind(2, typeId)
+                        .bind(3, details.getValue())
+                        .then());
+    }
+
+    private Mono<Void> refreshReadModels(MeterReading meterReading) {
+        Long[] ids = {meterReading.getId()};
+        LocalDateTime date = meterReading.getDate();
+        Mono<Void> lock = databaseClient.sql(R2DBC_LOCK_METER_LATEST)
+                .bind(0, ids).bind(1, date).bind(2, date)
+                .then();
+        return lock.thenMany(databaseClient.sql(R2DBC_INSERT_METER_CONSUMPTION)
+                .bind(0, ids).bind(1, date).bind(2, date).bind(3, date).bind(4, date)
+                .map(row -> {
+                    String type = row.get("type", String.class);
+                    Number delta = (Number) row.get("delta");
+                    for (MeterReadingDetails details : meterReading.getDetailsList()) {
+                        if (delta != null && type.equals(details.getType())) {
+                            details.setConsumption(delta.doubleValue());
+                        }
+                    }
+                    return type;
+                })
+                .all())
+                .then(databaseClient.sql(R2DBC_UPSERT_METER_LATEST)
+                        .bind(0, ids).bind(1, date).bind(2, date).bind(3, date).bind(4, date)
+                        .then());
+    }
+
+    private Flux<MeterReading> selectReadings(DatabaseClient.GenericExecuteSpec spec, String errorMessage) {
+        return spec.map(this::toReadingRow)
+                .all()
+                .bufferUntilChanged(ReadingRow::id)
+                .map(this::toMeterReading)
+                .onErrorMap(DataAccessException.class, e -> new DatabaseReadException(errorMessage, e));
+    }
+
+    private ReadingRow toReadingRow(Readable row) {
+        Number value = (Number) row.get("value");
+        return new ReadingRow(row.get("id", Long.class), row.get("number_meter", String.class),
+                row.get("date", LocalDateTime.class), row.get("user_name", String.class),
+                row.get("type", String.class), value == null ? null : value.doubleValue());
+    }
+
+    private MeterReading toMeterReading(List<ReadingRow> rows) {
+        ReadingRow first = rows.get(0);
+        MeterReading meterReading = new MeterReading(first.numberMeter(), first.date(),
+                new User(first.userName(), "", UserRole.USER));
+        meterReading.setId(first.id());
+        for (ReadingRow row : rows) {
+            if (row.type() != null) {
+                meterReading.addReadingDetails(row.type(), row.value());
+            }
+        }
+        return meterReading;
+    }
+
+    private record ReadingRow(Long id, String numberMeter, LocalDateTime date, String userName, String type, Double value) {}
+}
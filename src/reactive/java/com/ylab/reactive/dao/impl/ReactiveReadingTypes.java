@@ -0,0 +1,56 @@
+package com.ylab.reactive.dao.impl;
+
+import com.ylab.app.dbService.dao.ReadingTypeRegistry;
+import com.ylab.app.exception.meterException.MeterReadingException;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.ylab.app.constants.ReactiveSqlQueryClass.R2DBC_INSERT_READING_TYPE;
+
+/**
+ * ReactiveReadingTypes class resolves reading type names to their dictionary ids for the reactive inserts.
+ * <p>
+ * Known ids are cached; an unknown name is registered with one upsert, so concurrent first uses of a name
+ * agree on the same id. As with {@link ReadingTypeRegistry}, no new name is registered once the dictionary holds
+ * {@link ReadingTypeRegistry#MAX_TYPES} types.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+final class ReactiveReadingTypes {
+    private final DatabaseClient databaseClient;
+    private final Map<String, Short> typeIds = new ConcurrentHashMap<>();
+
+    ReactiveReadingTypes(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    /**
+     * Gets the id of the reading type, registering the type if it is unknown.
+     *
+     * @param typeName the reading type name
+     * @return the reading type id, or a {@link MeterReadingException} if the name is blank, or it is unknown and
+     * the dictionary is full
+     */
+    Mono<Short> getTypeId(String typeName) {
+        if (typeName == null || typeName.isBlank()) {
+            return Mono.error(new MeterReadingException("Invalid reading type"));
+        }
+        Short typeId = typeIds.get(typeName);
+        if (typeId != null) {
+            return Mono.just(typeId);
+        }
+        return databaseClient.sql(R2DBC_INSERT_READING_TYPE)
+                .bind(0, typeName)
+                .bind(1, typeName)
+                .bind(2, ReadingTypeRegistry.MAX_TYPES)
+                .map(row -> row.get("id", Short.class))
+                .one()
+                .switchIfEmpty(Mono.error(() -> new MeterReadingException("Unknown reading type " + typeName
+                        + ", no more than " + ReadingTypeRegistry.MAX_TYPES + " reading types can be registered")))
+                .doOnNext(id -> typeIds.put(typeName, id));
+    }
+}
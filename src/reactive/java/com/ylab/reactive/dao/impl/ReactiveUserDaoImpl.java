@@ -0,0 +1,116 @@
+package com.ylab.reactive.dao.impl;
+
+import com.ylab.app.exception.dbException.DatabaseReadException;
+import com.ylab.app.exception.dbException.DatabaseWriteException;
+import com.ylab.app.exception.userException.UserValidationException;
+import com.ylab.app.model.User;
+import com.ylab.app.model.UserRole;
+import com.ylab.reactive.dao.ReactiveUserDao;
+import io.r2dbc.spi.Readable;
+import org.springframework.dao.DataAccessException;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import static com.ylab.app.constants.ReactiveSqlQueryClass.R2DBC_ALL_USERS;
+import static com.ylab.app.constants.ReactiveSqlQueryClass.R2DBC_FIND_USER_BY_ID;
+import static com.ylab.app.constants.ReactiveSqlQueryClass.R2DBC_FIND_USER_BY_LOGIN;
+import static com.ylab.app.constants.ReactiveSqlQueryClass.R2DBC_INSERT_USER;
+
+/**
+ * ReactiveUserDaoImpl class reads and writes users over R2DBC.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+@Repository
+public class ReactiveUserDaoImpl implements ReactiveUserDao {
+    private final DatabaseClient databaseClient;
+
+    /**
+     * Instantiates a new ReactiveUserDaoImpl.
+     *
+     * @param databaseClient the database client for database interaction
+     */
+    public ReactiveUserDaoImpl(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    /**
+     * Inserts a new user into the database.
+     *
+     * @param user the user object to be inserted
+     * @return the inserted user with its id set
+     * @throws DatabaseWriteException if an error occurs during the insertion
+     */
+    @Override
+    public Mono<User> insertUser(User user) {
+        return databaseClient.sql(R2DBC_INSERT_USER)
+                .bind(0, user.getUsername())
+                .bind(1, user.getPassword())
+                .bind(2, user.getRole().name())
+                .map(row -> row.get("id", Long.class))
+                .one()
+                .map(id -> {
+                    user.setId(id);
+                    return user;
+                })
+                .onErrorMap(DataAccessException.class, e -> new DatabaseWriteException("Failed to insert user", e));
+    }
+
+    /**
+     * Retrieves all users from the database.
+     *
+     * @return the users
+     * @throws DatabaseReadException if an error occurs while retrieving the data
+     */
+    @Override
+    public Flux<User> getAllUsers() {
+        return databaseClient.sql(R2DBC_ALL_USERS)
+                .map(this::toUser)
+                .all()
+                .onErrorMap(DataAccessException.class, e -> new DatabaseReadException("Failed to retrieve all users", e));
+    }
+
+    /**
+     * Finds a user by their ID.
+     *
+     * @param id the ID of the user to find
+     * @return the user with the specified ID
+     * @throws UserValidationException if the user with the given ID is not found
+     * @throws DatabaseReadException if an error occurs while retrieving the data
+     */
+    @Override
+    public Mono<User> findUserById(long id) {
+        return databaseClient.sql(R2DBC_FIND_USER_BY_ID)
+                .bind(0, id)
+                .map(this::toUser)
+                .one()
+                .onErrorMap(DataAccessException.class, e -> new DatabaseReadException("Failed to retrieve user by id", e))
+                .switchIfEmpty(Mono.error(() -> new UserValidationException("user not found")));
+    }
+
+    /**
+     * Finds a user by their login name.
+     *
+     * @param login the login name of the user to find
+     * @return the user with the specified login name, or an empty mono if there is none
+     * @throws DatabaseReadException if an error occurs while retrieving the data
+     */
+    @Override
+    public Mono<User> getUserByLogin(String login) {
+        return databaseClient.sql(R2DBC_FIND_USER_BY_LOGIN)
+                .bind(0, login)
+                .map(this::toUser)
+                .one()
+                .onErrorMap(DataAccessException.class, e -> new DatabaseReadException("Failed to retrieve user by login", e));
+    }
+
+    private User toUser(Readable row) {
+        User user = new User(row.get("username", String.class), row.get("password", String.class),
+                UserRole.fromString(row.get("role", String.class)));
+        user.setId(row.get("id", Long.class));
+        return user;
+    }
+}
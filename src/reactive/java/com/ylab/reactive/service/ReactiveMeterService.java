@@ -0,0 +1,61 @@
+package com.ylab.reactive.service;
+
+import com.ylab.app.model.User;
+import com.ylab.app.model.dto.MeterReadingDetailsDto;
+import com.ylab.app.model.dto.MeterReadingDto;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * ReactiveMeterService interface is the non-blocking counterpart of {@link com.ylab.app.service.MeterService}.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+public interface ReactiveMeterService {
+    /**
+     * Gets the current readings for the specified user.
+     *
+     * @param user the user for whom the readings are retrieved
+     * @return the current readings
+     */
+    Flux<MeterReadingDto> getCurrentReadings(User user);
+
+    /**
+     * Submits a new reading for the specified user and meter.
+     *
+     * @param user        the user submitting the reading
+     * @param numberMeter the meter number
+     * @param readings    list of meter reading details
+     * @return the submitted meter reading data transfer object
+     */
+    Mono<MeterReadingDto> submitReading(User user, String numberMeter, List<MeterReadingDetailsDto> readings);
+
+    /**
+     * Gets the readings for the specified user, year and month.
+     *
+     * @param user  the user for whom the readings are retrieved
+     * @param year  the year of the month for which readings are retrieved
+     * @param month the month for which readings are retrieved
+     * @return the readings for the specified month
+     */
+    Flux<MeterReadingDto> getReadingsByMonth(User user, int year, int month);
+
+    /**
+     * Gets the readings history for the specified user.
+     *
+     * @param user the user for whom the readings history is retrieved
+     * @return the readings history for the specified user
+     */
+    Flux<MeterReadingDto> getReadingsHistory(User user);
+
+    /**
+     * Gets the readings history for all users (for admin user).
+     *
+     * @param adminUser the admin user retrieving the readings history
+     * @return the readings history of all users
+     */
+    Flux<MeterReadingDto> getAllReadingsHistory(User adminUser);
+}
@@ -0,0 +1,37 @@
+package com.ylab.reactive.service;
+
+import com.ylab.app.model.User;
+import com.ylab.app.model.dto.UserDto;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * ReactiveUserService interface is the non-blocking counterpart of {@link com.ylab.app.service.UserService}.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+public interface ReactiveUserService {
+    /**
+     * Registers a new user with the given name and password.
+     *
+     * @param user the user object to be registered
+     * @return the UserDto object representing the registered user
+     */
+    Mono<UserDto> registerUser(User user);
+
+    /**
+     * Retrieves all users in the system.
+     *
+     * @return the users as UserDto objects
+     */
+    Flux<UserDto> getAllUsers();
+
+    /**
+     * Gets a user by their ID.
+     *
+     * @param userId the ID of the user to retrieve
+     * @return the UserDto object representing the user with the specified ID
+     */
+    Mono<UserDto> getUserById(long userId);
+}
@@ -0,0 +1,147 @@
+package com.ylab.reactive.service.impl;
+
+import com.ylab.app.exception.dbException.DatabaseWriteException;
+import com.ylab.app.exception.meterException.MeterReadingException;
+import com.ylab.app.exception.userException.UserValidationException;
+import com.ylab.app.mapper.MeterReadingMapper;
+import com.ylab.app.model.MeterReading;
+import com.ylab.app.model.User;
+import com.ylab.app.model.UserRole;
+import com.ylab.app.model.dto.MeterReadingDetailsDto;
+import com.ylab.app.model.dto.MeterReadingDto;
+import com.ylab.reactive.dao.ReactiveMeterReadingDao;
+import com.ylab.reactive.service.ReactiveMeterService;
+import com.ylab.app.service.MeterReadingValidator;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ReactiveMeterServiceImpl class manages meter readings on the reactive stack with the validation rules of
+ * {@link com.ylab.app.service.impl.MeterServiceImpl}. Invalid arguments are signalled as errors of the returned publisher.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+@Service
+public class ReactiveMeterServiceImpl implements ReactiveMeterService {
+    private static final int MIN_YEAR = 1;
+    private static final int MAX_YEAR = 9999;
+    private final ReactiveMeterReadingDao readingDao;
+    private final MeterReadingMapper meterReadingMapper;
+
+    /**
+     * Instantiates a new reactive Meter service.
+     *
+     * @param readingDao         the reactive meter reading data access object
+     * @param meterReadingMapper the meter reading mapper
+     */
+    public ReactiveMeterServiceImpl(ReactiveMeterReadingDao readingDao, MeterReadingMapper meterReadingMapper) {
+        this.readingDao = readingDao;
+        this.meterReadingMapper = meterReadingMapper;
+    }
+
+    /**
+     * Retrieves the current meter readings for a specific user.
+     *
+     * @param user the user for whom to retrieve the current meter readings
+     * @return the current meter readings in data transfer object form
+     * @throws UserValidationException if the user is invalid
+     */
+    @Override
+    public Flux<MeterReadingDto> getCurrentReadings(User user) {
+        if (user == null) {
+            return Flux.error(new UserValidationException("Invalid user"));
+        }
+        return readingDao.selectCurrentMeterReadings(user).map(meterReadingMapper::meterReadingToMeterReadingDto);
+    }
+
+    /**
+     * Submits a new meter reading for a specific user.
+     *
+     * @param user        the user submitting the meter reading
+     * @param numberMeter the meter number for the reading
+     * @param readings    the details of the meter reading
+     * @return the submitted meter reading in data transfer object form
+     * @throws MeterReadingException if the meter number or the details are invalid or if there is a failure in inserting the reading
+     */
+    @Override
+    public Mono<MeterReadingDto> submitReading(User user, String numberMeter, List<MeterReadingDetailsDto> readings) {
+        String error = MeterReadingValidator.validateReading(numberMeter, readings);
+        if (error != null) {
+            return Mono.error(new MeterReadingException(error));
+        }
+        MeterReadingDto meterReadingDto = new MeterReadingDto();
+        meterReadingDto.setNumberMeter(numberMeter);
+        meterReadingDto.setDate(LocalDateTime.now());
+        meterReadingDto.setUser(user);
+        meterReadingDto.setDetailsList(readings == null ? new ArrayList<>() : new ArrayList<>(readings));
+        MeterReading meterReading = meterReadingMapper.meterReadingDtoToMeterReading(meterReadingDto);
+        return readingDao.insertMeterReading(meterReading)
+                .map(meterReadingMapper::meterReadingToMeterReadingDto)
+                .onErrorMap(DatabaseWriteException.class, e -> new MeterReadingException("Failed to insert meter reading", e));
+    }
+
+    /**
+     * Retrieves the meter readings for a specific user in a given month of a given year.
+     *
+     * @param user  the user for whom to retrieve the meter readings
+     * @param year  the year of the month
+     * @param month the month for which to retrieve the meter readings
+     * @return the meter readings for the specified user and month in data transfer object form
+     * @throws UserValidationException if the user is invalid
+     * @throws MeterReadingException  if the year or the month is invalid
+     */
+    @Override
+    public Flux<MeterReadingDto> getReadingsByMonth(User user, int year, int month) {
+        if (user == null) {
+            return Flux.error(new UserValidationException("Invalid user"));
+        }
+        if (month < Month.JANUARY.getValue() || month > Month.DECEMBER.getValue()) {
+            return Flux.error(new MeterReadingException("Invalid month"));
+        }
+        if (year < MIN_YEAR || year > MAX_YEAR) {
+            return Flux.error(new MeterReadingException("Invalid year"));
+        }
+        YearMonth yearMonth = YearMonth.of(year, month);
+        return readingDao.selectByUserNameAndDateRange(user, yearMonth.atDay(1).atStartOfDay(),
+                        yearMonth.plusMonths(1).atDay(1).atStartOfDay())
+                .map(meterReadingMapper::meterReadingToMeterReadingDto);
+    }
+
+    /**
+     * Streams the complete meter reading history for a specific user.
+     *
+     * @param user the user for whom to retrieve the meter reading history
+     * @return the meter reading history for the specified user in data transfer object form
+     * @throws UserValidationException if the user is invalid
+     */
+    @Override
+    public Flux<MeterReadingDto> getReadingsHistory(User user) {
+        if (user == null) {
+            return Flux.error(new UserValidationException("Invalid user"));
+        }
+        return readingDao.selectByUserName(user).map(meterReadingMapper::meterReadingToMeterReadingDto);
+    }
+
+    /**
+     * Streams the complete meter reading history for all users (accessible to admin users only).
+     *
+     * @param adminUser the admin user requesting the complete meter reading history
+     * @return the meter reading history for all users in data transfer object form
+     * @throws UserValidationException if the admin user is invalid or unauthorized
+     */
+    @Override
+    public Flux<MeterReadingDto> getAllReadingsHistory(User adminUser) {
+        if (adminUser == null || adminUser.getRole() != UserRole.ADMIN) {
+            return Flux.error(new UserValidationException("Invalid or unauthorized user"));
+        }
+        return readingDao.selectByAllMeterReadings().map(meterReadingMapper::meterReadingToMeterReadingDto);
+    }
+}
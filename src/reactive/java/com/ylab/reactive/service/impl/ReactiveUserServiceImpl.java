@@ -0,0 +1,85 @@
+package com.ylab.reactive.service.impl;
+
+import com.ylab.app.exception.userException.UserValidationException;
+import com.ylab.app.mapper.UserMapper;
+import com.ylab.app.model.User;
+import com.ylab.app.model.UserRole;
+import com.ylab.app.model.dto.UserDto;
+import com.ylab.reactive.dao.ReactiveUserDao;
+import com.ylab.reactive.service.ReactiveUserService;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * ReactiveUserServiceImpl class manages users on the reactive stack.
+ * The password is hashed on the bounded elastic scheduler so the slow hash does not block an event loop.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+@Service
+public class ReactiveUserServiceImpl implements ReactiveUserService {
+    private final ReactiveUserDao userDao;
+    private final UserMapper userMapper;
+    private final PasswordEncoder passwordEncoder;
+
+    /**
+     * Instantiates a new reactive User service.
+     *
+     * @param userDao         the reactive user data access object
+     * @param userMapper      the user mapper
+     * @param passwordEncoder the password encoder
+     */
+    public ReactiveUserServiceImpl(ReactiveUserDao userDao, UserMapper userMapper, PasswordEncoder passwordEncoder) {
+        this.userDao = userDao;
+        this.userMapper = userMapper;
+        this.passwordEncoder = passwordEncoder;
+    }
+
+    /**
+     * Registers a new user in the system.
+     *
+     * @param user the user to be registered
+     * @return the data transfer object for the registered user
+     * @throws UserValidationException if the name or the password is missing
+     */
+    @Override
+    public Mono<UserDto> registerUser(User user) {
+        if (user == null || user.getUsername() == null || user.getUsername().isEmpty()
+                || user.getPassword() == null || user.getPassword().isEmpty()) {
+            return Mono.error(new UserValidationException("Invalid credentials"));
+        }
+        return Mono.fromCallable(() -> passwordEncoder.encode(user.getPassword()))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(encoded -> {
+                    user.setPassword(encoded);
+                    user.setRole(UserRole.USER);
+                    return userDao.insertUser(user);
+                })
+                .map(userMapper::userToUserDto);
+    }
+
+    /**
+     * Retrieves all users in the system.
+     *
+     * @return the user data transfer objects
+     */
+    @Override
+    public Flux<UserDto> getAllUsers() {
+        return userDao.getAllUsers().map(userMapper::userToUserDto);
+    }
+
+    /**
+     * Retrieves a user by their ID.
+     *
+     * @param id the ID of the user to retrieve
+     * @return the data transfer object for the retrieved user
+     */
+    @Override
+    public Mono<UserDto> getUserById(long id) {
+        return userDao.findUserById(id).map(userMapper::userToUserDto);
+    }
+}
@@ -0,0 +1,137 @@
+package com.ylab.app.test.benchmark;
+
+import com.ylab.app.mapper.MeterConsumptionMapperImpl;
+import com.ylab.app.mapper.MeterReadingDetailsMapperImpl;
+import com.ylab.app.mapper.MeterReadingMapperImpl;
+import com.ylab.app.mapper.MeterRollupMapperImpl;
+import com.ylab.app.model.User;
+import com.ylab.app.model.UserRole;
+import com.ylab.app.model.dto.MeterReadingDetailsDto;
+import com.ylab.app.model.dto.MeterReadingDto;
+import com.ylab.app.service.MeterService;
+import com.ylab.app.service.impl.MeterServiceImpl;
+import com.ylab.aspect.AuditPointcuts;
+import com.ylab.aspect.LoggingAspect;
+import com.ylab.config.AuditProperties;
+import com.ylab.model.Audit;
+import com.ylab.repository.AuditDao;
+import com.ylab.writer.AsyncAuditWriter;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.beans.TypeConverter;
+import org.springframework.beans.factory.config.DependencyDescriptor;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Proxy;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AuditAdviceBenchmark class measures the overhead of the audit advice on {@link MeterServiceImpl#submitReading}.
+ * <p>
+ * The service runs with its real mappers and no-op stubs of every other collaborator, and the audit writer against a
+ * no-op audit dao, so the benchmark isolates the proxy, the sampling decision, the message building and the
+ * enqueueing. The stubs are created for whatever the service constructor asks for, so new collaborators of the
+ * service need no change here. They are plain JDK proxies rather than Mockito mocks: a Mockito call costs more than
+ * the audit advice being measured.
+ * It is started by {@link AuditAdviceBenchmarkTest}.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AuditAdviceBenchmark {
+    private static final double SAMPLED_RATE = 0.01;
+
+    @Param({"off", "sampled", "full"})
+    public String audit;
+
+    private AnnotationConfigApplicationContext serviceContext;
+    private AsyncAuditWriter auditWriter;
+    private MeterService meterService;
+    private User user;
+    private List<MeterReadingDetailsDto> readings;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        serviceContext = new AnnotationConfigApplicationContext(new StubbingBeanFactory());
+        serviceContext.register(MeterServiceImpl.class, MeterReadingMapperImpl.class, MeterReadingDetailsMapperImpl.class,
+                MeterConsumptionMapperImpl.class, MeterRollupMapperImpl.class);
+        serviceContext.refresh();
+        MeterServiceImpl target = serviceContext.getBean(MeterServiceImpl.class);
+        user = new User("bench_user", "password", UserRole.USER);
+        readings = List.of(new MeterReadingDetailsDto("gas", 12.5), new MeterReadingDetailsDto("water", 3.0));
+
+        AuditProperties auditProperties = new AuditProperties();
+        auditProperties.setIncludePackages(List.of("com.ylab.app.service"));
+        auditProperties.setSampleRate("sampled".equals(audit) ? SAMPLED_RATE : 1.0);
+        auditWriter = new AsyncAuditWriter(new NoOpAuditDao(), auditProperties.getWriter());
+        auditWriter.afterPropertiesSet();
+
+        ProxyFactory proxyFactory = new ProxyFactory(target);
+        proxyFactory.setProxyTargetClass(true);
+        if (!"off".equals(audit)) {
+            proxyFactory.addAdvisor(new DefaultPointcutAdvisor(AuditPointcuts.from(auditProperties),
+                    new LoggingAspect(auditWriter, auditProperties)));
+        }
+        meterService = (MeterService) proxyFactory.getProxy();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws InterruptedException {
+        auditWriter.destroy();
+        serviceContext.close();
+        System.out.printf("audit=%s written=%d dropped=%d%n", audit, auditWriter.getWrittenCount(), auditWriter.getDroppedCount());
+    }
+
+    @Benchmark
+    public MeterReadingDto submitReading() {
+        return meterService.submitReading(user, "BM-1", readings);
+    }
+
+    /**
+     * Bean factory that resolves every interface dependency without a bean of its type to a stub whose methods do
+     * nothing and return null, zero or false.
+     */
+    private static class StubbingBeanFactory extends DefaultListableBeanFactory {
+        @Override
+        public Object resolveDependency(DependencyDescriptor descriptor, String requestingBeanName,
+                                        Set<String> autowiredBeanNames, TypeConverter typeConverter) {
+            Class<?> type = descriptor.getDependencyType();
+            if (type.isInterface() && getBeanNamesForType(type).length == 0) {
+                return Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+                        (proxy, method, args) -> defaultValue(method.getReturnType()));
+            }
+            return super.resolveDependency(descriptor, requestingBeanName, autowiredBeanNames, typeConverter);
+        }
+
+        private static Object defaultValue(Class<?> type) {
+            return type.isPrimitive() && type != void.class ? Array.get(Array.newInstance(type, 1), 0) : null;
+        }
+    }
+
+    private static class NoOpAuditDao implements AuditDao {
+        @Override
+        public void sendMessage(Audit audit) {
+        }
+
+        @Override
+        public void sendMessages(List<Audit> audits) {
+        }
+
+        @Override
+        public List<Audit> getMessage() {
+            return Collections.emptyList();
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.ylab.app.test.benchmark;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Collection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * AuditAdviceBenchmarkTest class runs the {@link AuditAdviceBenchmark} JMH benchmark.
+ * <p>
+ * Run with {@code mvn test -Pbenchmark -Dtest=AuditAdviceBenchmarkTest}.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+@Tag("benchmark")
+public class AuditAdviceBenchmarkTest {
+
+    @Test
+    @DisplayName("audit advice overhead on submitReading with audit off, sampled and full")
+    public void submitReadingAuditOverhead() throws Exception {
+        Options options = new OptionsBuilder()
+                .include(AuditAdviceBenchmark.class.getName())
+                .build();
+
+        Collection<RunResult> results = new Runner(options).run();
+
+        assertThat(results).hasSize(3);
+    }
+}
@@ -0,0 +1,141 @@
+package com.ylab.app.test.benchmark;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.OutputStreamAppender;
+import com.ylab.aspect.EnableLogging;
+import com.ylab.aspect.LoggingAspectAnnotation;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.PrintStream;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * LoggingAspectBenchmark class measures the per-invocation overhead of the {@code @EnableLogging} aspect.
+ * <p>
+ * {@code legacy} is the previous aspect that formatted and printed every call to {@code System.out};
+ * {@code async} is {@link LoggingAspectAnnotation} logging through an asynchronous Logback appender;
+ * {@code disabled} is {@link LoggingAspectAnnotation} with its logger turned off. Both sinks write every line
+ * to {@code /dev/null}, like an unbuffered console would, and the writes of the async appender happen on its
+ * worker thread. On a single-core machine that worker shares the CPU with the benchmark thread, so the async
+ * score there is the total cost rather than the cost seen by the caller.
+ * It is started by {@link LoggingAspectBenchmarkTest}, which also reports the allocation rate.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LoggingAspectBenchmark {
+    private static final String NULL_DEVICE = "/dev/null";
+
+    @Param({"legacy", "async", "disabled"})
+    public String aspect;
+
+    private PrintStream systemOut;
+    private AsyncAppender asyncAppender;
+    private LoggedController controller;
+
+    @Setup(Level.Trial)
+    public void setUp() throws FileNotFoundException {
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(new LoggedController());
+        proxyFactory.setProxyTargetClass(true);
+        if ("legacy".equals(aspect)) {
+            systemOut = System.out;
+            System.setOut(new PrintStream(new FileOutputStream(NULL_DEVICE), true));
+            proxyFactory.addAspect(new LegacyLoggingAspect());
+        } else {
+            asyncAppender = nullDeviceAsyncAppender("async".equals(aspect)
+                    ? ch.qos.logback.classic.Level.INFO : ch.qos.logback.classic.Level.OFF);
+            proxyFactory.addAspect(new LoggingAspectAnnotation());
+        }
+        controller = proxyFactory.getProxy();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (systemOut != null) {
+            System.setOut(systemOut);
+        }
+        if (asyncAppender != null) {
+            asyncAppender.stop();
+        }
+    }
+
+    @Benchmark
+    public String loggedCall() {
+        return controller.submit("BM-1", 42);
+    }
+
+    private static AsyncAppender nullDeviceAsyncAppender(ch.qos.logback.classic.Level level) throws FileNotFoundException {
+        LoggerContext loggerContext = (LoggerContext) LoggerFactory.getILoggerFactory();
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(loggerContext);
+        encoder.setPattern("%d %-5level [%thread] %logger : %msg%n");
+        encoder.start();
+
+        OutputStreamAppender<ILoggingEvent> sink = new OutputStreamAppender<>();
+        sink.setContext(loggerContext);
+        sink.setEncoder(encoder);
+        sink.setOutputStream(new FileOutputStream(NULL_DEVICE));
+        sink.start();
+
+        AsyncAppender asyncAppender = new AsyncAppender();
+        asyncAppender.setContext(loggerContext);
+        asyncAppender.setQueueSize(8192);
+        asyncAppender.setDiscardingThreshold(0);
+        asyncAppender.setNeverBlock(true);
+        asyncAppender.addAppender(sink);
+        asyncAppender.start();
+
+        Logger logger = loggerContext.getLogger(LoggingAspectAnnotation.class);
+        logger.detachAndStopAllAppenders();
+        logger.setAdditive(false);
+        logger.setLevel(level);
+        logger.addAppender(asyncAppender);
+        return asyncAppender;
+    }
+
+    @EnableLogging
+    public static class LoggedController {
+        public String submit(String numberMeter, int value) {
+            return numberMeter;
+        }
+    }
+
+    @Aspect
+    public static class LegacyLoggingAspect {
+        @Around("within(@com.ylab.aspect.EnableLogging *) && execution(* * (..))")
+        public Object logExecutionTime(ProceedingJoinPoint joinPoint) throws Throwable {
+            long start = System.currentTimeMillis();
+            LocalDateTime currentTime = LocalDateTime.now();
+            DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+            String formattedDateTime = currentTime.format(formatter);
+            Object proceed = joinPoint.proceed();
+            long executionTime = System.currentTimeMillis() - start;
+            System.out.println("\u001B[34m" + formattedDateTime + " "
+                    + joinPoint.getSignature().getName() + " "
+                    + joinPoint.getSignature().toString() + " "
+                    + Arrays.toString(joinPoint.getArgs()) +
+                    " executed in " + executionTime + "ms" + "\u001B[0m");
+            return proceed;
+        }
+    }
+}
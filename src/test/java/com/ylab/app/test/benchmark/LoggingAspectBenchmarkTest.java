@@ -0,0 +1,40 @@
+package com.ylab.app.test.benchmark;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Collection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * LoggingAspectBenchmarkTest class runs the {@link LoggingAspectBenchmark} JMH benchmark with the GC profiler,
+ * so the report shows the allocated bytes per call next to the time per call.
+ * <p>
+ * Run with {@code mvn test -Pbenchmark -Dtest=LoggingAspectBenchmarkTest}.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+@Tag("benchmark")
+public class LoggingAspectBenchmarkTest {
+
+    @Test
+    @DisplayName("logging aspect overhead and allocation rate before and after")
+    public void loggedCallOverhead() throws Exception {
+        Options options = new OptionsBuilder()
+                .include(LoggingAspectBenchmark.class.getName())
+                .addProfiler(GCProfiler.class)
+                .build();
+
+        Collection<RunResult> results = new Runner(options).run();
+
+        assertThat(results).hasSize(3);
+    }
+}
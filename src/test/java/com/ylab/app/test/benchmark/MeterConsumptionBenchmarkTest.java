@@ -0,0 +1,125 @@
+package com.ylab.app.test.benchmark;
+
+import com.ylab.app.dbService.dao.impl.MeterReadingDaoImpl;
+import com.ylab.app.dbService.dao.impl.ReadingTypeRegistryImpl;
+import com.ylab.app.model.MeterConsumption;
+import com.ylab.app.model.MeterReading;
+import com.ylab.app.model.MeterReadingDetails;
+import com.ylab.app.model.User;
+import com.ylab.app.model.UserRole;
+import com.ylab.app.test.util.TestContainersRepository;
+import com.ylab.app.test.util.TestDatabase;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * MeterConsumptionBenchmarkTest class checks the consumption computed on insert and by the {@code LAG} query of
+ * {@link MeterReadingDaoImpl}, and compares the query with diffing the full history in Java.
+ * <p>
+ * Run with {@code mvn test -Pbenchmark}; the history size is set by {@code -Dbenchmark.consumptionReadings}.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+@Tag("benchmark")
+@Testcontainers(disabledWithoutDocker = true)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class MeterConsumptionBenchmarkTest extends TestContainersRepository {
+    private static final int READINGS = Integer.getInteger("benchmark.consumptionReadings", 20_000);
+    private static final String USER_NAME = "consumption_user";
+    private static final LocalDateTime START = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    private MeterReadingDaoImpl meterReadingDao;
+    private User user;
+
+    @BeforeAll
+    public void setUp() throws Exception {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(TestDatabase.migratedDataSource(postgreSQLContainer));
+        meterReadingDao = new MeterReadingDaoImpl(jdbcTemplate, new ReadingTypeRegistryImpl(jdbcTemplate));
+        user = new User(USER_NAME, "", UserRole.USER);
+    }
+
+    @Test
+    @DisplayName("consumption is computed on insert from the previous reading")
+    public void insertMeterReading_ComputesConsumption() {
+        MeterReading first = reading("C-1", START, 100.0);
+        meterReadingDao.insertMeterReading(first);
+        MeterReading second = reading("C-1", START.plusDays(1), 112.5);
+        meterReadingDao.insertMeterReading(second);
+        MeterReading third = reading("C-1", START.plusDays(2), 120.0);
+        MeterReading fourth = reading("C-1", START.plusDays(3), 131.0);
+        meterReadingDao.insertMeterReadings(List.of(third, fourth));
+
+        assertThat(first.getDetailsList().get(0).getConsumption()).isNull();
+        assertThat(second.getDetailsList().get(0).getConsumption()).isEqualTo(12.5);
+        assertThat(third.getDetailsList().get(0).getConsumption()).isEqualTo(7.5);
+        assertThat(fourth.getDetailsList().get(0).getConsumption()).isEqualTo(11.0);
+    }
+
+    @Test
+    @DisplayName("LAG query returns the period consumption without loading the history")
+    public void selectConsumption_FasterThanHistoryDiff() {
+        for (int from = 0; from < READINGS; from += 5_000) {
+            List<MeterReading> chunk = new ArrayList<>();
+            for (int i = from; i < Math.min(from + 5_000, READINGS); i++) {
+                chunk.add(reading("C-2", START.plusHours(i), i * 1.5));
+            }
+            meterReadingDao.insertMeterReadings(chunk);
+        }
+        LocalDateTime periodStart = START.plusHours(READINGS / 2);
+        LocalDateTime periodEnd = periodStart.plusDays(30);
+
+        long start = System.nanoTime();
+        Map<String, Double> historyDiff = diffHistory(meterReadingDao.selectByUserName(user), periodStart, periodEnd);
+        long historyMicros = (System.nanoTime() - start) / 1_000;
+        start = System.nanoTime();
+        List<MeterConsumption> consumption = meterReadingDao.selectConsumption(user, periodStart, periodEnd);
+        long lagMicros = (System.nanoTime() - start) / 1_000;
+
+        System.out.printf("%-20s %12s%n", "path", "us");
+        System.out.printf("%-20s %12d%n", "history diff", historyMicros);
+        System.out.printf("%-20s %12d%n", "lag query", lagMicros);
+
+        assertThat(consumption).filteredOn(meterConsumption -> meterConsumption.getNumberMeter().equals("C-2"))
+                .singleElement()
+                .satisfies(meterConsumption -> assertThat(meterConsumption.getConsumption())
+                        .isCloseTo(historyDiff.get("C-2"), within(0.001)));
+    }
+
+    private Map<String, Double> diffHistory(List<MeterReading> history, LocalDateTime periodStart, LocalDateTime periodEnd) {
+        Map<String, Double> previous = new HashMap<>();
+        Map<String, Double> consumption = new HashMap<>();
+        history.stream()
+                .filter(meterReading -> meterReading.getDate().isBefore(periodEnd))
+                .sorted((left, right) -> left.getDate().compareTo(right.getDate()))
+                .forEach(meterReading -> {
+                    for (MeterReadingDetails details : meterReading.getDetailsList()) {
+                        Double last = previous.put(meterReading.getNumberMeter(), details.getValue());
+                        if (last != null && !meterReading.getDate().isBefore(periodStart)) {
+                            consumption.merge(meterReading.getNumberMeter(), details.getValue() - last, Double::sum);
+                        }
+                    }
+                });
+        return consumption;
+    }
+
+    private MeterReading reading(String numberMeter, LocalDateTime date, double value) {
+        MeterReading meterReading = new MeterReading(numberMeter, date, user);
+        meterReading.addReadingDetails("gas", value);
+        return meterReading;
+    }
+}
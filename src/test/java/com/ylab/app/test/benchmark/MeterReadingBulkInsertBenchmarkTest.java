@@ -0,0 +1,93 @@
+package com.ylab.app.test.benchmark;
+
+import com.ylab.app.dbService.dao.impl.MeterReadingDaoImpl;
+import com.ylab.app.dbService.dao.impl.ReadingTypeRegistryImpl;
+import com.ylab.app.model.MeterReading;
+import com.ylab.app.model.User;
+import com.ylab.app.model.UserRole;
+import com.ylab.app.test.util.QueryCountingDataSource;
+import com.ylab.app.test.util.TestContainersRepository;
+import com.ylab.app.test.util.TestDatabase;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * MeterReadingBulkInsertBenchmarkTest class compares the write throughput of inserting readings one by one
+ * with the multi-row bulk insert of {@link MeterReadingDaoImpl} on a PostgreSQL test container.
+ * <p>
+ * Run with {@code mvn test -Pbenchmark}; the batch size is set by {@code -Dbenchmark.bulkReadings}.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+@Tag("benchmark")
+@Testcontainers(disabledWithoutDocker = true)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class MeterReadingBulkInsertBenchmarkTest extends TestContainersRepository {
+    private static final int READINGS = Integer.getInteger("benchmark.bulkReadings", 10_000);
+
+    private QueryCountingDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private MeterReadingDaoImpl meterReadingDao;
+
+    @BeforeAll
+    public void setUp() throws Exception {
+        dataSource = new QueryCountingDataSource(TestDatabase.migratedDataSource(postgreSQLContainer));
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        meterReadingDao = new MeterReadingDaoImpl(jdbcTemplate, new ReadingTypeRegistryImpl(jdbcTemplate));
+    }
+
+    @Test
+    @DisplayName("bulk insert stores a batch of readings with fewer statements than single inserts")
+    public void insertMeterReadings_FasterThanSingleInserts() {
+        Result single = measure("single inserts", readings -> readings.forEach(meterReadingDao::insertMeterReading));
+        Result bulk = measure("bulk insert", meterReadingDao::insertMeterReadings);
+
+        System.out.printf("%-20s %10s %14s %12s%n", "path", "ms", "readings/s", "statements");
+        for (Result result : List.of(single, bulk)) {
+            System.out.printf("%-20s %10d %14d %12d%n", result.label, result.millis,
+                    READINGS * 1000L / Math.max(1, result.millis), result.statements);
+        }
+
+        assertThat(bulk.statements).isLessThan(single.statements);
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM my_schema.mtr WHERE user_name = 'bulk_user'", Long.class))
+                .isEqualTo(2L * READINGS);
+    }
+
+    private Result measure(String label, Consumer<List<MeterReading>> insert) {
+        List<MeterReading> readings = createReadings();
+        dataSource.reset();
+        long start = System.nanoTime();
+        insert.accept(readings);
+        long millis = (System.nanoTime() - start) / 1_000_000;
+        assertThat(readings).allSatisfy(meterReading -> assertThat(meterReading.getId()).isPositive());
+        return new Result(label, millis, dataSource.getStatementCount());
+    }
+
+    private List<MeterReading> createReadings() {
+        User user = new User("bulk_user", "", UserRole.USER);
+        LocalDateTime date = LocalDateTime.of(2024, 1, 1, 0, 0);
+        List<MeterReading> readings = new ArrayList<>(READINGS);
+        for (int i = 0; i < READINGS; i++) {
+            MeterReading meterReading = new MeterReading("BULK" + (i % 100), date.plusMinutes(i), user);
+            meterReading.addReadingDetails("gas", (double) (i % 1000));
+            meterReading.addReadingDetails("water", (double) (i % 100));
+            readings.add(meterReading);
+        }
+        return readings;
+    }
+
+    private record Result(String label, long millis, long statements) {}
+}
@@ -0,0 +1,118 @@
+package com.ylab.app.test.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ylab.app.mapper.MeterReadingDetailsMapperImpl;
+import com.ylab.app.mapper.MeterReadingMapper;
+import com.ylab.app.mapper.MeterReadingMapperImpl;
+import com.ylab.app.model.MeterReading;
+import com.ylab.app.model.MeterReadingColumns;
+import com.ylab.app.model.User;
+import com.ylab.app.model.UserRole;
+import com.ylab.app.model.dto.MeterReadingDto;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MeterReadingColumnsBenchmark class compares loading and serializing readings as one object per reading,
+ * mapped by {@link MeterReadingMapper}, with loading and serializing them as {@link MeterReadingColumns}.
+ * <p>
+ * The rows are prepared in memory the way the dao reads them from the result set, two details per reading,
+ * so the benchmark isolates the object model from the database. It is started by {@link MeterReadingColumnsBenchmarkTest}.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+public class MeterReadingColumnsBenchmark {
+    private static final String[] TYPE_NAMES = {null, "gas", "water"};
+
+    @Param({"1000000"})
+    public int readings;
+
+    private AnnotationConfigApplicationContext mapperContext;
+    private MeterReadingMapper meterReadingMapper;
+    private ObjectMapper objectMapper;
+    private long[] ids;
+    private String[] numberMeters;
+    private LocalDateTime[] dates;
+    private double[] values;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        mapperContext = new AnnotationConfigApplicationContext(MeterReadingMapperImpl.class, MeterReadingDetailsMapperImpl.class);
+        meterReadingMapper = mapperContext.getBean(MeterReadingMapper.class);
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        ids = new long[readings];
+        numberMeters = new String[readings];
+        dates = new LocalDateTime[readings];
+        values = new double[readings * 2];
+        LocalDateTime start = LocalDateTime.of(2023, 1, 1, 0, 0);
+        for (int i = 0; i < readings; i++) {
+            ids[i] = i + 1;
+            numberMeters[i] = "BM" + (i % 100);
+            dates[i] = start.plusMinutes(i);
+            values[2 * i] = i % 1000;
+            values[2 * i + 1] = i % 100;
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        mapperContext.close();
+    }
+
+    @Benchmark
+    public List<MeterReadingDto> objects() {
+        List<MeterReading> meterReadings = new ArrayList<>();
+        for (int i = 0; i < readings; i++) {
+            MeterReading meterReading = new MeterReading(numberMeters[i], dates[i], new User("bench_user", "", UserRole.USER));
+            meterReading.setId(ids[i]);
+            meterReading.addReadingDetails(TYPE_NAMES[1], values[2 * i]);
+            meterReading.addReadingDetails(TYPE_NAMES[2], values[2 * i + 1]);
+            meterReadings.add(meterReading);
+        }
+        List<MeterReadingDto> meterReadingDtos = new ArrayList<>(meterReadings.size());
+        for (MeterReading meterReading : meterReadings) {
+            meterReadingDtos.add(meterReadingMapper.meterReadingToMeterReadingDto(meterReading));
+        }
+        return meterReadingDtos;
+    }
+
+    @Benchmark
+    public MeterReadingColumns columns() {
+        MeterReadingColumns.Builder builder = MeterReadingColumns.builder(1024);
+        for (int i = 0; i < readings; i++) {
+            builder.addReading(ids[i], numberMeters[i], dates[i], "bench_user");
+            for (short typeId = 1; typeId <= 2; typeId++) {
+                if (!builder.hasTypeName(typeId)) {
+                    builder.typeName(typeId, TYPE_NAMES[typeId]);
+                }
+                builder.addDetails(typeId, values[2 * i + typeId - 1]);
+            }
+        }
+        return builder.build();
+    }
+
+    @Benchmark
+    public void objectsJson() throws IOException {
+        objectMapper.writeValue(OutputStream.nullOutputStream(), objects());
+    }
+
+    @Benchmark
+    public void columnsJson() throws IOException {
+        objectMapper.writeValue(OutputStream.nullOutputStream(), columns());
+    }
+}
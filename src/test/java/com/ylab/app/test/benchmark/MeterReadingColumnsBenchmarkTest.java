@@ -0,0 +1,39 @@
+package com.ylab.app.test.benchmark;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Collection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * MeterReadingColumnsBenchmarkTest class runs the {@link MeterReadingColumnsBenchmark} JMH benchmark with the allocation profiler.
+ * <p>
+ * Run with {@code mvn test -Pbenchmark -Dtest=MeterReadingColumnsBenchmarkTest}.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+@Tag("benchmark")
+public class MeterReadingColumnsBenchmarkTest {
+
+    @Test
+    @DisplayName("columnar readings allocate less than one object per reading when loading and serializing")
+    public void meterReadingColumnsAllocation() throws Exception {
+        Options options = new OptionsBuilder()
+                .include(MeterReadingColumnsBenchmark.class.getName())
+                .addProfiler(GCProfiler.class)
+                .build();
+
+        Collection<RunResult> results = new Runner(options).run();
+
+        assertThat(results).hasSize(4);
+    }
+}
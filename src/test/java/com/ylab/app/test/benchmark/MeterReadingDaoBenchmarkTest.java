@@ -0,0 +1,155 @@
+package com.ylab.app.test.benchmark;
+
+import com.ylab.app.dbService.dao.impl.MeterReadingDaoImpl;
+import com.ylab.app.dbService.dao.impl.ReadingTypeRegistryImpl;
+import com.ylab.app.model.MeterReading;
+import com.ylab.app.model.User;
+import com.ylab.app.model.UserRole;
+import com.ylab.app.test.util.QueryCountingDataSource;
+import com.ylab.app.test.util.TestContainersRepository;
+import com.ylab.app.test.util.TestDatabase;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static com.ylab.app.constants.SqlQueryClass.All_READINGS;
+import static com.ylab.app.constants.SqlQueryClass.SELECT_ALL_METER_READINGS;
+import static com.ylab.app.constants.SqlQueryClass.SELECT_USER_NAME;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * MeterReadingDaoBenchmarkTest class compares the read paths of {@link MeterReadingDaoImpl}
+ * with their previous implementations on a PostgreSQL test container.
+ * <p>
+ * Run with {@code mvn test -Pbenchmark}; the data volume is set by {@code -Dbenchmark.readings}
+ * and {@code -Dbenchmark.userReadings}.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+@Tag("benchmark")
+@Testcontainers(disabledWithoutDocker = true)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class MeterReadingDaoBenchmarkTest extends TestContainersRepository {
+    private static final int READINGS = Integer.getInteger("benchmark.readings", 100_000);
+    private static final int USERS = 100;
+    private static final int HEAVY_USER_READINGS = Integer.getInteger("benchmark.userReadings", 20_000);
+    private static final String BENCHMARK_USER = "bench_user_7";
+    private static final String HEAVY_USER = "bench_heavy_user";
+
+    private QueryCountingDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private MeterReadingDaoImpl meterReadingDao;
+
+    private final RowMapper<MeterReading> legacyRowMapper = (rs, rowNum) -> {
+        MeterReading meterReading = new MeterReading(rs.getString("number_meter"),
+                rs.getTimestamp("date").toLocalDateTime(), new User(rs.getString("user_name"), "", UserRole.USER));
+        meterReading.setId(rs.getLong("id"));
+        return meterReading;
+    };
+
+    @BeforeAll
+    public void setUp() throws Exception {
+        dataSource = new QueryCountingDataSource(TestDatabase.migratedDataSource(postgreSQLContainer));
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        meterReadingDao = new MeterReadingDaoImpl(jdbcTemplate, new ReadingTypeRegistryImpl(jdbcTemplate));
+
+        jdbcTemplate.update("INSERT INTO my_schema.mtr (number_meter, date, user_name) "
+                + "SELECT 'BM' || (g % 1000), TIMESTAMP '2023-01-01' + g * INTERVAL '5 minutes', 'bench_user_' || (g % " + USERS + ") "
+                + "FROM generate_series(1, ?) g", READINGS);
+        jdbcTemplate.update("INSERT INTO my_schema.mtr (number_meter, date, user_name) "
+                + "SELECT 'HV' || (g % 3), TIMESTAMP '2023-01-01' + g * INTERVAL '1 hour', ? "
+                + "FROM generate_series(1, ?) g", HEAVY_USER, HEAVY_USER_READINGS);
+        jdbcTemplate.update("INSERT INTO my_schema.mtr_readings (mtr_id, date, type_id, value) "
+                + "SELECT id, date, t.id, id % 1000 FROM my_schema.mtr, my_schema.reading_type t "
+                + "WHERE t.name IN ('gas', 'water') AND user_name LIKE 'bench_%'");
+        jdbcTemplate.execute("ANALYZE my_schema.mtr");
+        jdbcTemplate.execute("ANALYZE my_schema.mtr_readings");
+    }
+
+    @Test
+    @DisplayName("joined read path loads the history of one user with a single query")
+    public void selectByUserName_SingleQuery() {
+        User user = new User(BENCHMARK_USER, "", UserRole.USER);
+
+        Result legacy = measure("per-row details, one user", 5, () -> selectWithDetailsPerRow(SELECT_USER_NAME, BENCHMARK_USER));
+        Result joined = measure("joined, one user", 5, () -> meterReadingDao.selectByUserName(user));
+        report(legacy, joined);
+
+        assertThat(joined.statements).isEqualTo(1);
+        assertThat(joined.readings).isEqualTo(legacy.readings);
+        assertThat(joined.details).isEqualTo(legacy.details);
+    }
+
+    @Test
+    @DisplayName("joined read path loads the complete history with a single query")
+    public void selectByAllMeterReadings_SingleQuery() {
+        Result legacy = measure("per-row details, all users", 1, () -> selectWithDetailsPerRow(SELECT_ALL_METER_READINGS));
+        Result joined = measure("joined, all users", 3, () -> meterReadingDao.selectByAllMeterReadings());
+        report(legacy, joined);
+
+        assertThat(joined.statements).isEqualTo(1);
+        assertThat(joined.readings).isEqualTo(legacy.readings);
+        assertThat(joined.details).isEqualTo(legacy.details);
+    }
+
+    @Test
+    @DisplayName("date range query returns one month of a user with a large history")
+    public void selectByUserNameAndDateRange_FiltersInDatabase() {
+        User user = new User(HEAVY_USER, "", UserRole.USER);
+        YearMonth month = YearMonth.of(2024, 3);
+
+        Result inMemory = measure("history filtered in java", 5, () -> meterReadingDao.selectByUserName(user).stream()
+                .filter(meterReading -> YearMonth.from(meterReading.getDate()).equals(month))
+                .collect(Collectors.toList()));
+        Result ranged = measure("date range in sql", 5, () -> meterReadingDao.selectByUserNameAndDateRange(user,
+                month.atDay(1).atStartOfDay(), month.plusMonths(1).atDay(1).atStartOfDay()));
+        report(inMemory, ranged);
+
+        assertThat(ranged.readings).isEqualTo(inMemory.readings);
+        assertThat(ranged.details).isEqualTo(inMemory.details);
+    }
+
+    private List<MeterReading> selectWithDetailsPerRow(String sql, Object... args) {
+        List<MeterReading> meterReadings = jdbcTemplate.query(sql, legacyRowMapper, args);
+        for (MeterReading meterReading : meterReadings) {
+            jdbcTemplate.query(All_READINGS, rs -> {
+                meterReading.addReadingDetails(rs.getString("type"), rs.getDouble("value"));
+            }, meterReading.getId());
+        }
+        return meterReadings;
+    }
+
+    private Result measure(String label, int iterations, Supplier<List<MeterReading>> query) {
+        query.get();
+        dataSource.reset();
+        List<MeterReading> meterReadings = null;
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            meterReadings = query.get();
+        }
+        long averageMillis = (System.nanoTime() - start) / iterations / 1_000_000;
+        long details = meterReadings.stream().mapToLong(meterReading -> meterReading.getDetailsList().size()).sum();
+        return new Result(label, averageMillis, dataSource.getStatementCount() / iterations, meterReadings.size(), details);
+    }
+
+    private void report(Result before, Result after) {
+        System.out.printf("%-30s %10s %12s %10s %10s%n", "path", "avg ms", "statements", "readings", "details");
+        for (Result result : List.of(before, after)) {
+            System.out.printf("%-30s %10d %12d %10d %10d%n",
+                    result.label, result.averageMillis, result.statements, result.readings, result.details);
+        }
+    }
+
+    private record Result(String label, long averageMillis, long statements, long readings, long details) {}
+}
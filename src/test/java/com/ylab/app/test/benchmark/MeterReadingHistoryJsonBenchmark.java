@@ -0,0 +1,114 @@
+package com.ylab.app.test.benchmark;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ylab.app.mapper.MeterReadingDetailsMapperImpl;
+import com.ylab.app.mapper.MeterReadingHistoryJsonWriter;
+import com.ylab.app.mapper.MeterReadingMapper;
+import com.ylab.app.mapper.MeterReadingMapperImpl;
+import com.ylab.app.model.MeterReading;
+import com.ylab.app.model.User;
+import com.ylab.app.model.UserRole;
+import com.ylab.app.model.dto.MeterReadingDto;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MeterReadingHistoryJsonBenchmark class compares the serialization of a reading history as a list of
+ * {@link MeterReadingDto}, mapped by {@link MeterReadingMapper}, with the compact history written by
+ * {@link MeterReadingHistoryJsonWriter} straight from the rows.
+ * <p>
+ * The rows are prepared in memory the way the dao reads them from the result set, two details per reading, so the
+ * benchmark isolates mapping and serialization from the database. It is started by {@link MeterReadingHistoryJsonBenchmarkTest}.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = {"-Xms1g", "-Xmx1g"})
+public class MeterReadingHistoryJsonBenchmark {
+    static final String USER_NAME = "bench_user";
+    private static final String[] TYPE_NAMES = {"gas", "water"};
+
+    @Param({"10000"})
+    public int readings;
+
+    private AnnotationConfigApplicationContext mapperContext;
+    private MeterReadingMapper meterReadingMapper;
+    private ObjectMapper objectMapper;
+    private long[] ids;
+    private String[] numberMeters;
+    private LocalDateTime[] dates;
+    private double[] values;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        mapperContext = new AnnotationConfigApplicationContext(MeterReadingMapperImpl.class, MeterReadingDetailsMapperImpl.class);
+        meterReadingMapper = mapperContext.getBean(MeterReadingMapper.class);
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        ids = new long[readings];
+        numberMeters = new String[readings];
+        dates = new LocalDateTime[readings];
+        values = new double[readings * 2];
+        LocalDateTime start = LocalDateTime.of(2023, 1, 1, 0, 0);
+        for (int i = 0; i < readings; i++) {
+            ids[i] = i + 1;
+            numberMeters[i] = "BM" + (i % 3);
+            dates[i] = start.plusHours(i);
+            values[2 * i] = 1000 + i * 1.25;
+            values[2 * i + 1] = 100 + i * 0.5;
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        mapperContext.close();
+    }
+
+    @Benchmark
+    public void dtoJson() throws IOException {
+        writeDtos(OutputStream.nullOutputStream());
+    }
+
+    @Benchmark
+    public void compactJson() throws IOException {
+        writeCompact(OutputStream.nullOutputStream());
+    }
+
+    void writeDtos(OutputStream outputStream) throws IOException {
+        User user = new User(USER_NAME, "", UserRole.USER);
+        List<MeterReadingDto> meterReadingDtos = new ArrayList<>(readings);
+        for (int i = 0; i < readings; i++) {
+            MeterReading meterReading = new MeterReading(numberMeters[i], dates[i], user);
+            meterReading.setId(ids[i]);
+            meterReading.addReadingDetails(TYPE_NAMES[0], values[2 * i]);
+            meterReading.addReadingDetails(TYPE_NAMES[1], values[2 * i + 1]);
+            meterReadingDtos.add(meterReadingMapper.meterReadingToMeterReadingDto(meterReading));
+        }
+        objectMapper.writeValue(outputStream, meterReadingDtos);
+    }
+
+    void writeCompact(OutputStream outputStream) throws IOException {
+        try (JsonGenerator generator = objectMapper.createGenerator(outputStream)) {
+            MeterReadingHistoryJsonWriter writer = new MeterReadingHistoryJsonWriter(generator, USER_NAME);
+            for (int i = 0; i < readings; i++) {
+                writer.reading(ids[i], numberMeters[i], dates[i]);
+                writer.details(TYPE_NAMES[0], values[2 * i]);
+                writer.details(TYPE_NAMES[1], values[2 * i + 1]);
+            }
+            writer.finish();
+        }
+    }
+}
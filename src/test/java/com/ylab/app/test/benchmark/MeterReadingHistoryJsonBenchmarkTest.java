@@ -0,0 +1,57 @@
+package com.ylab.app.test.benchmark;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Collection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * MeterReadingHistoryJsonBenchmarkTest class compares the payload size of the full and the compact history response
+ * and runs the {@link MeterReadingHistoryJsonBenchmark} JMH benchmark with the allocation profiler.
+ * <p>
+ * Run with {@code mvn test -Pbenchmark -Dtest=MeterReadingHistoryJsonBenchmarkTest}.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+@Tag("benchmark")
+public class MeterReadingHistoryJsonBenchmarkTest {
+
+    @Test
+    @DisplayName("compact history of 10k readings is smaller and cheaper to write than the dto history")
+    public void meterReadingHistoryJson() throws Exception {
+        MeterReadingHistoryJsonBenchmark benchmark = new MeterReadingHistoryJsonBenchmark();
+        benchmark.readings = 10_000;
+        benchmark.setUp();
+        ByteArrayOutputStream dtoJson = new ByteArrayOutputStream();
+        ByteArrayOutputStream compactJson = new ByteArrayOutputStream();
+        try {
+            benchmark.writeDtos(dtoJson);
+            benchmark.writeCompact(compactJson);
+        } finally {
+            benchmark.tearDown();
+        }
+        System.out.printf("%-12s %12s %14s%n", "format", "bytes", "bytes/reading");
+        System.out.printf("%-12s %12d %14.1f%n", "dto", dtoJson.size(), dtoJson.size() / 10_000.0);
+        System.out.printf("%-12s %12d %14.1f%n", "compact", compactJson.size(), compactJson.size() / 10_000.0);
+        assertThat(compactJson.size()).isLessThan(dtoJson.size() / 2);
+
+        Options options = new OptionsBuilder()
+                .include(MeterReadingHistoryJsonBenchmark.class.getName())
+                .addProfiler(GCProfiler.class)
+                .build();
+
+        Collection<RunResult> results = new Runner(options).run();
+
+        assertThat(results).hasSize(2);
+    }
+}
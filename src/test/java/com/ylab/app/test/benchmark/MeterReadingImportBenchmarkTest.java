@@ -0,0 +1,84 @@
+package com.ylab.app.test.benchmark;
+
+import com.ylab.app.dbService.dao.impl.MeterReadingDaoImpl;
+import com.ylab.app.dbService.dao.impl.MeterReadingImportDaoImpl;
+import com.ylab.app.dbService.dao.impl.ReadingTypeRegistryImpl;
+import com.ylab.app.model.MeterReading;
+import com.ylab.app.model.User;
+import com.ylab.app.model.UserRole;
+import com.ylab.app.test.util.TestContainersRepository;
+import com.ylab.app.test.util.TestDatabase;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * MeterReadingImportBenchmarkTest class compares the {@code COPY} import path of {@link MeterReadingImportDaoImpl}
+ * with the JDBC batch path of {@link MeterReadingDaoImpl} on a PostgreSQL test container.
+ * <p>
+ * Run with {@code mvn test -Pbenchmark}; the data volume is set by {@code -Dbenchmark.importReadings}.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+@Tag("benchmark")
+@Testcontainers(disabledWithoutDocker = true)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class MeterReadingImportBenchmarkTest extends TestContainersRepository {
+    private static final int READINGS = Integer.getInteger("benchmark.importReadings", 100_000);
+    private static final int CHUNK_SIZE = 10_000;
+
+    private JdbcTemplate jdbcTemplate;
+    private MeterReadingDaoImpl meterReadingDao;
+    private MeterReadingImportDaoImpl importDao;
+
+    @BeforeAll
+    public void setUp() throws Exception {
+        jdbcTemplate = new JdbcTemplate(TestDatabase.migratedDataSource(postgreSQLContainer));
+        meterReadingDao = new MeterReadingDaoImpl(jdbcTemplate, new ReadingTypeRegistryImpl(jdbcTemplate));
+        importDao = new MeterReadingImportDaoImpl(jdbcTemplate, new ReadingTypeRegistryImpl(jdbcTemplate));
+    }
+
+    @Test
+    @DisplayName("COPY import stores historical readings faster than JDBC batches")
+    public void copyMeterReadings_FasterThanBatchInsert() {
+        long batch = measure("batch", meterReadingDao::insertMeterReadings);
+        long copy = measure("copy", importDao::copyMeterReadings);
+
+        System.out.printf("%-10s %10s %14s%n", "path", "ms", "readings/s");
+        System.out.printf("%-10s %10d %14d%n", "batch", batch, READINGS * 1000L / Math.max(1, batch));
+        System.out.printf("%-10s %10d %14d%n", "copy", copy, READINGS * 1000L / Math.max(1, copy));
+
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM my_schema.mtr_readings r "
+                + "JOIN my_schema.mtr m ON m.id = r.mtr_id WHERE m.user_name = 'import_copy'", Long.class))
+                .isEqualTo(2L * READINGS);
+    }
+
+    private long measure(String label, Consumer<List<MeterReading>> insert) {
+        User user = new User("import_" + label, "", UserRole.USER);
+        LocalDateTime date = LocalDateTime.of(2020, 1, 1, 0, 0);
+        long start = System.nanoTime();
+        for (int from = 0; from < READINGS; from += CHUNK_SIZE) {
+            List<MeterReading> chunk = new ArrayList<>(CHUNK_SIZE);
+            for (int i = from; i < Math.min(from + CHUNK_SIZE, READINGS); i++) {
+                MeterReading meterReading = new MeterReading("IMP" + (i % 100), date.plusMinutes(i), user);
+                meterReading.addReadingDetails("gas", (double) (i % 1000));
+                meterReading.addReadingDetails("water", i % 100 + 0.25);
+                chunk.add(meterReading);
+            }
+            insert.accept(chunk);
+        }
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+}
@@ -0,0 +1,125 @@
+package com.ylab.app.test.benchmark;
+
+import com.ylab.app.dbService.dao.impl.MeterReadingDaoImpl;
+import com.ylab.app.dbService.dao.impl.ReadingTypeRegistryImpl;
+import com.ylab.app.model.MeterReading;
+import com.ylab.app.model.User;
+import com.ylab.app.model.UserRole;
+import com.ylab.app.test.util.TestContainersRepository;
+import com.ylab.app.test.util.TestDatabase;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * MeterReadingLatestBenchmarkTest class compares the current readings served from the {@code mtr_latest} read model
+ * with the previous {@code MAX(id)} lookup on a PostgreSQL test container holding a large reading history.
+ * <p>
+ * Run with {@code mvn test -Pbenchmark -Dtest=MeterReadingLatestBenchmarkTest}; the history size is set by
+ * {@code -Dbenchmark.latestReadings}, e.g. {@code -Dbenchmark.latestReadings=50000000} for the 50M rows case.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+@Tag("benchmark")
+@Testcontainers(disabledWithoutDocker = true)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class MeterReadingLatestBenchmarkTest extends TestContainersRepository {
+    private static final int READINGS = Integer.getInteger("benchmark.latestReadings", 1_000_000);
+    private static final int USERS = Integer.getInteger("benchmark.latestUsers", 10_000);
+    private static final int METERS_PER_USER = 3;
+    private static final int LOOKUPS = 2_000;
+    private static final String LEGACY_CURRENT_READING = "SELECT mr.id, mr.number_meter, mr.date, mr.user_name, rt.name AS type, mv.value "
+            + "FROM my_schema.mtr mr LEFT JOIN my_schema.mtr_readings mv ON mr.id = mv.mtr_id "
+            + "LEFT JOIN my_schema.reading_type rt ON rt.id = mv.type_id "
+            + "WHERE mr.id = (SELECT MAX(id) FROM my_schema.mtr WHERE user_name = ?) ORDER BY mr.id, mv.id";
+    private static final String BACKFILL_METER_LATEST = "INSERT INTO my_schema.mtr_latest (user_name, number_meter, type, mtr_id, date, value) "
+            + "SELECT DISTINCT ON (mr.user_name, mr.number_meter, rt.name) mr.user_name, mr.number_meter, rt.name, mr.id, mr.date, mv.value "
+            + "FROM my_schema.mtr mr JOIN my_schema.mtr_readings mv ON mr.id = mv.mtr_id "
+            + "JOIN my_schema.reading_type rt ON rt.id = mv.type_id "
+            + "ORDER BY mr.user_name, mr.number_meter, rt.name, mr.date DESC, mr.id DESC, mv.id DESC";
+
+    private JdbcTemplate jdbcTemplate;
+    private MeterReadingDaoImpl meterReadingDao;
+    private long backfillMillis;
+
+    @BeforeAll
+    public void setUp() throws Exception {
+        jdbcTemplate = new JdbcTemplate(TestDatabase.migratedDataSource(postgreSQLContainer));
+        meterReadingDao = new MeterReadingDaoImpl(jdbcTemplate, new ReadingTypeRegistryImpl(jdbcTemplate));
+
+        jdbcTemplate.update("INSERT INTO my_schema.mtr (number_meter, date, user_name) "
+                + "SELECT 'LT' || (g % " + USERS * METERS_PER_USER + "), TIMESTAMP '2020-01-01' + g * INTERVAL '1 second', "
+                + "'latest_user_' || (g % " + USERS + ") FROM generate_series(1, ?) g", READINGS);
+        jdbcTemplate.update("INSERT INTO my_schema.mtr_readings (mtr_id, date, type_id, value) "
+                + "SELECT id, date, t.id, id % 1000 FROM my_schema.mtr, my_schema.reading_type t "
+                + "WHERE t.name IN ('gas', 'water') AND user_name LIKE 'latest_user_%'");
+        jdbcTemplate.execute("ANALYZE my_schema.mtr");
+        jdbcTemplate.execute("ANALYZE my_schema.mtr_readings");
+
+        long start = System.nanoTime();
+        jdbcTemplate.update("DELETE FROM my_schema.mtr_latest");
+        jdbcTemplate.update(BACKFILL_METER_LATEST);
+        jdbcTemplate.execute("ANALYZE my_schema.mtr_latest");
+        backfillMillis = (System.nanoTime() - start) / 1_000_000;
+    }
+
+    @Test
+    @DisplayName("current readings are read from the read model with one indexed lookup")
+    public void selectCurrentMaterReading_ReadsLatestTable() {
+        long legacy = measure(userName -> jdbcTemplate.query(LEGACY_CURRENT_READING, (rs, rowNum) -> rs.getLong("id"), userName));
+        long latest = measure(userName -> meterReadingDao.selectCurrentMaterReading(new User(userName, "", UserRole.USER)));
+
+        System.out.printf("history rows: %d, backfill: %d ms%n", READINGS, backfillMillis);
+        System.out.printf("%-20s %12s%n", "path", "avg us");
+        System.out.printf("%-20s %12d%n", "max(id) lookup", legacy);
+        System.out.printf("%-20s %12d%n", "mtr_latest", latest);
+
+        List<MeterReading> current = meterReadingDao.selectCurrentMaterReading(new User("latest_user_7", "", UserRole.USER));
+        assertThat(current.stream().map(MeterReading::getNumberMeter).distinct()).hasSize(METERS_PER_USER);
+    }
+
+    @Test
+    @DisplayName("insertMeterReading keeps the read model up to date")
+    public void insertMeterReading_UpdatesLatestTable() {
+        User user = new User("latest_user_7", "", UserRole.USER);
+        MeterReading meterReading = new MeterReading("LT7", LocalDateTime.of(2100, 1, 1, 0, 0), user);
+        meterReading.addReadingDetails("gas", 12345.0);
+        meterReadingDao.insertMeterReading(meterReading);
+
+        assertThat(meterReadingDao.selectCurrentMaterReading(user))
+                .filteredOn(current -> current.getId().equals(meterReading.getId()))
+                .singleElement()
+                .satisfies(current -> {
+                    assertThat(current.getNumberMeter()).isEqualTo("LT7");
+                    assertThat(current.getDetailsList()).singleElement()
+                            .satisfies(details -> assertThat(details.getValue()).isEqualTo(12345.0));
+                });
+    }
+
+    private long measure(Function<String, List<?>> lookup) {
+        for (int i = 0; i < LOOKUPS / 10; i++) {
+            lookup.apply(randomUser());
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < LOOKUPS; i++) {
+            lookup.apply(randomUser());
+        }
+        return (System.nanoTime() - start) / LOOKUPS / 1_000;
+    }
+
+    private String randomUser() {
+        return "latest_user_" + ThreadLocalRandom.current().nextInt(USERS);
+    }
+}
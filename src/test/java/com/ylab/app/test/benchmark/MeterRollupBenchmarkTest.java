@@ -0,0 +1,106 @@
+package com.ylab.app.test.benchmark;
+
+import com.ylab.app.config.RollupProperties;
+import com.ylab.app.dbService.dao.impl.MeterReadingDaoImpl;
+import com.ylab.app.dbService.dao.impl.ReadingTypeRegistryImpl;
+import com.ylab.app.dbService.dao.impl.RollupDaoImpl;
+import com.ylab.app.model.MeterReading;
+import com.ylab.app.model.MeterRollup;
+import com.ylab.app.model.User;
+import com.ylab.app.model.UserRole;
+import com.ylab.app.service.impl.RollupServiceImpl;
+import com.ylab.app.test.util.TestContainersRepository;
+import com.ylab.app.test.util.TestDatabase;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * MeterRollupBenchmarkTest class checks the rollups maintained by {@link RollupServiceImpl} against the raw history,
+ * and compares a monthly summary read from the rollups with aggregating the history loaded by {@code selectByUserName}.
+ * <p>
+ * Run with {@code mvn test -Pbenchmark}; the history size is set by {@code -Dbenchmark.rollupReadings}.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+@Tag("benchmark")
+@Testcontainers(disabledWithoutDocker = true)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class MeterRollupBenchmarkTest extends TestContainersRepository {
+    private static final int READINGS = Integer.getInteger("benchmark.rollupReadings", 50_000);
+    private static final LocalDateTime START = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    private MeterReadingDaoImpl meterReadingDao;
+    private RollupServiceImpl rollupService;
+    private User user;
+
+    @BeforeAll
+    public void setUp() throws Exception {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(TestDatabase.migratedDataSource(postgreSQLContainer));
+        meterReadingDao = new MeterReadingDaoImpl(jdbcTemplate, new ReadingTypeRegistryImpl(jdbcTemplate));
+        RollupProperties properties = new RollupProperties();
+        properties.setChunkSize(5_000);
+        properties.setCatchUpThreshold(10_000);
+        rollupService = new RollupServiceImpl(new RollupDaoImpl(jdbcTemplate), properties);
+        user = new User("rollup_user", "", UserRole.USER);
+
+        for (int from = 0; from < READINGS; from += 5_000) {
+            List<MeterReading> chunk = new ArrayList<>();
+            for (int i = from; i < Math.min(from + 5_000, READINGS); i++) {
+                MeterReading meterReading = new MeterReading("R-" + (i % 2), START.plusMinutes(30L * i), user);
+                meterReading.addReadingDetails("gas", i * 0.5);
+                chunk.add(meterReading);
+            }
+            meterReadingDao.insertMeterReadings(chunk);
+        }
+    }
+
+    @Test
+    @DisplayName("parallel catch-up builds monthly rollups matching the raw history")
+    public void monthlyRollups_MatchHistoryAndFasterThanHistoryScan() {
+        long start = System.nanoTime();
+        rollupService.aggregate();
+        long catchUpMillis = (System.nanoTime() - start) / 1_000_000;
+
+        YearMonth month = YearMonth.of(2024, 3);
+        start = System.nanoTime();
+        List<MeterReading> history = meterReadingDao.selectByUserName(user);
+        double[] scanned = history.stream()
+                .filter(meterReading -> meterReading.getNumberMeter().equals("R-0"))
+                .filter(meterReading -> YearMonth.from(meterReading.getDate()).equals(month))
+                .mapToDouble(meterReading -> meterReading.getDetailsList().get(0).getValue())
+                .toArray();
+        long historyMicros = (System.nanoTime() - start) / 1_000;
+        start = System.nanoTime();
+        List<MeterRollup> rollups = meterReadingDao.selectMonthRollups(user, LocalDate.of(2024, 3, 1));
+        long rollupMicros = (System.nanoTime() - start) / 1_000;
+
+        System.out.printf("%-20s %12s%n", "path", "us");
+        System.out.printf("%-20s %12d%n", "history scan", historyMicros);
+        System.out.printf("%-20s %12d%n", "monthly rollup", rollupMicros);
+        System.out.printf("%-20s %12d%n", "catch-up ms", catchUpMillis);
+
+        assertThat(rollups).filteredOn(rollup -> rollup.getNumberMeter().equals("R-0"))
+                .singleElement()
+                .satisfies(rollup -> {
+                    assertThat(rollup.getReadings()).isEqualTo(scanned.length);
+                    assertThat(rollup.getMinValue()).isCloseTo(scanned[0], within(0.001));
+                    assertThat(rollup.getMaxValue()).isCloseTo(scanned[scanned.length - 1], within(0.001));
+                    assertThat(rollup.getLastValue()).isCloseTo(scanned[scanned.length - 1], within(0.001));
+                });
+    }
+}
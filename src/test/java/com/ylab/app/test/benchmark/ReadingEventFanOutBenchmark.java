@@ -0,0 +1,124 @@
+package com.ylab.app.test.benchmark;
+
+import com.ylab.app.config.ReadingEventProperties;
+import com.ylab.app.mapper.MeterReadingDetailsMapperImpl;
+import com.ylab.app.mapper.MeterReadingMapper;
+import com.ylab.app.mapper.MeterReadingMapperImpl;
+import com.ylab.app.model.MeterReading;
+import com.ylab.app.model.User;
+import com.ylab.app.model.UserRole;
+import com.ylab.app.service.ReadingEventSink;
+import com.ylab.app.service.UserService;
+import com.ylab.app.service.impl.ReadingEventServiceImpl;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * ReadingEventFanOutBenchmark class measures the time from publishing one reading until every subscriber of the
+ * reading stream has received it, with 5k subscribers to the readings of all users.
+ * <p>
+ * The subscribers only count what they receive, so the benchmark measures the publisher and the delivery threads.
+ * In the second case some subscribers take a millisecond per reading and share the delivery threads with the others;
+ * as the next reading is only published once the fast subscribers have the previous one, their buffers do not fill
+ * and the benchmark shows what slow but not stalled subscribers cost. It is started by
+ * {@link ReadingEventFanOutBenchmarkTest}.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = {"-Xms1g", "-Xmx1g"})
+public class ReadingEventFanOutBenchmark {
+    private static final long SLOW_SEND_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long WAIT_NANOS = TimeUnit.MICROSECONDS.toNanos(20);
+
+    @Param({"5000"})
+    public int subscribers;
+
+    @Param({"0", "50"})
+    public int slowSubscribers;
+
+    private final AtomicLong delivered = new AtomicLong();
+    private AnnotationConfigApplicationContext mapperContext;
+    private ReadingEventServiceImpl readingEventService;
+    private User user;
+    private long nextId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        mapperContext = new AnnotationConfigApplicationContext(MeterReadingMapperImpl.class, MeterReadingDetailsMapperImpl.class);
+        UserService userService = Mockito.mock(UserService.class);
+        User admin = new User("bench_admin", "password", UserRole.ADMIN);
+        Mockito.when(userService.hasRoleAdmin(admin)).thenReturn(true);
+        readingEventService = new ReadingEventServiceImpl(userService, null, mapperContext.getBean(MeterReadingMapper.class),
+                Jackson2ObjectMapperBuilder.json().build(), new ReadingEventProperties());
+        for (int i = 0; i < subscribers; i++) {
+            readingEventService.subscribe(admin, true, null, i < slowSubscribers ? new SlowSink() : new CountingSink());
+        }
+        user = new User("bench_user", "password", UserRole.USER);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        System.out.printf("subscribers=%d slow=%d evicted=%d remaining=%d%n", subscribers, slowSubscribers,
+                readingEventService.getEvictedCount(), readingEventService.getSubscriberCount());
+        readingEventService.destroy();
+        mapperContext.close();
+    }
+
+    @Benchmark
+    public long publishToAllSubscribers() {
+        long target = delivered.get() + subscribers - slowSubscribers;
+        MeterReading reading = new MeterReading("BM-1", LocalDateTime.of(2026, 10, 18, 10, 0), user);
+        reading.setId(++nextId);
+        reading.addReadingDetails("gas", 1000.0 + nextId);
+        reading.addReadingDetails("water", 100.0 + nextId);
+        readingEventService.publish(List.of(reading));
+        while (delivered.get() < target) {
+            LockSupport.parkNanos(WAIT_NANOS);
+        }
+        return target;
+    }
+
+    private class CountingSink implements ReadingEventSink {
+        @Override
+        public void send(long id, String json) {
+            delivered.incrementAndGet();
+        }
+
+        @Override
+        public void reset() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    private static class SlowSink implements ReadingEventSink {
+        @Override
+        public void send(long id, String json) {
+            LockSupport.parkNanos(SLOW_SEND_NANOS);
+        }
+
+        @Override
+        public void reset() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.ylab.app.test.benchmark;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Collection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ReadingEventFanOutBenchmarkTest class runs the {@link ReadingEventFanOutBenchmark} JMH benchmark with the
+ * allocation profiler.
+ * <p>
+ * Run with {@code mvn test -Pbenchmark -Dtest=ReadingEventFanOutBenchmarkTest}.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+@Tag("benchmark")
+public class ReadingEventFanOutBenchmarkTest {
+
+    @Test
+    @DisplayName("one reading reaches 5k subscribers with and without slow subscribers")
+    public void readingEventFanOut() throws Exception {
+        Options options = new OptionsBuilder()
+                .include(ReadingEventFanOutBenchmark.class.getName())
+                .addProfiler(GCProfiler.class)
+                .build();
+
+        Collection<RunResult> results = new Runner(options).run();
+
+        assertThat(results).hasSize(2);
+    }
+}
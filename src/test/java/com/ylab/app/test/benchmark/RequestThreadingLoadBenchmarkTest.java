@@ -0,0 +1,190 @@
+package com.ylab.app.test.benchmark;
+
+import com.ylab.app.StartApplication;
+import com.ylab.app.test.util.TestContainersRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * RequestThreadingLoadBenchmarkTest class compares the throughput and latency of {@code /meter-readings/submit}
+ * and {@code /meter-readings/history} with requests on platform threads and on virtual threads.
+ * <p>
+ * The application is started twice against a PostgreSQL test container with the {@code virtual-threads} profile,
+ * once with {@code spring.threads.virtual.enabled=false}, so both runs share the connection pool and connector
+ * settings and only the request threads differ. The virtual thread run needs a Java 21 or later runtime and is
+ * skipped on older ones. Run with {@code mvn test -Pbenchmark,virtual-threads -Dtest=RequestThreadingLoadBenchmarkTest};
+ * the load is set by {@code -Dbenchmark.clients}, {@code -Dbenchmark.users} and {@code -Dbenchmark.seconds}.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+@Tag("benchmark")
+@Testcontainers(disabledWithoutDocker = true)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class RequestThreadingLoadBenchmarkTest extends TestContainersRepository {
+    private static final int CLIENTS = Integer.getInteger("benchmark.clients", 2000);
+    private static final int USERS = Integer.getInteger("benchmark.users", 100);
+    private static final int SECONDS = Integer.getInteger("benchmark.seconds", 30);
+    private static final String PASSWORD = "load_password";
+    private static final String READING = "{\"numberMeter\":\"LOAD-1\",\"detailsList\":[{\"type\":\"gas\",\"value\":12.5},{\"type\":\"water\",\"value\":3.0}]}";
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(30))
+            .followRedirects(HttpClient.Redirect.NEVER)
+            .build();
+
+    @Test
+    @DisplayName("submit and history throughput and latency with platform and virtual request threads")
+    public void requestThreading_ThroughputAndLatency() throws Exception {
+        List<Result> results = new ArrayList<>(run("platform", false));
+        if (Runtime.version().feature() >= 21) {
+            results.addAll(run("virtual", true));
+        } else {
+            System.out.printf("virtual threads need Java 21 or later, running on Java %d%n", Runtime.version().feature());
+        }
+
+        System.out.printf("%-10s %-10s %10s %10s %10s %10s %8s%n", "threads", "endpoint", "requests", "req/s", "p50 ms", "p99 ms", "errors");
+        for (Result result : results) {
+            System.out.printf("%-10s %-10s %10d %10d %10.1f %10.1f %8d%n", result.threads, result.endpoint, result.requests,
+                    result.requests / SECONDS, result.p50Millis, result.p99Millis, result.errors);
+        }
+        assertThat(results).allSatisfy(result -> assertThat(result.requests).isPositive());
+    }
+
+    private List<Result> run(String threads, boolean virtual) throws Exception {
+        try (ConfigurableApplicationContext application = new SpringApplicationBuilder(StartApplication.class)
+                .profiles("virtual-threads")
+                .run("--server.port=0",
+                        "--spring.threads.virtual.enabled=" + virtual,
+                        "--spring.datasource.url=" + postgreSQLContainer.getJdbcUrl(),
+                        "--spring.datasource.username=" + postgreSQLContainer.getUsername(),
+                        "--spring.datasource.password=" + postgreSQLContainer.getPassword(),
+                        "--ylab.rollup.enabled=false",
+                        "--logging.level.root=WARN")) {
+            String baseUrl = "http://localhost:" + application.getEnvironment().getProperty("local.server.port");
+            List<String> sessions = login(baseUrl, "load_" + threads + "_");
+
+            Recorder submit = new Recorder();
+            Recorder history = new Recorder();
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(SECONDS);
+            ExecutorService clients = Executors.newFixedThreadPool(CLIENTS);
+            try {
+                List<Future<?>> futures = new ArrayList<>(CLIENTS);
+                for (int i = 0; i < CLIENTS; i++) {
+                    String session = sessions.get(i % sessions.size());
+                    futures.add(clients.submit(() -> drive(baseUrl, session, deadline, submit, history)));
+                }
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+            } finally {
+                clients.shutdownNow();
+            }
+            return List.of(submit.result(threads, "submit"), history.result(threads, "history"));
+        }
+    }
+
+    private List<String> login(String baseUrl, String userPrefix) throws Exception {
+        List<String> sessions = new ArrayList<>(USERS);
+        for (int i = 0; i < USERS; i++) {
+            String username = userPrefix + i;
+            httpClient.send(HttpRequest.newBuilder(URI.create(baseUrl + "/register"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString("{\"username\":\"" + username + "\",\"password\":\"" + PASSWORD + "\",\"role\":\"USER\"}"))
+                    .build(), HttpResponse.BodyHandlers.discarding());
+            HttpResponse<Void> response = httpClient.send(HttpRequest.newBuilder(URI.create(baseUrl + "/login"))
+                    .header("Content-Type", "application/x-www-form-urlencoded")
+                    .POST(HttpRequest.BodyPublishers.ofString("user_name=" + URLEncoder.encode(username, StandardCharsets.UTF_8)
+                            + "&password=" + PASSWORD))
+                    .build(), HttpResponse.BodyHandlers.discarding());
+            String session = response.headers().allValues("Set-Cookie").stream()
+                    .filter(cookie -> cookie.startsWith("JSESSIONID="))
+                    .map(cookie -> cookie.substring(0, cookie.indexOf(';')))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalStateException("No session for " + username));
+            sessions.add(session);
+        }
+        return sessions;
+    }
+
+    private void drive(String baseUrl, String session, long deadline, Recorder submit, Recorder history) {
+        HttpRequest submitRequest = HttpRequest.newBuilder(URI.create(baseUrl + "/meter-readings/submit"))
+                .header("Content-Type", "application/json")
+                .header("Cookie", session)
+                .POST(HttpRequest.BodyPublishers.ofString(READING))
+                .build();
+        HttpRequest historyRequest = HttpRequest.newBuilder(URI.create(baseUrl + "/meter-readings/history"))
+                .header("Cookie", session)
+                .GET()
+                .build();
+        boolean submitNext = true;
+        while (System.nanoTime() < deadline) {
+            send(submitNext ? submitRequest : historyRequest, submitNext ? submit : history);
+            submitNext = !submitNext;
+        }
+    }
+
+    private void send(HttpRequest request, Recorder recorder) {
+        long start = System.nanoTime();
+        try {
+            HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+            recorder.record(System.nanoTime() - start, response.statusCode() < 400);
+        } catch (Exception e) {
+            recorder.record(System.nanoTime() - start, false);
+        }
+    }
+
+    private static class Recorder {
+        private long[] latencies = new long[1 << 16];
+        private int size;
+        private long errors;
+
+        synchronized void record(long nanos, boolean success) {
+            if (!success) {
+                errors++;
+                return;
+            }
+            if (size == latencies.length) {
+                latencies = Arrays.copyOf(latencies, size * 2);
+            }
+            latencies[size++] = nanos;
+        }
+
+        synchronized Result result(String threads, String endpoint) {
+            long[] sorted = Arrays.copyOf(latencies, size);
+            Arrays.sort(sorted);
+            return new Result(threads, endpoint, size, percentile(sorted, 0.50), percentile(sorted, 0.99), errors);
+        }
+
+        private static double percentile(long[] sorted, double percentile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            return sorted[Math.min(sorted.length - 1, (int) (sorted.length * percentile))] / 1_000_000.0;
+        }
+    }
+
+    private record Result(String threads, String endpoint, long requests, double p50Millis, double p99Millis, long errors) {}
+}
@@ -0,0 +1,77 @@
+package com.ylab.app.test.benchmark;
+
+import com.ylab.app.StartApplication;
+import com.ylab.app.test.load.LatencyRecorder;
+import com.ylab.app.test.load.LoadDataGenerator;
+import com.ylab.app.test.load.LoadDriver;
+import com.ylab.app.test.load.LoadProfile;
+import com.ylab.app.test.load.LoadReport;
+import com.ylab.app.test.util.TestContainersRepository;
+import com.ylab.app.test.util.TestDatabase;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.nio.file.Path;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * RestApiLoadBenchmarkTest class drives the REST API with a generated production-sized data set.
+ * <p>
+ * The data is generated by {@link LoadDataGenerator} into a PostgreSQL test container, then the application is started
+ * against it and {@link LoadDriver} sends the request mix of the {@link LoadProfile} after a warm-up. The throughput and
+ * latency percentiles per endpoint are printed and written to {@code target/load-reports/rest-api-<start>.json}.
+ * Run with {@code mvn test -Pbenchmark -Dtest=RestApiLoadBenchmarkTest}, for example with
+ * {@code -Dload.users=1000000 -Dload.mode=open -Dload.rate=500}; see {@link LoadProfile} for all properties.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+@Tag("benchmark")
+@Testcontainers(disabledWithoutDocker = true)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class RestApiLoadBenchmarkTest extends TestContainersRepository {
+    private final LoadProfile profile = LoadProfile.fromSystemProperties();
+    private LoadDataGenerator.Volume volume;
+
+    @BeforeAll
+    public void setUp() throws Exception {
+        volume = new LoadDataGenerator(TestDatabase.migratedDataSource(postgreSQLContainer))
+                .generate(profile.getUsers(), profile.getMonths(), profile.getSeed());
+        System.out.printf("generated %d users, %d meters, %d readings with %d details in %d ms%n",
+                volume.users(), volume.meters(), volume.readings(), volume.details(), volume.millis());
+    }
+
+    @Test
+    @DisplayName("throughput and latency percentiles of the REST API under the configured load")
+    public void restApi_ThroughputAndLatency() throws Exception {
+        try (ConfigurableApplicationContext application = new SpringApplicationBuilder(StartApplication.class)
+                .run("--server.port=0",
+                        "--spring.datasource.url=" + postgreSQLContainer.getJdbcUrl(),
+                        "--spring.datasource.username=" + postgreSQLContainer.getUsername(),
+                        "--spring.datasource.password=" + postgreSQLContainer.getPassword(),
+                        "--ylab.rollup.enabled=false",
+                        "--ylab.partitions.enabled=false",
+                        "--logging.level.root=WARN");
+             LoadDriver driver = new LoadDriver("http://localhost:"
+                     + application.getEnvironment().getProperty("local.server.port"), profile)) {
+            driver.login(profile.getUsers());
+            driver.run(profile.getWarmupSeconds());
+
+            Instant startedAt = Instant.now();
+            LoadReport report = LoadReport.of(startedAt, profile, volume, driver.run(profile.getSeconds()));
+            report.print();
+            report.write(Path.of("target", "load-reports", "rest-api-" + startedAt.getEpochSecond() + ".json"));
+
+            assertThat(report.endpoints()).extracting(LatencyRecorder.EndpointResult::requests)
+                    .allSatisfy(requests -> assertThat(requests).isPositive());
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.ylab.app.test.controllers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ylab.app.controllers.MeterController;
+import com.ylab.app.model.User;
+import com.ylab.app.model.UserRole;
+import com.ylab.app.model.dto.MeterReadingDto;
+import com.ylab.app.service.MeterService;
+import com.ylab.app.service.impl.ReadingVersionServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.method.annotation.AuthenticationPrincipalArgumentResolver;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * MeterControllerConditionalGetTest class checks that reading endpoints answer conditional requests with 304 until
+ * readings of the user are written.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+public class MeterControllerConditionalGetTest {
+    private final MeterService meterService = Mockito.mock(MeterService.class);
+    private final ReadingVersionServiceImpl readingVersionService = new ReadingVersionServiceImpl();
+    private final User user = new User("alice", "password", UserRole.USER);
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    public void setUp() {
+        MeterController meterController = new MeterController(meterService, new ObjectMapper(), readingVersionService);
+        mockMvc = MockMvcBuilders.standaloneSetup(meterController)
+                .setCustomArgumentResolvers(new AuthenticationPrincipalArgumentResolver())
+                .build();
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+        MeterReadingDto reading = new MeterReadingDto();
+        reading.setNumberMeter("M-1");
+        when(meterService.getReadingsHistory(user)).thenReturn(List.of(reading));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("unchanged history is answered with 304 without reading it again")
+    public void unchangedHistoryIsNotModified() throws Exception {
+        String eTag = mockMvc.perform(get("/meter-readings/history"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/meter-readings/history").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag));
+
+        verify(meterService, times(1)).getReadingsHistory(user);
+    }
+
+    @Test
+    @DisplayName("history is sent again with a new entity tag after readings of the user are written")
+    public void changedHistoryIsSentAgain() throws Exception {
+        String eTag = mockMvc.perform(get("/meter-readings/history"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        readingVersionService.recordWrite(user);
+
+        String newETag = mockMvc.perform(get("/meter-readings/history").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(newETag).isNotEqualTo(eTag);
+        verify(meterService, times(2)).getReadingsHistory(user);
+    }
+
+    @Test
+    @DisplayName("month readings of the defaulted year carry the year in the entity tag")
+    public void defaultedYearIsPartOfEntityTag() throws Exception {
+        String defaulted = mockMvc.perform(get("/meter-readings/month/1"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        String explicit = mockMvc.perform(get("/meter-readings/month/1").param("year", "2024"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        assertThat(defaulted).isNotEqualTo(explicit);
+    }
+}
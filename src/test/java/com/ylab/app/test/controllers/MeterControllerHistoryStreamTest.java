@@ -0,0 +1,89 @@
+package com.ylab.app.test.controllers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ylab.app.controllers.GlobalExceptionHandler;
+import com.ylab.app.controllers.MeterController;
+import com.ylab.app.exception.userException.UserValidationException;
+import com.ylab.app.model.User;
+import com.ylab.app.model.UserRole;
+import com.ylab.app.service.MeterService;
+import com.ylab.app.service.impl.ReadingVersionServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.method.annotation.AuthenticationPrincipalArgumentResolver;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * MeterControllerHistoryStreamTest class checks that the streamed history of all users is refused before the response
+ * is committed and that only this endpoint gets the long async timeout.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+public class MeterControllerHistoryStreamTest {
+    private final MeterService meterService = Mockito.mock(MeterService.class);
+    private final User user = new User("alice", "password", UserRole.USER);
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    public void setUp() {
+        MeterController meterController = new MeterController(meterService, new ObjectMapper(), new ReadingVersionServiceImpl());
+        mockMvc = MockMvcBuilders.standaloneSetup(meterController)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .setCustomArgumentResolvers(new AuthenticationPrincipalArgumentResolver())
+                .build();
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("a non-admin user is refused with 400 instead of a truncated 200")
+    public void nonAdminIsRefusedBeforeStreaming() throws Exception {
+        doThrow(new UserValidationException("Invalid or unauthorized user")).when(meterService).validateAdminUser(user);
+
+        mockMvc.perform(get("/meter-readings/history/all/stream"))
+                .andExpect(request().asyncNotStarted())
+                .andExpect(status().isBadRequest());
+
+        verify(meterService, never()).streamAllReadingsHistory(eq(user), any());
+    }
+
+    @Test
+    @DisplayName("an admin gets the streamed array with the endpoint's own async timeout")
+    public void adminStreamGetsLongTimeout() throws Exception {
+        MvcResult result = mockMvc.perform(get("/meter-readings/history/all/stream"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        assertThat(result.getRequest().getAsyncContext().getTimeout()).isEqualTo(Duration.ofMinutes(30).toMillis());
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().json("[]"));
+    }
+}
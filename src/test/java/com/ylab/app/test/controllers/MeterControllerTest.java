@@ -1,9 +1,12 @@
 package com.ylab.app.test.controllers;
 
 import com.ylab.app.controllers.MeterController;
+import com.ylab.app.model.MeterReadingColumns;
 import com.ylab.app.model.User;
+import com.ylab.app.model.dto.MeterReadingBulkResultDto;
 import com.ylab.app.model.dto.MeterReadingDetailsDto;
 import com.ylab.app.model.dto.MeterReadingDto;
+import com.ylab.app.model.dto.MeterReadingPageDto;
 import com.ylab.app.service.impl.MeterServiceImpl;
 import org.junit.Before;
 import org.junit.Test;
@@ -19,6 +22,7 @@ import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 
@@ -27,6 +31,7 @@ import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 /**
@@ -101,6 +106,20 @@ public class MeterControllerTest {
                 .andExpect(status().isCreated());
     }
 
+    @Test
+    @WithMockUser(username = "test", password = "test", roles = "USER")
+    @DisplayName("submitMeterReadingsBulk creates the submitted meter readings for the authenticated user when successful")
+    public void testSubmitMeterReadingsBulk() throws Exception {
+        when(meterService.submitReadings(any(User.class), any(List.class)))
+                .thenReturn(new MeterReadingBulkResultDto(2, List.of(1L, 2L), List.of()));
+
+        mockMvc.perform(post("/meter-readings/submit/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[{\"numberMeter\":\"123456789\",\"detailsList\":[{\"type\":\"Gas\",\"value\":200}]}," +
+                                "{\"numberMeter\":\"987654321\",\"detailsList\":[{\"type\":\"Gas\",\"value\":100}]}]"))
+                .andExpect(status().isCreated());
+    }
+
     @Test
     @WithMockUser(username = "test", password = "test", roles = "USER")
     @DisplayName("getMeterReadingHistory returns a list of meter reading history for the authenticated user when successful")
@@ -111,13 +130,36 @@ public class MeterControllerTest {
                 .andExpect(status().isOk());
     }
 
+    @Test
+    @WithMockUser(username = "test", password = "test", roles = "USER")
+    @DisplayName("getMeterReadingHistoryColumns returns the meter reading history as primitive columns when successful")
+    public void testGetMeterReadingHistoryColumns() throws Exception {
+        MeterReadingColumns columns = MeterReadingColumns.builder(2)
+                .addReading(1L, "123456789", LocalDateTime.of(2024, 1, 1, 0, 0), "test")
+                .typeName((short) 1, "gas")
+                .addDetails((short) 1, 100.0)
+                .addDetails((short) 1, 200.7)
+                .addReading(2L, "987654321", LocalDateTime.of(2024, 2, 1, 0, 0), "test")
+                .build();
+        when(meterService.getReadingsHistoryColumns(any())).thenReturn(columns);
+
+        mockMvc.perform(get("/meter-readings/history/columns"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.size").value(2))
+                .andExpect(jsonPath("$.ids[1]").value(2))
+                .andExpect(jsonPath("$.detailOffsets[2]").value(2))
+                .andExpect(jsonPath("$.values[1]").value(200.7))
+                .andExpect(jsonPath("$.typeNames.1").value("gas"));
+    }
+
     @Test
     @WithMockUser(username = "test", password = "test", roles = "USER")
     @DisplayName("testGetMeterReadingByMonth returns a list of meter reading by month for the authenticated user when successful")
     public void testGetMeterReadingByMonth() throws Exception {
-        Mockito.when(meterService.getReadingsByMonth(any(User.class), anyInt())).thenReturn(meterReadingDtoList);
+        Mockito.when(meterService.getReadingsByMonth(any(User.class), anyInt(), anyInt())).thenReturn(meterReadingDtoList);
 
         mockMvc.perform(get("/meter-readings/month/3")
+                        .param("year", "2024")
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON));
@@ -134,6 +176,20 @@ public class MeterControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON));
     }
-}
 
+    @Test
+    @WithMockUser(username = "test", password = "test", roles = "ADMIN")
+    @DisplayName("getMeterReadingAllHistoryPage returns a keyset page of meter reading history when successful")
+    public void testGetMeterReadingAllHistoryPage() throws Exception {
+        Mockito.when(meterService.getAllReadingsHistoryPage(any(User.class), anyLong(), anyInt()))
+                .thenReturn(new MeterReadingPageDto(meterReadingDtoList, null));
+
+        mockMvc.perform(get("/meter-readings/history/all/page")
+                        .param("afterId", "0")
+                        .param("limit", "2")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON));
+    }
+}
 
@@ -0,0 +1,66 @@
+package com.ylab.app.test.controllers;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ylab.app.mapper.MeterReadingHistoryJsonWriter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringWriter;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * MeterReadingHistoryJsonWriterTest class checks the compact history format written by {@link MeterReadingHistoryJsonWriter}.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+public class MeterReadingHistoryJsonWriterTest {
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("history is written with the user once and the details of every reading as a type to value map")
+    public void writesCompactHistory() throws Exception {
+        StringWriter json = new StringWriter();
+        try (JsonGenerator generator = objectMapper.createGenerator(json)) {
+            MeterReadingHistoryJsonWriter writer = new MeterReadingHistoryJsonWriter(generator, "alice");
+            writer.reading(1L, "M-1", LocalDateTime.of(2024, 1, 10, 8, 0));
+            writer.details("gas", 12.5);
+            writer.details("water", 3.0);
+            writer.reading(2L, "M-2", LocalDateTime.of(2024, 2, 10, 8, 30, 15));
+            writer.details("gas", 13.0);
+            writer.details("gas", 14.0);
+            writer.reading(3L, "M-3", LocalDateTime.of(2024, 3, 1, 0, 0, 0, 123_000_000));
+            writer.finish();
+        }
+
+        JsonNode history = objectMapper.readTree(json.toString());
+        assertThat(history.get("user").asText()).isEqualTo("alice");
+        assertThat(history.get("readings")).hasSize(3);
+        JsonNode first = history.get("readings").get(0);
+        assertThat(first.get("id").asLong()).isEqualTo(1L);
+        assertThat(first.get("numberMeter").asText()).isEqualTo("M-1");
+        assertThat(first.get("date").asText()).isEqualTo("2024-01-10T08:00:00");
+        assertThat(first.get("values").get("gas").asDouble()).isEqualTo(12.5);
+        assertThat(first.get("values").get("water").asDouble()).isEqualTo(3.0);
+        assertThat(history.get("readings").get(1).get("values").size()).isEqualTo(1);
+        assertThat(history.get("readings").get(1).get("values").get("gas").asDouble()).isEqualTo(14.0);
+        assertThat(history.get("readings").get(1).get("date").asText()).isEqualTo("2024-02-10T08:30:15");
+        assertThat(history.get("readings").get(2).get("date").asText()).isEqualTo("2024-03-01T00:00:00.123");
+        assertThat(history.get("readings").get(2).get("values").isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("empty history is written as an empty readings array")
+    public void writesEmptyHistory() throws Exception {
+        StringWriter json = new StringWriter();
+        try (JsonGenerator generator = objectMapper.createGenerator(json)) {
+            new MeterReadingHistoryJsonWriter(generator, "bob").finish();
+        }
+
+        assertThat(json.toString()).isEqualTo("{\"user\":\"bob\",\"readings\":[]}");
+    }
+}
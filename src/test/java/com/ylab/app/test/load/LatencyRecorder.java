@@ -0,0 +1,84 @@
+package com.ylab.app.test.load;
+
+import java.util.Arrays;
+
+/**
+ * LatencyRecorder class collects the latencies and failures of the requests to one endpoint.
+ * <p>
+ * Requests that could not be sent because too many were in flight are counted as dropped.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+public class LatencyRecorder {
+    private long[] latencies = new long[1 << 16];
+    private int size;
+    private long errors;
+    private long dropped;
+
+    /**
+     * Records the latency of a request.
+     *
+     * @param nanos   the latency in nanoseconds
+     * @param success true if the request succeeded
+     */
+    public synchronized void record(long nanos, boolean success) {
+        if (!success) {
+            errors++;
+            return;
+        }
+        if (size == latencies.length) {
+            latencies = Arrays.copyOf(latencies, size * 2);
+        }
+        latencies[size++] = nanos;
+    }
+
+    /**
+     * Records a request that was not sent.
+     */
+    public synchronized void drop() {
+        dropped++;
+    }
+
+    /**
+     * Summarizes the recorded requests.
+     *
+     * @param endpoint the endpoint of the requests
+     * @param seconds  the duration of the run in seconds
+     * @return the summary
+     */
+    public synchronized EndpointResult result(LoadEndpoint endpoint, double seconds) {
+        long[] sorted = Arrays.copyOf(latencies, size);
+        Arrays.sort(sorted);
+        double mean = size == 0 ? 0 : Arrays.stream(sorted).average().orElse(0) / 1_000_000.0;
+        return new EndpointResult(endpoint.getKey(), size, errors, dropped, size / seconds,
+                percentile(sorted, 0.50), percentile(sorted, 0.90), percentile(sorted, 0.99), percentile(sorted, 0.999),
+                size == 0 ? 0 : sorted[size - 1] / 1_000_000.0, mean);
+    }
+
+    private static double percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        return sorted[Math.min(sorted.length - 1, (int) Math.ceil(sorted.length * percentile) - 1)] / 1_000_000.0;
+    }
+
+    /**
+     * EndpointResult record summarizes the requests to one endpoint; latencies are in milliseconds.
+     *
+     * @param endpoint   the endpoint key
+     * @param requests   the number of successful requests
+     * @param errors     the number of failed requests
+     * @param dropped    the number of requests not sent
+     * @param throughput the successful requests per second
+     * @param p50Millis  the median latency
+     * @param p90Millis  the 90th percentile latency
+     * @param p99Millis  the 99th percentile latency
+     * @param p999Millis the 99.9th percentile latency
+     * @param maxMillis  the maximum latency
+     * @param meanMillis the mean latency
+     */
+    public record EndpointResult(String endpoint, long requests, long errors, long dropped, double throughput,
+                                 double p50Millis, double p90Millis, double p99Millis, double p999Millis,
+                                 double maxMillis, double meanMillis) {}
+}
@@ -0,0 +1,194 @@
+package com.ylab.app.test.load;
+
+import com.ylab.app.dbService.dao.impl.PartitionDaoImpl;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+import org.postgresql.copy.PGCopyOutputStream;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import javax.sql.DataSource;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+
+import static com.ylab.app.constants.CreateSchemaSql.COPY_METER_SCHEMA;
+import static com.ylab.app.constants.CreateSchemaSql.COPY_READING_DATA_SCHEMA;
+import static com.ylab.app.constants.SqlQueryClass.SELECT_READING_TYPES;
+
+/**
+ * LoadDataGenerator class fills a migrated database with synthetic users, meters and readings for load tests.
+ * <p>
+ * All rows are streamed with {@code COPY}, so millions of readings load in minutes. The data follows a few
+ * household patterns: most users have one to three meters, each meter reports gas and water, sometimes hot water
+ * too; meters are read once a month on a random day, except for a small share of very active users who report daily.
+ * Every meter and type is a counter that grows by a log-normally distributed consumption. All users share one
+ * password, {@link #PASSWORD}, and there is one administrator, {@link #ADMIN}. The month partitions of the generated
+ * range are created first, and the {@code mtr_consumption} and {@code mtr_latest} read models are filled at the end.
+ * The same seed produces the same data.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+public class LoadDataGenerator {
+    public static final String USER_PREFIX = "load_user_";
+    public static final String ADMIN = "load_admin";
+    public static final String PASSWORD = "load_password";
+    private static final int COPY_BUFFER_SIZE = 1 << 16;
+    private static final double ACTIVE_USER_SHARE = 0.01;
+    private static final String[][] TYPE_SETS = {{"gas", "water"}, {"gas", "water"}, {"water", "hot_water"}, {"gas", "water", "hot_water"}};
+    private static final Map<String, Double> MEAN_CONSUMPTION = Map.of("gas", 80.0, "water", 9.0, "hot_water", 4.0);
+    private static final String COPY_USERS = "COPY my_schema.usr (username, password, role) FROM STDIN WITH (FORMAT csv)";
+    private static final String FILL_LATEST = "INSERT INTO my_schema.mtr_latest AS ml (user_name, number_meter, type, mtr_id, date, value) "
+            + "SELECT DISTINCT ON (mr.user_name, mr.number_meter, rt.name) mr.user_name, mr.number_meter, rt.name, mr.id, mr.date, mv.value "
+            + "FROM my_schema.mtr mr JOIN my_schema.mtr_readings mv ON mv.mtr_id = mr.id AND mv.date = mr.date "
+            + "JOIN my_schema.reading_type rt ON rt.id = mv.type_id WHERE mr.id > ? "
+            + "ORDER BY mr.user_name, mr.number_meter, rt.name, mr.date DESC, mr.id DESC "
+            + "ON CONFLICT (user_name, number_meter, type) DO UPDATE SET mtr_id = EXCLUDED.mtr_id, date = EXCLUDED.date, value = EXCLUDED.value";
+
+    private static final String FILL_CONSUMPTION = "INSERT INTO my_schema.mtr_consumption (mtr_id, type, user_name, number_meter, date, delta) "
+            + "SELECT mr.id, rt.name, mr.user_name, mr.number_meter, mr.date, "
+            + "mv.value - LAG(mv.value) OVER (PARTITION BY mr.user_name, mr.number_meter, rt.name ORDER BY mr.date, mr.id) "
+            + "FROM my_schema.mtr mr JOIN my_schema.mtr_readings mv ON mv.mtr_id = mr.id AND mv.date = mr.date "
+            + "JOIN my_schema.reading_type rt ON rt.id = mv.type_id WHERE mr.id > ?";
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Instantiates a new load data generator.
+     *
+     * @param dataSource the data source of a migrated database
+     */
+    public LoadDataGenerator(DataSource dataSource) {
+        this.dataSource = dataSource;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    /**
+     * Generates the users with their meters and readings of the last months.
+     *
+     * @param users  the number of users
+     * @param months the number of months of history
+     * @param seed   the seed of the random generator
+     * @return the volume of the generated data
+     * @throws SQLException if the data cannot be copied
+     */
+    public Volume generate(int users, int months, long seed) throws SQLException {
+        long start = System.nanoTime();
+        Random random = new Random(seed);
+        YearMonth lastMonth = YearMonth.now();
+        YearMonth firstMonth = lastMonth.minusMonths(months - 1L);
+        PartitionDaoImpl partitionDao = new PartitionDaoImpl(jdbcTemplate);
+        for (YearMonth month = firstMonth; !month.isAfter(lastMonth); month = month.plusMonths(1)) {
+            partitionDao.createMonthPartition(month);
+        }
+        Map<String, Short> typeIds = new HashMap<>();
+        jdbcTemplate.query(SELECT_READING_TYPES, rs -> {
+            typeIds.put(rs.getString("name"), rs.getShort("id"));
+        });
+        long firstId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM my_schema.mtr", Long.class) + 1;
+
+        long meters = 0;
+        long readings = 0;
+        long details = 0;
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            CopyManager copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+            try (Writer usersWriter = copyWriter(copyManager, COPY_USERS)) {
+                String hash = new BCryptPasswordEncoder().encode(PASSWORD);
+                usersWriter.write(ADMIN + "," + hash + ",ADMIN\n");
+                for (int user = 0; user < users; user++) {
+                    usersWriter.write(USER_PREFIX + user + "," + hash + ",USER\n");
+                }
+            }
+            long id = firstId;
+            try (Writer meterWriter = copyWriter(copyManager, COPY_METER_SCHEMA);
+                 Writer detailsWriter = copyWriter(copyManager, COPY_READING_DATA_SCHEMA)) {
+                for (int user = 0; user < users; user++) {
+                    String userName = USER_PREFIX + user;
+                    boolean active = random.nextDouble() < ACTIVE_USER_SHARE;
+                    int userMeters = 1 + Math.min(4, geometric(random, 0.55));
+                    for (int meter = 0; meter < userMeters; meter++) {
+                        meters++;
+                        String numberMeter = "LM-" + user + "-" + meter;
+                        String[] types = TYPE_SETS[random.nextInt(TYPE_SETS.length)];
+                        double[] counters = new double[types.length];
+                        for (int t = 0; t < types.length; t++) {
+                            counters[t] = Math.floor(random.nextDouble() * 1000);
+                        }
+                        for (YearMonth month = firstMonth; !month.isAfter(lastMonth); month = month.plusMonths(1)) {
+                            int monthReadings = active ? month.lengthOfMonth() : 1;
+                            for (int r = 0; r < monthReadings; r++) {
+                                int day = active ? r + 1 : 1 + random.nextInt(28);
+                                LocalDateTime date = month.atDay(day).atTime(random.nextInt(24), random.nextInt(60), random.nextInt(60));
+                                if (date.isAfter(LocalDateTime.now())) {
+                                    continue;
+                                }
+                                meterWriter.write(id + "," + numberMeter + "," + date + "," + userName + "\n");
+                                for (int t = 0; t < types.length; t++) {
+                                    counters[t] += consumption(random, MEAN_CONSUMPTION.get(types[t]) / monthReadings);
+                                    detailsWriter.write(id + "," + date + "," + typeIds.get(types[t]) + ","
+                                            + String.format(Locale.ROOT, "%.2f", counters[t] % 10_000_000) + "\n");
+                                    details++;
+                                }
+                                id++;
+                                readings++;
+                            }
+                        }
+                    }
+                }
+            }
+            connection.commit();
+        } catch (IOException e) {
+            throw new SQLException("Failed to copy load data", e);
+        }
+        jdbcTemplate.queryForObject("SELECT setval(pg_get_serial_sequence('my_schema.mtr', 'id'), ?)", Long.class,
+                firstId + readings);
+        jdbcTemplate.update(FILL_CONSUMPTION, firstId - 1);
+        jdbcTemplate.update(FILL_LATEST, firstId - 1);
+        for (String table : new String[]{"usr", "mtr", "mtr_readings", "mtr_consumption", "mtr_latest"}) {
+            jdbcTemplate.execute("ANALYZE my_schema." + table);
+        }
+        return new Volume(users + 1, meters, readings, details, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private static int geometric(Random random, double p) {
+        int failures = 0;
+        while (random.nextDouble() > p) {
+            failures++;
+        }
+        return failures;
+    }
+
+    private static double consumption(Random random, double mean) {
+        double sigma = 0.5;
+        return mean * Math.exp(sigma * random.nextGaussian() - sigma * sigma / 2);
+    }
+
+    private static Writer copyWriter(CopyManager copyManager, String sql) throws SQLException {
+        PGCopyOutputStream outputStream = new PGCopyOutputStream(copyManager.copyIn(sql), COPY_BUFFER_SIZE);
+        return new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), COPY_BUFFER_SIZE);
+    }
+
+    /**
+     * Volume record describes the generated data.
+     *
+     * @param users    the number of users including the administrator
+     * @param meters   the number of meters
+     * @param readings the number of readings
+     * @param details  the number of reading details
+     * @param millis   the duration of the generation
+     */
+    public record Volume(long users, long meters, long readings, long details, long millis) {}
+}
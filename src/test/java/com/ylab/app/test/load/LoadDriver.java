@@ -0,0 +1,218 @@
+package com.ylab.app.test.load;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * LoadDriver class sends a mix of requests to the REST API of a running application and records their latencies.
+ * <p>
+ * Every request is sent with the session of a random user logged in by {@link #login(int)}; the complete history is
+ * requested by the administrator. In an open loop the send times are planned up front with exponentially distributed
+ * gaps, and the latency of a request is measured from its planned send time, so a stalled server shows up in the
+ * percentiles instead of slowing down the clients. In a closed loop every client waits for its response before
+ * sending the next request.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+public class LoadDriver implements AutoCloseable {
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final String baseUrl;
+    private final LoadProfile profile;
+    private final ExecutorService responseExecutor;
+    private final HttpClient httpClient;
+    private final LoadEndpoint[] endpoints;
+    private final double[] cumulativeWeights;
+    private final List<String> userNames = new ArrayList<>();
+    private final List<String> sessions = new ArrayList<>();
+    private String adminSession;
+
+    /**
+     * Instantiates a new load driver.
+     *
+     * @param baseUrl the url of the application, for example {@code http://localhost:8080}
+     * @param profile the load profile
+     */
+    public LoadDriver(String baseUrl, LoadProfile profile) {
+        this.baseUrl = baseUrl;
+        this.profile = profile;
+        this.responseExecutor = Executors.newFixedThreadPool(Math.max(4, Runtime.getRuntime().availableProcessors()));
+        this.httpClient = HttpClient.newBuilder()
+                .executor(responseExecutor)
+                .connectTimeout(Duration.ofSeconds(10))
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .build();
+        this.endpoints = profile.getMix().keySet().toArray(new LoadEndpoint[0]);
+        this.cumulativeWeights = new double[endpoints.length];
+        double total = 0;
+        for (int i = 0; i < endpoints.length; i++) {
+            total += profile.getMix().get(endpoints[i]);
+            cumulativeWeights[i] = total;
+        }
+    }
+
+    /**
+     * Logs in the generated administrator and the specified number of generated users spread over all users.
+     *
+     * @param users the number of generated users
+     * @throws Exception if a login fails
+     */
+    public void login(int users) throws Exception {
+        adminSession = session(LoadDataGenerator.ADMIN);
+        int step = Math.max(1, users / profile.getSessions());
+        for (int user = 0; user < users && sessions.size() < profile.getSessions(); user += step) {
+            String userName = LoadDataGenerator.USER_PREFIX + user;
+            userNames.add(userName);
+            sessions.add(session(userName));
+        }
+    }
+
+    /**
+     * Sends requests for the specified duration.
+     *
+     * @param seconds the duration in seconds
+     * @return the recorders by endpoint
+     * @throws Exception if the clients fail
+     */
+    public Map<LoadEndpoint, LatencyRecorder> run(int seconds) throws Exception {
+        Map<LoadEndpoint, LatencyRecorder> recorders = new EnumMap<>(LoadEndpoint.class);
+        for (LoadEndpoint endpoint : endpoints) {
+            recorders.put(endpoint, new LatencyRecorder());
+        }
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+        if (profile.isOpenLoop()) {
+            runOpenLoop(deadline, recorders);
+        } else {
+            runClosedLoop(deadline, recorders);
+        }
+        return recorders;
+    }
+
+    private void runOpenLoop(long deadline, Map<LoadEndpoint, LatencyRecorder> recorders) throws InterruptedException {
+        AtomicInteger inFlight = new AtomicInteger();
+        double meanGapNanos = TimeUnit.SECONDS.toNanos(1) / profile.getRate();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long planned = System.nanoTime();
+        while (planned < deadline) {
+            planned += (long) (-Math.log(1 - random.nextDouble()) * meanGapNanos);
+            long wait = planned - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            LoadEndpoint endpoint = nextEndpoint(random);
+            LatencyRecorder recorder = recorders.get(endpoint);
+            if (inFlight.get() >= profile.getMaxInFlight()) {
+                recorder.drop();
+                continue;
+            }
+            inFlight.incrementAndGet();
+            long start = planned;
+            httpClient.sendAsync(request(endpoint, random), HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, error) -> {
+                        inFlight.decrementAndGet();
+                        recorder.record(System.nanoTime() - start, error == null && response.statusCode() < 400);
+                    });
+        }
+        while (inFlight.get() > 0) {
+            Thread.sleep(10);
+        }
+    }
+
+    private void runClosedLoop(long deadline, Map<LoadEndpoint, LatencyRecorder> recorders) throws Exception {
+        ExecutorService clients = Executors.newFixedThreadPool(profile.getConcurrency());
+        try {
+            List<Future<?>> futures = new ArrayList<>(profile.getConcurrency());
+            for (int i = 0; i < profile.getConcurrency(); i++) {
+                futures.add(clients.submit(() -> {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    while (System.nanoTime() < deadline) {
+                        LoadEndpoint endpoint = nextEndpoint(random);
+                        long start = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = httpClient.send(request(endpoint, random), HttpResponse.BodyHandlers.discarding());
+                            recorders.get(endpoint).record(System.nanoTime() - start, response.statusCode() < 400);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            return;
+                        } catch (Exception e) {
+                            recorders.get(endpoint).record(System.nanoTime() - start, false);
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            clients.shutdownNow();
+        }
+    }
+
+    private LoadEndpoint nextEndpoint(ThreadLocalRandom random) {
+        double point = random.nextDouble() * cumulativeWeights[cumulativeWeights.length - 1];
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (point < cumulativeWeights[i]) {
+                return endpoints[i];
+            }
+        }
+        return endpoints[endpoints.length - 1];
+    }
+
+    private HttpRequest request(LoadEndpoint endpoint, ThreadLocalRandom random) {
+        int user = random.nextInt(sessions.size());
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + endpoint.getPath())).timeout(REQUEST_TIMEOUT);
+        switch (endpoint) {
+            case LOGIN -> builder.header("Content-Type", "application/x-www-form-urlencoded")
+                    .POST(HttpRequest.BodyPublishers.ofString(loginForm(userNames.get(user))));
+            case SUBMIT -> builder.header("Content-Type", "application/json")
+                    .header("Cookie", sessions.get(user))
+                    .POST(HttpRequest.BodyPublishers.ofString(String.format(Locale.ROOT,
+                            "{\"numberMeter\":\"LM-%s-0\",\"detailsList\":[{\"type\":\"gas\",\"value\":%.2f},{\"type\":\"water\",\"value\":%.2f}]}",
+                            userNames.get(user).substring(LoadDataGenerator.USER_PREFIX.length()),
+                            random.nextDouble(100_000), random.nextDouble(10_000))));
+            case HISTORY_ALL -> builder.header("Cookie", adminSession).GET();
+            default -> builder.header("Cookie", sessions.get(user)).GET();
+        }
+        return builder.build();
+    }
+
+    private String session(String userName) throws Exception {
+        HttpResponse<Void> response = httpClient.send(HttpRequest.newBuilder(URI.create(baseUrl + LoadEndpoint.LOGIN.getPath()))
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString(loginForm(userName)))
+                .build(), HttpResponse.BodyHandlers.discarding());
+        return response.headers().allValues("Set-Cookie").stream()
+                .filter(cookie -> cookie.startsWith("JSESSIONID="))
+                .map(cookie -> cookie.substring(0, cookie.indexOf(';')))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("No session for " + userName));
+    }
+
+    @Override
+    public void close() {
+        responseExecutor.shutdownNow();
+    }
+
+    private static String loginForm(String userName) {
+        return "user_name=" + URLEncoder.encode(userName, StandardCharsets.UTF_8)
+                + "&password=" + URLEncoder.encode(LoadDataGenerator.PASSWORD, StandardCharsets.UTF_8);
+    }
+}
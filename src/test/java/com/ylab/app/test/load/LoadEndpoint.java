@@ -0,0 +1,47 @@
+package com.ylab.app.test.load;
+
+/**
+ * LoadEndpoint enum lists the REST endpoints driven by the load tests.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+public enum LoadEndpoint {
+    LOGIN("login", "/login"),
+    SUBMIT("submit", "/meter-readings/submit"),
+    CURRENT("current", "/meter-readings/current"),
+    HISTORY("history", "/meter-readings/history"),
+    HISTORY_ALL("historyAll", "/meter-readings/history/all");
+
+    private final String key;
+    private final String path;
+
+    LoadEndpoint(String key, String path) {
+        this.key = key;
+        this.path = path;
+    }
+
+    /**
+     * Finds the endpoint with the specified key.
+     *
+     * @param key the key used in {@code load.mix}
+     * @return the endpoint
+     * @throws IllegalArgumentException if no endpoint has the key
+     */
+    public static LoadEndpoint fromKey(String key) {
+        for (LoadEndpoint endpoint : values()) {
+            if (endpoint.key.equals(key)) {
+                return endpoint;
+            }
+        }
+        throw new IllegalArgumentException("Unknown endpoint " + key);
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public String getPath() {
+        return path;
+    }
+}
@@ -0,0 +1,164 @@
+package com.ylab.app.test.load;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * LoadProfile class describes the data volume and the load of a load test run.
+ * <p>
+ * The profile is read from system properties, so a run is tuned from the command line:
+ * <ul>
+ *     <li>{@code load.users}, {@code load.months}, {@code load.seed} - the generated data</li>
+ *     <li>{@code load.mode} - {@code open} sends requests at {@code load.rate} requests per second with Poisson
+ *     arrivals whatever the response times are, at most {@code load.maxInFlight} at once; {@code closed} runs
+ *     {@code load.concurrency} clients that send the next request when the previous one is answered</li>
+ *     <li>{@code load.seconds}, {@code load.warmupSeconds} - the measured and the warm-up duration</li>
+ *     <li>{@code load.sessions} - the number of users logged in before the run</li>
+ *     <li>{@code load.mix} - the weights of the endpoints, for example {@code submit:30,current:30,history:30,login:10}</li>
+ * </ul>
+ * The complete history of all users grows with the data volume, so {@code historyAll} is not part of the default mix.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+public class LoadProfile {
+    public static final String DEFAULT_MIX = "submit:30,current:30,history:30,login:10,historyAll:0";
+
+    private final int users;
+    private final int months;
+    private final long seed;
+    private final boolean openLoop;
+    private final double rate;
+    private final int maxInFlight;
+    private final int concurrency;
+    private final int seconds;
+    private final int warmupSeconds;
+    private final int sessions;
+    private final Map<LoadEndpoint, Double> mix;
+
+    private LoadProfile(int users, int months, long seed, boolean openLoop, double rate, int maxInFlight, int concurrency,
+                        int seconds, int warmupSeconds, int sessions, Map<LoadEndpoint, Double> mix) {
+        this.users = users;
+        this.months = months;
+        this.seed = seed;
+        this.openLoop = openLoop;
+        this.rate = rate;
+        this.maxInFlight = maxInFlight;
+        this.concurrency = concurrency;
+        this.seconds = seconds;
+        this.warmupSeconds = warmupSeconds;
+        this.sessions = sessions;
+        this.mix = Collections.unmodifiableMap(mix);
+    }
+
+    /**
+     * Reads the profile from the system properties.
+     *
+     * @return the load profile
+     * @throws IllegalArgumentException if a property has an invalid value
+     */
+    public static LoadProfile fromSystemProperties() {
+        String mode = System.getProperty("load.mode", "open");
+        if (!mode.equals("open") && !mode.equals("closed")) {
+            throw new IllegalArgumentException("Invalid load.mode " + mode + ", expected open or closed");
+        }
+        return new LoadProfile(
+                Integer.getInteger("load.users", 100_000),
+                Integer.getInteger("load.months", 24),
+                Long.getLong("load.seed", 42L),
+                mode.equals("open"),
+                Double.parseDouble(System.getProperty("load.rate", "200")),
+                Integer.getInteger("load.maxInFlight", 512),
+                Integer.getInteger("load.concurrency", 64),
+                Integer.getInteger("load.seconds", 60),
+                Integer.getInteger("load.warmupSeconds", 15),
+                Integer.getInteger("load.sessions", 200),
+                parseMix(System.getProperty("load.mix", DEFAULT_MIX)));
+    }
+
+    /**
+     * Parses the weights of the endpoints; endpoints without a weight are not called.
+     *
+     * @param mix the comma separated {@code endpoint:weight} pairs
+     * @return the weights by endpoint
+     * @throws IllegalArgumentException if an endpoint or a weight is invalid
+     */
+    public static Map<LoadEndpoint, Double> parseMix(String mix) {
+        Map<LoadEndpoint, Double> weights = new EnumMap<>(LoadEndpoint.class);
+        for (String entry : mix.split(",")) {
+            String[] pair = entry.trim().split(":");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("Invalid load.mix entry " + entry);
+            }
+            double weight = Double.parseDouble(pair[1]);
+            if (weight < 0) {
+                throw new IllegalArgumentException("Negative weight of " + pair[0]);
+            }
+            if (weight > 0) {
+                weights.put(LoadEndpoint.fromKey(pair[0].trim()), weight);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("No endpoint in load.mix " + mix);
+        }
+        return weights;
+    }
+
+    public int getUsers() {
+        return users;
+    }
+
+    public int getMonths() {
+        return months;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public boolean isOpenLoop() {
+        return openLoop;
+    }
+
+    public double getRate() {
+        return rate;
+    }
+
+    public int getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    public int getSeconds() {
+        return seconds;
+    }
+
+    public int getWarmupSeconds() {
+        return warmupSeconds;
+    }
+
+    public int getSessions() {
+        return sessions;
+    }
+
+    public Map<LoadEndpoint, Double> getMix() {
+        return mix;
+    }
+
+    @Override
+    public String toString() {
+        return "LoadProfile{" +
+                "users=" + users +
+                ", months=" + months +
+                ", mode=" + (openLoop ? "open, rate=" + rate + ", maxInFlight=" + maxInFlight : "closed, concurrency=" + concurrency) +
+                ", seconds=" + seconds +
+                ", warmupSeconds=" + warmupSeconds +
+                ", sessions=" + sessions +
+                ", mix=" + mix +
+                '}';
+    }
+}
@@ -0,0 +1,72 @@
+package com.ylab.app.test.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * LoadReport record is the machine-readable result of a load test run.
+ *
+ * @param startedAt the start of the measured run
+ * @param mode      {@code open} or {@code closed}
+ * @param rate      the planned requests per second of an open loop run
+ * @param clients   the concurrent clients of a closed loop run, or the in flight limit of an open loop run
+ * @param seconds   the duration of the measured run
+ * @param data      the generated data
+ * @param endpoints the results per endpoint
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+public record LoadReport(String startedAt, String mode, double rate, int clients, int seconds,
+                         LoadDataGenerator.Volume data, List<LatencyRecorder.EndpointResult> endpoints) {
+
+    /**
+     * Creates the report of a run.
+     *
+     * @param startedAt the start of the measured run
+     * @param profile   the load profile
+     * @param data      the generated data
+     * @param recorders the recorders by endpoint
+     * @return the report
+     */
+    public static LoadReport of(Instant startedAt, LoadProfile profile, LoadDataGenerator.Volume data,
+                                Map<LoadEndpoint, LatencyRecorder> recorders) {
+        List<LatencyRecorder.EndpointResult> endpoints = new ArrayList<>();
+        recorders.forEach((endpoint, recorder) -> endpoints.add(recorder.result(endpoint, profile.getSeconds())));
+        return new LoadReport(startedAt.toString(), profile.isOpenLoop() ? "open" : "closed",
+                profile.isOpenLoop() ? profile.getRate() : 0,
+                profile.isOpenLoop() ? profile.getMaxInFlight() : profile.getConcurrency(),
+                profile.getSeconds(), data, endpoints);
+    }
+
+    /**
+     * Writes the report as JSON.
+     *
+     * @param file the report file
+     * @throws IOException if the file cannot be written
+     */
+    public void write(Path file) throws IOException {
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file.toFile(), this);
+    }
+
+    /**
+     * Prints the results per endpoint as a table.
+     */
+    public void print() {
+        System.out.printf("%-12s %10s %8s %8s %10s %9s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "dropped", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        for (LatencyRecorder.EndpointResult result : endpoints) {
+            System.out.printf("%-12s %10d %8d %8d %10.1f %9.1f %9.1f %9.1f %9.1f %9.1f%n", result.endpoint(),
+                    result.requests(), result.errors(), result.dropped(), result.throughput(), result.p50Millis(),
+                    result.p90Millis(), result.p99Millis(), result.p999Millis(), result.maxMillis());
+        }
+    }
+}
@@ -1,9 +1,12 @@
 package com.ylab.app.test.repository;
 
 import com.ylab.app.dbService.dao.MeterReadingDao;
+import com.ylab.app.dbService.dao.MeterReadingRowHandler;
+import com.ylab.app.dbService.dao.ReadingTypeRegistry;
 import com.ylab.app.dbService.dao.impl.MeterReadingDaoImpl;
 import com.ylab.app.exception.dbException.DatabaseReadException;
 import com.ylab.app.exception.dbException.DatabaseWriteException;
+import com.ylab.app.model.MeterConsumption;
 import com.ylab.app.model.MeterReading;
 import com.ylab.app.model.MeterReadingDetails;
 import com.ylab.app.model.User;
@@ -19,13 +22,17 @@ import org.mockito.MockitoAnnotations;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.dao.DataAccessException;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.ResultSetExtractor;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
 import java.sql.SQLException;
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -33,6 +40,8 @@ import java.util.List;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 /**
@@ -48,8 +57,11 @@ public class MeterReadingDaoTest extends TestContainersRepository {
     @Mock
     private JdbcTemplate jdbcTemplate;
 
+    @Mock
+    private ReadingTypeRegistry readingTypeRegistry;
+
     @InjectMocks
-    private MeterReadingDao meterReadingDao = new MeterReadingDaoImpl(jdbcTemplate);
+    private MeterReadingDao meterReadingDao = new MeterReadingDaoImpl(jdbcTemplate, readingTypeRegistry);
 
     private User user1;
     private User user2;
@@ -96,6 +108,28 @@ public class MeterReadingDaoTest extends TestContainersRepository {
         assertThat(meterReading1.getId()).isEqualTo(1L);
     }
 
+    @Test
+    @DisplayName("insertMeterReadings assigns the returned ids in list order when successful")
+    public void insertMeterReadings_AssignIdsInOrder_WhenSuccessful() {
+        when(jdbcTemplate.query(any(PreparedStatementCreator.class), any(RowMapper.class)))
+                .thenReturn(new ArrayList<>(List.of(11L, 10L)));
+        meterReadingDao.insertMeterReadings(meterReadingList);
+
+        assertThat(meterReading1.getId()).isEqualTo(10L);
+        assertThat(meterReading2.getId()).isEqualTo(11L);
+        assertThat(meterReading2.getDetailsList()).extracting(MeterReadingDetails::getMeterReadingId).containsOnly(11L);
+    }
+
+    @Test
+    @DisplayName("insertMeterReadings throws DatabaseWriteException when insertion fails")
+    public void insertMeterReadings_ThrowDatabaseWriteException_WhenInsertionFails() {
+        when(jdbcTemplate.query(any(PreparedStatementCreator.class), any(RowMapper.class))).thenThrow(DataAccessException.class);
+
+        assertThatThrownBy(() -> meterReadingDao.insertMeterReadings(meterReadingList))
+                .isInstanceOf(DatabaseWriteException.class)
+                .hasMessageContaining("Failed to insert meter readings");
+    }
+
     @Test
     @DisplayName("insertMeterReading throws DatabaseWriteException when insertion fails")
     public void insertMeterReading_ThrowDatabaseWriteException_WhenInsertionFails() {
@@ -109,8 +143,7 @@ public class MeterReadingDaoTest extends TestContainersRepository {
     @Test
     @DisplayName("selectCurrentMaterReading returns a list of current meter readings for the specified user from the database when successful")
     public void selectCurrentMaterReading_ReturnListOfCurrentMeterReadings_WhenSuccessful() {
-        when(jdbcTemplate.query(anyString(), any(RowMapper.class), anyString())).thenReturn(meterReadingList);
-        when(jdbcTemplate.query(anyString(), any(RowMapper.class), anyLong())).thenReturn(meterReadingDetailsList);
+        when(jdbcTemplate.query(anyString(), any(ResultSetExtractor.class), anyString())).thenReturn(meterReadingList);
         List<MeterReading> result = meterReadingDao.selectCurrentMaterReading(user1);
 
         assertThat(result).containsExactlyInAnyOrder(meterReading1, meterReading2);
@@ -119,7 +152,7 @@ public class MeterReadingDaoTest extends TestContainersRepository {
     @Test
     @DisplayName("selectCurrentMaterReading throws DatabaseReadException when retrieval fails")
     public void selectCurrentMaterReading_ThrowDatabaseReadException_WhenRetrievalFails() {
-        when(jdbcTemplate.query(anyString(), any(RowMapper.class), anyString())).thenThrow(DataAccessException.class);
+        when(jdbcTemplate.query(anyString(), any(ResultSetExtractor.class), anyString())).thenThrow(DataAccessException.class);
 
         assertThatThrownBy(() -> meterReadingDao.selectCurrentMaterReading(user1))
                 .isInstanceOf(DatabaseReadException.class)
@@ -129,18 +162,54 @@ public class MeterReadingDaoTest extends TestContainersRepository {
     @Test
     @DisplayName("selectByUserName returns a list of meter readings for the specified user from the database when successful")
     public void selectByUserName_ReturnListOfMeterReadings_WhenSuccessful() {
-        when(jdbcTemplate.query(anyString(), any(RowMapper.class), anyString())).thenReturn(meterReadingList);
-        when(jdbcTemplate.query(anyString(), any(RowMapper.class), anyLong())).thenReturn(meterReadingDetailsList);
+        when(jdbcTemplate.query(anyString(), any(ResultSetExtractor.class), anyString())).thenReturn(meterReadingList);
         List<MeterReading> result = meterReadingDao.selectByUserName(user1);
 
         assertThat(result).containsExactlyInAnyOrder(meterReading1, meterReading2);
     }
 
+    @Test
+    @DisplayName("selectByUserNameAndDateRange returns the meter readings of the user within the date range when successful")
+    public void selectByUserNameAndDateRange_ReturnListOfMeterReadings_WhenSuccessful() {
+        when(jdbcTemplate.query(anyString(), any(ResultSetExtractor.class), any(Timestamp.class), any(Timestamp.class),
+                anyString(), any(Timestamp.class), any(Timestamp.class)))
+                .thenReturn(meterReadingList);
+        List<MeterReading> result = meterReadingDao.selectByUserNameAndDateRange(user1,
+                LocalDateTime.of(2024, 1, 1, 0, 0), LocalDateTime.of(2024, 2, 1, 0, 0));
+
+        assertThat(result).containsExactlyInAnyOrder(meterReading1, meterReading2);
+    }
+
+    @Test
+    @DisplayName("selectConsumption returns the consumption of the user within the date range when successful")
+    public void selectConsumption_ReturnListOfConsumption_WhenSuccessful() {
+        MeterConsumption consumption = new MeterConsumption("123", "gas", 15.5, 3);
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), anyString(), any(Timestamp.class), any(Timestamp.class),
+                any(Timestamp.class), any(Timestamp.class), anyString(), any(Timestamp.class), any(Timestamp.class)))
+                .thenReturn(List.of(consumption));
+        List<MeterConsumption> result = meterReadingDao.selectConsumption(user1,
+                LocalDateTime.of(2024, 1, 1, 0, 0), LocalDateTime.of(2024, 2, 1, 0, 0));
+
+        assertThat(result).containsExactly(consumption);
+    }
+
+    @Test
+    @DisplayName("selectConsumption throws DatabaseReadException when retrieval fails")
+    public void selectConsumption_ThrowDatabaseReadException_WhenRetrievalFails() {
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), anyString(), any(Timestamp.class), any(Timestamp.class),
+                any(Timestamp.class), any(Timestamp.class), anyString(), any(Timestamp.class), any(Timestamp.class)))
+                .thenThrow(DataAccessException.class);
+
+        assertThatThrownBy(() -> meterReadingDao.selectConsumption(user1,
+                LocalDateTime.of(2024, 1, 1, 0, 0), LocalDateTime.of(2024, 2, 1, 0, 0)))
+                .isInstanceOf(DatabaseReadException.class)
+                .hasMessageStartingWith("Failed to retrieve consumption for user " + user1.getUsername());
+    }
+
     @Test
     @DisplayName("selectByAllMeterReadings returns a list of all meter readings from the database when successful")
     public void selectByAllMeterReadings_ReturnListOfAllMeterReadings_WhenSuccessful() throws SQLException {
-        when(jdbcTemplate.query(anyString(), any(RowMapper.class))).thenReturn(meterReadingList);
-        when(jdbcTemplate.query(anyString(), any(RowMapper.class), anyLong())).thenReturn(meterReadingDetailsList);
+        when(jdbcTemplate.query(anyString(), any(ResultSetExtractor.class))).thenReturn(meterReadingList);
         List<MeterReading> result = meterReadingDao.selectByAllMeterReadings();
 
         assertThat(result).containsExactlyInAnyOrder(meterReading1, meterReading2);
@@ -149,10 +218,58 @@ public class MeterReadingDaoTest extends TestContainersRepository {
     @Test
     @DisplayName("selectByAllMeterReadings throws DatabaseReadException when retrieval fails")
     public void selectByAllMeterReadings_ThrowDatabaseReadException_WhenRetrievalFails() {
-        when(jdbcTemplate.query(anyString(), any(RowMapper.class))).thenThrow(DataAccessException.class);
+        when(jdbcTemplate.query(anyString(), any(ResultSetExtractor.class))).thenThrow(DataAccessException.class);
 
         assertThatThrownBy(() -> meterReadingDao.selectByAllMeterReadings())
                 .isInstanceOf(DatabaseReadException.class)
                 .hasMessage("Failed to retrieve all meter readings");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("selectAllMeterReadingsAfterId returns a keyset page of meter readings when successful")
+    public void selectAllMeterReadingsAfterId_ReturnPageOfMeterReadings_WhenSuccessful() {
+        when(jdbcTemplate.query(anyString(), any(ResultSetExtractor.class), anyLong(), anyInt())).thenReturn(meterReadingList);
+        List<MeterReading> result = meterReadingDao.selectAllMeterReadingsAfterId(0L, 2);
+
+        assertThat(result).containsExactly(meterReading1, meterReading2);
+    }
+
+    @Test
+    @DisplayName("selectByUserNameAfterId returns a keyset page of the user's meter readings when successful")
+    public void selectByUserNameAfterId_ReturnPageOfMeterReadings_WhenSuccessful() {
+        when(jdbcTemplate.query(anyString(), any(ResultSetExtractor.class), anyString(), anyLong(), anyInt())).thenReturn(meterReadingList);
+        List<MeterReading> result = meterReadingDao.selectByUserNameAfterId(user1, 0L, 2);
+
+        assertThat(result).containsExactly(meterReading1, meterReading2);
+    }
+
+    @Test
+    @DisplayName("selectByUserNameCommittedAfterId returns a page of the user's meter readings committed in the window when successful")
+    public void selectByUserNameCommittedAfterId_ReturnPageOfMeterReadings_WhenSuccessful() {
+        when(jdbcTemplate.query(anyString(), any(ResultSetExtractor.class), anyString(), anyLong(), anyLong(), anyLong(), anyInt()))
+                .thenReturn(meterReadingList);
+        List<MeterReading> result = meterReadingDao.selectByUserNameCommittedAfterId(user1, 0L, 900L, 0L, 2);
+
+        assertThat(result).containsExactly(meterReading1, meterReading2);
+    }
+
+    @Test
+    @DisplayName("streamAllMeterReadings throws DatabaseReadException when retrieval fails")
+    public void streamAllMeterReadings_ThrowDatabaseReadException_WhenRetrievalFails() {
+        when(jdbcTemplate.query(any(PreparedStatementCreator.class), any(ResultSetExtractor.class))).thenThrow(DataAccessException.class);
+
+        assertThatThrownBy(() -> meterReadingDao.streamAllMeterReadings(meterReading -> {}))
+                .isInstanceOf(DatabaseReadException.class);
+    }
+
+    @Test
+    @DisplayName("streamByUserName throws DatabaseReadException when retrieval fails")
+    public void streamByUserName_ThrowDatabaseReadException_WhenRetrievalFails() {
+        when(jdbcTemplate.query(any(PreparedStatementCreator.class), any(ResultSetExtractor.class))).thenThrow(DataAccessException.class);
+        MeterReadingRowHandler handler = mock(MeterReadingRowHandler.class);
+
+        assertThatThrownBy(() -> meterReadingDao.streamByUserName(user1, handler))
+                .isInstanceOf(DatabaseReadException.class);
+        verifyNoInteractions(handler);
+    }
+}
@@ -0,0 +1,136 @@
+package com.ylab.app.test.repository;
+
+import com.ylab.app.dbService.dao.impl.MeterReadingDaoImpl;
+import com.ylab.app.dbService.dao.impl.PartitionDaoImpl;
+import com.ylab.app.dbService.dao.impl.ReadingTypeRegistryImpl;
+import com.ylab.app.model.MeterReading;
+import com.ylab.app.model.User;
+import com.ylab.app.model.UserRole;
+import com.ylab.app.test.util.TestContainersRepository;
+import com.ylab.app.test.util.TestDatabase;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.ylab.app.constants.SqlQueryClass.SELECT_CONSUMPTION;
+import static com.ylab.app.constants.SqlQueryClass.SELECT_USER_NAME_AND_DATE_RANGE_WITH_DETAILS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * MeterReadingPartitionTest class checks with {@code EXPLAIN} that the queries of {@link MeterReadingDaoImpl} prune the
+ * monthly partitions of {@code mtr} and {@code mtr_readings}, and that {@link PartitionDaoImpl} manages the partitions
+ * and moves readings out of the default partition.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class MeterReadingPartitionTest extends TestContainersRepository {
+    private static final String USER_NAME = "partition_user";
+
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private PartitionDaoImpl partitionDao;
+    private MeterReadingDaoImpl meterReadingDao;
+
+    @BeforeAll
+    public void setUp() throws Exception {
+        DataSource dataSource = TestDatabase.migratedDataSource(postgreSQLContainer);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        partitionDao = new PartitionDaoImpl(jdbcTemplate);
+        meterReadingDao = new MeterReadingDaoImpl(jdbcTemplate, new ReadingTypeRegistryImpl(jdbcTemplate));
+
+        User user = new User(USER_NAME, "", UserRole.USER);
+        List<MeterReading> readings = new ArrayList<>();
+        for (int month = 1; month <= 4; month++) {
+            MeterReading meterReading = new MeterReading("P-1", LocalDateTime.of(2024, month, 15, 12, 0), user);
+            meterReading.addReadingDetails("gas", month * 10.0);
+            readings.add(meterReading);
+        }
+        meterReadingDao.insertMeterReadings(readings);
+        jdbcTemplate.execute("ANALYZE my_schema.mtr");
+        jdbcTemplate.execute("ANALYZE my_schema.mtr_readings");
+    }
+
+    @Test
+    @DisplayName("month query reads only the partitions of the month")
+    public void selectByUserNameAndDateRange_PrunesOtherMonths() {
+        Timestamp start = Timestamp.valueOf(LocalDateTime.of(2024, 3, 1, 0, 0));
+        Timestamp end = Timestamp.valueOf(LocalDateTime.of(2024, 4, 1, 0, 0));
+
+        String plan = explain(SELECT_USER_NAME_AND_DATE_RANGE_WITH_DETAILS, start, end, USER_NAME, start, end);
+
+        assertThat(plan).contains("mtr_p2024_03", "mtr_readings_p2024_03")
+                .doesNotContain("mtr_p2024_02", "mtr_readings_p2024_02", "mtr_p2024_04", "mtr_readings_p2024_04",
+                        "mtr_default", "mtr_readings_default");
+    }
+
+    @Test
+    @DisplayName("consumption query reads the period and only looks back for the previous reading")
+    public void selectConsumption_PrunesLaterMonths() {
+        Timestamp start = Timestamp.valueOf(LocalDateTime.of(2024, 2, 1, 0, 0));
+        Timestamp end = Timestamp.valueOf(LocalDateTime.of(2024, 3, 1, 0, 0));
+
+        String plan = explain(SELECT_CONSUMPTION, USER_NAME, start, end, start, end, USER_NAME, start, start);
+
+        assertThat(plan).contains("mtr_p2024_01", "mtr_p2024_02", "mtr_readings_p2024_02")
+                .doesNotContain("mtr_p2024_03", "mtr_readings_p2024_03", "mtr_p2024_04", "mtr_readings_p2024_04");
+    }
+
+    @Test
+    @DisplayName("partitions are created ahead and detached with their details")
+    public void createAndDetachMonthPartition() {
+        YearMonth future = YearMonth.now().plusYears(5);
+
+        partitionDao.createMonthPartition(future);
+        partitionDao.createMonthPartition(future);
+        assertThat(partitionDao.getMonthPartitions()).contains(future, YearMonth.of(2024, 3));
+
+        partitionDao.detachMonthPartition(future);
+        assertThat(partitionDao.getMonthPartitions()).doesNotContain(future);
+        assertThat(jdbcTemplate.queryForObject("SELECT to_regclass('my_schema.mtr_readings_p" + future.getYear()
+                + "_" + String.format("%02d", future.getMonthValue()) + "') IS NOT NULL", Boolean.class)).isTrue();
+    }
+
+    @Test
+    @DisplayName("readings that landed in the default partition are moved into the partitions of their month")
+    public void createMonthPartition_MovesRowsOutOfDefaultPartition() {
+        YearMonth future = YearMonth.now().plusYears(6);
+        String suffix = future.getYear() + "_" + String.format("%02d", future.getMonthValue());
+        MeterReading meterReading = new MeterReading("P-2", future.atDay(10).atTime(8, 0),
+                new User(USER_NAME, "", UserRole.USER));
+        meterReading.addReadingDetails("gas", 5.0);
+        meterReadingDao.insertMeterReadings(List.of(meterReading));
+        Long id = jdbcTemplate.queryForObject("SELECT id FROM my_schema.mtr_default WHERE number_meter = 'P-2'", Long.class);
+
+        transactionTemplate.executeWithoutResult(status -> partitionDao.createMonthPartition(future));
+
+        assertThat(partitionDao.getMonthPartitions()).contains(future);
+        assertThat(jdbcTemplate.queryForObject("SELECT id FROM my_schema.mtr_p" + suffix + " WHERE number_meter = 'P-2'",
+                Long.class)).isEqualTo(id);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM my_schema.mtr_readings_p" + suffix
+                + " WHERE mtr_id = ?", Integer.class, id)).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM my_schema.mtr_consumption WHERE mtr_id = ?",
+                Integer.class, id)).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM my_schema.mtr_default WHERE number_meter = 'P-2'",
+                Integer.class)).isZero();
+    }
+
+    private String explain(String sql, Object... args) {
+        return String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class, args));
+    }
+}
@@ -0,0 +1,38 @@
+package com.ylab.app.test.repository;
+
+import com.ylab.app.constants.ReactiveSqlQueryClass;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static com.ylab.app.constants.ReactiveSqlQueryClass.R2DBC_INSERT_METER;
+import static com.ylab.app.constants.ReactiveSqlQueryClass.R2DBC_UPSERT_METER_LATEST;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ReactiveSqlQueryClassTest class checks the conversion of the JDBC statements to R2DBC bind markers.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+public class ReactiveSqlQueryClassTest {
+    @Test
+    @DisplayName("positional parameters are numbered in order")
+    public void bindMarkers_NumbersParameters() {
+        assertThat(ReactiveSqlQueryClass.bindMarkers("SELECT * FROM t WHERE a = ? AND b IN (?, ?)"))
+                .isEqualTo("SELECT * FROM t WHERE a = $1 AND b IN ($2, $3)");
+    }
+
+    @Test
+    @DisplayName("question marks in string literals are kept")
+    public void bindMarkers_KeepsLiterals() {
+        assertThat(ReactiveSqlQueryClass.bindMarkers("SELECT '?' || name FROM t WHERE id = ?"))
+                .isEqualTo("SELECT '?' || name FROM t WHERE id = $1");
+    }
+
+    @Test
+    @DisplayName("shared statements carry no positional parameters")
+    public void sharedStatements_UseBindMarkers() {
+        assertThat(R2DBC_INSERT_METER).doesNotContain("?").contains("$3").endsWith("RETURNING id");
+        assertThat(R2DBC_UPSERT_METER_LATEST).doesNotContain("?").contains("$5");
+    }
+}
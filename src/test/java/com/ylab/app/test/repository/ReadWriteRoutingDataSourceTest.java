@@ -0,0 +1,172 @@
+package com.ylab.app.test.repository;
+
+import com.ylab.app.config.ReadWriteRoutingDataSource;
+import com.ylab.app.config.ReplicaDataSourceConfig;
+import com.ylab.app.config.ReplicaProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * ReadWriteRoutingDataSourceTest class checks how {@link ReadWriteRoutingDataSource} chooses between the primary and the replicas.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+@ExtendWith(MockitoExtension.class)
+public class ReadWriteRoutingDataSourceTest {
+    @Mock
+    private DataSource primary;
+    @Mock
+    private DataSource firstReplica;
+    @Mock
+    private DataSource secondReplica;
+
+    private final Connection primaryConnection = mock(Connection.class);
+    private final Connection firstReplicaConnection = mock(Connection.class);
+    private final Connection secondReplicaConnection = mock(Connection.class);
+    private ReadWriteRoutingDataSource routingDataSource;
+
+    @BeforeEach
+    public void setUp() {
+        routingDataSource = new ReadWriteRoutingDataSource(primary, List.of(firstReplica, secondReplica), Duration.ofSeconds(10));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    @DisplayName("connections outside a read-only transaction come from the primary")
+    public void getConnection_NotReadOnly_Primary() throws SQLException {
+        when(primary.getConnection()).thenReturn(primaryConnection);
+
+        assertThat(routingDataSource.getConnection()).isSameAs(primaryConnection);
+    }
+
+    @Test
+    @DisplayName("read-only transactions use the replicas in turn")
+    public void getConnection_ReadOnly_ReplicasInTurn() throws SQLException {
+        when(firstReplica.getConnection()).thenReturn(firstReplicaConnection);
+        when(secondReplica.getConnection()).thenReturn(secondReplicaConnection);
+        startReadOnlyTransaction();
+
+        assertThat(routingDataSource.getConnection()).isSameAs(firstReplicaConnection);
+        assertThat(routingDataSource.getConnection()).isSameAs(secondReplicaConnection);
+        assertThat(routingDataSource.getConnection()).isSameAs(firstReplicaConnection);
+    }
+
+    @Test
+    @DisplayName("a read-only transaction kept on the primary reads from the primary until it completes")
+    public void usePrimaryForCurrentTransaction_Primary() throws SQLException {
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        when(firstReplica.getConnection()).thenReturn(firstReplicaConnection);
+        startReadOnlyTransaction();
+
+        ReadWriteRoutingDataSource.usePrimaryForCurrentTransaction();
+        assertThat(routingDataSource.getConnection()).isSameAs(primaryConnection);
+
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        assertThat(routingDataSource.getConnection()).isSameAs(firstReplicaConnection);
+    }
+
+    @Test
+    @DisplayName("a replica failing to connect is skipped and the primary serves reads when no replica is left")
+    public void getConnection_ReplicasFail_Primary() throws SQLException {
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        when(firstReplica.getConnection()).thenThrow(new SQLException("connection refused"));
+        when(secondReplica.getConnection()).thenThrow(new SQLException("connection refused"));
+        startReadOnlyTransaction();
+
+        assertThat(routingDataSource.getConnection()).isSameAs(primaryConnection);
+        assertThat(routingDataSource.getHealthyReplicaCount()).isZero();
+        assertThat(routingDataSource.getConnection()).isSameAs(primaryConnection);
+    }
+
+    @Test
+    @DisplayName("a lagging replica stops serving reads and comes back once it has caught up")
+    public void checkReplicas_Lagging_Skipped() throws SQLException {
+        stubLag(firstReplica, 60_000);
+        stubLag(secondReplica, 0);
+
+        routingDataSource.checkReplicas();
+        assertThat(routingDataSource.getHealthyReplicaCount()).isEqualTo(1);
+        startReadOnlyTransaction();
+        when(secondReplica.getConnection()).thenReturn(secondReplicaConnection);
+        assertThat(routingDataSource.getConnection()).isSameAs(secondReplicaConnection);
+        assertThat(routingDataSource.getConnection()).isSameAs(secondReplicaConnection);
+
+        stubLag(firstReplica, 0);
+        stubLag(secondReplica, 0);
+        routingDataSource.checkReplicas();
+        assertThat(routingDataSource.getHealthyReplicaCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("connections with explicit credentials come from the primary")
+    public void getConnection_WithCredentials_Primary() throws SQLException {
+        when(primary.getConnection("reporting", "secret")).thenReturn(primaryConnection);
+        startReadOnlyTransaction();
+
+        assertThat(routingDataSource.getConnection("reporting", "secret")).isSameAs(primaryConnection);
+    }
+
+    @Test
+    @DisplayName("a read-your-writes window not longer than the maximum lag plus the health check interval is refused")
+    public void readWriteRoutingDataSource_ShortWindow_Refused() {
+        ReplicaProperties properties = new ReplicaProperties();
+        properties.setMaxLag(Duration.ofSeconds(10));
+        properties.setHealthCheckInterval(Duration.ofSeconds(5));
+        properties.setReadYourWritesWindow(Duration.ofSeconds(15));
+
+        assertThatThrownBy(() -> new ReplicaDataSourceConfig()
+                .readWriteRoutingDataSource(new DataSourceProperties(), properties, new MockEnvironment()))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("read-your-writes-window");
+    }
+
+    private void startReadOnlyTransaction() {
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+    }
+
+    private void stubLag(DataSource replica, long lagMillis) throws SQLException {
+        Connection connection = mock(Connection.class);
+        Statement statement = mock(Statement.class);
+        ResultSet rs = mock(ResultSet.class);
+        when(replica.getConnection()).thenReturn(connection);
+        when(connection.createStatement()).thenReturn(statement);
+        when(statement.executeQuery(anyString())).thenReturn(rs);
+        when(rs.next()).thenReturn(true);
+        when(rs.getLong("lag_millis")).thenReturn(lagMillis);
+    }
+}
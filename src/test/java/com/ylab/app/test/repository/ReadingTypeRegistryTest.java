@@ -0,0 +1,135 @@
+package com.ylab.app.test.repository;
+
+import com.ylab.app.dbService.dao.ReadingTypeRegistry;
+import com.ylab.app.dbService.dao.impl.ReadingTypeRegistryImpl;
+import com.ylab.app.exception.dbException.DatabaseReadException;
+import com.ylab.app.exception.meterException.MeterReadingException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static com.ylab.app.constants.CreateSchemaSql.INSERT_READING_TYPE;
+import static com.ylab.app.constants.SqlQueryClass.SELECT_READING_TYPES;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * ReadingTypeRegistryTest class checks the lookups and the registration of {@link ReadingTypeRegistryImpl}.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+@ExtendWith(MockitoExtension.class)
+public class ReadingTypeRegistryTest {
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private ReadingTypeRegistryImpl registry;
+    private Map<Short, String> dictionary;
+
+    @BeforeEach
+    public void setUp() {
+        dictionary = new LinkedHashMap<>();
+        dictionary.put((short) 1, "gas");
+        dictionary.put((short) 2, "water");
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            for (Map.Entry<Short, String> entry : dictionary.entrySet()) {
+                ResultSet rs = mock(ResultSet.class);
+                when(rs.getShort("id")).thenReturn(entry.getKey());
+                when(rs.getString("name")).thenReturn(new String(entry.getValue()));
+                handler.processRow(rs);
+            }
+            return null;
+        }).when(jdbcTemplate).query(eq(SELECT_READING_TYPES), any(RowCallbackHandler.class));
+        registry = new ReadingTypeRegistryImpl(jdbcTemplate);
+        registry.load();
+    }
+
+    @Test
+    @DisplayName("loaded types are looked up in both directions without queries and names are interned")
+    public void lookupsUseTheLoadedDictionary() {
+        assertThat(registry.getTypeId("water")).isEqualTo((short) 2);
+        assertThat(registry.getTypeName((short) 1)).isEqualTo("gas");
+        assertThat(registry.getTypeName((short) 1)).isSameAs(registry.getTypeName((short) 1));
+
+        verify(jdbcTemplate, times(1)).query(eq(SELECT_READING_TYPES), any(RowCallbackHandler.class));
+        verify(jdbcTemplate, never()).queryForObject(eq(INSERT_READING_TYPE), eq(Short.class), any());
+    }
+
+    @Test
+    @DisplayName("unknown type name is registered once in its own transaction")
+    public void unknownNameIsRegistered() throws Exception {
+        DataSource dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenReturn(mock(Connection.class));
+        when(jdbcTemplate.getDataSource()).thenReturn(dataSource);
+        when(jdbcTemplate.queryForObject(INSERT_READING_TYPE, Short.class, "electricity", "electricity",
+                ReadingTypeRegistry.MAX_TYPES)).thenReturn((short) 3);
+
+        assertThat(registry.getTypeId("electricity")).isEqualTo((short) 3);
+        assertThat(registry.getTypeId("electricity")).isEqualTo((short) 3);
+        assertThat(registry.getTypeName((short) 3)).isEqualTo("electricity");
+
+        verify(jdbcTemplate, times(1)).queryForObject(INSERT_READING_TYPE, Short.class, "electricity", "electricity",
+                ReadingTypeRegistry.MAX_TYPES);
+    }
+
+    @Test
+    @DisplayName("a new type is refused once the dictionary is full")
+    public void unknownNameIsRefusedWhenDictionaryIsFull() throws Exception {
+        DataSource dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenReturn(mock(Connection.class));
+        when(jdbcTemplate.getDataSource()).thenReturn(dataSource);
+        when(jdbcTemplate.queryForObject(INSERT_READING_TYPE, Short.class, "type-257", "type-257",
+                ReadingTypeRegistry.MAX_TYPES)).thenThrow(new EmptyResultDataAccessException(1));
+
+        assertThatThrownBy(() -> registry.getTypeId("type-257"))
+                .isInstanceOf(MeterReadingException.class)
+                .hasMessageStartingWith("Unknown reading type type-257");
+        assertThat(registry.getTypeId("gas")).isEqualTo((short) 1);
+    }
+
+    @Test
+    @DisplayName("a null or blank type name is rejected without a query")
+    public void blankNameIsRejected() {
+        assertThatThrownBy(() -> registry.getTypeId(null))
+                .isInstanceOf(MeterReadingException.class)
+                .hasMessage("Invalid reading type");
+        assertThatThrownBy(() -> registry.getTypeId(" "))
+                .isInstanceOf(MeterReadingException.class)
+                .hasMessage("Invalid reading type");
+
+        verify(jdbcTemplate, never()).getDataSource();
+    }
+
+    @Test
+    @DisplayName("unknown type id reloads the dictionary before failing")
+    public void unknownIdReloadsDictionary() {
+        dictionary.put((short) 4, "heat");
+
+        assertThat(registry.getTypeName((short) 4)).isEqualTo("heat");
+        assertThatThrownBy(() -> registry.getTypeName((short) 9))
+                .isInstanceOf(DatabaseReadException.class)
+                .hasMessage("Unknown reading type id 9");
+    }
+}
@@ -0,0 +1,138 @@
+package com.ylab.app.test.repository;
+
+import com.ylab.app.config.ReadWriteRoutingDataSource;
+import com.ylab.app.test.util.TestContainersRepository;
+import com.ylab.app.test.util.TestDatabase;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.Network;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.containers.wait.strategy.Wait;
+import org.testcontainers.images.builder.Transferable;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ReplicaRoutingReplicationTest class checks {@link ReadWriteRoutingDataSource} against a primary and a replica
+ * PostgreSQL test container in streaming replication.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class ReplicaRoutingReplicationTest {
+    private static final Network NETWORK = Network.newNetwork();
+    private static final String IS_REPLICA = "SELECT pg_is_in_recovery()";
+    private static final String COUNT_READINGS = "SELECT count(*) FROM my_schema.mtr WHERE user_name = 'replica_user'";
+
+    @Container
+    private static final PostgreSQLContainer<?> primaryContainer = new PostgreSQLContainer<>(TestContainersRepository.POSTGRES_LATEST)
+            .withDatabaseName(TestContainersRepository.DATABASE)
+            .withUsername(TestContainersRepository.USERNAME)
+            .withPassword(TestContainersRepository.PASSWORD)
+            .withNetwork(NETWORK)
+            .withNetworkAliases("primary")
+            .withCopyToContainer(Transferable.of("echo 'host replication all all scram-sha-256' >> \"$PGDATA/pg_hba.conf\"", 0755),
+                    "/docker-entrypoint-initdb.d/replication.sh");
+
+    @Container
+    private static final GenericContainer<?> replicaContainer = new GenericContainer<>(TestContainersRepository.POSTGRES_LATEST)
+            .dependsOn(primaryContainer)
+            .withNetwork(NETWORK)
+            .withEnv("PGPASSWORD", TestContainersRepository.PASSWORD)
+            .withExposedPorts(PostgreSQLContainer.POSTGRESQL_PORT)
+            .withCommand("bash", "-c", "mkdir -p /tmp/replica && chown postgres /tmp/replica && chmod 700 /tmp/replica"
+                    + " && until gosu postgres pg_basebackup -h primary -U " + TestContainersRepository.USERNAME
+                    + " -D /tmp/replica -R -X stream; do sleep 1; done"
+                    + " && exec gosu postgres postgres -D /tmp/replica")
+            .waitingFor(Wait.forLogMessage(".*ready to accept read-only connections.*\\s", 1)
+                    .withStartupTimeout(Duration.ofMinutes(2)));
+
+    private ReadWriteRoutingDataSource routingDataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readOnlyTransaction;
+
+    @BeforeAll
+    public void setUp() throws Exception {
+        DataSource primary = TestDatabase.migratedDataSource(primaryContainer);
+        DataSource replica = new DriverManagerDataSource("jdbc:postgresql://" + replicaContainer.getHost() + ":"
+                + replicaContainer.getMappedPort(PostgreSQLContainer.POSTGRESQL_PORT) + "/" + TestContainersRepository.DATABASE,
+                TestContainersRepository.USERNAME, TestContainersRepository.PASSWORD);
+        routingDataSource = new ReadWriteRoutingDataSource(primary, List.of(replica), Duration.ofSeconds(10));
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        readOnlyTransaction = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    @AfterAll
+    public void tearDown() throws IOException {
+        routingDataSource.close();
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("read-only transactions run on the replica, other statements on the primary")
+    public void readOnlyTransaction_Replica() {
+        assertThat(jdbcTemplate.queryForObject(IS_REPLICA, Boolean.class)).isFalse();
+        Boolean replicaRead = readOnlyTransaction.execute(status -> jdbcTemplate.queryForObject(IS_REPLICA, Boolean.class));
+        assertThat(replicaRead).isTrue();
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("a reading written on the primary is read back from the primary at once and from the replica once replayed")
+    public void readYourWrites_PrimaryThenReplica() throws InterruptedException {
+        jdbcTemplate.update("INSERT INTO my_schema.mtr (number_meter, date, user_name) VALUES ('REPL-1', now(), 'replica_user')");
+
+        Long fromPrimary = readOnlyTransaction.execute(status -> {
+            ReadWriteRoutingDataSource.usePrimaryForCurrentTransaction();
+            return jdbcTemplate.queryForObject(COUNT_READINGS, Long.class);
+        });
+        assertThat(fromPrimary).isEqualTo(1L);
+
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        Long fromReplica = 0L;
+        while (fromReplica == 0L && System.nanoTime() < deadline) {
+            fromReplica = readOnlyTransaction.execute(status -> jdbcTemplate.queryForObject(COUNT_READINGS, Long.class));
+            Thread.sleep(100);
+        }
+        assertThat(fromReplica).isEqualTo(1L);
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("reads fail over to the primary when the replica goes down")
+    public void replicaDown_FailsOverToPrimary() {
+        routingDataSource.checkReplicas();
+        assertThat(routingDataSource.getHealthyReplicaCount()).isEqualTo(1);
+
+        replicaContainer.stop();
+        routingDataSource.checkReplicas();
+
+        assertThat(routingDataSource.getHealthyReplicaCount()).isZero();
+        Boolean replicaRead = readOnlyTransaction.execute(status -> jdbcTemplate.queryForObject(IS_REPLICA, Boolean.class));
+        assertThat(replicaRead).isFalse();
+    }
+}
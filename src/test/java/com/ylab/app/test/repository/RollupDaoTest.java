@@ -0,0 +1,110 @@
+package com.ylab.app.test.repository;
+
+import com.ylab.app.config.RollupProperties;
+import com.ylab.app.dbService.dao.impl.MeterReadingDaoImpl;
+import com.ylab.app.dbService.dao.impl.MeterReadingImportDaoImpl;
+import com.ylab.app.dbService.dao.impl.ReadingTypeRegistryImpl;
+import com.ylab.app.dbService.dao.impl.RollupDaoImpl;
+import com.ylab.app.model.MeterConsumption;
+import com.ylab.app.model.MeterReading;
+import com.ylab.app.model.MeterRollup;
+import com.ylab.app.model.User;
+import com.ylab.app.model.UserRole;
+import com.ylab.app.service.impl.RollupServiceImpl;
+import com.ylab.app.test.util.TestContainersRepository;
+import com.ylab.app.test.util.TestDatabase;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * RollupDaoTest class checks that the rollups maintained by {@link RollupDaoImpl} agree with the consumption computed
+ * from the raw history when older readings are imported behind the live ones.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class RollupDaoTest extends TestContainersRepository {
+    private static final String NUMBER_METER = "H-1";
+
+    private JdbcTemplate jdbcTemplate;
+    private MeterReadingDaoImpl meterReadingDao;
+    private MeterReadingImportDaoImpl meterReadingImportDao;
+    private RollupServiceImpl rollupService;
+    private User user;
+
+    @BeforeAll
+    public void setUp() throws Exception {
+        jdbcTemplate = new JdbcTemplate(TestDatabase.migratedDataSource(postgreSQLContainer));
+        ReadingTypeRegistryImpl readingTypeRegistry = new ReadingTypeRegistryImpl(jdbcTemplate);
+        meterReadingDao = new MeterReadingDaoImpl(jdbcTemplate, readingTypeRegistry);
+        meterReadingImportDao = new MeterReadingImportDaoImpl(jdbcTemplate, readingTypeRegistry);
+        rollupService = new RollupServiceImpl(new RollupDaoImpl(jdbcTemplate), new RollupProperties());
+        user = new User("rollup_import_user", "", UserRole.USER);
+    }
+
+    @Test
+    @DisplayName("history imported behind live readings is counted in the rollups and updates the following reading")
+    public void importedHistory_RollupDeltasMatchConsumption() {
+        meterReadingDao.insertMeterReadings(List.of(
+                reading(LocalDateTime.of(2024, 3, 10, 12, 0), 100.0),
+                reading(LocalDateTime.of(2024, 3, 20, 12, 0), 130.0)));
+        rollupService.aggregate();
+
+        meterReadingImportDao.copyMeterReadings(List.of(
+                reading(LocalDateTime.of(2024, 2, 20, 12, 0), 60.0),
+                reading(LocalDateTime.of(2024, 3, 5, 12, 0), 80.0),
+                reading(LocalDateTime.of(2024, 3, 15, 12, 0), 110.0)));
+        rollupService.aggregate();
+
+        Map<LocalDate, Double> dayDeltas = selectDayDeltas();
+        assertThat(dayDeltas).containsOnlyKeys(LocalDate.of(2024, 2, 20), LocalDate.of(2024, 3, 5),
+                LocalDate.of(2024, 3, 10), LocalDate.of(2024, 3, 15), LocalDate.of(2024, 3, 20));
+        assertThat(dayDeltas.get(LocalDate.of(2024, 2, 20))).isNull();
+        assertThat(dayDeltas.get(LocalDate.of(2024, 3, 5))).isCloseTo(20.0, within(0.001));
+        assertThat(dayDeltas.get(LocalDate.of(2024, 3, 10))).isCloseTo(20.0, within(0.001));
+        assertThat(dayDeltas.get(LocalDate.of(2024, 3, 15))).isCloseTo(10.0, within(0.001));
+        assertThat(dayDeltas.get(LocalDate.of(2024, 3, 20))).isCloseTo(20.0, within(0.001));
+
+        List<MeterConsumption> consumption = meterReadingDao.selectConsumption(user,
+                LocalDateTime.of(2024, 3, 1, 0, 0), LocalDateTime.of(2024, 4, 1, 0, 0));
+        List<MeterRollup> rollups = meterReadingDao.selectMonthRollups(user, LocalDate.of(2024, 3, 1));
+        assertThat(consumption).singleElement()
+                .satisfies(meterConsumption -> assertThat(meterConsumption.getConsumption()).isCloseTo(70.0, within(0.001)));
+        assertThat(rollups).singleElement()
+                .satisfies(rollup -> {
+                    assertThat(rollup.getReadings()).isEqualTo(4);
+                    assertThat(rollup.getLastValue()).isCloseTo(130.0, within(0.001));
+                    assertThat(rollup.getConsumption()).isCloseTo(consumption.get(0).getConsumption(), within(0.001));
+                });
+    }
+
+    private MeterReading reading(LocalDateTime date, double value) {
+        MeterReading meterReading = new MeterReading(NUMBER_METER, date, user);
+        meterReading.addReadingDetails("gas", value);
+        return meterReading;
+    }
+
+    private Map<LocalDate, Double> selectDayDeltas() {
+        Map<LocalDate, Double> deltas = new LinkedHashMap<>();
+        jdbcTemplate.query("SELECT day, delta FROM my_schema.mtr_rollup_day WHERE user_name = ? AND number_meter = ? ORDER BY day",
+                rs -> {
+                    deltas.put(rs.getDate("day").toLocalDate(), rs.getObject("delta", Double.class));
+                }, user.getUsername(), NUMBER_METER);
+        return deltas;
+    }
+}
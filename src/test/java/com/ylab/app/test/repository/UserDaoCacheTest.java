@@ -0,0 +1,135 @@
+package com.ylab.app.test.repository;
+
+import com.ylab.app.config.CacheConfig;
+import com.ylab.app.dbService.dao.UserDao;
+import com.ylab.app.dbService.dao.impl.UserDaoImpl;
+import com.ylab.app.exception.userException.UserValidationException;
+import com.ylab.app.model.User;
+import com.ylab.app.model.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.util.List;
+import java.util.Map;
+
+import static com.ylab.app.constants.SqlQueryClass.FIND_USER_BY_ID;
+import static com.ylab.app.constants.SqlQueryClass.FIND_USER_BY_LOGIN;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * UserDaoCacheTest class checks the caching of user lookups in {@link UserDaoImpl}.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+@SpringJUnitConfig(UserDaoCacheTest.Config.class)
+public class UserDaoCacheTest {
+    @Autowired
+    private UserDao userDao;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private User user;
+
+    @BeforeEach
+    public void setUp() {
+        reset(jdbcTemplate);
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+        user = new User("Nata", "pass", UserRole.USER);
+        user.setId(1L);
+    }
+
+    @Test
+    @DisplayName("getUserByLogin reads a user from the database once while it is cached")
+    public void getUserByLogin_QueriesDatabaseOnce() {
+        when(jdbcTemplate.queryForObject(eq(FIND_USER_BY_LOGIN), any(RowMapper.class), eq("Nata"))).thenReturn(user);
+
+        assertThat(userDao.getUserByLogin("Nata")).isSameAs(user);
+        assertThat(userDao.getUserByLogin("Nata")).isSameAs(user);
+
+        verify(jdbcTemplate, times(1)).queryForObject(eq(FIND_USER_BY_LOGIN), any(RowMapper.class), eq("Nata"));
+    }
+
+    @Test
+    @DisplayName("findUserById reads a user from the database once while it is cached")
+    public void findUserById_QueriesDatabaseOnce() {
+        when(jdbcTemplate.queryForObject(eq(FIND_USER_BY_ID), any(RowMapper.class), eq(1L))).thenReturn(user);
+
+        userDao.findUserById(1L);
+        userDao.findUserById(1L);
+
+        verify(jdbcTemplate, times(1)).queryForObject(eq(FIND_USER_BY_ID), any(RowMapper.class), eq(1L));
+    }
+
+    @Test
+    @DisplayName("getUserByLogin does not cache unknown users")
+    public void getUserByLogin_DoesNotCacheUnknownUser() {
+        when(jdbcTemplate.queryForObject(eq(FIND_USER_BY_LOGIN), any(RowMapper.class), eq("Nobody")))
+                .thenThrow(new EmptyResultDataAccessException(1))
+                .thenReturn(user);
+
+        assertThatThrownBy(() -> userDao.getUserByLogin("Nobody")).isInstanceOf(UserValidationException.class);
+        assertThat(userDao.getUserByLogin("Nobody")).isSameAs(user);
+    }
+
+    @Test
+    @DisplayName("insertUser evicts the cached entries of the inserted user")
+    public void insertUser_EvictsCachedUser() throws Exception {
+        when(jdbcTemplate.queryForObject(eq(FIND_USER_BY_LOGIN), any(RowMapper.class), eq("Nata"))).thenReturn(user);
+        doAnswer(invocation -> {
+            invocation.getArgument(1, KeyHolder.class).getKeyList().add(Map.of("id", 1L));
+            return 1;
+        }).when(jdbcTemplate).update(any(PreparedStatementCreator.class), any(KeyHolder.class));
+        userDao.getUserByLogin("Nata");
+
+        userDao.insertUser(new User("Nata", "pass", UserRole.USER));
+        userDao.getUserByLogin("Nata");
+
+        verify(jdbcTemplate, times(2)).queryForObject(eq(FIND_USER_BY_LOGIN), any(RowMapper.class), eq("Nata"));
+    }
+
+    @Configuration
+    @Import(CacheConfig.class)
+    static class Config {
+        @Bean
+        public JdbcTemplate jdbcTemplate() {
+            return mock(JdbcTemplate.class);
+        }
+
+        @Bean
+        public UserDao userDao(JdbcTemplate jdbcTemplate) {
+            return new UserDaoImpl(jdbcTemplate);
+        }
+
+        @Bean
+        public CacheManager cacheManager() {
+            return new CaffeineCacheManager(CacheConfig.USERS_BY_LOGIN, CacheConfig.USERS_BY_ID);
+        }
+    }
+}
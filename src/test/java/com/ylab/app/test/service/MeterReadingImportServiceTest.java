@@ -0,0 +1,174 @@
+package com.ylab.app.test.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ylab.app.dbService.dao.MeterReadingImportDao;
+import com.ylab.app.exception.meterException.MeterReadingException;
+import com.ylab.app.exception.userException.UserValidationException;
+import com.ylab.app.model.ImportFormat;
+import com.ylab.app.model.MeterReading;
+import com.ylab.app.model.User;
+import com.ylab.app.model.UserRole;
+import com.ylab.app.model.dto.MeterReadingImportResultDto;
+import com.ylab.app.service.UserService;
+import com.ylab.app.service.impl.MeterReadingImportServiceImpl;
+import com.ylab.app.service.impl.ReadingVersionServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * MeterReadingImportServiceTest class
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+@ExtendWith(MockitoExtension.class)
+public class MeterReadingImportServiceTest {
+    @Mock
+    private UserService userService;
+
+    @Mock
+    private MeterReadingImportDao importDao;
+
+    private MeterReadingImportServiceImpl importService;
+    private List<MeterReading> copied;
+
+    @BeforeEach
+    public void setUp() {
+        importService = new MeterReadingImportServiceImpl(userService, importDao, new ObjectMapper().findAndRegisterModules(),
+                new ReadingVersionServiceImpl());
+        copied = new ArrayList<>();
+    }
+
+    @Test
+    @DisplayName("CSV import groups consecutive lines of one reading and copies them")
+    public void importCsvGroupsReadingDetails() {
+        stubCopy();
+        String csv = "number_meter,date,user_name,type,value\n"
+                + "M1,2024-01-01 10:00:00,alice,gas,10.5\n"
+                + "M1,2024-01-01 10:00:00,alice,water,3\n"
+                + "M2,2024-01-02T10:00:00,bob,gas,7\n";
+        List<MeterReadingImportResultDto> progress = new ArrayList<>();
+
+        MeterReadingImportResultDto result = importService.importReadings(stream(csv), ImportFormat.CSV, progress::add);
+
+        assertThat(result.getReadings()).isEqualTo(2);
+        assertThat(result.getDetails()).isEqualTo(3);
+        assertThat(progress).hasSize(1);
+        assertThat(copied).extracting(MeterReading::getNumberMeter).containsExactly("M1", "M2");
+        assertThat(copied.get(0).getDate()).isEqualTo(LocalDateTime.of(2024, 1, 1, 10, 0));
+        assertThat(copied.get(0).getDetailsList()).hasSize(2);
+        assertThat(copied.get(1).getUser().getUsername()).isEqualTo("bob");
+    }
+
+    @Test
+    @DisplayName("CSV import reads quoted fields with commas, quotes and line breaks")
+    public void importCsvReadsQuotedFields() {
+        stubCopy();
+        String csv = "number_meter,date,user_name,type,value\n"
+                + "\"M,1\",2024-01-01 10:00:00,alice,\"hot \"\"water\"\"\",10.5\n"
+                + "\n"
+                + "M2,2024-01-02T10:00:00,\"bob\",\"gas\nmain\",\"7\"\n";
+
+        MeterReadingImportResultDto result = importService.importReadings(stream(csv), ImportFormat.CSV, progress -> {});
+
+        assertThat(result.getReadings()).isEqualTo(2);
+        assertThat(copied).extracting(MeterReading::getNumberMeter).containsExactly("M,1", "M2");
+        assertThat(copied.get(0).getDetailsList()).singleElement()
+                .satisfies(details -> assertThat(details.getType()).isEqualTo("hot \"water\""));
+        assertThat(copied.get(1).getDetailsList()).singleElement()
+                .satisfies(details -> assertThat(details.getType()).isEqualTo("gas\nmain"));
+        assertThat(copied.get(1).getUser().getUsername()).isEqualTo("bob");
+    }
+
+    @Test
+    @DisplayName("CSV import reports the line of a record following a multi-line field")
+    public void importCsvReportsLineAfterMultiLineField() {
+        String csv = "M1,2024-01-01 10:00:00,alice,\"gas\nmain\",10.5\n"
+                + "M1,2024-01-01 10:00:00,alice,water\n";
+
+        assertThatThrownBy(() -> importService.importReadings(stream(csv), ImportFormat.CSV, progress -> {}))
+                .isInstanceOf(MeterReadingException.class)
+                .hasMessage("Invalid import line 3: expected 5 columns");
+    }
+
+    @Test
+    @DisplayName("CSV import rejects an unterminated quoted field")
+    public void importCsvWithUnterminatedQuote() {
+        String csv = "M1,2024-01-01 10:00:00,alice,gas,10.5\n"
+                + "M1,2024-01-01 10:00:00,alice,\"water,3\n";
+
+        assertThatThrownBy(() -> importService.importReadings(stream(csv), ImportFormat.CSV, progress -> {}))
+                .isInstanceOf(MeterReadingException.class)
+                .hasMessageStartingWith("Invalid import line 2: ");
+        verify(importDao, never()).copyMeterReadings(anyList());
+    }
+
+    @Test
+    @DisplayName("NDJSON import reads one reading per line")
+    public void importNdjsonReadsReadings() {
+        stubCopy();
+        String ndjson = "{\"numberMeter\":\"M1\",\"date\":\"2024-01-01T10:00:00\",\"user\":{\"username\":\"alice\"},"
+                + "\"detailsList\":[{\"type\":\"gas\",\"value\":10.5},{\"type\":\"water\",\"value\":3}]}\n"
+                + "{\"numberMeter\":\"M2\",\"date\":\"2024-01-02T10:00:00\",\"user\":{\"username\":\"bob\"},"
+                + "\"detailsList\":[{\"type\":\"gas\",\"value\":7}]}\n";
+
+        MeterReadingImportResultDto result = importService.importReadings(stream(ndjson), ImportFormat.NDJSON, progress -> {});
+
+        assertThat(result.getReadings()).isEqualTo(2);
+        assertThat(result.getDetails()).isEqualTo(3);
+        assertThat(copied).extracting(meterReading -> meterReading.getUser().getUsername()).containsExactly("alice", "bob");
+    }
+
+    @Test
+    @DisplayName("Import with an invalid line reports the line number")
+    public void importCsvWithInvalidLine() {
+        String csv = "M1,2024-01-01 10:00:00,alice,gas,10.5\n"
+                + "M1,not a date,alice,water,3\n";
+
+        assertThatThrownBy(() -> importService.importReadings(stream(csv), ImportFormat.CSV, progress -> {}))
+                .isInstanceOf(MeterReadingException.class)
+                .hasMessage("Invalid import line 2: invalid date not a date");
+        verify(importDao, never()).copyMeterReadings(anyList());
+    }
+
+    @Test
+    @DisplayName("Import by a user without the admin role")
+    public void importByNonAdminUser() {
+        User user = new User("test", "test", UserRole.USER);
+        when(userService.hasRoleAdmin(user)).thenReturn(false);
+
+        assertThatThrownBy(() -> importService.importReadings(user, stream(""), ImportFormat.CSV, progress -> {}))
+                .isInstanceOf(UserValidationException.class)
+                .hasMessage("Invalid or unauthorized user");
+    }
+
+    private void stubCopy() {
+        when(importDao.copyMeterReadings(anyList())).thenAnswer(invocation -> {
+            List<MeterReading> meterReadings = invocation.getArgument(0);
+            copied.addAll(meterReadings);
+            return meterReadings.stream().mapToLong(meterReading -> meterReading.getDetailsList().size()).sum();
+        });
+    }
+
+    private InputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
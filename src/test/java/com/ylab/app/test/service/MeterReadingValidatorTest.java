@@ -0,0 +1,52 @@
+package com.ylab.app.test.service;
+
+import com.ylab.app.model.dto.MeterReadingDetailsDto;
+import com.ylab.app.service.MeterReadingValidator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * MeterReadingValidatorTest class checks the rules shared by the single, bulk and import write paths.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+public class MeterReadingValidatorTest {
+    @Test
+    @DisplayName("a reading with a meter number and finite details in range is valid")
+    public void validReading() {
+        assertThat(MeterReadingValidator.validateReading("8889",
+                List.of(new MeterReadingDetailsDto("gas", 10.0), new MeterReadingDetailsDto("water", -5.5)))).isNull();
+    }
+
+    @Test
+    @DisplayName("missing meter numbers and details are rejected")
+    public void missingNumberMeterOrDetails() {
+        List<MeterReadingDetailsDto> details = List.of(new MeterReadingDetailsDto("gas", 10.0));
+
+        assertThat(MeterReadingValidator.validateReading(null, details)).isEqualTo("Invalid numberMeter");
+        assertThat(MeterReadingValidator.validateReading(" ", details)).isEqualTo("Invalid numberMeter");
+        assertThat(MeterReadingValidator.validateReading("8889", null)).isEqualTo("Missing reading details");
+        assertThat(MeterReadingValidator.validateReading("8889", List.of())).isEqualTo("Missing reading details");
+    }
+
+    @Test
+    @DisplayName("null, blank or too long types and NaN, infinite or oversized values are rejected")
+    public void invalidDetails() {
+        assertThat(MeterReadingValidator.validateDetails(null, 1.0)).isEqualTo("Invalid reading type");
+        assertThat(MeterReadingValidator.validateDetails("  ", 1.0)).isEqualTo("Invalid reading type");
+        assertThat(MeterReadingValidator.validateDetails("g".repeat(MeterReadingValidator.MAX_TYPE_LENGTH + 1), 1.0))
+                .isEqualTo("Invalid reading type");
+        assertThat(MeterReadingValidator.validateDetails("g".repeat(MeterReadingValidator.MAX_TYPE_LENGTH), 1.0)).isNull();
+        assertThat(MeterReadingValidator.validateDetails("gas", null)).isEqualTo("Invalid reading value");
+        assertThat(MeterReadingValidator.validateDetails("gas", Double.NaN)).isEqualTo("Invalid reading value");
+        assertThat(MeterReadingValidator.validateDetails("gas", Double.POSITIVE_INFINITY)).isEqualTo("Invalid reading value");
+        assertThat(MeterReadingValidator.validateDetails("gas", MeterReadingValidator.MAX_READING_VALUE))
+                .isEqualTo("Invalid reading value");
+        assertThat(MeterReadingValidator.validateDetails("gas", MeterReadingValidator.MAX_READING_VALUE - 1)).isNull();
+    }
+}
@@ -7,8 +7,16 @@ import com.ylab.app.StartApplication;
 import com.ylab.app.model.MeterReading;
 import com.ylab.app.model.User;
 import com.ylab.app.model.UserRole;
+import com.ylab.app.model.MeterConsumption;
+import com.ylab.app.model.MeterRollup;
+import com.ylab.app.model.SyncToken;
+import com.ylab.app.model.dto.MeterConsumptionDto;
+import com.ylab.app.model.dto.MeterReadingBulkResultDto;
 import com.ylab.app.model.dto.MeterReadingDetailsDto;
 import com.ylab.app.model.dto.MeterReadingDto;
+import com.ylab.app.model.dto.MeterReadingPageDto;
+import com.ylab.app.model.dto.MeterReadingSyncDto;
+import com.ylab.app.model.dto.MeterRollupDto;
 import com.ylab.app.service.MeterService;
 import com.ylab.app.service.UserService;
 import org.junit.jupiter.api.DisplayName;
@@ -21,6 +29,7 @@ import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 import java.sql.SQLException;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -98,6 +107,121 @@ public class MeterServiceTest {
                 .hasMessage("Invalid numberMeter");
     }
 
+    @Test
+    @DisplayName("Submit reading with a NaN value is rejected before it is stored")
+    public void submitReadingWithNaNValue() {
+        List<MeterReadingDetailsDto> details = List.of(new MeterReadingDetailsDto("gas", Double.NaN));
+
+        assertThatThrownBy(() -> meterService.submitReading(user, "8889", details))
+                .isInstanceOf(MeterReadingException.class)
+                .hasMessage("Invalid reading value");
+        verify(meterReadingDao, never()).insertMeterReading(any(MeterReading.class));
+    }
+
+    @Test
+    @DisplayName("Submit readings stores the valid readings and reports the invalid ones")
+    public void submitReadingsReportsInvalidReadings() {
+        User user = new User("test", "test", UserRole.USER);
+        MeterReadingDto valid = new MeterReadingDto();
+        valid.setNumberMeter("8889");
+        valid.setDetailsList(List.of(new MeterReadingDetailsDto("gas", 10.0)));
+        MeterReadingDto invalid = new MeterReadingDto();
+        invalid.setDetailsList(List.of(new MeterReadingDetailsDto("gas", 10.0)));
+        doAnswer(invocation -> {
+            List<MeterReading> meterReadings = invocation.getArgument(0);
+            meterReadings.get(0).setId(7L);
+            return null;
+        }).when(meterReadingDao).insertMeterReadings(anyList());
+
+        MeterReadingBulkResultDto result = meterService.submitReadings(user, List.of(valid, invalid));
+
+        assertThat(result.getReceived()).isEqualTo(2);
+        assertThat(result.getAcceptedIds()).containsExactly(7L);
+        assertThat(result.getErrors()).singleElement()
+                .satisfies(error -> {
+                    assertThat(error.getIndex()).isEqualTo(1);
+                    assertThat(error.getMessage()).isEqualTo("Invalid numberMeter");
+                });
+    }
+
+    @Test
+    @DisplayName("Submit readings with an empty list")
+    public void submitReadingsWithEmptyList() {
+        assertThatThrownBy(() -> meterService.submitReadings(user, List.of()))
+                .isInstanceOf(MeterReadingException.class)
+                .hasMessage("No readings submitted");
+    }
+
+    @Test
+    @DisplayName("Get consumption for valid user and period")
+    public void getConsumptionForValidUserAndPeriod() {
+        User expectedUser = new User("test", "123", UserRole.USER);
+        when(meterReadingDao.selectConsumption(expectedUser,
+                LocalDateTime.of(2024, 1, 1, 0, 0), LocalDateTime.of(2024, 2, 1, 0, 0)))
+                .thenReturn(List.of(new MeterConsumption("123", "gas", 15.5, 3)));
+        List<MeterConsumptionDto> result = meterService.getConsumption(expectedUser,
+                LocalDate.of(2024, 1, 1), LocalDate.of(2024, 2, 1));
+
+        assertThat(result).singleElement().satisfies(consumption -> {
+            assertThat(consumption.getNumberMeter()).isEqualTo("123");
+            assertThat(consumption.getType()).isEqualTo("gas");
+            assertThat(consumption.getConsumption()).isEqualTo(15.5);
+            assertThat(consumption.getReadings()).isEqualTo(3);
+        });
+    }
+
+    @Test
+    @DisplayName("Get consumption with an empty period")
+    public void getConsumptionWithEmptyPeriod() {
+        User expectedUser = new User("test", "123", UserRole.USER);
+
+        assertThatThrownBy(() -> meterService.getConsumption(expectedUser, LocalDate.of(2024, 2, 1), LocalDate.of(2024, 2, 1)))
+                .isInstanceOf(MeterReadingException.class)
+                .hasMessage("Invalid consumption period");
+        verifyNoInteractions(meterReadingDao);
+    }
+
+    @Test
+    @DisplayName("Get monthly summary for valid user and month")
+    public void getMonthlySummaryForValidUserAndMonth() {
+        User expectedUser = new User("test", "123", UserRole.USER);
+        when(meterReadingDao.selectMonthRollups(expectedUser, LocalDate.of(2024, 3, 1)))
+                .thenReturn(List.of(new MeterRollup(LocalDate.of(2024, 3, 1), "123", "gas", 10.0, 25.0, 25.0, 4, 15.0)));
+        List<MeterRollupDto> result = meterService.getMonthlySummary(expectedUser, 2024, 3);
+
+        assertThat(result).singleElement().satisfies(rollup -> {
+            assertThat(rollup.getPeriod()).isEqualTo(LocalDate.of(2024, 3, 1));
+            assertThat(rollup.getMinValue()).isEqualTo(10.0);
+            assertThat(rollup.getMaxValue()).isEqualTo(25.0);
+            assertThat(rollup.getLastValue()).isEqualTo(25.0);
+            assertThat(rollup.getReadings()).isEqualTo(4);
+            assertThat(rollup.getConsumption()).isEqualTo(15.0);
+        });
+    }
+
+    @Test
+    @DisplayName("Get yearly summary with an invalid year")
+    public void getYearlySummaryWithInvalidYear() {
+        User expectedUser = new User("test", "123", UserRole.USER);
+
+        assertThatThrownBy(() -> meterService.getYearlySummary(expectedUser, 0))
+                .isInstanceOf(MeterReadingException.class)
+                .hasMessage("Invalid year");
+        verifyNoInteractions(meterReadingDao);
+    }
+
+    @Test
+    @DisplayName("Get yearly summary accepts the last supported year")
+    public void getYearlySummaryForLastSupportedYear() {
+        User expectedUser = new User("test", "123", UserRole.USER);
+        when(meterReadingDao.selectYearRollups(expectedUser, 9999)).thenReturn(List.of());
+
+        assertThat(meterService.getYearlySummary(expectedUser, 9999)).isEmpty();
+        assertThatThrownBy(() -> meterService.getYearlySummary(expectedUser, 10000))
+                .isInstanceOf(MeterReadingException.class)
+                .hasMessage("Invalid year");
+    }
+
     @Test
     @DisplayName("Get readings by month for valid user and month")
     public void getReadingsByMonthForValidUserAndMonth() {
@@ -111,8 +235,9 @@ public class MeterServiceTest {
                 LocalDateTime.of(2024, 2, 15, 22, 0), expectedUser);
         meterReading1.addReadingDetails("gas", 15.0);
         meterReading1.addReadingDetails("water", 25.0);
-        when(meterReadingDao.selectByUserName(expectedUser)).thenReturn(List.of(meterReading));
-        List<MeterReadingDto> result = meterService.getReadingsByMonth(expectedUser, month);
+        when(meterReadingDao.selectByUserNameAndDateRange(expectedUser,
+                LocalDateTime.of(2024, 1, 1, 0, 0), LocalDateTime.of(2024, 2, 1, 0, 0))).thenReturn(List.of(meterReading));
+        List<MeterReadingDto> result = meterService.getReadingsByMonth(expectedUser, 2024, month);
 
         assertThat(result).isNotNull();
         assertThat(result).extracting(MeterReadingDto::getNumberMeter).contains("123");
@@ -124,11 +249,22 @@ public class MeterServiceTest {
         User user = null;
         int month = 1;
 
-        assertThatThrownBy(() -> meterService.getReadingsByMonth(user, month))
+        assertThatThrownBy(() -> meterService.getReadingsByMonth(user, 2024, month))
                 .isInstanceOf(UserValidationException.class)
                 .hasMessage("Invalid user");
     }
 
+    @Test
+    @DisplayName("Get readings by month with invalid month")
+    public void getReadingsByMonthWithInvalidMonth() {
+        User expectedUser = new User("test", "123", UserRole.USER);
+
+        assertThatThrownBy(() -> meterService.getReadingsByMonth(expectedUser, 2024, 13))
+                .isInstanceOf(MeterReadingException.class)
+                .hasMessage("Invalid month");
+        verifyNoInteractions(meterReadingDao);
+    }
+
     @Test
     @DisplayName("Get all readings history for valid and authorized user")
     public void getAllReadingsHistoryForValidAndAuthorizedUser() throws SQLException {
@@ -183,4 +319,137 @@ public class MeterServiceTest {
 
         assertThat(result).isNotNull();
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Get all readings history page returns the cursor of the next page when the page is full")
+    public void getAllReadingsHistoryPageReturnsNextCursor() {
+        User adminUser = new User("admin", "admin", UserRole.ADMIN);
+        when(userService.hasRoleAdmin(adminUser)).thenReturn(true);
+        MeterReading meterReading1 = new MeterReading("123", LocalDateTime.of(2024, 1, 15, 13, 0), adminUser);
+        meterReading1.setId(11L);
+        MeterReading meterReading2 = new MeterReading("456", LocalDateTime.of(2024, 2, 15, 17, 30), adminUser);
+        meterReading2.setId(12L);
+        when(meterReadingDao.selectAllMeterReadingsAfterId(10L, 2)).thenReturn(List.of(meterReading1, meterReading2));
+
+        MeterReadingPageDto result = meterService.getAllReadingsHistoryPage(adminUser, 10L, 2);
+
+        assertThat(result.getContent()).extracting(MeterReadingDto::getId).containsExactly(11L, 12L);
+        assertThat(result.getNextAfterId()).isEqualTo(12L);
+    }
+
+    @Test
+    @DisplayName("Get all readings history page with invalid limit")
+    public void getAllReadingsHistoryPageWithInvalidLimit() {
+        User adminUser = new User("admin", "admin", UserRole.ADMIN);
+        when(userService.hasRoleAdmin(adminUser)).thenReturn(true);
+
+        assertThatThrownBy(() -> meterService.getAllReadingsHistoryPage(adminUser, 0L, 0))
+                .isInstanceOf(MeterReadingException.class)
+                .hasMessage("Invalid limit");
+    }
+
+    @Test
+    @DisplayName("Sync readings returns the token of the next page when more readings of the round follow")
+    public void syncReadingsReturnsNextPageToken() {
+        User user = new User("user", "user", UserRole.USER);
+        MeterReading meterReading1 = new MeterReading("123", LocalDateTime.of(2024, 1, 15, 13, 0), user);
+        meterReading1.setId(11L);
+        MeterReading meterReading2 = new MeterReading("456", LocalDateTime.of(2024, 2, 15, 17, 30), user);
+        meterReading2.setId(12L);
+        MeterReading meterReading3 = new MeterReading("789", LocalDateTime.of(2024, 3, 15, 9, 0), user);
+        meterReading3.setId(14L);
+        when(meterReadingDao.getVisibilityHorizon()).thenReturn(900L);
+        when(meterReadingDao.selectByUserNameCommittedAfterId(user, 0L, 900L, 0L, 3))
+                .thenReturn(List.of(meterReading1, meterReading2, meterReading3));
+
+        MeterReadingSyncDto result = meterService.syncReadings(user, null, 2);
+
+        assertThat(result.getReadings()).extracting(MeterReadingDto::getId).containsExactly(11L, 12L);
+        assertThat(result.isHasMore()).isTrue();
+        SyncToken next = SyncToken.decode(result.getToken());
+        assertThat(next.getFromXid()).isEqualTo(0L);
+        assertThat(next.getToXid()).isEqualTo(900L);
+        assertThat(next.getAfterId()).isEqualTo(12L);
+    }
+
+    @Test
+    @DisplayName("Sync readings starts the next round at the horizon of the round it has finished")
+    public void syncReadingsStartsNextRoundAtHorizon() {
+        User user = new User("user", "user", UserRole.USER);
+        MeterReading meterReading = new MeterReading("123", LocalDateTime.of(2024, 1, 15, 13, 0), user);
+        meterReading.setId(4990L);
+        when(meterReadingDao.getVisibilityHorizon()).thenReturn(950L);
+        when(meterReadingDao.selectByUserNameCommittedAfterId(user, 900L, 950L, 0L, 11)).thenReturn(List.of(meterReading));
+
+        MeterReadingSyncDto result = meterService.syncReadings(user, new SyncToken(900L, 0L, 0L).encode(), 10);
+
+        assertThat(result.getReadings()).extracting(MeterReadingDto::getId).containsExactly(4990L);
+        assertThat(result.isHasMore()).isFalse();
+        SyncToken next = SyncToken.decode(result.getToken());
+        assertThat(next.getFromXid()).isEqualTo(950L);
+        assertThat(next.isStarted()).isFalse();
+        assertThat(next.getAfterId()).isEqualTo(0L);
+    }
+
+    @Test
+    @DisplayName("Sync readings returns no readings and keeps the token when nothing has committed since the last round")
+    public void syncReadingsWithNothingNewKeepsToken() {
+        User user = new User("user", "user", UserRole.USER);
+        String token = new SyncToken(950L, 0L, 0L).encode();
+        when(meterReadingDao.getVisibilityHorizon()).thenReturn(950L);
+
+        MeterReadingSyncDto result = meterService.syncReadings(user, token, 10);
+
+        assertThat(result.getReadings()).isEmpty();
+        assertThat(result.isHasMore()).isFalse();
+        assertThat(result.getToken()).isEqualTo(token);
+        verify(meterReadingDao, never()).selectByUserNameCommittedAfterId(any(), anyLong(), anyLong(), anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Sync readings waits for a lagging database to reach the horizon of the round")
+    public void syncReadingsWaitsForLaggingDatabase() {
+        User user = new User("user", "user", UserRole.USER);
+        String token = new SyncToken(900L, 950L, 4990L).encode();
+        when(meterReadingDao.getVisibilityHorizon()).thenReturn(940L);
+
+        MeterReadingSyncDto result = meterService.syncReadings(user, token, 10);
+
+        assertThat(result.getReadings()).isEmpty();
+        assertThat(result.isHasMore()).isFalse();
+        assertThat(result.getToken()).isEqualTo(token);
+        verify(meterReadingDao, never()).selectByUserNameCommittedAfterId(any(), anyLong(), anyLong(), anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Sync readings with a token not handed out by the service")
+    public void syncReadingsWithInvalidToken() {
+        User user = new User("user", "user", UserRole.USER);
+
+        assertThatThrownBy(() -> meterService.syncReadings(user, "not-a-token", 10))
+                .isInstanceOf(MeterReadingException.class)
+                .hasMessage("Invalid sync token");
+    }
+
+    @Test
+    @DisplayName("Sync all readings for unauthorized user")
+    public void syncAllReadingsForUnauthorizedUser() {
+        User user = new User("user", "user", UserRole.USER);
+        when(userService.hasRoleAdmin(user)).thenReturn(false);
+
+        assertThatThrownBy(() -> meterService.syncAllReadings(user, null, 10))
+                .isInstanceOf(UserValidationException.class);
+    }
+
+    @Test
+    @DisplayName("Stream all readings history for unauthorized user")
+    public void streamAllReadingsHistoryForUnauthorizedUser() {
+        User user = new User("user", "user", UserRole.USER);
+        when(userService.hasRoleAdmin(user)).thenReturn(false);
+
+        assertThatThrownBy(() -> meterService.streamAllReadingsHistory(user, readingDto -> {}))
+                .isInstanceOf(UserValidationException.class)
+                .hasMessage("Invalid or unauthorized user");
+        verifyNoInteractions(meterReadingDao);
+    }
+}
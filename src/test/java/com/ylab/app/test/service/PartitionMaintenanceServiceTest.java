@@ -0,0 +1,92 @@
+package com.ylab.app.test.service;
+
+import com.ylab.app.config.PartitionProperties;
+import com.ylab.app.dbService.dao.PartitionDao;
+import com.ylab.app.exception.dbException.DatabaseWriteException;
+import com.ylab.app.service.ReadingVersionService;
+import com.ylab.app.service.impl.PartitionMaintenanceServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * PartitionMaintenanceServiceTest class
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+@ExtendWith(MockitoExtension.class)
+public class PartitionMaintenanceServiceTest {
+    private static final YearMonth CURRENT = YearMonth.of(2024, 6);
+
+    @Mock
+    private PartitionDao partitionDao;
+
+    @Mock
+    private ReadingVersionService readingVersionService;
+
+    private PartitionProperties properties;
+    private PartitionMaintenanceServiceImpl maintenanceService;
+
+    @BeforeEach
+    public void setUp() {
+        properties = new PartitionProperties();
+        properties.setMonthsAhead(2);
+        maintenanceService = new PartitionMaintenanceServiceImpl(partitionDao, properties, readingVersionService);
+    }
+
+    @Test
+    @DisplayName("Missing partitions of the current and the following months are created")
+    public void maintainCreatesMissingPartitions() {
+        when(partitionDao.getMonthPartitions()).thenReturn(List.of(YearMonth.of(2024, 5), CURRENT));
+
+        maintenanceService.maintain(CURRENT);
+
+        verify(partitionDao, never()).createMonthPartition(CURRENT);
+        verify(partitionDao).createMonthPartition(YearMonth.of(2024, 7));
+        verify(partitionDao).createMonthPartition(YearMonth.of(2024, 8));
+        verify(partitionDao, never()).detachMonthPartition(any());
+        verify(readingVersionService, never()).recordWriteAll();
+    }
+
+    @Test
+    @DisplayName("Partitions older than the retention are detached")
+    public void maintainDetachesExpiredPartitions() {
+        properties.setRetentionMonths(3);
+        when(partitionDao.getMonthPartitions()).thenReturn(List.of(YearMonth.of(2024, 1), YearMonth.of(2024, 2),
+                YearMonth.of(2024, 3), CURRENT, YearMonth.of(2024, 7), YearMonth.of(2024, 8)));
+
+        maintenanceService.maintain(CURRENT);
+
+        verify(partitionDao).detachMonthPartition(YearMonth.of(2024, 1));
+        verify(partitionDao).detachMonthPartition(YearMonth.of(2024, 2));
+        verify(partitionDao, never()).detachMonthPartition(YearMonth.of(2024, 3));
+        verify(partitionDao, never()).createMonthPartition(any());
+        verify(readingVersionService, atLeastOnce()).recordWriteAll();
+    }
+
+    @Test
+    @DisplayName("A partition that cannot be created does not stop the following months")
+    public void maintainContinuesAfterFailedCreate() {
+        when(partitionDao.getMonthPartitions()).thenReturn(List.of());
+        doThrow(new DatabaseWriteException("default partition holds rows")).when(partitionDao).createMonthPartition(CURRENT);
+
+        maintenanceService.maintain(CURRENT);
+
+        verify(partitionDao).createMonthPartition(YearMonth.of(2024, 7));
+        verify(partitionDao).createMonthPartition(YearMonth.of(2024, 8));
+    }
+}
@@ -0,0 +1,292 @@
+package com.ylab.app.test.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.ylab.app.config.ReadingEventProperties;
+import com.ylab.app.dbService.dao.MeterReadingDao;
+import com.ylab.app.exception.userException.UserValidationException;
+import com.ylab.app.mapper.MeterReadingDetailsMapperImpl;
+import com.ylab.app.mapper.MeterReadingMapper;
+import com.ylab.app.mapper.MeterReadingMapperImpl;
+import com.ylab.app.model.MeterReading;
+import com.ylab.app.model.User;
+import com.ylab.app.model.UserRole;
+import com.ylab.app.model.dto.MeterReadingDto;
+import com.ylab.app.service.ReadingEventService;
+import com.ylab.app.service.ReadingEventSink;
+import com.ylab.app.service.UserService;
+import com.ylab.app.service.impl.ReadingEventServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * ReadingEventServiceTest class checks the routing, eviction, send deadline and catch-up of the reading stream in
+ * {@link ReadingEventServiceImpl}.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+public class ReadingEventServiceTest {
+    private final UserService userService = mock(UserService.class);
+    private final MeterReadingDao readingDao = mock(MeterReadingDao.class);
+    private final User alice = new User("alice", "secret", UserRole.USER);
+    private final User bob = new User("bob", "secret", UserRole.USER);
+    private final User admin = new User("admin", "secret", UserRole.ADMIN);
+    private AnnotationConfigApplicationContext mapperContext;
+    private ReadingEventServiceImpl readingEventService;
+
+    @BeforeEach
+    public void setUp() {
+        mapperContext = new AnnotationConfigApplicationContext(MeterReadingMapperImpl.class, MeterReadingDetailsMapperImpl.class);
+        readingEventService = createService(Jackson2ObjectMapperBuilder.json().build(), Duration.ofSeconds(10));
+        when(userService.hasRoleAdmin(admin)).thenReturn(true);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        readingEventService.destroy();
+        mapperContext.close();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("users receive their own readings and admins the readings of all users, without passwords")
+    public void readingsAreRoutedToTheirSubscribers() {
+        RecordingSink aliceSink = new RecordingSink();
+        RecordingSink adminSink = new RecordingSink();
+        readingEventService.subscribe(alice, false, null, aliceSink);
+        readingEventService.subscribe(admin, true, null, adminSink);
+
+        readingEventService.publish(List.of(reading(1L, alice), reading(2L, bob)));
+
+        awaitUntil(() -> adminSink.ids.size() == 2 && aliceSink.ids.size() == 1);
+        assertThat(adminSink.ids).containsExactly(1L, 2L);
+        assertThat(aliceSink.ids).containsExactly(1L);
+        assertThat(adminSink.json.get(0)).contains("\"numberMeter\":\"M-1\"").doesNotContain("secret");
+    }
+
+    @Test
+    @DisplayName("only admins subscribe to the readings of all users")
+    public void allReadingsRequireAdmin() {
+        assertThatThrownBy(() -> readingEventService.subscribe(alice, true, null, new RecordingSink()))
+                .isInstanceOf(UserValidationException.class);
+        assertThat(readingEventService.getSubscriberCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("a subscriber that does not keep up is evicted without slowing the others down")
+    public void slowSubscriberIsEvicted() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingSink slowSink = new RecordingSink(release);
+        RecordingSink fastSink = new RecordingSink();
+        readingEventService.subscribe(admin, true, null, slowSink);
+        readingEventService.subscribe(admin, true, null, fastSink);
+
+        for (long id = 1; id <= 10; id++) {
+            readingEventService.publish(List.of(reading(id, alice)));
+            long delivered = id;
+            awaitUntil(() -> fastSink.ids.size() == delivered);
+        }
+        release.countDown();
+
+        awaitUntil(() -> slowSink.closed.getCount() == 0);
+        assertThat(readingEventService.getEvictedCount()).isEqualTo(1);
+        assertThat(readingEventService.getSubscriberCount()).isEqualTo(1);
+        assertThat(fastSink.closed.getCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("a reconnecting subscriber first receives the readings stored after its last event")
+    public void reconnectingSubscriberCatchesUp() {
+        when(readingDao.selectByUserNameAfterId(alice, 5L, 4)).thenReturn(List.of(reading(6L, alice), reading(7L, alice)));
+        RecordingSink sink = new RecordingSink();
+
+        readingEventService.subscribe(alice, false, 5L, sink);
+        awaitUntil(() -> sink.ids.size() == 2);
+        readingEventService.publish(List.of(reading(8L, alice)));
+
+        awaitUntil(() -> sink.ids.size() == 3);
+        assertThat(sink.ids).containsExactly(6L, 7L, 8L);
+    }
+
+    @Test
+    @DisplayName("a subscriber that missed more than the catch-up limit is told to reload")
+    public void tooManyMissedReadingsReset() {
+        when(readingDao.selectAllMeterReadingsAfterId(0L, 4)).thenReturn(
+                List.of(reading(1L, alice), reading(2L, alice), reading(3L, bob), reading(4L, bob)));
+        RecordingSink sink = new RecordingSink();
+
+        readingEventService.subscribe(admin, true, 0L, sink);
+
+        awaitUntil(() -> sink.resets.getCount() == 0);
+        assertThat(sink.ids).isEmpty();
+    }
+
+    @Test
+    @DisplayName("readings written in a transaction are published after the commit")
+    public void readingsArePublishedAfterCommit() {
+        RecordingSink sink = new RecordingSink();
+        readingEventService.subscribe(alice, false, null, sink);
+        TransactionSynchronizationManager.initSynchronization();
+
+        readingEventService.publish(List.of(reading(1L, alice)));
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        assertThat(synchronizations).hasSize(1);
+        assertThat(sink.ids).isEmpty();
+
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+        awaitUntil(() -> sink.ids.size() == 1);
+    }
+
+    @Test
+    @DisplayName("a write that overruns the send timeout evicts its subscriber and frees the delivery thread")
+    public void stalledWriteIsAbandoned() {
+        readingEventService.destroy();
+        readingEventService = createService(Jackson2ObjectMapperBuilder.json().build(), Duration.ofMillis(100));
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingSink stalledSink1 = new RecordingSink(release, true);
+        RecordingSink stalledSink2 = new RecordingSink(release, true);
+        RecordingSink aliceSink = new RecordingSink();
+        readingEventService.subscribe(admin, true, null, stalledSink1);
+        readingEventService.subscribe(admin, true, null, stalledSink2);
+        readingEventService.subscribe(alice, false, null, aliceSink);
+
+        readingEventService.publish(List.of(reading(1L, alice)));
+
+        awaitUntil(() -> aliceSink.ids.size() == 1);
+        awaitUntil(() -> readingEventService.getEvictedCount() == 2);
+        assertThat(readingEventService.getSubscriberCount()).isEqualTo(1);
+        release.countDown();
+        awaitUntil(() -> stalledSink1.closed.getCount() == 0 && stalledSink2.closed.getCount() == 0);
+        readingEventService.publish(List.of(reading(2L, alice)));
+        awaitUntil(() -> aliceSink.ids.size() == 2);
+    }
+
+    @Test
+    @DisplayName("a reading that cannot be written is skipped after the commit and the others are published")
+    public void unwritableReadingIsSkippedAfterCommit() {
+        readingEventService.destroy();
+        ObjectMapper failingMapper = new ObjectMapper() {
+            @Override
+            public String writeValueAsString(Object value) throws JsonProcessingException {
+                if (value instanceof MeterReadingDto dto && dto.getId() == 1L) {
+                    throw new JsonMappingException(null, "unwritable reading");
+                }
+                return super.writeValueAsString(value);
+            }
+        };
+        failingMapper.registerModule(new JavaTimeModule());
+        readingEventService = createService(failingMapper, Duration.ofSeconds(10));
+        RecordingSink sink = new RecordingSink();
+        readingEventService.subscribe(alice, false, null, sink);
+        TransactionSynchronizationManager.initSynchronization();
+
+        readingEventService.publish(List.of(reading(1L, alice), reading(2L, alice)));
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        awaitUntil(() -> sink.ids.size() == 1);
+        assertThat(sink.ids).containsExactly(2L);
+    }
+
+    private ReadingEventServiceImpl createService(ObjectMapper objectMapper, Duration sendTimeout) {
+        ReadingEventProperties properties = new ReadingEventProperties();
+        properties.setBufferSize(4);
+        properties.setDeliveryThreads(2);
+        properties.setCatchUpLimit(3);
+        properties.setSendTimeout(sendTimeout);
+        return new ReadingEventServiceImpl(userService, readingDao, mapperContext.getBean(MeterReadingMapper.class),
+                objectMapper, properties);
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condition not met within 5 seconds").isLessThan(deadline);
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+        }
+    }
+
+    private static MeterReading reading(long id, User user) {
+        MeterReading reading = new MeterReading("M-" + id, LocalDateTime.of(2026, 10, 18, 10, 0), user);
+        reading.setId(id);
+        reading.addReadingDetails("gas", 10.0 + id);
+        return reading;
+    }
+
+    private static class RecordingSink implements ReadingEventSink {
+        private final List<Long> ids = new CopyOnWriteArrayList<>();
+        private final List<String> json = new CopyOnWriteArrayList<>();
+        private final CountDownLatch resets = new CountDownLatch(1);
+        private final CountDownLatch closed = new CountDownLatch(1);
+        private final CountDownLatch release;
+        private final boolean ignoreInterrupts;
+
+        private RecordingSink() {
+            this(new CountDownLatch(0));
+        }
+
+        private RecordingSink(CountDownLatch release) {
+            this(release, false);
+        }
+
+        private RecordingSink(CountDownLatch release, boolean ignoreInterrupts) {
+            this.release = release;
+            this.ignoreInterrupts = ignoreInterrupts;
+        }
+
+        @Override
+        public void send(long id, String json) {
+            boolean interrupted = false;
+            while (true) {
+                try {
+                    release.await();
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                    if (!ignoreInterrupts) {
+                        break;
+                    }
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+            ids.add(id);
+            this.json.add(json);
+        }
+
+        @Override
+        public void reset() {
+            resets.countDown();
+        }
+
+        @Override
+        public void close() {
+            closed.countDown();
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.ylab.app.test.service;
+
+import com.ylab.app.model.ReadingVersion;
+import com.ylab.app.model.User;
+import com.ylab.app.model.UserRole;
+import com.ylab.app.service.impl.ReadingVersionServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ReadingVersionServiceTest class checks when {@link ReadingVersionServiceImpl} hands out a new version.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+public class ReadingVersionServiceTest {
+    private final MutableClock clock = new MutableClock(Instant.parse("2026-10-18T10:15:30.250Z"));
+    private final ReadingVersionServiceImpl readingVersionService = new ReadingVersionServiceImpl(clock);
+    private final User alice = new User("alice", "password", UserRole.USER);
+    private final User bob = new User("bob", "password", UserRole.USER);
+
+    @AfterEach
+    public void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("version stays the same until readings of the user are written")
+    public void versionChangesOnlyOnWrite() {
+        ReadingVersion first = readingVersionService.getVersion(alice);
+        ReadingVersion bobFirst = readingVersionService.getVersion(bob);
+
+        assertThat(readingVersionService.getVersion(alice).getETag()).isEqualTo(first.getETag());
+
+        clock.advance(Duration.ofSeconds(2));
+        readingVersionService.recordWrite(alice);
+        clock.advance(Duration.ofSeconds(1));
+        ReadingVersion second = readingVersionService.getVersion(alice);
+
+        assertThat(second.getETag()).isNotEqualTo(first.getETag());
+        assertThat(second.getLastModified()).isAfter(first.getLastModified());
+        assertThat(readingVersionService.getVersion(bob).getETag()).isEqualTo(bobFirst.getETag());
+    }
+
+    @Test
+    @DisplayName("the modification time is handed out once its second has ended and never runs ahead of the clock")
+    public void lastModifiedIsACompletedSecond() {
+        assertThat(readingVersionService.getVersion(alice).getLastModified())
+                .isEqualTo(Instant.parse("2026-10-18T10:15:29Z"));
+
+        clock.advance(Duration.ofMillis(800));
+        assertThat(readingVersionService.getVersion(alice).getLastModified())
+                .isEqualTo(Instant.parse("2026-10-18T10:15:30Z"));
+
+        for (int i = 0; i < 5; i++) {
+            readingVersionService.recordWrite(alice);
+            assertThat(readingVersionService.getVersion(alice).getLastModified()).isBefore(clock.instant());
+        }
+    }
+
+    @Test
+    @DisplayName("a write later in the second a client was served in is not hidden behind its modification time")
+    public void writeInTheSameSecondIsNotHidden() {
+        clock.advance(Duration.ofSeconds(1));
+        readingVersionService.recordWrite(alice);
+        Instant served = readingVersionService.getVersion(alice).getLastModified();
+
+        clock.advance(Duration.ofMillis(100));
+        readingVersionService.recordWrite(alice);
+        clock.advance(Duration.ofSeconds(5));
+
+        assertThat(readingVersionService.getVersion(alice).getLastModified()).isAfter(served);
+    }
+
+    @Test
+    @DisplayName("writes inside a transaction change the version only after the commit")
+    public void writeInTransactionChangesVersionAfterCommit() {
+        ReadingVersion before = readingVersionService.getVersion(alice);
+        TransactionSynchronizationManager.initSynchronization();
+
+        readingVersionService.recordWrites(List.of("alice"));
+        assertThat(readingVersionService.getVersion(alice).getETag()).isEqualTo(before.getETag());
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertThat(readingVersionService.getVersion(alice).getETag()).isNotEqualTo(before.getETag());
+    }
+
+    @Test
+    @DisplayName("a write to every user gives every user a new version")
+    public void writeAllChangesEveryVersion() {
+        ReadingVersion aliceBefore = readingVersionService.getVersion(alice);
+        ReadingVersion bobBefore = readingVersionService.getVersion(bob);
+
+        readingVersionService.recordWriteAll();
+
+        assertThat(readingVersionService.getVersion(alice).getETag()).isNotEqualTo(aliceBefore.getETag());
+        assertThat(readingVersionService.getVersion(bob).getETag()).isNotEqualTo(bobBefore.getETag());
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        private void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.ylab.app.test.service;
+
+import com.ylab.app.config.RollupProperties;
+import com.ylab.app.dbService.dao.RollupDao;
+import com.ylab.app.service.impl.RollupServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * RollupServiceTest class
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+@ExtendWith(MockitoExtension.class)
+public class RollupServiceTest {
+    @Mock
+    private RollupDao rollupDao;
+
+    private RollupProperties properties;
+    private RollupServiceImpl rollupService;
+
+    @BeforeEach
+    public void setUp() {
+        properties = new RollupProperties();
+        properties.setChunkSize(100);
+        properties.setCatchUpThreshold(1_000);
+        properties.setParallelism(4);
+        rollupService = new RollupServiceImpl(rollupDao, properties);
+    }
+
+    @Test
+    @DisplayName("Readings of the transactions finished since the watermark are rolled up in chunks, then the watermark moves to the horizon")
+    public void aggregateSmallBacklogInChunks() {
+        when(rollupDao.getWatermark()).thenReturn(900L);
+        when(rollupDao.getVisibilityHorizon()).thenReturn(950L);
+        when(rollupDao.getMeterReadingIdRange(900L, 950L)).thenReturn(new RollupDao.IdRange(490L, 700L));
+
+        assertThat(rollupService.aggregate()).isEqualTo(950L);
+
+        InOrder order = inOrder(rollupDao);
+        order.verify(rollupDao).rollupRange(900L, 950L, 490L, 590L);
+        order.verify(rollupDao).rollupRange(900L, 950L, 590L, 690L);
+        order.verify(rollupDao).rollupRange(900L, 950L, 690L, 700L);
+        order.verify(rollupDao).updateWatermark(950L);
+        verify(rollupDao, never()).rollupDays(anyLong(), anyLong(), anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("Readings committed late with ids far below the newest reading are still rolled up")
+    public void aggregateLateCommitBelowNewestId() {
+        when(rollupDao.getWatermark()).thenReturn(950L);
+        when(rollupDao.getVisibilityHorizon()).thenReturn(960L);
+        when(rollupDao.getMeterReadingIdRange(950L, 960L)).thenReturn(new RollupDao.IdRange(10L, 60L));
+
+        assertThat(rollupService.aggregate()).isEqualTo(960L);
+
+        verify(rollupDao).rollupRange(950L, 960L, 10L, 60L);
+        verify(rollupDao).updateWatermark(960L);
+    }
+
+    @Test
+    @DisplayName("Large backlog is caught up in parallel ranges covering every id exactly once")
+    public void aggregateLargeBacklogInParallel() {
+        when(rollupDao.getWatermark()).thenReturn(0L);
+        when(rollupDao.getVisibilityHorizon()).thenReturn(40L);
+        when(rollupDao.getMeterReadingIdRange(0L, 40L)).thenReturn(new RollupDao.IdRange(0L, 5_000L));
+        List<long[]> ranges = Collections.synchronizedList(new ArrayList<>());
+        doAnswer(invocation -> ranges.add(new long[]{invocation.getArgument(2), invocation.getArgument(3)}))
+                .when(rollupDao).rollupDays(eq(0L), eq(40L), anyLong(), anyLong());
+
+        assertThat(rollupService.aggregate()).isEqualTo(40L);
+
+        ranges.sort(Comparator.comparingLong(range -> range[0]));
+        long next = 0;
+        for (long[] range : ranges) {
+            assertThat(range[0]).isEqualTo(next);
+            assertThat(range[1] - range[0]).isLessThanOrEqualTo(100L);
+            next = range[1];
+        }
+        assertThat(next).isEqualTo(5_000L);
+        verify(rollupDao).rollupMonths(0L, 40L, 4_900L, 5_000L);
+        verify(rollupDao).updateWatermark(40L);
+        verify(rollupDao, never()).rollupRange(anyLong(), anyLong(), anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("Nothing is rolled up while no transaction has finished since the watermark")
+    public void aggregateWithoutFinishedTransactions() {
+        when(rollupDao.getWatermark()).thenReturn(950L);
+        when(rollupDao.getVisibilityHorizon()).thenReturn(950L);
+
+        assertThat(rollupService.aggregate()).isEqualTo(950L);
+
+        verify(rollupDao, never()).getMeterReadingIdRange(anyLong(), anyLong());
+        verify(rollupDao, never()).rollupRange(anyLong(), anyLong(), anyLong(), anyLong());
+        verify(rollupDao, never()).updateWatermark(anyLong());
+    }
+
+    @Test
+    @DisplayName("The watermark moves past finished transactions that stored no readings")
+    public void aggregateWithoutReadings() {
+        when(rollupDao.getWatermark()).thenReturn(950L);
+        when(rollupDao.getVisibilityHorizon()).thenReturn(970L);
+        when(rollupDao.getMeterReadingIdRange(950L, 970L)).thenReturn(new RollupDao.IdRange(0L, 0L));
+
+        assertThat(rollupService.aggregate()).isEqualTo(970L);
+
+        verify(rollupDao, never()).rollupRange(anyLong(), anyLong(), anyLong(), anyLong());
+        verify(rollupDao).updateWatermark(970L);
+    }
+}
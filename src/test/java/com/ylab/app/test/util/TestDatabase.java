@@ -0,0 +1,29 @@
+package com.ylab.app.test.util;
+
+import liquibase.integration.spring.SpringLiquibase;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import javax.sql.DataSource;
+
+/**
+ * TestDatabase class creates data sources for test containers with the application schema migrated.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+public class TestDatabase {
+    public static final String CHANGE_LOG = "classpath:db/changelog/liquibase-changelog.xml";
+
+    public static DataSource migratedDataSource(PostgreSQLContainer<?> container) throws Exception {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(container.getJdbcUrl(),
+                container.getUsername(), container.getPassword());
+        SpringLiquibase liquibase = new SpringLiquibase();
+        liquibase.setDataSource(dataSource);
+        liquibase.setChangeLog(CHANGE_LOG);
+        liquibase.setResourceLoader(new DefaultResourceLoader());
+        liquibase.afterPropertiesSet();
+        return dataSource;
+    }
+}